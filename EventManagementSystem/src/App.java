@@ -4,48 +4,95 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import api.ApiServer;
+import components.SidebarPanel;
+import controllers.AuthController;
+import controllers.EventController;
+import controllers.NotificationController;
+import controllers.RegistrationController;
+import controllers.UserController;
+import logging.LogManager;
+import logging.Logger;
+import metrics.EdtWatchdog;
 import screens.LoginScreen;
-import utils.NetworkUtils;
+import utils.CredentialService;
+import utils.DatabaseConnection;
+import utils.StartupPipeline;
+import utils.UIResources;
 
 /**
  * Main entry point for the Event Management System
  */
 public class App {
-    @SuppressWarnings("UseSpecificCatch")
-    public static void main(String[] args) {
-        // Check internet connection
-        if (!NetworkUtils.isInternetAvailable()) {
-            JOptionPane.showMessageDialog(null,
-                "No internet connection detected. Please check your connection and try again.",
-                "Network Error",
-                JOptionPane.ERROR_MESSAGE);
-            System.exit(1);
-        }
+    private static final Logger LOGGER = LogManager.getLogger(App.class);
 
-        try {
-            // Set system look and feel
-            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
-        } catch (Exception e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(null,
-                "Error setting system look and feel: " + e.getMessage(),
-                "Initialization Error",
-                JOptionPane.ERROR_MESSAGE);
+    @SuppressWarnings("UseSpecificCatch")
+    public static void main(String[] args) throws Exception {
+        // Headless multi-user mode: serve the HTTP API instead of the Swing client
+        if (args.length > 0 && args[0].equals("--headless")) {
+            ApiServer.main(java.util.Arrays.copyOfRange(args, 1, args.length));
             return;
         }
 
+        // Database, controllers, bcrypt calibration and font loading run while the login screen comes up
+        StartupPipeline startup = new StartupPipeline();
+        CompletableFuture<Void> database = startup.run("database connection", App::connectDatabase);
+        startup.run("AuthController", AuthController::getInstance, database);
+        startup.run("EventController", EventController::getInstance, database);
+        startup.run("RegistrationController", RegistrationController::getInstance, database);
+        startup.run("NotificationController", NotificationController::getInstance, database);
+        startup.run("UserController", UserController::getInstance, database);
+        // Calibrate the bcrypt cost in the background so the first login doesn't pay for it
+        startup.run("credential calibration", CredentialService::getInstance);
+        startup.run("font and icon preload", () -> UIResources.preload(SidebarPanel.PRELOAD_GLYPHS, 24));
+
+        // Report EDT freezes, with the blocking stack and SQL, to logs/edt-stalls.log
+        EdtWatchdog.getInstance().start();
+
         // Launch the application with the login screen
         SwingUtilities.invokeLater(() -> {
             try {
-                LoginScreen loginScreen = new LoginScreen();
-                loginScreen.setVisible(true);
-            } catch (SQLException e) {
-                e.printStackTrace();
+                // Set system look and feel
+                startup.time("look and feel", () -> UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName()));
+            } catch (Exception e) {
+                LOGGER.warn("Error setting system look and feel, using the default", e);
+            }
+            try {
+                startup.time("login screen", () -> new LoginScreen().setVisible(true));
+                startup.mark("login screen visible");
+            } catch (Exception e) {
+                LOGGER.error("Error initializing login screen", e);
                 JOptionPane.showMessageDialog(null,
                     "Error initializing login screen: " + e.getMessage(),
                     "Initialization Error",
                     JOptionPane.ERROR_MESSAGE);
             }
+            startup.reportWhenDone();
+        });
+
+        // The login screen stays usable so the user can retry once the database is back
+        database.whenComplete((ignored, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                LOGGER.error("Database is not reachable", cause);
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+                    "Cannot connect to the database: " + cause.getMessage()
+                        + "\nPlease check that the database server is running.",
+                    "Database Error",
+                    JOptionPane.ERROR_MESSAGE));
+            }
         });
     }
+
+    /**
+     * Open the shared connection and check that the server answers
+     */
+    private static void connectDatabase() throws SQLException {
+        if (!DatabaseConnection.getConnection().isValid(2)) {
+            throw new SQLException("Database connection is not valid");
+        }
+    }
 }
@@ -0,0 +1,381 @@
+package api;
+
+import logging.LogManager;
+import logging.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import controllers.AuthController;
+import controllers.EventController;
+import controllers.NotificationController;
+import controllers.RegistrationController;
+import models.Event;
+import models.Notification;
+import models.Registration;
+import models.User;
+import utils.DatabaseConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless HTTP/JSON API over the existing controllers, for serving many attendees
+ * at once without the Swing client.
+ *
+ * Sessions are kept per bearer token in a {@link SessionStore}; the desktop
+ * {@link controllers.SessionManager} is never touched. Handlers block on JDBC,
+ * so requests run on a fixed pool of worker threads (ems.api.threads, default
+ * twice the number of cores, capped to fit the database pool) with a bounded
+ * queue; each worker runs its statements on a pooled connection of its own,
+ * so handlers do not serialize on one connection. When the queue is full the
+ * accepting thread runs the request itself, which holds off new connections
+ * until the workers catch up.
+ *
+ * Usage: java api.ApiServer [port]
+ */
+public class ApiServer {
+    private static final Logger LOGGER = LogManager.getLogger(ApiServer.class);
+
+    public static final int DEFAULT_PORT = 8080;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService sessionSweeper;
+    private final SessionStore sessions = new SessionStore();
+    private final AuthController authController;
+    private final EventController eventController;
+    private final RegistrationController registrationController;
+    private final NotificationController notificationController;
+
+    /**
+     * Create a server bound to the given port. Call {@link #start()} to accept requests.
+     *
+     * @param port The TCP port to listen on; 0 picks a free port
+     * @throws IOException if the port cannot be bound
+     * @throws SQLException if a controller cannot be initialized
+     */
+    public ApiServer(int port) throws IOException, SQLException {
+        this.authController = AuthController.getInstance();
+        this.eventController = EventController.getInstance();
+        this.registrationController = RegistrationController.getInstance();
+        this.notificationController = NotificationController.getInstance();
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 256);
+        // A worker holds one pooled connection while it runs statements, so more workers than
+        // connections would only wait on the pool; a few are left for transactions and write-behind flushes
+        int connections = Math.max(1, DatabaseConnection.getMaximumPoolSize() - RESERVED_CONNECTIONS);
+        int threads = Math.min(connections,
+            Integer.getInteger("ems.api.threads", Runtime.getRuntime().availableProcessors() * 2));
+        AtomicInteger workerCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            r -> new Thread(r, "api-worker-" + workerCount.incrementAndGet()),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/", this::handle);
+
+        this.sessionSweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "api-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start accepting requests
+     */
+    public void start() {
+        sessionSweeper.scheduleWithFixedDelay(sessions::evictExpired, 1, 1, TimeUnit.MINUTES);
+        server.start();
+    }
+
+    /**
+     * Stop accepting requests and release the worker threads
+     *
+     * @param delaySeconds Time to wait for in-flight exchanges to finish
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        sessionSweeper.shutdownNow();
+        executor.shutdown();
+    }
+
+    /**
+     * @return The port the server is bound to
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Object body = route(exchange);
+            send(exchange, 200, body);
+        } catch (ApiException e) {
+            send(exchange, e.status, error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            send(exchange, 409, error(e.getMessage()));
+        } catch (SQLException e) {
+            LOGGER.error("Database error handling {}: {}", exchange.getRequestURI(), e.getMessage());
+            send(exchange, 500, error("Database error"));
+        } catch (RuntimeException e) {
+            LOGGER.error("Error handling {}", exchange.getRequestURI(), e);
+            send(exchange, 500, error("Internal error"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Object route(HttpExchange exchange) throws IOException, SQLException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+        String resource = path[0];
+
+        switch (resource) {
+            case "health":
+                return Map.of("status", "ok", "sessions", sessions.size());
+            case "login":
+                requireMethod(method, "POST");
+                return login(exchange);
+            case "logout":
+                requireMethod(method, "POST");
+                sessions.remove(bearerToken(exchange));
+                return Map.of("success", true);
+            default:
+                break;
+        }
+
+        User user = requireUser(exchange);
+        switch (resource) {
+            case "events":
+                if (path.length == 1) {
+                    requireMethod(method, "GET");
+                    List<Object> events = new ArrayList<>();
+                    for (Event event : eventController.getUpcomingEvents()) {
+                        events.add(toJson(event));
+                    }
+                    return events;
+                }
+                int eventId = parseId(path[1]);
+                if (path.length == 2) {
+                    requireMethod(method, "GET");
+                    Event event = eventController.getEvent(eventId);
+                    if (event == null) {
+                        throw new ApiException(404, "Event not found");
+                    }
+                    return toJson(event);
+                }
+                if (path.length == 3 && path[2].equals("register")) {
+                    requireMethod(method, "POST");
+                    return toJson(registrationController.registerForEvent(user, eventId));
+                }
+                break;
+            case "registrations":
+                if (path.length == 1) {
+                    requireMethod(method, "GET");
+                    List<Object> registrations = new ArrayList<>();
+                    for (Registration registration : registrationController.getUserRegistrations(user.getId())) {
+                        registrations.add(toJson(registration));
+                    }
+                    return registrations;
+                }
+                if (path.length == 3 && path[2].equals("cancel")) {
+                    requireMethod(method, "POST");
+                    int registrationId = parseId(path[1]);
+                    Registration registration = registrationController.getRegistration(registrationId);
+                    if (registration == null || registration.getAttendee().getId() != user.getId()) {
+                        throw new ApiException(404, "Registration not found");
+                    }
+                    return toJson(registrationController.cancelRegistration(registrationId));
+                }
+                break;
+            case "notifications":
+                if (path.length == 1) {
+                    requireMethod(method, "GET");
+                    boolean unreadOnly = "unread=true".equals(exchange.getRequestURI().getQuery());
+                    List<Notification> notifications = unreadOnly
+                        ? notificationController.getUnreadNotificationsByUser(user.getId())
+                        : notificationController.getNotificationsByUser(user.getId());
+                    List<Object> result = new ArrayList<>();
+                    for (Notification notification : notifications) {
+                        result.add(toJson(notification));
+                    }
+                    return result;
+                }
+                if (path.length == 3 && path[2].equals("read")) {
+                    requireMethod(method, "POST");
+                    int notificationId = parseId(path[1]);
+                    Notification notification = notificationController.getNotificationById(notificationId);
+                    if (notification == null || notification.getRecipient() == null
+                            || notification.getRecipient().getId() != user.getId()) {
+                        throw new ApiException(404, "Notification not found");
+                    }
+                    return toJson(notificationController.markAsRead(notificationId));
+                }
+                break;
+            default:
+                break;
+        }
+        throw new ApiException(404, "Not found");
+    }
+
+    private Object login(HttpExchange exchange) throws IOException, SQLException {
+        Map<String, Object> body = Json.parseObject(readBody(exchange));
+        Object email = body.get("email");
+        Object password = body.get("password");
+        if (!(email instanceof String) || !(password instanceof String)) {
+            throw new IllegalArgumentException("email and password are required");
+        }
+
+        AuthController.LoginResult result = authController.authenticate((String) email, (String) password);
+        if (!result.isSuccess()) {
+            throw new ApiException(401, result.getMessage());
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("token", sessions.create(result.getUser()));
+        response.put("user", toJson(result.getUser()));
+        return response;
+    }
+
+    private User requireUser(HttpExchange exchange) {
+        User user = sessions.get(bearerToken(exchange));
+        if (user == null) {
+            throw new ApiException(401, "Authentication required");
+        }
+        return user;
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        return header.substring("Bearer ".length()).trim();
+    }
+
+    private static void requireMethod(String actual, String expected) {
+        if (!expected.equals(actual)) {
+            throw new ApiException(405, "Method not allowed");
+        }
+    }
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(404, "Not found");
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "Request body too large");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, Object> error(String message) {
+        return Map.of("error", message == null ? "Error" : message);
+    }
+
+    private static Map<String, Object> toJson(User user) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", user.getId());
+        json.put("name", user.getName());
+        json.put("email", user.getEmail());
+        json.put("role", user.getRole());
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Event event) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", event.getId());
+        json.put("title", event.getTitle());
+        json.put("description", event.getDescription());
+        json.put("category", event.getCategory());
+        json.put("venue", event.getVenueName());
+        json.put("eventDate", event.getEventDate());
+        json.put("registrationDeadline", event.getRegistrationDeadline());
+        json.put("totalSlots", event.getTotalSlots());
+        json.put("availableSlots", event.getAvailableSlots());
+        json.put("status", event.getStatus());
+        json.put("hasImage", event.getMainImage() != null);
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Registration registration) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", registration.getId());
+        json.put("eventId", registration.getEvent().getId());
+        json.put("eventTitle", registration.getEvent().getTitle());
+        json.put("status", registration.getStatus());
+        json.put("registrationDate", registration.getRegistrationDate());
+        json.put("checkedIn", registration.isCheckedIn());
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Notification notification) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", notification.getId());
+        json.put("title", notification.getTitle());
+        json.put("message", notification.getMessage());
+        json.put("type", notification.getType());
+        json.put("eventId", notification.getEvent() != null ? notification.getEvent().getId() : null);
+        json.put("read", notification.isRead());
+        json.put("createdAt", notification.getCreatedAt());
+        return json;
+    }
+
+    /**
+     * Error carrying the HTTP status to return
+     */
+    private static class ApiException extends RuntimeException {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ApiServer apiServer = new ApiServer(port);
+        apiServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> apiServer.stop(1), "api-shutdown"));
+        LOGGER.info("Event Management API listening on port {}", apiServer.getPort());
+    }
+}
@@ -0,0 +1,110 @@
+package api;
+
+import models.User;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent store of API sessions keyed by bearer token.
+ * Unlike {@link controllers.SessionManager}, which holds the single desktop user,
+ * this keeps one session per logged-in API client.
+ */
+public class SessionStore {
+
+    private static final long DEFAULT_TTL_MS = 30 * 60 * 1000L;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final long ttlMs;
+
+    public SessionStore() {
+        this(DEFAULT_TTL_MS);
+    }
+
+    /**
+     * @param ttlMs Idle time after which a session expires
+     */
+    public SessionStore(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Start a session for an authenticated user
+     *
+     * @param user The authenticated user
+     * @return The bearer token identifying the session
+     */
+    public String create(User user) {
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(user, System.currentTimeMillis()));
+        return token;
+    }
+
+    /**
+     * Look up the user for a token and refresh its idle timer
+     *
+     * @param token The bearer token
+     * @return The session's user, or null if the token is unknown or expired
+     */
+    public User get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (now - session.lastAccess > ttlMs) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.lastAccess = now;
+        return session.user;
+    }
+
+    /**
+     * End a session
+     *
+     * @param token The bearer token
+     */
+    public void remove(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    /**
+     * Drop all sessions idle for longer than the TTL
+     *
+     * @return The number of sessions removed
+     */
+    public int evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        int before = sessions.size();
+        sessions.values().removeIf(session -> session.lastAccess < cutoff);
+        return before - sessions.size();
+    }
+
+    /**
+     * @return The number of live sessions
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private static final class Session {
+        private final User user;
+        private volatile long lastAccess;
+
+        Session(User user, long lastAccess) {
+            this.user = user;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import javax.swing.DefaultCellEditor;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JTable;
+import utils.UIResources;
 
 /**
  * A custom cell editor for table buttons
@@ -23,7 +24,7 @@ public class ButtonEditor extends DefaultCellEditor {
         super(checkBox);
         button = new JButton();
         button.setOpaque(true);
-        button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
+        button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
         button.addActionListener(e -> fireEditingStopped());
     }
 
@@ -17,6 +17,7 @@ import javax.swing.table.TableCellRenderer;
 
 import utils.AppColors;
 import utils.UIConstants;
+import utils.UIResources;
 
 /**
  * A custom cell renderer for table buttons
@@ -24,7 +25,7 @@ import utils.UIConstants;
 public class ButtonRenderer extends JButton implements TableCellRenderer {
     public ButtonRenderer() {
         setOpaque(true);
-        setFont(new Font("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
+        setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
         setForeground(Color.WHITE);
         setBorderPainted(false);
         setFocusPainted(false);
@@ -1,5 +1,7 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import javax.swing.*;
 import javax.swing.border.*;
 import javax.swing.Timer;
@@ -7,26 +9,40 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.datatransfer.*;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.List;
 import utils.AppColors;
 import utils.UIUtils;
 import utils.UIConstants;
+import utils.UIResources;
 
 /**
  * A reusable calendar panel component that displays events on their respective dates
  * with enhanced features like event categories, time display, and view options.
+ *
+ * Events are kept in an index keyed by epoch day, so each visible cell
+ * finds its events with one lookup instead of scanning every event. The
+ * index is updated per event when events are set, added or dragged.
  */
 public class CalendarPanel extends JPanel {
+    private static final Logger LOGGER = LogManager.getLogger(CalendarPanel.class);
+
     private Calendar currentCalendar;
     private JLabel monthYearLabel;
     private JPanel daysPanel;
-    private List<CalendarEvent> events;
+    // Events by ID in the order they were set, and the same events bucketed by day
+    private final Map<String, CalendarEvent> eventsById = new LinkedHashMap<>();
+    private final DayIndex dayIndex = new DayIndex();
     private CalendarEventClickListener eventClickListener;
     private boolean isWeekView = false;
     private JPopupMenu eventPreviewPopup;
     private Timer popupTimer;
     private CalendarEventDragListener dragListener;
+    private CalendarRangeListener rangeListener;
+    private LocalDate shownFirstDay;
+    private LocalDate shownLastDay;
 
     /**
      * Represents an event to be displayed on the calendar
@@ -42,9 +58,20 @@ public class CalendarPanel extends JPanel {
         private Date startTime;
         private Date endTime;
         private Color categoryColor;
+        private boolean hasConflict;
 
         public CalendarEvent(String id, String title, Date date, Date startTime, Date endTime, 
                            String location, String category, String description, boolean isRegistered) {
+            this(id, title, date, startTime, endTime, location, category, description, isRegistered, false);
+        }
+
+        /**
+         * @param hasConflict Whether the event overlaps another commitment, e.g. one of the
+         *                    user's registrations; such events are highlighted
+         */
+        public CalendarEvent(String id, String title, Date date, Date startTime, Date endTime,
+                           String location, String category, String description, boolean isRegistered,
+                           boolean hasConflict) {
             this.id = id;
             this.title = title;
             this.date = date;
@@ -55,6 +82,7 @@ public class CalendarPanel extends JPanel {
             this.startTime = startTime;
             this.endTime = endTime;
             this.categoryColor = getCategoryColor(category);
+            this.hasConflict = hasConflict;
         }
 
         public String getId() { return id; }
@@ -67,6 +95,7 @@ public class CalendarPanel extends JPanel {
         public Date getStartTime() { return startTime; }
         public Date getEndTime() { return endTime; }
         public Color getCategoryColor() { return categoryColor; }
+        public boolean hasConflict() { return hasConflict; }
 
         private Color getCategoryColor(String category) {
             switch (category.toLowerCase()) {
@@ -94,12 +123,21 @@ public class CalendarPanel extends JPanel {
         void onEventDragged(CalendarEvent event, Date newDate);
     }
 
+    /**
+     * Interface for loading the events of the days on screen
+     */
+    public interface CalendarRangeListener {
+        void onRangeShown(LocalDate firstDay, LocalDate lastDay);
+    }
+
     public CalendarPanel() {
         this(new ArrayList<>(), null);
     }
 
     public CalendarPanel(List<CalendarEvent> events, CalendarEventClickListener listener) {
-        this.events = events;
+        for (CalendarEvent event : events) {
+            putEvent(event);
+        }
         this.eventClickListener = listener;
         this.currentCalendar = Calendar.getInstance();
         
@@ -208,7 +246,7 @@ public class CalendarPanel extends JPanel {
         String[] weekdays = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
         for (String weekday : weekdays) {
             JLabel label = new JLabel(weekday, JLabel.CENTER);
-            label.setFont(new Font("Segoe UI", Font.BOLD, 14));
+            label.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 14));
             label.setForeground(AppColors.TEXT_SECONDARY);
             panel.add(label);
         }
@@ -226,6 +264,8 @@ public class CalendarPanel extends JPanel {
 
         // Get current month's first day and number of days
         Calendar cal = (Calendar) currentCalendar.clone();
+        long today = LocalDate.now().toEpochDay();
+        boolean rangeChanged;
         
         if (isWeekView) {
             // Set to the first day of the week
@@ -241,11 +281,11 @@ public class CalendarPanel extends JPanel {
             }
             
             // Add the days of the week
+            LocalDate date = toLocalDate(cal.getTime());
+            rangeChanged = setShownRange(date, date.plusDays(6));
             for (int i = 0; i < 7; i++) {
-                boolean isToday = isToday(cal);
-                List<CalendarEvent> dayEvents = getEventsForDay(cal.getTime());
-                daysPanel.add(createDayPanel(cal.get(Calendar.DAY_OF_MONTH), isToday, dayEvents));
-                cal.add(Calendar.DAY_OF_MONTH, 1);
+                daysPanel.add(createDayPanel(date, date.toEpochDay() == today));
+                date = date.plusDays(1);
             }
         } else {
             // Month view
@@ -268,11 +308,11 @@ public class CalendarPanel extends JPanel {
             }
 
             // Add day cells
+            LocalDate date = toLocalDate(cal.getTime());
+            rangeChanged = setShownRange(date, date.plusDays(daysInMonth - 1));
             for (int day = 1; day <= daysInMonth; day++) {
-                cal.set(Calendar.DAY_OF_MONTH, day);
-                boolean isToday = isToday(cal);
-                List<CalendarEvent> dayEvents = getEventsForDay(cal.getTime());
-                daysPanel.add(createDayPanel(day, isToday, dayEvents));
+                daysPanel.add(createDayPanel(date, date.toEpochDay() == today));
+                date = date.plusDays(1);
             }
 
             // Add empty cells for remaining grid
@@ -292,13 +332,11 @@ public class CalendarPanel extends JPanel {
         // Refresh the panel
         daysPanel.revalidate();
         daysPanel.repaint();
-    }
 
-    private boolean isToday(Calendar cal) {
-        Calendar today = Calendar.getInstance();
-        return today.get(Calendar.YEAR) == cal.get(Calendar.YEAR) &&
-               today.get(Calendar.MONTH) == cal.get(Calendar.MONTH) &&
-               today.get(Calendar.DAY_OF_MONTH) == cal.get(Calendar.DAY_OF_MONTH);
+        // Told after the render so the listener's setEvents can render again
+        if (rangeChanged && rangeListener != null) {
+            rangeListener.onRangeShown(shownFirstDay, shownLastDay);
+        }
     }
 
     private JPanel createEmptyDayPanel() {
@@ -307,7 +345,9 @@ public class CalendarPanel extends JPanel {
         return panel;
     }
 
-    private JPanel createDayPanel(int day, boolean isToday, List<CalendarEvent> dayEvents) {
+    private JPanel createDayPanel(LocalDate date, boolean isToday) {
+        CalendarEvent[] dayEvents = dayIndex.get(date.toEpochDay());
+
         // Create a panel with BoxLayout to stack day number and events
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -322,13 +362,13 @@ public class CalendarPanel extends JPanel {
         }
 
         // Day number label
-        JLabel dayLabel = new JLabel(String.valueOf(day), JLabel.CENTER);
-        dayLabel.setFont(new Font("Segoe UI", isToday ? Font.BOLD : Font.PLAIN, 14));
+        JLabel dayLabel = new JLabel(String.valueOf(date.getDayOfMonth()), JLabel.CENTER);
+        dayLabel.setFont(UIResources.getFont("Segoe UI", isToday ? Font.BOLD : Font.PLAIN, 14));
         dayLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         panel.add(dayLabel);
         
         // Add events for this day
-        if (!dayEvents.isEmpty()) {
+        if (dayEvents.length > 0) {
             panel.add(Box.createVerticalStrut(5));
             
             // Create a panel for events with limited height
@@ -341,7 +381,7 @@ public class CalendarPanel extends JPanel {
             for (CalendarEvent event : dayEvents) {
                 if (count >= 3) {
                     // If more than 3 events, show a "more" indicator
-                    JLabel moreLabel = new JLabel("+" + (dayEvents.size() - 3) + " more", JLabel.CENTER);
+                    JLabel moreLabel = new JLabel("+" + (dayEvents.length - 3) + " more", JLabel.CENTER);
                     moreLabel.setFont(UIConstants.SMALL_FONT);
                     moreLabel.setForeground(AppColors.TEXT_SECONDARY);
                     moreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -360,7 +400,7 @@ public class CalendarPanel extends JPanel {
         }
 
         // Add drop target for drag and drop
-        panel.setTransferHandler(new EventTransferHandler(currentCalendar, day));
+        panel.setTransferHandler(new EventTransferHandler(date));
         
         return panel;
     }
@@ -368,12 +408,19 @@ public class CalendarPanel extends JPanel {
     private JPanel createEventIndicator(CalendarEvent event) {
         JPanel indicator = new JPanel(new BorderLayout());
         indicator.setBackground(event.getCategoryColor());
-        indicator.setBorder(BorderFactory.createEmptyBorder(2, 4, 2, 4));
+        if (event.hasConflict()) {
+            indicator.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(AppColors.ERROR, 2),
+                BorderFactory.createEmptyBorder(0, 2, 0, 2)));
+        } else {
+            indicator.setBorder(BorderFactory.createEmptyBorder(2, 4, 2, 4));
+        }
         indicator.setMaximumSize(new Dimension(Integer.MAX_VALUE, 20));
         
         // Event title with time
         SimpleDateFormat timeFormat = new SimpleDateFormat("h:mm a");
-        String displayText = String.format("%s - %s", 
+        String displayText = String.format("%s%s - %s",
+            event.hasConflict() ? "⚠ " : "",
             timeFormat.format(event.getStartTime()),
             event.getTitle()
         );
@@ -426,21 +473,19 @@ public class CalendarPanel extends JPanel {
     // Inner class for handling event drag and drop
     private class EventTransferHandler extends TransferHandler {
         private CalendarEvent event;
-        private Calendar calendar;
-        private int day;
+        private LocalDate date;
 
         public EventTransferHandler(CalendarEvent event) {
             this.event = event;
         }
 
-        public EventTransferHandler(Calendar calendar, int day) {
-            this.calendar = (Calendar) calendar.clone();
-            this.day = day;
+        public EventTransferHandler(LocalDate date) {
+            this.date = date;
         }
 
         @Override
         public boolean canImport(TransferSupport support) {
-            return support.isDataFlavorSupported(DataFlavor.stringFlavor) && calendar != null;
+            return support.isDataFlavorSupported(DataFlavor.stringFlavor) && date != null;
         }
 
         @Override
@@ -461,28 +506,128 @@ public class CalendarPanel extends JPanel {
 
             try {
                 String eventId = (String)support.getTransferable().getTransferData(DataFlavor.stringFlavor);
-                CalendarEvent draggedEvent = events.stream()
-                    .filter(e -> e.getId().equals(eventId))
-                    .findFirst()
-                    .orElse(null);
-
-                if (draggedEvent != null && dragListener != null) {
-                    calendar.set(Calendar.DAY_OF_MONTH, day);
-                    dragListener.onEventDragged(draggedEvent, calendar.getTime());
+                CalendarEvent draggedEvent = eventsById.get(eventId);
+
+                if (draggedEvent != null && draggedEvent.getDate() != null && dragListener != null) {
+                    // Keep the time of day, move to the drop date
+                    Date newDate = shiftDays(draggedEvent.getDate(),
+                        date.toEpochDay() - epochDay(draggedEvent.getDate()));
+                    dragListener.onEventDragged(draggedEvent, newDate);
+                    moveEvent(eventId, newDate);
                     return true;
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                LOGGER.error("Error dropping event on calendar", e);
             }
             return false;
         }
     }
 
+    /**
+     * Show the given events; only events that are new, changed or gone are re-indexed
+     *
+     * @param events Events to show, identified by their ID
+     */
     public void setEvents(List<CalendarEvent> events) {
-        this.events = events;
+        Map<String, CalendarEvent> next = new LinkedHashMap<>();
+        for (CalendarEvent event : events) {
+            next.put(event.getId(), event);
+        }
+        Iterator<CalendarEvent> current = eventsById.values().iterator();
+        while (current.hasNext()) {
+            CalendarEvent event = current.next();
+            CalendarEvent replacement = next.get(event.getId());
+            if (replacement == null || !sameContent(event, replacement)) {
+                unindex(event);
+                current.remove();
+            }
+        }
+        // Unchanged events keep their indexed instance
+        for (CalendarEvent event : next.values()) {
+            if (!eventsById.containsKey(event.getId())) {
+                putEvent(event);
+            }
+        }
+        updateCalendar();
+    }
+
+    /**
+     * Add an event, or replace the event with the same ID
+     *
+     * @param event The event to show
+     */
+    public void addEvent(CalendarEvent event) {
+        putEvent(event);
         updateCalendar();
     }
 
+    /**
+     * Move an event to another date, keeping its times of day
+     *
+     * @param eventId ID of the event to move
+     * @param newDate The new date
+     */
+    public void moveEvent(String eventId, Date newDate) {
+        CalendarEvent event = eventsById.get(eventId);
+        if (event == null || event.getDate() == null) {
+            return;
+        }
+        long days = epochDay(newDate) - epochDay(event.getDate());
+        if (days == 0) {
+            return;
+        }
+        addEvent(new CalendarEvent(event.getId(), event.getTitle(),
+            shiftDays(event.getDate(), days),
+            shiftDays(event.getStartTime(), days),
+            shiftDays(event.getEndTime(), days),
+            event.getLocation(), event.getCategory(), event.getDescription(), event.isRegistered(),
+            event.hasConflict()));
+    }
+
+    private void putEvent(CalendarEvent event) {
+        CalendarEvent previous = eventsById.put(event.getId(), event);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (event.getDate() != null) {
+            dayIndex.add(epochDay(event.getDate()), event);
+        }
+    }
+
+    private void unindex(CalendarEvent event) {
+        if (event.getDate() != null) {
+            dayIndex.remove(epochDay(event.getDate()), event);
+        }
+    }
+
+    private static boolean sameContent(CalendarEvent a, CalendarEvent b) {
+        return Objects.equals(a.getDate(), b.getDate())
+            && Objects.equals(a.getStartTime(), b.getStartTime())
+            && Objects.equals(a.getEndTime(), b.getEndTime())
+            && Objects.equals(a.getTitle(), b.getTitle())
+            && Objects.equals(a.getLocation(), b.getLocation())
+            && Objects.equals(a.getCategory(), b.getCategory())
+            && Objects.equals(a.getDescription(), b.getDescription())
+            && a.isRegistered() == b.isRegistered()
+            && a.hasConflict() == b.hasConflict();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private static long epochDay(Date date) {
+        return toLocalDate(date).toEpochDay();
+    }
+
+    private static Date shiftDays(Date date, long days) {
+        if (date == null) {
+            return null;
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        return Date.from(date.toInstant().atZone(zone).toLocalDateTime().plusDays(days).atZone(zone).toInstant());
+    }
+
     public void setEventClickListener(CalendarEventClickListener listener) {
         this.eventClickListener = listener;
     }
@@ -535,6 +680,14 @@ public class CalendarPanel extends JPanel {
         panel.add(locationLabel);
         panel.add(Box.createVerticalStrut(10));
 
+        if (event.hasConflict()) {
+            JLabel conflictLabel = new JLabel("⚠ Overlaps one of your registrations");
+            conflictLabel.setFont(UIConstants.SMALL_FONT);
+            conflictLabel.setForeground(AppColors.ERROR);
+            panel.add(conflictLabel);
+            panel.add(Box.createVerticalStrut(10));
+        }
+
         // Event description
         JTextArea descriptionArea = new JTextArea(event.getDescription());
         descriptionArea.setFont(UIConstants.SMALL_FONT);
@@ -563,30 +716,145 @@ public class CalendarPanel extends JPanel {
         this.dragListener = listener;
     }
 
-    private List<CalendarEvent> getEventsForDay(Date date) {
-        List<CalendarEvent> dayEvents = new ArrayList<>();
-        
-        // Simple date comparison (ignoring time)
-        Calendar cal1 = Calendar.getInstance();
-        cal1.setTime(date);
-        cal1.set(Calendar.HOUR_OF_DAY, 0);
-        cal1.set(Calendar.MINUTE, 0);
-        cal1.set(Calendar.SECOND, 0);
-        cal1.set(Calendar.MILLISECOND, 0);
-        
-        for (CalendarEvent event : events) {
-            Calendar cal2 = Calendar.getInstance();
-            cal2.setTime(event.getDate());
-            cal2.set(Calendar.HOUR_OF_DAY, 0);
-            cal2.set(Calendar.MINUTE, 0);
-            cal2.set(Calendar.SECOND, 0);
-            cal2.set(Calendar.MILLISECOND, 0);
-            
-            if (cal1.getTimeInMillis() == cal2.getTimeInMillis()) {
-                dayEvents.add(event);
+    /**
+     * Set the listener told which days are on screen, now and whenever the
+     * user moves to other days; it is expected to call {@link #setEvents}
+     *
+     * @param listener The listener, or null
+     */
+    public void setRangeListener(CalendarRangeListener listener) {
+        this.rangeListener = listener;
+        if (listener != null && shownFirstDay != null) {
+            listener.onRangeShown(shownFirstDay, shownLastDay);
+        }
+    }
+
+    /**
+     * Get the first day on screen
+     *
+     * @return The day, or null before the first render
+     */
+    public LocalDate getShownFirstDay() {
+        return shownFirstDay;
+    }
+
+    /**
+     * Get the last day on screen
+     *
+     * @return The day, or null before the first render
+     */
+    public LocalDate getShownLastDay() {
+        return shownLastDay;
+    }
+
+    /**
+     * Record the days on screen
+     *
+     * @return true if they differ from the previous render
+     */
+    private boolean setShownRange(LocalDate firstDay, LocalDate lastDay) {
+        if (firstDay.equals(shownFirstDay) && lastDay.equals(shownLastDay)) {
+            return false;
+        }
+        shownFirstDay = firstDay;
+        shownLastDay = lastDay;
+        return true;
+    }
+
+    /**
+     * Events bucketed by epoch day in an open-addressing map with primitive
+     * keys. Each bucket is an array sorted by start time, so a day cell gets
+     * its events, already in display order, with a single probe.
+     */
+    private static final class DayIndex {
+        private static final CalendarEvent[] NONE = new CalendarEvent[0];
+        private static final Comparator<CalendarEvent> BY_START = Comparator
+            .comparing((CalendarEvent e) -> e.getStartTime() != null ? e.getStartTime() : e.getDate())
+            .thenComparing(CalendarEvent::getId);
+
+        private long[] keys = new long[64];
+        // null marks a free slot; a day whose events all left keeps an empty bucket until the next resize
+        private CalendarEvent[][] buckets = new CalendarEvent[64][];
+        private int used;
+
+        CalendarEvent[] get(long day) {
+            int slot = find(day);
+            return buckets[slot] != null ? buckets[slot] : NONE;
+        }
+
+        void add(long day, CalendarEvent event) {
+            int slot = find(day);
+            CalendarEvent[] bucket = buckets[slot];
+            if (bucket == null) {
+                keys[slot] = day;
+                buckets[slot] = new CalendarEvent[] {event};
+                if (++used * 4 > keys.length * 3) {
+                    resize();
+                }
+                return;
+            }
+            int at = Arrays.binarySearch(bucket, event, BY_START);
+            at = at < 0 ? -at - 1 : at;
+            CalendarEvent[] grown = new CalendarEvent[bucket.length + 1];
+            System.arraycopy(bucket, 0, grown, 0, at);
+            grown[at] = event;
+            System.arraycopy(bucket, at, grown, at + 1, bucket.length - at);
+            buckets[slot] = grown;
+        }
+
+        void remove(long day, CalendarEvent event) {
+            int slot = find(day);
+            CalendarEvent[] bucket = buckets[slot];
+            if (bucket == null) {
+                return;
+            }
+            for (int i = 0; i < bucket.length; i++) {
+                if (bucket[i] == event) {
+                    CalendarEvent[] shrunk = new CalendarEvent[bucket.length - 1];
+                    System.arraycopy(bucket, 0, shrunk, 0, i);
+                    System.arraycopy(bucket, i + 1, shrunk, i, bucket.length - i - 1);
+                    buckets[slot] = shrunk;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Find the slot holding a day, or the free slot where it would go
+         */
+        private int find(long day) {
+            int mask = keys.length - 1;
+            int slot = (int) ((day * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+            while (buckets[slot] != null && keys[slot] != day) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            CalendarEvent[][] oldBuckets = buckets;
+            int live = 0;
+            for (CalendarEvent[] bucket : oldBuckets) {
+                if (bucket != null && bucket.length > 0) {
+                    live++;
+                }
+            }
+            int capacity = 64;
+            while (live * 2 > capacity) {
+                capacity *= 2;
+            }
+            keys = new long[capacity];
+            buckets = new CalendarEvent[capacity][];
+            used = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldBuckets[i] != null && oldBuckets[i].length > 0) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    buckets[slot] = oldBuckets[i];
+                    used++;
+                }
             }
         }
-        
-        return dayEvents;
     }
 }
@@ -1,5 +1,7 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -11,7 +13,6 @@ import java.awt.GridBagLayout;
 import java.awt.GridLayout;
 import java.awt.Image;
 import java.awt.Insets;
-import java.awt.Window;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -40,7 +41,6 @@ import javax.swing.JSpinner;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
-import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.JComboBox;
 
@@ -51,17 +51,18 @@ import controllers.UserController;
 import models.Event;
 import models.Notification.NotificationType;
 import models.User;
-import screens.AdminDashboardNew;
-import screens.OrganizerDashboard;
 import utils.AppColors;
 import utils.UIConstants;
 import utils.UIUtils;
+import utils.UIResources;
 
 /**
  * Reusable Create Event Form component
  * Extracted from CreateEventScreenNew to be used in multiple places
  */
 public class CreateEventForm extends JPanel {
+    private static final Logger LOGGER = LogManager.getLogger(CreateEventForm.class);
+
     private final String userRole; // "Admin" or "Organizer"
     private final Consumer<Boolean> onSubmitCallback; // Callback for when form is submitted (success/failure)
 
@@ -133,7 +134,7 @@ public class CreateEventForm extends JPanel {
             notificationController = NotificationController.getInstance();
             userController = UserController.getInstance();
         } catch (SQLException e) {
-            System.err.println("Error initializing controllers: " + e.getMessage());
+            LOGGER.error("Error initializing controllers: {}", e.getMessage());
         }
 
         // Create form panel
@@ -354,7 +355,7 @@ public class CreateEventForm extends JPanel {
                 Image image = icon.getImage().getScaledInstance(200, 200, Image.SCALE_SMOOTH);
                 imageLabel.setIcon(new ImageIcon(image));
                 imageLabel.setText(selectedFile.getName());
-                imageLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+                imageLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
             } catch (IOException ex) {
                 errorLabel.setText("Error loading image: " + ex.getMessage());
             }
@@ -556,23 +557,15 @@ public class CreateEventForm extends JPanel {
             // Clear form
             clearForm();
 
-            // Notify success and trigger UI refresh
+            // Notify success; dashboards pick up the new event from the EventCreated domain event
             if (onSubmitCallback != null) {
                 onSubmitCallback.accept(true);
             }
-
-            // Find parent window and refresh if it's a dashboard
-            Window parentWindow = SwingUtilities.getWindowAncestor(this);
-            if (parentWindow instanceof AdminDashboardNew) {
-                ((AdminDashboardNew) parentWindow).loadDashboardData();
-            } else if (parentWindow instanceof OrganizerDashboard) {
-                ((OrganizerDashboard) parentWindow).loadDashboardData();
-            }
         } catch (DateTimeParseException e) {
             errorLabel.setText("Invalid date/time format. Please use YYYY-MM-DD for date and HH:mm for time.");
         } catch (Exception e) {
             errorLabel.setText("Error creating event: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error creating event", e);
         }
     }
 
@@ -865,7 +858,7 @@ public class CreateEventForm extends JPanel {
             errorLabel.setText("Invalid date/time format. Please use YYYY-MM-DD for date and HH:mm for time.");
         } catch (Exception e) {
             errorLabel.setText("Error updating event: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error updating event", e);
         }
     }
 
@@ -0,0 +1,200 @@
+package components;
+
+import controllers.DoorCheckIn;
+import controllers.RegistrationController;
+import models.Event;
+import utils.AppColors;
+import utils.UIConstants;
+import utils.UIUtils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Check-in screen for the door of an event.
+ *
+ * Registration IDs are typed or scanned into one field; each is checked
+ * against the roster in memory and the result is shown at once, with live
+ * counts of who has arrived, who is still expected and who did not show.
+ */
+public class DoorCheckInDialog extends JDialog {
+    // How often the counts are refreshed for check-ins made elsewhere
+    private static final int REFRESH_MS = 1000;
+
+    private final DoorCheckIn doorCheckIn;
+    private final JTextField scanField = new JTextField(16);
+    private final JLabel resultLabel;
+    private final JLabel attendedLabel;
+    private final JLabel expectedLabel;
+    private final JLabel noShowLabel;
+    private final JLabel unsavedLabel;
+    private final Timer refreshTimer;
+
+    private DoorCheckInDialog(Window parent, DoorCheckIn doorCheckIn) {
+        super(parent, "Door Check-In", ModalityType.MODELESS);
+        this.doorCheckIn = doorCheckIn;
+
+        JPanel content = UIUtils.createPanel(new BorderLayout(0, 15), true);
+        content.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        content.add(UIUtils.createLabel(doorCheckIn.getEvent().getTitle(), UIConstants.TITLE_FONT, AppColors.TEXT_PRIMARY),
+            BorderLayout.NORTH);
+
+        JPanel center = UIUtils.createPanel(new GridLayout(0, 1, 0, 8), false);
+        JPanel countsPanel = UIUtils.createPanel(new GridLayout(1, 3, 10, 0), false);
+        attendedLabel = UIUtils.createLabel("", UIConstants.BODY_FONT, AppColors.SUCCESS);
+        expectedLabel = UIUtils.createLabel("", UIConstants.BODY_FONT, AppColors.TEXT_PRIMARY);
+        noShowLabel = UIUtils.createLabel("", UIConstants.BODY_FONT, AppColors.ERROR);
+        countsPanel.add(attendedLabel);
+        countsPanel.add(expectedLabel);
+        countsPanel.add(noShowLabel);
+        center.add(countsPanel);
+
+        scanField.setFont(UIConstants.SUBTITLE_FONT);
+        scanField.putClientProperty("JTextField.placeholderText", "Scan or type a registration ID");
+        scanField.addActionListener(e -> scan());
+        center.add(scanField);
+
+        resultLabel = UIUtils.createLabel("Ready", UIConstants.TITLE_FONT, AppColors.TEXT_PRIMARY);
+        center.add(resultLabel);
+        unsavedLabel = UIUtils.createLabel("", UIConstants.SMALL_FONT, AppColors.TEXT_PRIMARY);
+        center.add(unsavedLabel);
+        content.add(center, BorderLayout.CENTER);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        JButton noShowButton = UIUtils.createButton("Mark Remaining as No-Show", null, UIUtils.ButtonType.ERROR, UIUtils.ButtonSize.NORMAL);
+        noShowButton.addActionListener(e -> markRemainingNoShows());
+        JButton closeButton = UIUtils.createButton("Close", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        closeButton.addActionListener(e -> dispose());
+        actionPanel.add(noShowButton);
+        actionPanel.add(closeButton);
+        content.add(actionPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        refreshTimer = new Timer(REFRESH_MS, e -> updateCounts());
+        refreshTimer.start();
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                scanField.requestFocusInWindow();
+            }
+        });
+        updateCounts();
+        setSize(520, 320);
+        setLocationRelativeTo(parent);
+    }
+
+    /**
+     * Ask which event to check in and open its door check-in screen
+     *
+     * @param parent Component the dialogs are shown over
+     * @param events The events to choose from
+     */
+    public static void open(Component parent, List<Event> events) {
+        if (events.isEmpty()) {
+            UIUtils.showError(parent, "There are no events to check in.");
+            return;
+        }
+        Event[] choices = events.toArray(new Event[0]);
+        String[] titles = new String[choices.length];
+        for (int i = 0; i < choices.length; i++) {
+            titles[i] = choices[i].getTitle();
+        }
+        Object chosen = JOptionPane.showInputDialog(parent, "Event:", "Door Check-In",
+            JOptionPane.PLAIN_MESSAGE, null, titles, titles[0]);
+        if (chosen == null) {
+            return;
+        }
+        Event event = choices[Arrays.asList(titles).indexOf(chosen)];
+
+        Window owner = parent instanceof Window ? (Window) parent : SwingUtilities.getWindowAncestor(parent);
+        parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<DoorCheckIn, Void>() {
+            @Override
+            protected DoorCheckIn doInBackground() throws Exception {
+                return RegistrationController.getInstance().openDoorCheckIn(event.getId());
+            }
+
+            @Override
+            protected void done() {
+                parent.setCursor(Cursor.getDefaultCursor());
+                try {
+                    new DoorCheckInDialog(owner, get()).setVisible(true);
+                } catch (ExecutionException e) {
+                    UIUtils.showError(parent, "Error loading the roster: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    private void scan() {
+        String code = scanField.getText().trim();
+        scanField.setText("");
+        if (code.isEmpty()) {
+            return;
+        }
+        int registrationId;
+        try {
+            registrationId = Integer.parseInt(code);
+        } catch (NumberFormatException e) {
+            showResult("Not a registration ID: " + code, AppColors.ERROR);
+            return;
+        }
+        String name = doorCheckIn.getAttendeeName(registrationId);
+        switch (doorCheckIn.checkIn(registrationId)) {
+            case CHECKED_IN:
+                showResult("Welcome, " + name, AppColors.SUCCESS);
+                break;
+            case ALREADY_CHECKED_IN:
+                showResult(name + " is already checked in", AppColors.WARNING);
+                break;
+            case MARKED_NO_SHOW:
+                showResult(name + " was marked as a no-show", AppColors.WARNING);
+                break;
+            case NOT_REGISTERED:
+                showResult(name + " is not confirmed for this event", AppColors.ERROR);
+                break;
+            default:
+                showResult("No registration " + registrationId + " for this event", AppColors.ERROR);
+                break;
+        }
+        updateCounts();
+    }
+
+    private void markRemainingNoShows() {
+        int expected = doorCheckIn.getExpectedCount();
+        if (expected == 0 || !UIUtils.showConfirm(this, "Mark the " + expected + " attendees who have not arrived as no-shows?")) {
+            return;
+        }
+        showResult(doorCheckIn.markRemainingNoShows() + " marked as no-shows", AppColors.TEXT_PRIMARY);
+        updateCounts();
+    }
+
+    private void showResult(String text, Color color) {
+        resultLabel.setText(text);
+        resultLabel.setForeground(color);
+    }
+
+    private void updateCounts() {
+        attendedLabel.setText("Checked in: " + doorCheckIn.getAttendedCount() + " / " + doorCheckIn.getConfirmedCount());
+        expectedLabel.setText("Expected: " + doorCheckIn.getExpectedCount());
+        noShowLabel.setText("No-shows: " + doorCheckIn.getNoShowCount());
+        int unsaved = doorCheckIn.getUnsavedCount();
+        unsavedLabel.setText(unsaved == 0 ? "All check-ins saved" : unsaved + " check-ins waiting to be saved");
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        doorCheckIn.close();
+        super.dispose();
+    }
+}
@@ -22,6 +22,7 @@ import utils.AppColors;
 import utils.EmojiUtils;
 import utils.UIConstants;
 import utils.UIUtils;
+import utils.UIResources;
 
 public class EventCard extends RoundedPanel {
     private final Event event;
@@ -59,7 +60,7 @@ public class EventCard extends RoundedPanel {
             // Use emoji placeholder based on event category
             String categoryEmoji = EmojiUtils.getEventCategoryEmoji(event.getCategory());
             imageLabel = new JLabel(categoryEmoji);
-            imageLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 48));
+            imageLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 48));
             imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
             imageLabel.setVerticalAlignment(SwingConstants.CENTER);
             imageLabel.setPreferredSize(new Dimension(100, 100));
@@ -77,14 +78,14 @@ public class EventCard extends RoundedPanel {
 
         // Title
         titleLabel = new JLabel(event.getTitle());
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         detailsPanel.add(titleLabel);
 
         // Category badge
         String category = event.getCategory() != null ? event.getCategory() : "Uncategorized";
         categoryLabel = new JLabel(category.toUpperCase());
-        categoryLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+        categoryLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 12));
         categoryLabel.setOpaque(true);
         categoryLabel.setBackground(new Color(220, 235, 255));
         categoryLabel.setForeground(AppColors.PRIMARY_DARK);
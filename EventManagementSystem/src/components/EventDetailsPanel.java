@@ -1,5 +1,7 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import models.Event;
 import utils.UIUtils;
 import utils.AppColors;
@@ -15,6 +17,8 @@ import java.time.ZoneId;
 import java.util.Date;
 
 public class EventDetailsPanel extends JPanel {
+    private static final Logger LOGGER = LogManager.getLogger(EventDetailsPanel.class);
+
     private final Event event;
     private final ActionListener onEdit;
     private final ActionListener onApprove;
@@ -205,7 +209,7 @@ public class EventDetailsPanel extends JPanel {
                     imageLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
                     mediaContent.add(imageLabel);
                 } catch (Exception e) {
-                    System.err.println("Error loading event image: " + e.getMessage());
+                    LOGGER.warn("Error loading event image: {}", e.getMessage());
                 }
             }
             if (event.getAdditionalDocuments() != null) {
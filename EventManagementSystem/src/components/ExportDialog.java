@@ -0,0 +1,180 @@
+package components;
+
+import export.ExportFormat;
+import export.ExportProgress;
+import utils.AppColors;
+import utils.UIConstants;
+import utils.UIUtils;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileFilter;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Progress dialog for an export running in the background.
+ *
+ * Asks for the destination file and format, then runs the export on a
+ * worker thread while showing how many rows have been written. The export
+ * can be cancelled from the dialog; the rest of the application stays usable
+ * meanwhile.
+ */
+public class ExportDialog extends JDialog {
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel;
+    private final JButton cancelButton;
+    private volatile boolean cancelled;
+
+    /**
+     * The export to run
+     */
+    @FunctionalInterface
+    public interface ExportTask {
+        /**
+         * @param file Destination chosen by the user
+         * @param format Format chosen by the user
+         * @param progress Progress callback and cancellation flag
+         * @return Number of rows written
+         * @throws Exception if the export fails
+         */
+        long run(Path file, ExportFormat format, ExportProgress progress) throws Exception;
+    }
+
+    private ExportDialog(Window parent, String title) {
+        super(parent, title, ModalityType.MODELESS);
+
+        JPanel content = UIUtils.createPanel(new BorderLayout(0, 12), true);
+        content.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        statusLabel = UIUtils.createLabel("Preparing export...", UIConstants.BODY_FONT, AppColors.TEXT_PRIMARY);
+        content.add(statusLabel, BorderLayout.NORTH);
+        progressBar.setIndeterminate(true);
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+        content.add(progressBar, BorderLayout.CENTER);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        cancelButton = UIUtils.createButton("Cancel", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        cancelButton.addActionListener(e -> cancel());
+        actionPanel.add(cancelButton);
+        content.add(actionPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                cancel();
+            }
+        });
+        setSize(420, 170);
+        setResizable(false);
+        setLocationRelativeTo(parent);
+    }
+
+    /**
+     * Ask for a destination file and run an export into it in the background
+     *
+     * @param parent Component the dialogs are shown over
+     * @param title Dialog title, e.g. "Export Participants"
+     * @param defaultName Suggested file name without extension
+     * @param task The export
+     */
+    public static void export(Component parent, String title, String defaultName, ExportTask task) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle(title);
+        chooser.setAcceptAllFileFilterUsed(false);
+        FileFilter csvFilter = new FileNameExtensionFilter(ExportFormat.CSV.getDescription(), ExportFormat.CSV.getExtension());
+        FileFilter sheetFilter = new FileNameExtensionFilter(ExportFormat.SPREADSHEET.getDescription(),
+            ExportFormat.SPREADSHEET.getExtension());
+        chooser.addChoosableFileFilter(csvFilter);
+        chooser.addChoosableFileFilter(sheetFilter);
+        chooser.setFileFilter(csvFilter);
+        chooser.setSelectedFile(new File(defaultName + "." + ExportFormat.CSV.getExtension()));
+        if (chooser.showSaveDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        ExportFormat format = chooser.getFileFilter() == sheetFilter ? ExportFormat.SPREADSHEET : ExportFormat.CSV;
+        File file = chooser.getSelectedFile();
+        String extension = "." + format.getExtension();
+        if (!file.getName().toLowerCase().endsWith(extension)) {
+            file = new File(file.getParentFile(), file.getName() + extension);
+        }
+        if (file.exists() && !UIUtils.showConfirm(parent, file.getName() + " already exists. Replace it?")) {
+            return;
+        }
+
+        Window owner = parent instanceof Window ? (Window) parent : SwingUtilities.getWindowAncestor(parent);
+        ExportDialog dialog = new ExportDialog(owner, title);
+        dialog.start(file, format, task);
+        dialog.setVisible(true);
+    }
+
+    private void start(File file, ExportFormat format, ExportTask task) {
+        new SwingWorker<Long, long[]>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return task.run(file.toPath(), format, new ExportProgress() {
+                    @Override
+                    public void onProgress(long written, long total) {
+                        publish(new long[] {written, total});
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return cancelled;
+                    }
+                });
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                // Only the latest count matters
+                long[] latest = chunks.get(chunks.size() - 1);
+                showProgress(latest[0], latest[1]);
+            }
+
+            @Override
+            protected void done() {
+                dispose();
+                Component parent = getOwner();
+                try {
+                    long rows = get();
+                    UIUtils.showSuccess(parent, "Exported " + rows + " rows to " + file.getAbsolutePath());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!(cause instanceof CancellationException)) {
+                        UIUtils.showError(parent, "Error exporting: " + cause.getMessage());
+                    }
+                } catch (InterruptedException | CancellationException e) {
+                    // Cancelled; the partial file has already been removed
+                }
+            }
+        }.execute();
+    }
+
+    private void showProgress(long written, long total) {
+        if (total > 0) {
+            progressBar.setIndeterminate(false);
+            progressBar.setMaximum(100);
+            progressBar.setValue((int) Math.min(100, written * 100 / total));
+            progressBar.setString(written + " / " + total);
+        } else {
+            progressBar.setString(String.valueOf(written));
+        }
+        statusLabel.setText(cancelled ? "Cancelling..." : "Writing rows...");
+    }
+
+    private void cancel() {
+        cancelled = true;
+        cancelButton.setEnabled(false);
+        statusLabel.setText("Cancelling...");
+    }
+}
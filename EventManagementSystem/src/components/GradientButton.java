@@ -6,6 +6,7 @@ import java.awt.geom.RoundRectangle2D;
 import utils.AppColors;
 import utils.UIUtils;
 import utils.UIConstants;
+import utils.RenderCache;
 
 /**
  * A button with gradient background and rounded corners
@@ -102,15 +103,13 @@ public class GradientButton extends JButton {
         int width = getWidth();
         int height = getHeight();
 
-        // Create gradient paint
-        GradientPaint gp = new GradientPaint(
-            0, 0, startColor,
-            width, 0, endColor
-        );
-
-        // Draw background
-        g2.setPaint(gp);
-        g2.fill(new RoundRectangle2D.Float(0, 0, width, height, cornerRadius, cornerRadius));
+        // Draw background from the render cache; only the text is drawn per paint
+        RenderCache.getInstance().draw(g2, width, height,
+            RenderCache.key(GradientButton.class, startColor, endColor, cornerRadius),
+            (bg, w, h) -> {
+                bg.setPaint(new GradientPaint(0, 0, startColor, w, 0, endColor));
+                bg.fill(new RoundRectangle2D.Float(0, 0, w, h, cornerRadius, cornerRadius));
+            });
 
         // Draw text
         g2.setColor(getForeground());
@@ -0,0 +1,120 @@
+package components;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * List model whose items have a stable key.
+ *
+ * {@link #setItems(List)} diffs the new items against the current ones by key
+ * and fires only the removals, insertions and changes needed to get from one
+ * to the other, so a list showing it repaints just the affected rows and keeps
+ * its scroll position.
+ *
+ * @param <T> Item type
+ */
+public class KeyedListModel<T> extends AbstractListModel<T> {
+    private final Function<? super T, ?> keyFunction;
+    private final List<T> items = new ArrayList<>();
+    private final List<Object> keys = new ArrayList<>();
+
+    /**
+     * Creates an empty model
+     *
+     * @param keyFunction Stable identity of an item, e.g. its database ID
+     */
+    public KeyedListModel(Function<? super T, ?> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public int getSize() {
+        return items.size();
+    }
+
+    @Override
+    public T getElementAt(int index) {
+        return items.get(index);
+    }
+
+    /**
+     * Get a copy of the current items
+     *
+     * @return The items in display order
+     */
+    public List<T> getItems() {
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Replace the items, firing events for the differences only
+     *
+     * @param newItems Items in display order; items with equal keys are matched in order
+     */
+    public void setItems(List<? extends T> newItems) {
+        List<Object> newKeys = keysOf(newItems);
+        Set<Object> newKeySet = new HashSet<>(newKeys);
+
+        // Drop vanished keys, last to first so indices stay valid
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            if (!newKeySet.contains(keys.get(i))) {
+                int end = i;
+                while (i > 0 && !newKeySet.contains(keys.get(i - 1))) {
+                    i--;
+                }
+                items.subList(i, end + 1).clear();
+                keys.subList(i, end + 1).clear();
+                fireIntervalRemoved(this, i, end);
+            }
+        }
+
+        for (int i = 0; i < newItems.size(); i++) {
+            T item = newItems.get(i);
+            Object key = newKeys.get(i);
+            if (i < keys.size() && keys.get(i).equals(key)) {
+                if (items.get(i) != item) {
+                    items.set(i, item);
+                    fireContentsChanged(this, i, i);
+                }
+                continue;
+            }
+            int current = keys.indexOf(key);
+            if (current > i) {
+                // Moved up from further down the list
+                items.remove(current);
+                keys.remove(current);
+                fireIntervalRemoved(this, current, current);
+            }
+            items.add(i, item);
+            keys.add(i, key);
+            fireIntervalAdded(this, i, i);
+        }
+    }
+
+    /**
+     * Compute item keys, telling repeated keys apart by occurrence
+     */
+    private List<Object> keysOf(List<? extends T> newItems) {
+        List<Object> newKeys = new ArrayList<>(newItems.size());
+        Set<Object> seen = new HashSet<>();
+        Map<Object, Integer> occurrences = null;
+        for (T item : newItems) {
+            Object key = keyFunction.apply(item);
+            if (!seen.add(key)) {
+                if (occurrences == null) {
+                    occurrences = new HashMap<>();
+                }
+                key = Arrays.asList(key, occurrences.merge(key, 1, Integer::sum));
+            }
+            newKeys.add(key);
+        }
+        return newKeys;
+    }
+}
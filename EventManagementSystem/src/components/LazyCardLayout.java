@@ -0,0 +1,260 @@
+package components;
+
+import logging.LogManager;
+import logging.Logger;
+import metrics.EdtWatchdog;
+import metrics.MetricsRegistry;
+import utils.UIUtils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CardLayout that builds registered cards the first time they are shown.
+ *
+ * Cards added directly with {@code parent.add(component, name)} behave as
+ * in a plain CardLayout. Cards registered with {@link #register} are only
+ * constructed, and only query the database, when {@link #show} first asks
+ * for them, so opening a dashboard costs one card instead of all of them.
+ * Likely next cards can be built ahead of time with {@link #preload}, and
+ * cards registered as releasable are dropped again when the heap is still
+ * nearly full after a collection, and rebuilt on their next visit.
+ */
+public class LazyCardLayout extends CardLayout {
+    private static final Logger LOGGER = LogManager.getLogger(LazyCardLayout.class);
+    private static final int PRELOAD_DELAY_MS = 1500;
+    private static final int PRELOAD_INTERVAL_MS = 250;
+    // Old generation usage after a collection above which hidden releasable cards are dropped
+    private static final double MEMORY_PRESSURE_RATIO = 0.75;
+    // The pool long-lived objects end up in; the only heap pool with a usage threshold
+    private static final MemoryPoolMXBean TENURED_POOL = findTenuredPool();
+
+    private final Map<String, CardFactory> factories = new HashMap<>();
+    private final Set<String> releasable = new HashSet<>();
+    private final Map<String, Component> loaded = new HashMap<>();
+    // Least recently shown first
+    private final LinkedHashSet<String> shownOrder = new LinkedHashSet<>();
+    // The card built most recently and the input event it was built during, for reload
+    private String lastBuilt;
+    private AWTEvent lastBuiltDuring;
+    private String currentCard;
+
+    /**
+     * Builds the component for a card
+     */
+    @FunctionalInterface
+    public interface CardFactory {
+        Component create() throws SQLException;
+    }
+
+    /**
+     * Register a card that is built on first show and kept afterwards
+     *
+     * @param name Card name
+     * @param factory Builds the card
+     */
+    public void register(String name, CardFactory factory) {
+        register(name, factory, false);
+    }
+
+    /**
+     * Register a card that is built on first show
+     *
+     * @param name Card name
+     * @param factory Builds the card
+     * @param canRelease Whether the card may be dropped under memory pressure; false for cards holding user input
+     */
+    public void register(String name, CardFactory factory, boolean canRelease) {
+        factories.put(name, factory);
+        if (canRelease) {
+            releasable.add(name);
+        } else {
+            releasable.remove(name);
+        }
+    }
+
+    /**
+     * Check whether a card's component currently exists
+     *
+     * @param name Card name
+     * @return true if the card has been built and not released
+     */
+    public boolean isLoaded(String name) {
+        return loaded.containsKey(name);
+    }
+
+    @Override
+    public void show(Container parent, String name) {
+        if (!loaded.containsKey(name) && factories.containsKey(name) && !load(parent, name)) {
+            return;
+        }
+        super.show(parent, name);
+        currentCard = name;
+        shownOrder.remove(name);
+        shownOrder.add(name);
+        releaseUnderMemoryPressure(parent);
+    }
+
+    /**
+     * Rebuild a releasable card with fresh data and show it.
+     * A card built while handling the current input event, e.g. by the
+     * navigation click that also triggered this reload, is only shown, and
+     * so is a card that is not releasable, as it may hold user input.
+     *
+     * @param parent Container using this layout
+     * @param name Card name
+     */
+    public void reload(Container parent, String name) {
+        AWTEvent current = EventQueue.getCurrentEvent();
+        boolean fresh = current != null && name.equals(lastBuilt) && lastBuiltDuring == current;
+        lastBuilt = null;
+        lastBuiltDuring = null;
+        if (!fresh && releasable.contains(name)) {
+            release(parent, name);
+        }
+        show(parent, name);
+        parent.revalidate();
+        parent.repaint();
+    }
+
+    /**
+     * Build cards ahead of time, one per idle slot once the window has painted
+     *
+     * @param parent Container using this layout
+     * @param names Cards to build, most likely next first
+     */
+    public void preload(Container parent, String... names) {
+        Deque<String> pending = new ArrayDeque<>(Arrays.asList(names));
+        Timer timer = new Timer(PRELOAD_INTERVAL_MS, null);
+        timer.setInitialDelay(PRELOAD_DELAY_MS);
+        timer.addActionListener(e -> {
+            // Swing components must be built on the EDT, so the work is spread over timer ticks
+            String name = pending.poll();
+            while (name != null && (loaded.containsKey(name) || !factories.containsKey(name))) {
+                name = pending.poll();
+            }
+            // Building more cards would only make them candidates for release
+            if (name == null || !parent.isDisplayable() || isUnderMemoryPressure()) {
+                timer.stop();
+                return;
+            }
+            load(parent, name);
+        });
+        timer.start();
+    }
+
+    private boolean load(Container parent, String name) {
+        long start = System.nanoTime();
+        Component card;
+        try {
+            card = factories.get(name).create();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.error("Error building card {}", name, e);
+            UIUtils.showError(parent, "Error loading " + name + ": " + e.getMessage());
+            return false;
+        }
+        card.setName(name);
+        parent.add(card, name);
+        lastBuilt = name;
+        lastBuiltDuring = EventQueue.getCurrentEvent();
+        long elapsed = System.nanoTime() - start;
+        MetricsRegistry.getInstance().operation(EdtWatchdog.LAYER_EDT, "Card." + name).record(elapsed, 0, 0);
+        LOGGER.debug("Built card {} in {} ms", name, elapsed / 1_000_000);
+        return true;
+    }
+
+    private void release(Container parent, String name) {
+        Component card = loaded.get(name);
+        if (card != null) {
+            parent.remove(card);
+        }
+    }
+
+    /**
+     * Drop hidden releasable cards while the heap is nearly full: preloaded
+     * cards that were never shown first, then the least recently shown
+     */
+    private void releaseUnderMemoryPressure(Container parent) {
+        if (!isUnderMemoryPressure()) {
+            return;
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String name : loaded.keySet()) {
+            if (!shownOrder.contains(name)) {
+                candidates.add(name);
+            }
+        }
+        candidates.addAll(shownOrder);
+
+        List<String> released = new ArrayList<>();
+        for (String name : candidates) {
+            if (!name.equals(currentCard) && releasable.contains(name) && loaded.containsKey(name)) {
+                release(parent, name);
+                shownOrder.remove(name);
+                released.add(name);
+            }
+        }
+        if (!released.isEmpty()) {
+            LOGGER.info("Heap nearly full after collection, released cards {}", released);
+        }
+    }
+
+    /**
+     * Judge the heap by the old generation as it was after the last collection,
+     * so garbage that has not been collected yet does not count as pressure
+     */
+    private static boolean isUnderMemoryPressure() {
+        if (TENURED_POOL == null) {
+            return false;
+        }
+        MemoryUsage afterCollection = TENURED_POOL.getCollectionUsage();
+        long max = TENURED_POOL.getUsage().getMax();
+        if (max <= 0) {
+            max = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+        }
+        return afterCollection != null && max > 0 && afterCollection.getUsed() > max * MEMORY_PRESSURE_RATIO;
+    }
+
+    private static MemoryPoolMXBean findTenuredPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                && pool.isCollectionUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void addLayoutComponent(Component comp, Object constraints) {
+        super.addLayoutComponent(comp, constraints);
+        if (constraints instanceof String) {
+            loaded.put((String) constraints, comp);
+        }
+    }
+
+    @Override
+    public void removeLayoutComponent(Component comp) {
+        super.removeLayoutComponent(comp);
+        loaded.values().removeIf(card -> card == comp);
+        if (lastBuilt != null && !loaded.containsKey(lastBuilt)) {
+            lastBuilt = null;
+            lastBuiltDuring = null;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
@@ -11,6 +13,7 @@ import controllers.EventController;
 import controllers.AuthController;
 import utils.UIUtils;
 import utils.AppColors;
+import utils.UIResources;
 import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
 
@@ -18,6 +21,8 @@ import java.time.format.DateTimeFormatter;
  * Panel for managing events (update, delete) for Admin and Organizer roles.
  */
 public class ManageEventsPanel extends JPanel {
+    private static final Logger LOGGER = LogManager.getLogger(ManageEventsPanel.class);
+
     private final String userRole;
     private final int organizerId;
     private JTable eventsTable;
@@ -54,7 +59,7 @@ public class ManageEventsPanel extends JPanel {
 
         // Title
         JLabel titleLabel = new JLabel("Manage Events");
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 24));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         add(titleLabel, BorderLayout.NORTH);
 
@@ -173,7 +178,7 @@ public class ManageEventsPanel extends JPanel {
             // Add action listeners to the buttons
             updateButton.addActionListener(e -> {
                 // TODO: Implement update action
-                System.out.println("Update clicked on row: " + clickedRow);
+                LOGGER.debug("Update clicked on row {}", clickedRow);
                 // Call the method in the parent panel to handle the update logic
                 ((ManageEventsPanel) SwingUtilities.getAncestorOfClass(ManageEventsPanel.class, table)).handleEditEvent(clickedRow);
                 fireEditingStopped();
@@ -181,7 +186,7 @@ public class ManageEventsPanel extends JPanel {
 
             deleteButton.addActionListener(e -> {
                 // TODO: Implement delete action
-                System.out.println("Delete clicked on row: " + clickedRow);
+                LOGGER.debug("Delete clicked on row {}", clickedRow);
                  fireEditingStopped();
             });
              // Make checkbox invisible
@@ -248,10 +253,10 @@ public class ManageEventsPanel extends JPanel {
                                      }
                                  } catch (SQLException ex) {
                                      UIUtils.showError(SwingUtilities.getWindowAncestor(table), "Database error deleting event: " + ex.getMessage());
-                                     ex.printStackTrace();
+                                     LOGGER.error("Database error deleting event", ex);
                                  } catch (Exception ex) {
                                       UIUtils.showError(SwingUtilities.getWindowAncestor(table), "An unexpected error occurred: " + ex.getMessage());
-                                      ex.printStackTrace();
+                                      LOGGER.error("Unexpected error deleting event", ex);
                                  }
                              }
                               // Always stop editing after handling the click
@@ -259,7 +264,7 @@ public class ManageEventsPanel extends JPanel {
                          } else if (button.getText().equals("Update") && button.getModel().isPressed()) {
                              // Update button was likely pressed
                              // TODO: Implement update dialog logic here
-                             System.out.println("Update action triggered.");
+                             LOGGER.debug("Update action triggered");
                              // Always stop editing after handling the click
                              return super.stopCellEditing();
                          }
@@ -31,6 +31,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import utils.AppColors;
 import utils.EmojiUtils;
 import utils.UIUtils;
+import utils.UIResources;
 
 /**
  * A panel for uploading and managing event media
@@ -51,7 +52,7 @@ public class MediaUploadPanel extends JPanel {
 
         // Add title
         JLabel titleLabel = new JLabel("Media Upload & Management");
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 24));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         add(titleLabel, BorderLayout.NORTH);
 
@@ -68,7 +69,7 @@ public class MediaUploadPanel extends JPanel {
         galleryContainer.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
 
         JLabel galleryTitle = new JLabel("Media Gallery");
-        galleryTitle.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        galleryTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 18));
         galleryTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
 
         mediaGallery = createMediaGallery();
@@ -87,7 +88,7 @@ public class MediaUploadPanel extends JPanel {
         uploadedContainer.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
 
         JLabel uploadedTitle = new JLabel("Uploaded Files");
-        uploadedTitle.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        uploadedTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 18));
         uploadedTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
 
         uploadedFilesPanel = new JPanel();
@@ -95,7 +96,7 @@ public class MediaUploadPanel extends JPanel {
         uploadedFilesPanel.setOpaque(false);
 
         JLabel noFilesLabel = new JLabel("No files uploaded yet");
-        noFilesLabel.setFont(new Font("Segoe UI", Font.ITALIC, 14));
+        noFilesLabel.setFont(UIResources.getFont("Segoe UI", Font.ITALIC, 14));
         noFilesLabel.setForeground(AppColors.TEXT_SECONDARY);
         noFilesLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         uploadedFilesPanel.add(noFilesLabel);
@@ -122,7 +123,7 @@ public class MediaUploadPanel extends JPanel {
         selectorPanel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
 
         JLabel eventLabel = new JLabel("Select Event:");
-        eventLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        eventLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 14));
 
         String[] events = {
             "Tech Conference 2023",
@@ -143,7 +144,7 @@ public class MediaUploadPanel extends JPanel {
         uploadPanel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
 
         GradientButton uploadButton = GradientButton.createPrimaryButton("Upload New Media");
-        uploadButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        uploadButton.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 14));
         uploadButton.setPreferredSize(new Dimension(180, 40));
         uploadButton.addActionListener(e -> uploadMedia());
 
@@ -206,7 +207,7 @@ public class MediaUploadPanel extends JPanel {
 
         // Add title label
         JLabel titleLabel = new JLabel(title, SwingConstants.CENTER);
-        titleLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         titleLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
         panel.add(imagePlaceholder, BorderLayout.CENTER);
@@ -265,10 +266,10 @@ public class MediaUploadPanel extends JPanel {
         // File icon and name with appropriate emoji
         String fileEmoji = EmojiUtils.getFileTypeEmoji(file.getName());
         JLabel fileIcon = new JLabel(fileEmoji);
-        fileIcon.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
+        fileIcon.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 16));
 
         JLabel fileName = new JLabel(file.getName());
-        fileName.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        fileName.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
 
         // Delete button
         JButton deleteButton = new JButton("❌");
@@ -283,7 +284,7 @@ public class MediaUploadPanel extends JPanel {
             // Add "No files uploaded yet" label if no files remain
             if (uploadedFilesPanel.getComponentCount() == 0) {
                 JLabel noFilesLabel = new JLabel("No files uploaded yet");
-                noFilesLabel.setFont(new Font("Segoe UI", Font.ITALIC, 14));
+                noFilesLabel.setFont(UIResources.getFont("Segoe UI", Font.ITALIC, 14));
                 noFilesLabel.setForeground(AppColors.TEXT_SECONDARY);
                 noFilesLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
                 uploadedFilesPanel.add(noFilesLabel);
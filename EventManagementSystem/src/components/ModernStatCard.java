@@ -2,6 +2,8 @@ package components;
 
 import utils.AppColors;
 import utils.UIConstants;
+import utils.RenderCache;
+import utils.UIResources;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -107,12 +109,12 @@ public class ModernStatCard extends JPanel {
         
         // Icon
         iconLabel = new JLabel(icon);
-        iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, getIconSize()));
+        iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, getIconSize()));
         iconLabel.setHorizontalAlignment(SwingConstants.LEFT);
         
         // Value
         valueLabel = new JLabel(value);
-        valueLabel.setFont(new Font("Segoe UI", Font.BOLD, getValueSize()));
+        valueLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, getValueSize()));
         valueLabel.setHorizontalAlignment(SwingConstants.RIGHT);
         
         topSection.add(iconLabel, BorderLayout.WEST);
@@ -120,13 +122,13 @@ public class ModernStatCard extends JPanel {
         
         // Title
         titleLabel = new JLabel(title);
-        titleLabel.setFont(new Font("Segoe UI", Font.PLAIN, getTitleSize()));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, getTitleSize()));
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Subtitle (optional)
         if (subtitle != null && !subtitle.trim().isEmpty()) {
             subtitleLabel = new JLabel(subtitle);
-            subtitleLabel.setFont(new Font("Segoe UI", Font.PLAIN, getSubtitleSize()));
+            subtitleLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, getSubtitleSize()));
             subtitleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         }
         
@@ -221,81 +223,86 @@ public class ModernStatCard extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
+
+        // Background depends only on size, style, colors and hover, so repaint from a cached image
+        RenderCache.getInstance().draw(g, getWidth(), getHeight(),
+            RenderCache.key(ModernStatCard.class, style, primaryColor, secondaryColor, isHovered),
+            this::paintBackground);
+    }
+
+    private void paintBackground(Graphics2D g2d, int width, int height) {
         int cornerRadius = 15;
         
         switch (style) {
             case DEFAULT:
-                paintDefaultBackground(g2d, cornerRadius);
+                paintDefaultBackground(g2d, width, height, cornerRadius);
                 break;
             case GRADIENT:
-                paintGradientBackground(g2d, cornerRadius);
+                paintGradientBackground(g2d, width, height, cornerRadius);
                 break;
             case OUTLINED:
-                paintOutlinedBackground(g2d, cornerRadius);
+                paintOutlinedBackground(g2d, width, height, cornerRadius);
                 break;
             case ELEVATED:
-                paintElevatedBackground(g2d, cornerRadius);
+                paintElevatedBackground(g2d, width, height, cornerRadius);
                 break;
         }
     }
     
-    private void paintDefaultBackground(Graphics2D g2d, int cornerRadius) {
+    private void paintDefaultBackground(Graphics2D g2d, int width, int height, int cornerRadius) {
         // Background
         g2d.setColor(isHovered ? new Color(248, 249, 250) : Color.WHITE);
-        g2d.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
+        g2d.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
         
         // Border
         g2d.setColor(new Color(230, 230, 230));
-        g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, cornerRadius, cornerRadius);
+        g2d.drawRoundRect(0, 0, width - 1, height - 1, cornerRadius, cornerRadius);
         
         // Accent line at top
         g2d.setColor(primaryColor);
-        g2d.fillRoundRect(0, 0, getWidth(), 4, cornerRadius, cornerRadius);
+        g2d.fillRoundRect(0, 0, width, 4, cornerRadius, cornerRadius);
     }
     
-    private void paintGradientBackground(Graphics2D g2d, int cornerRadius) {
+    private void paintGradientBackground(Graphics2D g2d, int width, int height, int cornerRadius) {
         // Gradient background
         GradientPaint gradient = new GradientPaint(
             0, 0, primaryColor,
-            getWidth(), getHeight(), secondaryColor
+            width, height, secondaryColor
         );
         g2d.setPaint(gradient);
-        g2d.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
+        g2d.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
         
         // Hover overlay
         if (isHovered) {
             g2d.setColor(new Color(255, 255, 255, 20));
-            g2d.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
+            g2d.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
         }
     }
     
-    private void paintOutlinedBackground(Graphics2D g2d, int cornerRadius) {
+    private void paintOutlinedBackground(Graphics2D g2d, int width, int height, int cornerRadius) {
         // Transparent background with border
         if (isHovered) {
             g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 20));
-            g2d.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
+            g2d.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
         }
         
         g2d.setColor(primaryColor);
         g2d.setStroke(new BasicStroke(2));
-        g2d.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, cornerRadius, cornerRadius);
+        g2d.drawRoundRect(1, 1, width - 3, height - 3, cornerRadius, cornerRadius);
     }
     
-    private void paintElevatedBackground(Graphics2D g2d, int cornerRadius) {
+    private void paintElevatedBackground(Graphics2D g2d, int width, int height, int cornerRadius) {
         // Shadow effect
         g2d.setColor(new Color(0, 0, 0, 10));
-        g2d.fillRoundRect(2, 2, getWidth() - 2, getHeight() - 2, cornerRadius, cornerRadius);
+        g2d.fillRoundRect(2, 2, width - 2, height - 2, cornerRadius, cornerRadius);
         
         // Background
         g2d.setColor(isHovered ? new Color(248, 249, 250) : Color.WHITE);
-        g2d.fillRoundRect(0, 0, getWidth() - 2, getHeight() - 2, cornerRadius, cornerRadius);
+        g2d.fillRoundRect(0, 0, width - 2, height - 2, cornerRadius, cornerRadius);
         
         // Accent line
         g2d.setColor(primaryColor);
-        g2d.fillRoundRect(0, 0, getWidth() - 2, 4, cornerRadius, cornerRadius);
+        g2d.fillRoundRect(0, 0, width - 2, 4, cornerRadius, cornerRadius);
     }
     
     // Font size calculations based on card size
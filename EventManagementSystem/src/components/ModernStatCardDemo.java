@@ -1,6 +1,9 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import utils.AppColors;
+import utils.UIResources;
 import javax.swing.*;
 import java.awt.*;
 
@@ -9,6 +12,8 @@ import java.awt.*;
  * This demonstrates the flexibility and reusability of the ModernStatCard component
  */
 public class ModernStatCardDemo extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(ModernStatCardDemo.class);
+
     
     public ModernStatCardDemo() {
         setTitle("Modern Stat Card Demo - All Styles & Sizes");
@@ -22,7 +27,7 @@ public class ModernStatCardDemo extends JFrame {
         
         // Title
         JLabel titleLabel = new JLabel("ModernStatCard Component Demo", SwingConstants.CENTER);
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 24));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 30, 0));
         mainPanel.add(titleLabel, BorderLayout.NORTH);
@@ -61,7 +66,7 @@ public class ModernStatCardDemo extends JFrame {
         section.setOpaque(false);
         
         JLabel sectionTitle = new JLabel("🎨 Different Card Styles");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 18));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -111,7 +116,7 @@ public class ModernStatCardDemo extends JFrame {
         section.setOpaque(false);
         
         JLabel sectionTitle = new JLabel("📏 Different Card Sizes");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 18));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -161,7 +166,7 @@ public class ModernStatCardDemo extends JFrame {
         section.setOpaque(false);
         
         JLabel sectionTitle = new JLabel("🖱️ Interactive Features");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 18));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -229,7 +234,7 @@ public class ModernStatCardDemo extends JFrame {
         
         // Add description
         JLabel descLabel = new JLabel("<html><center>Left: Click to see interaction • Center: Auto-updating counter • Right: Color-changing animation</center></html>");
-        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        descLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         descLabel.setForeground(new Color(100, 100, 100));
         descLabel.setBorder(BorderFactory.createEmptyBorder(15, 0, 0, 0));
         descLabel.setHorizontalAlignment(SwingConstants.CENTER);
@@ -243,7 +248,7 @@ public class ModernStatCardDemo extends JFrame {
             try {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
             } catch (Exception e) {
-                e.printStackTrace();
+                LOGGER.warn("Error setting system look and feel", e);
             }
             new ModernStatCardDemo();
         });
@@ -3,6 +3,7 @@ package components;
 import models.Registration;
 import utils.AppColors;
 import utils.UIUtils;
+import utils.UIResources;
 import controllers.RegistrationController;
 import javax.swing.*;
 import javax.swing.border.*;
@@ -13,6 +14,7 @@ import java.text.SimpleDateFormat;
 import java.util.List;
 import models.Event;
 import controllers.EventController;
+import controllers.ExportController;
 
 /**
  * Panel for displaying and managing event participants for an organizer
@@ -102,7 +104,7 @@ public class ParticipantsPanel extends JPanel {
 
         // Title
         JLabel titleLabel = new JLabel("Event Participants");
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         headerPanel.add(titleLabel, BorderLayout.WEST);
 
@@ -120,6 +122,22 @@ public class ParticipantsPanel extends JPanel {
         });
 
         searchPanel.add(searchField);
+
+        // Streams straight from the database, so it does not depend on what the table has loaded
+        JButton exportButton = UIUtils.createButton("Export", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        exportButton.addActionListener(e -> ExportDialog.export(this, "Export Participants", "participants",
+            (file, format, progress) -> ExportController.getInstance().exportParticipants(organizerId, file, format, progress)));
+        searchPanel.add(exportButton);
+
+        JButton checkInButton = UIUtils.createButton("Door Check-In", null, UIUtils.ButtonType.PRIMARY, UIUtils.ButtonSize.NORMAL);
+        checkInButton.addActionListener(e -> {
+            try {
+                DoorCheckInDialog.open(this, eventController.getEventsByOrganizer(organizerId));
+            } catch (SQLException ex) {
+                UIUtils.showError(this, "Error loading events: " + ex.getMessage());
+            }
+        });
+        searchPanel.add(checkInButton);
         headerPanel.add(searchPanel, BorderLayout.EAST);
 
         return headerPanel;
@@ -9,9 +9,11 @@ import utils.UIUtils;
 import javax.swing.*;
 import java.awt.*;
 import java.time.format.DateTimeFormatter;
+import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.function.Predicate;
 
 public class PendingEventItem extends RoundedPanel {
     private final JLabel titleLabel;
@@ -20,13 +22,48 @@ public class PendingEventItem extends RoundedPanel {
     private final JButton approveButton;
     private final JButton rejectButton;
     private final JButton viewDetailsButton;
+    private final JCheckBox selectBox;
+    private final Predicate<Event> isSelected;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy");
     private Event event;
 
+    /**
+     * Creates an item for a pending event
+     *
+     * @param event The pending event
+     * @param onApprove Called with this item as the event source, so it can act on {@link #getEvent()}
+     * @param onReject Called with this item as the event source
+     */
     public PendingEventItem(Event event, ActionListener onApprove, ActionListener onReject) {
+        this(event, onApprove, onReject, null, null);
+    }
+
+    /**
+     * Creates an item for a pending event with a checkbox for batch moderation
+     *
+     * @param event The pending event
+     * @param onApprove Called with this item as the event source, so it can act on {@link #getEvent()}
+     * @param onReject Called with this item as the event source
+     * @param isSelected Whether an event is selected; null for no checkbox
+     * @param onToggleSelected Called with this item as the event source when the checkbox is clicked
+     */
+    public PendingEventItem(Event event, ActionListener onApprove, ActionListener onReject,
+                            Predicate<Event> isSelected, ActionListener onToggleSelected) {
         super(new BorderLayout(10, 0), AppColors.BACKGROUND_LIGHT, UIConstants.CORNER_RADIUS_SMALL);
         setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         this.event = event;
+        this.isSelected = isSelected;
+
+        // The item may be a stamp shared by many rows, so the box shows the selection rather than holding it
+        selectBox = new JCheckBox();
+        selectBox.setOpaque(false);
+        selectBox.setVisible(isSelected != null);
+        selectBox.setSelected(isSelected != null && isSelected.test(event));
+        if (onToggleSelected != null) {
+            selectBox.addActionListener(e -> onToggleSelected.actionPerformed(
+                new ActionEvent(this, e.getID(), e.getActionCommand())));
+        }
+        add(selectBox, BorderLayout.WEST);
         
         // Title label
         titleLabel = UIUtils.createLabel(
@@ -77,7 +114,8 @@ public class PendingEventItem extends RoundedPanel {
             UIUtils.ButtonSize.SMALL
         );
         if (onApprove != null) {
-            approveButton.addActionListener(onApprove);
+            approveButton.addActionListener(e -> onApprove.actionPerformed(
+                new ActionEvent(this, e.getID(), e.getActionCommand())));
         }
         
         rejectButton = UIUtils.createButton(
@@ -87,7 +125,8 @@ public class PendingEventItem extends RoundedPanel {
             UIUtils.ButtonSize.SMALL
         );
         if (onReject != null) {
-            rejectButton.addActionListener(onReject);
+            rejectButton.addActionListener(e -> onReject.actionPerformed(
+                new ActionEvent(this, e.getID(), e.getActionCommand())));
         }
         
         buttonPanel.add(viewDetailsButton);
@@ -126,6 +165,10 @@ public class PendingEventItem extends RoundedPanel {
         }
     }
 
+    public Event getEvent() {
+        return event;
+    }
+
     public void updateEvent(Event event) {
         this.event = event;
         titleLabel.setText(event.getTitle());
@@ -133,6 +176,7 @@ public class PendingEventItem extends RoundedPanel {
             event.getEventDate().format(DATE_FORMATTER) : "N/A"));
         organizerLabel.setText("Organizer: " + (event.getOrganizer() != null ? 
             event.getOrganizer().getName() : "Unknown"));
+        selectBox.setSelected(isSelected != null && isSelected.test(event));
     }
 
     public void setApproveEnabled(boolean enabled) {
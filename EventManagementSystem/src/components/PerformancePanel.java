@@ -0,0 +1,181 @@
+package components;
+
+import metrics.MetricsRegistry;
+import metrics.OperationStats;
+import metrics.SqlInspector;
+import utils.AppColors;
+import utils.UIConstants;
+import utils.UIUtils;
+
+import javax.swing.*;
+import javax.swing.event.AncestorEvent;
+import javax.swing.event.AncestorListener;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admin view of the per-operation metrics collected by {@link MetricsRegistry}.
+ * Refreshes itself every few seconds while it is on screen.
+ */
+public class PerformancePanel extends RoundedPanel {
+    private static final int REFRESH_INTERVAL_MS = 2000;
+
+    private final MetricsTableModel tableModel = new MetricsTableModel();
+    private final JLabel summaryLabel;
+    private final Timer refreshTimer;
+
+    public PerformancePanel() {
+        super(new BorderLayout(0, 10), Color.WHITE, UIConstants.CORNER_RADIUS_MEDIUM);
+        setBorder(UIUtils.createRoundedBorderWithPadding(AppColors.BORDER, UIConstants.CORNER_RADIUS_MEDIUM, 1, 15));
+
+        JPanel header = UIUtils.createPanel(new BorderLayout(), false);
+        header.add(UIUtils.createLabel("PERFORMANCE", UIConstants.BODY_FONT_BOLD, AppColors.TEXT_PRIMARY), BorderLayout.WEST);
+        summaryLabel = UIUtils.createLabel("", UIConstants.SMALL_FONT, AppColors.TEXT_SECONDARY);
+        header.add(summaryLabel, BorderLayout.EAST);
+        add(header, BorderLayout.NORTH);
+
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        table.setRowHeight(24);
+        table.getColumnModel().getColumn(1).setPreferredWidth(260);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(new Dimension(600, 260));
+        add(scrollPane, BorderLayout.CENTER);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        SqlInspector inspector = SqlInspector.getInstance();
+        JCheckBox inspectBox = new JCheckBox("Detect N+1 and slow SQL (> " + inspector.getSlowThresholdMillis() + " ms)",
+            inspector.isEnabled());
+        inspectBox.setOpaque(false);
+        inspectBox.setFont(UIConstants.SMALL_FONT);
+        inspectBox.addActionListener(e -> inspector.setEnabled(inspectBox.isSelected()));
+        actionPanel.add(inspectBox);
+        JButton refreshBtn = UIUtils.createButton("Refresh", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        JButton exportBtn = UIUtils.createButton("Export CSV", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        JButton resetBtn = UIUtils.createButton("Reset Metrics", null, UIUtils.ButtonType.ERROR, UIUtils.ButtonSize.NORMAL);
+        refreshBtn.addActionListener(e -> refresh());
+        exportBtn.addActionListener(e -> export());
+        resetBtn.addActionListener(e -> {
+            if (UIUtils.showConfirm(this, "Reset all performance metrics?")) {
+                MetricsRegistry.getInstance().reset();
+                SqlInspector.getInstance().resetCounters();
+                refresh();
+            }
+        });
+        actionPanel.add(refreshBtn);
+        actionPanel.add(exportBtn);
+        actionPanel.add(resetBtn);
+        add(actionPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+        addAncestorListener(new AncestorListener() {
+            @Override
+            public void ancestorAdded(AncestorEvent event) {
+                refresh();
+                refreshTimer.start();
+            }
+
+            @Override
+            public void ancestorRemoved(AncestorEvent event) {
+                refreshTimer.stop();
+            }
+
+            @Override
+            public void ancestorMoved(AncestorEvent event) {
+            }
+        });
+        refresh();
+    }
+
+    /**
+     * Reload the table from the registry
+     */
+    public void refresh() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        tableModel.setOperations(registry.getOperations());
+        SqlInspector inspector = SqlInspector.getInstance();
+        String summary = registry.getOperationCount() + " operations, " + registry.getTotalCalls() + " calls";
+        if (inspector.isEnabled()) {
+            summary += " | SQL: " + inspector.getStatementCount() + " statements, "
+                + inspector.getRepeatWarningCount() + " N+1 warnings, " + inspector.getSlowStatementCount() + " slow";
+        }
+        summaryLabel.setText(summary);
+    }
+
+    private void export() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("ems-metrics.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            MetricsRegistry.getInstance().exportCsv(chooser.getSelectedFile().toPath());
+            UIUtils.showSuccess(this, "Metrics exported to " + chooser.getSelectedFile().getAbsolutePath());
+        } catch (IOException e) {
+            UIUtils.showError(this, "Error exporting metrics: " + e.getMessage());
+        }
+    }
+
+    private static class MetricsTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {
+            "Layer", "Operation", "Calls", "Errors", "Rows", "BLOB KB", "Total ms", "Mean ms", "p50 ms", "p99 ms", "Max ms"
+        };
+        private static final Class<?>[] TYPES = {
+            String.class, String.class, Long.class, Long.class, Long.class, Long.class,
+            Double.class, Double.class, Double.class, Double.class, Double.class
+        };
+
+        private List<OperationStats> operations = new ArrayList<>();
+        // Percentiles walk the histogram, so compute them once per refresh
+        private Object[][] rows = new Object[0][];
+
+        void setOperations(List<OperationStats> operations) {
+            this.operations = operations;
+            rows = new Object[operations.size()][];
+            for (int i = 0; i < operations.size(); i++) {
+                OperationStats stats = operations.get(i);
+                rows[i] = new Object[] {
+                    stats.getLayer(), stats.getName(), stats.getCalls(), stats.getErrors(), stats.getRows(),
+                    stats.getBlobBytes() / 1024, round(stats.getTotalMillis()), round(stats.getMeanMillis()),
+                    round(stats.getP50Millis()), round(stats.getP99Millis()), round(stats.getMaxMillis())
+                };
+            }
+            fireTableDataChanged();
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 100) / 100.0;
+        }
+
+        @Override
+        public int getRowCount() {
+            return operations.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return TYPES[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return rows[row][column];
+        }
+    }
+}
@@ -27,15 +27,17 @@ import javax.swing.JTabbedPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 
 import controllers.AuthController;
 import models.User;
 import utils.AppColors;
+import utils.CredentialService;
 import utils.EmojiUtils;
-import utils.SecurityUtils;
 import utils.UIConstants;
 import utils.UIUtils;
 import utils.ValidationUtils;
+import utils.UIResources;
 
 /**
  * A reusable panel for displaying and editing user profile information
@@ -101,7 +103,7 @@ public class ProfilePanel extends JPanel {
         // Add emoji avatar based on user role
         String roleEmoji = EmojiUtils.getUserRoleEmoji(currentUser.getRole().name());
         JLabel avatarEmoji = new JLabel(roleEmoji);
-        avatarEmoji.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 36));
+        avatarEmoji.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 36));
         avatarEmoji.setHorizontalAlignment(SwingConstants.CENTER);
         avatarEmoji.setVerticalAlignment(SwingConstants.CENTER);
         avatarEmoji.setForeground(Color.WHITE);
@@ -123,7 +125,7 @@ public class ProfilePanel extends JPanel {
         if (editable) {
             editButton = UIUtils.createButton(isEditing ? "💾 Save Changes" : "✏️ Edit Profile",
                 null, UIUtils.ButtonType.PRIMARY, UIUtils.ButtonSize.LARGE);
-            editButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 14));
+            editButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 14));
             editButton.addActionListener(e -> toggleEditMode(editButton));
             headerPanel.add(editButton, BorderLayout.EAST);
         }
@@ -275,13 +277,18 @@ public class ProfilePanel extends JPanel {
 
         // Change Password button with emoji
         JButton changePasswordButton = UIUtils.createButton("🔑 Change Password", null, UIUtils.ButtonType.PRIMARY, UIUtils.ButtonSize.NORMAL);
-        changePasswordButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 14));
+        changePasswordButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 14));
         changePasswordButton.addActionListener(e -> {
             // Only update password, not other fields
             String currentPassword = new String(currentPasswordField.getPassword());
             String newPassword = new String(newPasswordField.getPassword());
             String confirmPassword = new String(confirmPasswordField.getPassword());
-            if (updatePassword(currentPassword, newPassword, confirmPassword)) {
+            changePasswordButton.setEnabled(false);
+            updatePassword(currentPassword, newPassword, confirmPassword, updated -> {
+                changePasswordButton.setEnabled(true);
+                if (!updated) {
+                    return;
+                }
                 try {
                     // Save to database
                     AuthController.getInstance().updateUser(currentUser);
@@ -298,7 +305,7 @@ public class ProfilePanel extends JPanel {
                 } catch (SQLException ex) {
                     showError("Failed to update password in database: " + ex.getMessage());
                 }
-            }
+            });
         });
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         buttonPanel.setOpaque(false);
@@ -323,7 +330,7 @@ public class ProfilePanel extends JPanel {
         // Add emoji icon
         if (emoji != null) {
             JLabel iconLabel = new JLabel(emoji);
-            iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
+            iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 16));
             fieldPanel.add(iconLabel, BorderLayout.WEST);
         }
 
@@ -342,7 +349,7 @@ public class ProfilePanel extends JPanel {
         // Add emoji icon
         if (emoji != null) {
             JLabel iconLabel = new JLabel(emoji);
-            iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
+            iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 16));
             fieldPanel.add(iconLabel, BorderLayout.WEST);
         }
 
@@ -359,7 +366,7 @@ public class ProfilePanel extends JPanel {
         if (isEditing) {
             // Save changes
             saveChanges();
-            if (errorLabel.getText().isEmpty()) {
+            if (!isEditing) {
                 editButton.setText("✏️ Edit Profile");
             } else {
                 return; // Don't exit edit mode if there are errors
@@ -416,13 +423,30 @@ public class ProfilePanel extends JPanel {
             String newPassword = newPasswordField != null ? new String(newPasswordField.getPassword()) : "";
             String confirmPassword = confirmPasswordField != null ? new String(confirmPasswordField.getPassword()) : "";
 
-            // If password fields are filled, validate and update password
+            // If password fields are filled, the profile is saved once the password has been checked
             if (!currentPassword.isEmpty() || !newPassword.isEmpty() || !confirmPassword.isEmpty()) {
-                if (!updatePassword(currentPassword, newPassword, confirmPassword)) {
-                    return; // Password update failed
-                }
+                updatePassword(currentPassword, newPassword, confirmPassword, updated -> {
+                    if (updated) {
+                        saveProfile(name, email, phone);
+                    }
+                });
+                return;
             }
 
+            saveProfile(name, email, phone);
+        } catch (Exception e) {
+            showError("Error updating profile: " + e.getMessage());
+            JOptionPane.showMessageDialog(
+                this,
+                "An error occurred while updating your profile: " + e.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE
+            );
+        }
+    }
+
+    private void saveProfile(String name, String email, String phone) {
+        try {
             // Update user object with basic info
             currentUser.setName(name);
             currentUser.setEmail(email);
@@ -469,87 +493,107 @@ public class ProfilePanel extends JPanel {
         }
     }
 
-    private boolean updatePassword(String currentPassword, String newPassword, String confirmPassword) {
-        try {
-            if (currentPassword.isEmpty()) {
-                showError("Current password is required to change password");
-                JOptionPane.showMessageDialog(
-                    this,
-                    "Please enter your current password.",
-                    "Password Required",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return false;
-            }
-
-            // Verify current password
-            SecurityUtils.VerificationResult verificationResult = SecurityUtils.verifyPassword(currentPassword, currentUser.getPassword());
-            if (!verificationResult.isSuccess()) {
-                showError("Current password is incorrect");
-                JOptionPane.showMessageDialog(
-                    this,
-                    "The current password you entered is incorrect. Please try again.",
-                    "Incorrect Password",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return false;
-            }
-
-            if (newPassword.isEmpty() || confirmPassword.isEmpty()) {
-                showError("New password and confirmation are required");
-                JOptionPane.showMessageDialog(
-                    this,
-                    "Please enter both new password and confirmation.",
-                    "Password Required",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return false;
-            }
-
-            if (!newPassword.equals(confirmPassword)) {
-                showError("New passwords do not match");
-                JOptionPane.showMessageDialog(
-                    this,
-                    "The new passwords you entered do not match. Please make sure both fields contain the same password.",
-                    "Passwords Don't Match",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return false;
-            }
-
-            if (!ValidationUtils.isValidPassword(newPassword)) {
-                showError("New password does not meet requirements");
-                JOptionPane.showMessageDialog(
-                    this,
-                    "Your new password does not meet the requirements.\n" +
-                    "• Minimum 8 characters\n" +
-                    "• At least one uppercase letter\n" +
-                    "• At least one lowercase letter",
-                    "Invalid Password",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return false;
-            }
+    /**
+     * Check the current password and hash the new one on the credential pool, so
+     * bcrypt never runs on the Event Dispatch Thread. On success the user's
+     * password is replaced in memory; the caller persists it.
+     *
+     * @param onDone Called on the EDT with whether the password was updated
+     */
+    private void updatePassword(String currentPassword, String newPassword, String confirmPassword,
+                                Consumer<Boolean> onDone) {
+        if (currentPassword.isEmpty()) {
+            showError("Current password is required to change password");
+            JOptionPane.showMessageDialog(
+                this,
+                "Please enter your current password.",
+                "Password Required",
+                JOptionPane.ERROR_MESSAGE
+            );
+            onDone.accept(false);
+            return;
+        }
 
-            // Update password in user object
-            currentUser.setPassword(newPassword);
+        if (newPassword.isEmpty() || confirmPassword.isEmpty()) {
+            showError("New password and confirmation are required");
+            JOptionPane.showMessageDialog(
+                this,
+                "Please enter both new password and confirmation.",
+                "Password Required",
+                JOptionPane.ERROR_MESSAGE
+            );
+            onDone.accept(false);
+            return;
+        }
 
-            // Clear password fields
-            currentPasswordField.setText("");
-            newPasswordField.setText("");
-            confirmPasswordField.setText("");
+        if (!newPassword.equals(confirmPassword)) {
+            showError("New passwords do not match");
+            JOptionPane.showMessageDialog(
+                this,
+                "The new passwords you entered do not match. Please make sure both fields contain the same password.",
+                "Passwords Don't Match",
+                JOptionPane.ERROR_MESSAGE
+            );
+            onDone.accept(false);
+            return;
+        }
 
-            return true;
-        } catch (Exception e) {
-            showError("Error changing password: " + e.getMessage());
+        if (!ValidationUtils.isValidPassword(newPassword)) {
+            showError("New password does not meet requirements");
             JOptionPane.showMessageDialog(
                 this,
-                "An error occurred while changing your password: " + e.getMessage(),
-                "Error",
+                "Your new password does not meet the requirements.\n" +
+                "• Minimum 8 characters\n" +
+                "• At least one uppercase letter\n" +
+                "• At least one lowercase letter",
+                "Invalid Password",
                 JOptionPane.ERROR_MESSAGE
             );
-            return false;
+            onDone.accept(false);
+            return;
         }
+
+        // Verify current password and hash the new one; null means the current password is wrong
+        String storedPassword = currentUser.getPassword();
+        CredentialService credentials = CredentialService.getInstance();
+        credentials.submit(() -> credentials.verify(currentPassword, storedPassword).isSuccess()
+                ? credentials.hash(newPassword) : null)
+            .whenComplete((newHash, error) -> SwingUtilities.invokeLater(() -> {
+                if (error != null) {
+                    Throwable cause = CredentialService.unwrap(error);
+                    showError("Error changing password: " + cause.getMessage());
+                    JOptionPane.showMessageDialog(
+                        this,
+                        "An error occurred while changing your password: " + cause.getMessage(),
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE
+                    );
+                    onDone.accept(false);
+                    return;
+                }
+
+                if (newHash == null) {
+                    showError("Current password is incorrect");
+                    JOptionPane.showMessageDialog(
+                        this,
+                        "The current password you entered is incorrect. Please try again.",
+                        "Incorrect Password",
+                        JOptionPane.ERROR_MESSAGE
+                    );
+                    onDone.accept(false);
+                    return;
+                }
+
+                // Update password in user object
+                currentUser.setPassword(newHash);
+
+                // Clear password fields
+                currentPasswordField.setText("");
+                newPasswordField.setText("");
+                confirmPasswordField.setText("");
+
+                onDone.accept(true);
+            }));
     }
 
     private void showError(String message) {
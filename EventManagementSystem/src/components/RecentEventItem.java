@@ -27,6 +27,12 @@ public class RecentEventItem extends RoundedPanel {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm");
     private Event event;
 
+    /**
+     * Creates an item for an event
+     *
+     * @param event The event
+     * @param onViewDetails Called with this item as the event source, so it can act on {@link #getEvent()}
+     */
     public RecentEventItem(Event event, ActionListener onViewDetails) {
         super(new BorderLayout(10, 0), AppColors.BACKGROUND_LIGHT, UIConstants.CORNER_RADIUS_SMALL);
         setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
@@ -86,7 +92,8 @@ public class RecentEventItem extends RoundedPanel {
             UIUtils.ButtonSize.SMALL
         );
         if (onViewDetails != null) {
-            viewDetailsButton.addActionListener(onViewDetails);
+            viewDetailsButton.addActionListener(e -> onViewDetails.actionPerformed(
+                new ActionEvent(this, e.getID(), e.getActionCommand())));
         }
 
         buttonPanel.add(viewDetailsButton);
@@ -136,6 +143,10 @@ public class RecentEventItem extends RoundedPanel {
         }
     }
 
+    public Event getEvent() {
+        return event;
+    }
+
     public void updateEvent(Event event) {
         this.event = event;
         titleLabel.setText(event.getTitle());
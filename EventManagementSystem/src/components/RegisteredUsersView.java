@@ -34,6 +34,7 @@ import utils.AppColors;
 import utils.SimpleDocumentListener;
 import utils.UIConstants;
 import utils.UIUtils;
+import utils.UIResources;
 
 public class RegisteredUsersView extends JPanel {
     private JTable userTable;
@@ -238,7 +239,7 @@ public class RegisteredUsersView extends JPanel {
     private class ButtonRenderer extends JButton implements TableCellRenderer {
         public ButtonRenderer() {
             setOpaque(true);
-            setFont(new Font("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
+            setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
             setForeground(AppColors.PRIMARY);
             setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
             setCursor(new Cursor(Cursor.HAND_CURSOR));
@@ -261,7 +262,7 @@ public class RegisteredUsersView extends JPanel {
             super(checkBox);
             button = new JButton();
             button.setOpaque(true);
-            button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
+            button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 12)); // Support emoji rendering
             button.setForeground(AppColors.PRIMARY);
             button.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
             button.setCursor(new Cursor(Cursor.HAND_CURSOR));
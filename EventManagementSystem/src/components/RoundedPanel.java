@@ -1,5 +1,7 @@
 package components;
 
+import utils.RenderCache;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.RoundRectangle2D;
@@ -103,12 +105,16 @@ public class RoundedPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        Graphics2D g2 = (Graphics2D) g.create();
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // Shadow, background and border only change with size and style, so repaint from a cached image
+        RenderCache.getInstance().draw(g, getWidth(), getHeight(),
+            RenderCache.key(RoundedPanel.class, backgroundColor, borderColor, cornerRadius, borderThickness, shadowSize, hasShadow),
+            this::paintBackground);
+    }
 
+    private void paintBackground(Graphics2D g2, int panelWidth, int panelHeight) {
         // Calculate the size accounting for the shadow
-        int width = getWidth() - (2 * shadowSize);
-        int height = getHeight() - (2 * shadowSize);
+        int width = panelWidth - (2 * shadowSize);
+        int height = panelHeight - (2 * shadowSize);
         int x = shadowSize;
         int y = shadowSize;
 
@@ -136,7 +142,5 @@ public class RoundedPanel extends JPanel {
             g2.setStroke(new BasicStroke(borderThickness));
             g2.draw(new RoundRectangle2D.Double(x, y, width - 1, height - 1, cornerRadius, cornerRadius));
         }
-
-        g2.dispose();
     }
 }
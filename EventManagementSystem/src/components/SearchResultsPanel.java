@@ -2,7 +2,10 @@ package components;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import models.Event;
 import utils.*;
@@ -11,15 +14,17 @@ import utils.*;
  * Panel for displaying search results
  */
 public class SearchResultsPanel extends JPanel {
-    private final JPanel resultsPanel;
+    private final StampedList<String[]> resultsList;
     private final Consumer<String[]> onEventClick;
     private final JLabel loadingLabel;
     private final JLabel errorLabel;
+    // Events passed to setResults, by ID, so their cards open the details dialog
+    private final Map<String, Event> resultEvents = new HashMap<>();
 
     /**
      * Creates a new SearchResultsPanel
      * 
-     * @param onEventClick Callback for when an event is clicked
+     * @param onEventClick Callback for when an event is clicked, given the row passed to {@link #setEvents(String[][])}
      */
     public SearchResultsPanel(Consumer<String[]> onEventClick) {
         this.onEventClick = onEventClick;
@@ -53,20 +58,24 @@ public class SearchResultsPanel extends JPanel {
         errorLabel.setVisible(false);
         add(errorLabel, BorderLayout.CENTER);
 
-        // Results container
-        resultsPanel = new JPanel();
-        resultsPanel.setLayout(new BoxLayout(resultsPanel, BoxLayout.Y_AXIS));
-        resultsPanel.setOpaque(false);
+        // Results list, painted by stamping a single result card per row
+        resultsList = new StampedList<>(
+            event -> event[0],
+            event -> new ResultCard(event, this::openEvent),
+            ResultCard::setEvent,
+            null
+        );
+        resultsList.setRowAction(this::openEvent);
 
         // Wrap in scroll pane
-        JScrollPane scrollPane = new JScrollPane(resultsPanel);
+        JScrollPane scrollPane = new JScrollPane(resultsList);
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         add(scrollPane, BorderLayout.CENTER);
     }
 
     /**
-     * Sets the search results using Event objects
+     * Sets the search results using Event objects; their cards open an event details dialog
      * 
      * @param events List of events to display
      */
@@ -76,60 +85,21 @@ public class SearchResultsPanel extends JPanel {
             return;
         }
 
-        setLoading(false);
-        resultsPanel.removeAll();
-        
-        if (events.isEmpty()) {
-            showNoResults();
-        } else {
-            for (Event event : events) {
-                if (event == null) continue;
-                java.util.List<JButton> buttons = new java.util.ArrayList<>();
-                JButton viewBtn = UIUtils.createButton(
-                    "View Details",
-                    null,
-                    UIUtils.ButtonType.SECONDARY,
-                    UIUtils.ButtonSize.SMALL
-                );
-                viewBtn.addActionListener(e -> {
-                    try {
-                        Window owner = SwingUtilities.getWindowAncestor(this);
-                        JDialog dialog;
-                        if (owner instanceof Dialog) {
-                            dialog = new JDialog((Dialog) owner, "Event Details", true);
-                        } else {
-                            dialog = new JDialog((Frame) owner, "Event Details", true);
-                        }
-                        dialog.setSize(700, 600);
-                        dialog.setLocationRelativeTo(this);
-                        dialog.setLayout(new BorderLayout());
-                        dialog.add(new EventDetailsPanel(event), BorderLayout.CENTER);
-                        JButton closeBtn = UIUtils.createButton("Close", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
-                        closeBtn.addActionListener(ev -> dialog.dispose());
-                        JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-                        btnPanel.add(closeBtn);
-                        dialog.add(btnPanel, BorderLayout.SOUTH);
-                        dialog.setVisible(true);
-                    } catch (Exception ex) {
-                        showError("Error loading event details: " + ex.getMessage());
-                    }
-                });
-                buttons.add(viewBtn);
-                EventCard card = new EventCard(event, buttons);
-                card.setAlignmentX(Component.LEFT_ALIGNMENT);
-                resultsPanel.add(card);
-                resultsPanel.add(Box.createVerticalStrut(10));
-            }
+        resultEvents.clear();
+        List<String[]> rows = new ArrayList<>(events.size());
+        for (Event event : events) {
+            if (event == null) continue;
+            String[] row = toRow(event);
+            resultEvents.put(row[0], event);
+            rows.add(row);
         }
-
-        resultsPanel.revalidate();
-        resultsPanel.repaint();
+        showRows(rows);
     }
 
     /**
      * Sets the search results using string arrays
      * 
-     * @param events Array of event data to display
+     * @param events Rows of {ID, title, date, venue, ...} to display
      */
     public void setEvents(String[][] events) {
         if (events == null) {
@@ -137,108 +107,65 @@ public class SearchResultsPanel extends JPanel {
             return;
         }
 
-        setLoading(false);
-        resultsPanel.removeAll();
-        
-        if (events.length == 0) {
-            showNoResults();
-        } else {
-            for (String[] event : events) {
-                if (event == null || event.length < 4) {
-                    continue;
-                }
-                
-                try {
-                    RoundedPanel card = createEventCard(event);
-                    card.setAlignmentX(Component.LEFT_ALIGNMENT);
-                    resultsPanel.add(card);
-                    resultsPanel.add(Box.createVerticalStrut(10));
-                } catch (Exception e) {
-                    // Skip invalid event data
-                    continue;
-                }
+        resultEvents.clear();
+        List<String[]> rows = new ArrayList<>(events.length);
+        for (String[] event : events) {
+            if (event != null && event.length >= 4) {
+                rows.add(event);
             }
         }
+        showRows(rows);
+    }
+
+    private void showRows(List<String[]> rows) {
+        setLoading(false);
+        resultsList.setEmptyText("No events found matching your search criteria.");
+        resultsList.setItems(rows);
+    }
 
-        resultsPanel.revalidate();
-        resultsPanel.repaint();
+    private static String[] toRow(Event event) {
+        return new String[]{
+            String.valueOf(event.getId()),
+            event.getTitle(),
+            event.getEventDate() != null ? event.getEventDate().toString() : "N/A",
+            event.getVenueName() != null ? event.getVenueName() : "N/A"
+        };
     }
 
     /**
-     * Creates an event card from event data
+     * Handles a click on a result card
      */
-    private RoundedPanel createEventCard(String[] event) {
-        RoundedPanel card = new RoundedPanel(new BorderLayout(), Color.WHITE, UIConstants.CORNER_RADIUS_MEDIUM);
-        card.setBorder(UIUtils.createRoundedBorderWithPadding(
-            AppColors.BORDER,
-            UIConstants.CORNER_RADIUS_MEDIUM,
-            1,
-            15
-        ));
-        card.setMaximumSize(new Dimension(Integer.MAX_VALUE, 150));
-
-        // Event image placeholder
-        JPanel imagePanel = new JPanel();
-        imagePanel.setBackground(new Color(200, 200, 200));
-        imagePanel.setPreferredSize(new Dimension(150, 150));
-        card.add(imagePanel, BorderLayout.WEST);
-
-        // Event details
-        JPanel detailsPanel = new JPanel();
-        detailsPanel.setLayout(new BoxLayout(detailsPanel, BoxLayout.Y_AXIS));
-        detailsPanel.setOpaque(false);
-
-        // Event title
-        JLabel titleLabel = new JLabel(event[0]);
-        titleLabel.setFont(UIConstants.HEADER_FONT);
-        titleLabel.setForeground(AppColors.TEXT_PRIMARY);
-        detailsPanel.add(titleLabel);
-        detailsPanel.add(Box.createVerticalStrut(10));
-
-        // Event date
-        JLabel dateLabel = new JLabel("📅 " + event[1]);
-        dateLabel.setFont(UIConstants.BODY_FONT);
-        detailsPanel.add(dateLabel);
-        detailsPanel.add(Box.createVerticalStrut(5));
-
-        // Event venue
-        JLabel venueLabel = new JLabel("📍 " + event[2]);
-        venueLabel.setFont(UIConstants.BODY_FONT);
-        detailsPanel.add(venueLabel);
-        detailsPanel.add(Box.createVerticalStrut(10));
-
-        // Register button
-        GradientButton actionButton = GradientButton.createPrimaryButton(event[3]);
-        actionButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
-        actionButton.setPreferredSize(new Dimension(120, 35));
-        actionButton.addActionListener(e -> {
-            try {
+    private void openEvent(String[] event) {
+        try {
+            Event resultEvent = resultEvents.get(event[0]);
+            if (resultEvent != null) {
+                showEventDetailsDialog(resultEvent);
+            } else {
                 onEventClick.accept(event);
-            } catch (Exception ex) {
-                showError("Error handling event click: " + ex.getMessage());
             }
-        });
-
-        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        buttonPanel.setOpaque(false);
-        buttonPanel.add(actionButton);
-        detailsPanel.add(buttonPanel);
-
-        card.add(detailsPanel, BorderLayout.CENTER);
-        return card;
+        } catch (Exception ex) {
+            showError("Error handling event click: " + ex.getMessage());
+        }
     }
 
-    /**
-     * Shows the no results message
-     */
-    private void showNoResults() {
-        JLabel noResultsLabel = UIUtils.createLabel(
-            "No events found matching your search criteria.",
-            UIConstants.BODY_FONT,
-            AppColors.TEXT_SECONDARY
-        );
-        noResultsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        resultsPanel.add(noResultsLabel);
+    private void showEventDetailsDialog(Event event) {
+        Window owner = SwingUtilities.getWindowAncestor(this);
+        JDialog dialog;
+        if (owner instanceof Dialog) {
+            dialog = new JDialog((Dialog) owner, "Event Details", true);
+        } else {
+            dialog = new JDialog((Frame) owner, "Event Details", true);
+        }
+        dialog.setSize(700, 600);
+        dialog.setLocationRelativeTo(this);
+        dialog.setLayout(new BorderLayout());
+        dialog.add(new EventDetailsPanel(event), BorderLayout.CENTER);
+        JButton closeBtn = UIUtils.createButton("Close", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        closeBtn.addActionListener(ev -> dialog.dispose());
+        JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        btnPanel.add(closeBtn);
+        dialog.add(btnPanel, BorderLayout.SOUTH);
+        dialog.setVisible(true);
     }
 
     /**
@@ -246,7 +173,7 @@ public class SearchResultsPanel extends JPanel {
      */
     private void setLoading(boolean loading) {
         loadingLabel.setVisible(loading);
-        resultsPanel.setVisible(!loading);
+        resultsList.setVisible(!loading);
         errorLabel.setVisible(false);
     }
 
@@ -256,7 +183,7 @@ public class SearchResultsPanel extends JPanel {
     private void showError(String message) {
         errorLabel.setText(message);
         errorLabel.setVisible(true);
-        resultsPanel.setVisible(false);
+        resultsList.setVisible(false);
         loadingLabel.setVisible(false);
     }
 
@@ -265,9 +192,9 @@ public class SearchResultsPanel extends JPanel {
      */
     public void clearResults() {
         setLoading(false);
-        resultsPanel.removeAll();
-        resultsPanel.revalidate();
-        resultsPanel.repaint();
+        resultEvents.clear();
+        resultsList.setEmptyText(null);
+        resultsList.setItems(new ArrayList<>());
     }
 
     /**
@@ -276,4 +203,80 @@ public class SearchResultsPanel extends JPanel {
     public void showLoading() {
         setLoading(true);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Card for one search result row, re-stamped for every row of the list
+     */
+    private static class ResultCard extends RoundedPanel {
+        private final JLabel titleLabel;
+        private final JLabel dateLabel;
+        private final JLabel venueLabel;
+        private String[] event;
+
+        ResultCard(String[] event, Consumer<String[]> onClick) {
+            super(new BorderLayout(), Color.WHITE, UIConstants.CORNER_RADIUS_MEDIUM);
+            setBorder(UIUtils.createRoundedBorderWithPadding(
+                AppColors.BORDER,
+                UIConstants.CORNER_RADIUS_MEDIUM,
+                1,
+                15
+            ));
+
+            // Event image placeholder
+            JPanel imagePanel = new JPanel();
+            imagePanel.setBackground(new Color(200, 200, 200));
+            imagePanel.setPreferredSize(new Dimension(150, 150));
+            add(imagePanel, BorderLayout.WEST);
+
+            // Event details
+            JPanel detailsPanel = new JPanel();
+            detailsPanel.setLayout(new BoxLayout(detailsPanel, BoxLayout.Y_AXIS));
+            detailsPanel.setOpaque(false);
+            detailsPanel.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 0));
+
+            // Event title
+            titleLabel = new JLabel();
+            titleLabel.setFont(UIConstants.HEADER_FONT);
+            titleLabel.setForeground(AppColors.TEXT_PRIMARY);
+            detailsPanel.add(titleLabel);
+            detailsPanel.add(Box.createVerticalStrut(10));
+
+            // Event date
+            dateLabel = new JLabel();
+            dateLabel.setFont(UIConstants.BODY_FONT);
+            detailsPanel.add(dateLabel);
+            detailsPanel.add(Box.createVerticalStrut(5));
+
+            // Event venue
+            venueLabel = new JLabel();
+            venueLabel.setFont(UIConstants.BODY_FONT);
+            detailsPanel.add(venueLabel);
+            detailsPanel.add(Box.createVerticalStrut(10));
+
+            // Details button
+            GradientButton actionButton = GradientButton.createPrimaryButton("View Details");
+            actionButton.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 14));
+            actionButton.setPreferredSize(new Dimension(120, 35));
+            actionButton.addActionListener(e -> onClick.accept(this.event));
+
+            JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+            buttonPanel.setOpaque(false);
+            buttonPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            buttonPanel.add(actionButton);
+            titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            dateLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            venueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            detailsPanel.add(buttonPanel);
+
+            add(detailsPanel, BorderLayout.CENTER);
+            setEvent(event);
+        }
+
+        void setEvent(String[] event) {
+            this.event = event;
+            titleLabel.setText(event[1]);
+            dateLabel.setText("📅 " + event[2]);
+            venueLabel.setText("📍 " + event[3]);
+        }
+    }
+}
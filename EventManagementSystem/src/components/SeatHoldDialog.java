@@ -0,0 +1,212 @@
+package components;
+
+import controllers.SeatHoldManager;
+import logging.LogManager;
+import logging.Logger;
+import models.Event;
+import models.Registration;
+import models.SeatHold;
+import models.User;
+import utils.AppColors;
+import utils.UIConstants;
+import utils.UIUtils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Registration dialog that holds the attendee's seat while it is open.
+ *
+ * A seat is held before the dialog appears and a countdown shows how long
+ * it stays held. Registering takes the held seat; cancelling or closing the
+ * dialog gives it back. If the hold runs out first, registering still goes
+ * ahead, on a free seat or the waitlist.
+ */
+public class SeatHoldDialog extends JDialog {
+    private static final Logger LOGGER = LogManager.getLogger(SeatHoldDialog.class);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
+    private static final int COUNTDOWN_MS = 1000;
+
+    private final User user;
+    private final Event event;
+    private final SeatHold hold;
+    private final boolean allowScheduleConflict;
+    private final Consumer<Registration> onRegistered;
+    private final JLabel countdownLabel;
+    private final JButton registerButton;
+    private final JButton cancelButton;
+    private final Timer countdownTimer;
+    // Whether the hold has been confirmed or given back
+    private boolean settled;
+
+    private SeatHoldDialog(Window parent, User user, Event event, SeatHold hold, boolean allowScheduleConflict,
+                           Consumer<Registration> onRegistered) {
+        super(parent, "Register for " + event.getTitle(), ModalityType.APPLICATION_MODAL);
+        this.user = user;
+        this.event = event;
+        this.hold = hold;
+        this.allowScheduleConflict = allowScheduleConflict;
+        this.onRegistered = onRegistered;
+
+        JPanel content = UIUtils.createPanel(new BorderLayout(0, 15), true);
+        content.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        content.add(UIUtils.createLabel(event.getTitle(), UIConstants.TITLE_FONT, AppColors.TEXT_PRIMARY),
+            BorderLayout.NORTH);
+
+        JPanel details = UIUtils.createPanel(new GridLayout(0, 1, 0, 8), false);
+        details.add(UIUtils.createLabel("Date: " + (event.getEventDate() != null
+            ? event.getEventDate().format(DATE_FORMAT) : "TBD"), UIConstants.BODY_FONT, AppColors.TEXT_PRIMARY));
+        details.add(UIUtils.createLabel("Venue: " + event.getVenueName(), UIConstants.BODY_FONT, AppColors.TEXT_PRIMARY));
+        if (event.getEligibilityCriteria() != null && !event.getEligibilityCriteria().isBlank()) {
+            details.add(UIUtils.createLabel("Eligibility: " + event.getEligibilityCriteria(), UIConstants.BODY_FONT,
+                AppColors.TEXT_PRIMARY));
+        }
+        countdownLabel = UIUtils.createLabel("", UIConstants.SUBTITLE_FONT, AppColors.SUCCESS);
+        details.add(countdownLabel);
+        content.add(details, BorderLayout.CENTER);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        cancelButton = UIUtils.createButton("Cancel", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        cancelButton.addActionListener(e -> dispose());
+        registerButton = UIUtils.createButton("Register", null, UIUtils.ButtonType.PRIMARY, UIUtils.ButtonSize.NORMAL);
+        registerButton.addActionListener(e -> register());
+        actionPanel.add(cancelButton);
+        actionPanel.add(registerButton);
+        content.add(actionPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        countdownTimer = new Timer(COUNTDOWN_MS, e -> updateCountdown());
+        countdownTimer.start();
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                registerButton.requestFocusInWindow();
+            }
+        });
+        updateCountdown();
+        setSize(480, 300);
+        setLocationRelativeTo(parent);
+    }
+
+    /**
+     * Hold a seat for the user and open the registration dialog, or say the event is full
+     *
+     * @param parent Component the dialogs are shown over
+     * @param user The user registering
+     * @param event The event to register for
+     * @param allowScheduleConflict Whether to register even if the event overlaps another of the
+     *        user's registrations, e.g. after the user confirmed the overlap
+     * @param onRegistered Called on the event dispatch thread with the registration once it is made
+     */
+    public static void open(Component parent, User user, Event event, boolean allowScheduleConflict,
+                            Consumer<Registration> onRegistered) {
+        Window owner = parent instanceof Window ? (Window) parent : SwingUtilities.getWindowAncestor(parent);
+        parent.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<SeatHold, Void>() {
+            @Override
+            protected SeatHold doInBackground() throws Exception {
+                return SeatHoldManager.getInstance().hold(user, event);
+            }
+
+            @Override
+            protected void done() {
+                parent.setCursor(Cursor.getDefaultCursor());
+                try {
+                    SeatHold hold = get();
+                    if (hold == null) {
+                        UIUtils.showError(parent, "Sorry, this event is full.");
+                        return;
+                    }
+                    new SeatHoldDialog(owner, user, event, hold, allowScheduleConflict, onRegistered).setVisible(true);
+                } catch (ExecutionException e) {
+                    UIUtils.showError(parent, "Registration failed: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    private void updateCountdown() {
+        long seconds = Duration.between(LocalDateTime.now(), hold.getExpiresAt()).getSeconds();
+        if (seconds > 0) {
+            countdownLabel.setText(String.format("Your seat is held for %d:%02d", seconds / 60, seconds % 60));
+        } else {
+            countdownTimer.stop();
+            countdownLabel.setText("Your seat is no longer held; you may be waitlisted");
+            countdownLabel.setForeground(AppColors.WARNING);
+        }
+    }
+
+    private void register() {
+        registerButton.setEnabled(false);
+        cancelButton.setEnabled(false);
+        new SwingWorker<Registration, Void>() {
+            @Override
+            protected Registration doInBackground() throws Exception {
+                return SeatHoldManager.getInstance().confirm(user, hold, allowScheduleConflict);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    Registration registration = get();
+                    settled = true;
+                    dispose();
+                    if (registration.getStatus() == Registration.Status.WAITLISTED) {
+                        UIUtils.showSuccess(getOwner(), "The event filled up, so you have been added to its waitlist for "
+                            + event.getTitle() + ".");
+                    } else {
+                        UIUtils.showSuccess(getOwner(), "Successfully registered for " + event.getTitle() + "!");
+                    }
+                    if (onRegistered != null) {
+                        onRegistered.accept(registration);
+                    }
+                } catch (ExecutionException e) {
+                    UIUtils.showError(SeatHoldDialog.this, "Registration failed: " + e.getCause().getMessage());
+                    dispose();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    @Override
+    public void dispose() {
+        countdownTimer.stop();
+        if (!settled) {
+            settled = true;
+            // Give the seat back straight away rather than when the hold runs out
+            new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws Exception {
+                    SeatHoldManager.getInstance().release(hold);
+                    return null;
+                }
+
+                @Override
+                protected void done() {
+                    try {
+                        get();
+                    } catch (ExecutionException e) {
+                        LOGGER.warn("Could not release seat hold {}, it will expire: {}", hold.getId(),
+                            e.getCause().getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }.execute();
+        }
+        super.dispose();
+    }
+}
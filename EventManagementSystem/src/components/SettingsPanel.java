@@ -42,5 +42,9 @@ public class SettingsPanel extends JPanel {
         // saveButton.addActionListener(...);
 
         add(formPanel, BorderLayout.CENTER);
+
+        if (user.getRole() == User.UserRole.ADMIN) {
+            add(new PerformancePanel(), BorderLayout.SOUTH);
+        }
     }
 } 
\ No newline at end of file
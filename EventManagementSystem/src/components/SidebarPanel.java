@@ -1,5 +1,7 @@
 package components;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.BorderLayout;
 import java.awt.CardLayout;
 import java.awt.Color;
@@ -9,11 +11,9 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.event.ActionListener;
 import java.awt.geom.RoundRectangle2D;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,11 +30,14 @@ import javax.swing.JSeparator;
 import javax.swing.SwingConstants;
 
 import utils.AppColors;
+import utils.UIResources;
 
 /**
  * Reusable sidebar panel component with consistent styling and improved visuals
  */
 public class SidebarPanel extends JPanel {
+    private static final Logger LOGGER = LogManager.getLogger(SidebarPanel.class);
+
     private final List<JButton> navButtons = new ArrayList<>();
     private final Map<String, JButton> buttonMap = new HashMap<>();
     private final CardLayout contentCardLayout;
@@ -49,6 +52,9 @@ public class SidebarPanel extends JPanel {
     private static final Color HOVER_BG = new Color(39, 44, 52);
     private static final Color AVATAR_BG = AppColors.PRIMARY;
 
+    /** Glyphs of the navigation labels used across the dashboards, for {@link UIResources#preload} */
+    public static final String PRELOAD_GLYPHS = "🏠⏳📅🗓➕👥⚙️👤📸🚪 ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
     // Icon size constants
     private static final int ICON_WIDTH = 20;
     private static final int ICON_HEIGHT = 20;
@@ -86,7 +92,7 @@ public class SidebarPanel extends JPanel {
 
         // Add navigation section label
         JLabel navLabel = new JLabel("NAVIGATION");
-        navLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+        navLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 12));
         navLabel.setForeground(new Color(150, 150, 150));
         navLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         navLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 0));
@@ -100,20 +106,7 @@ public class SidebarPanel extends JPanel {
      * @return The resized ImageIcon, or null if the icon couldn't be loaded
      */
     private ImageIcon loadIcon(String iconName) {
-        try {
-            String iconPath = "/icons/" + iconName;
-            URL iconUrl = getClass().getResource(iconPath);
-            if (iconUrl == null) {
-                System.err.println("Error loading icon: " + iconName + " (not found at " + iconPath + ")");
-                return null;
-            }
-            ImageIcon originalIcon = new ImageIcon(iconUrl);
-            Image scaledImage = originalIcon.getImage().getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImage);
-        } catch (Exception e) {
-            System.err.println("Error loading icon: " + iconName + " (" + e.getMessage() + ")");
-            return null;
-        }
+        return UIResources.getIcon("icons/" + iconName, 24);
     }
 
     /**
@@ -147,7 +140,7 @@ public class SidebarPanel extends JPanel {
 
         // Add emoji avatar
         JLabel avatarEmoji = new JLabel("👤");
-        avatarEmoji.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 28));
+        avatarEmoji.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 28));
         avatarEmoji.setHorizontalAlignment(SwingConstants.CENTER);
         avatarEmoji.setVerticalAlignment(SwingConstants.CENTER);
         avatarEmoji.setForeground(Color.WHITE);
@@ -158,12 +151,12 @@ public class SidebarPanel extends JPanel {
         userInfo.setOpaque(false);
 
         JLabel nameLabel = new JLabel(username);
-        nameLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        nameLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         nameLabel.setForeground(Color.WHITE);
         nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         JLabel roleLabel = new JLabel(userRole);
-        roleLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        roleLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         roleLabel.setForeground(new Color(200, 200, 200));
         roleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
@@ -232,7 +225,7 @@ public class SidebarPanel extends JPanel {
         // Set button properties
         button.setText(text);
         // Use a font that supports emoji rendering
-        button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 14));
+        button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 14));
         button.setForeground(Color.WHITE);
         button.setHorizontalAlignment(SwingConstants.LEFT);
         button.setBorderPainted(false);
@@ -249,7 +242,7 @@ public class SidebarPanel extends JPanel {
         button.addActionListener(e -> {
             if (contentCardLayout != null && contentPanel != null) {
                 contentCardLayout.show(contentPanel, cardName);
-                System.out.println("Showing card: " + cardName + " (from basic listener)");
+                LOGGER.debug("Showing card {} (from basic listener)", cardName);
             }
             updateButtonStyles(button);
         });
@@ -280,7 +273,7 @@ public class SidebarPanel extends JPanel {
 
         // Add section label
         JLabel sectionLabel = new JLabel(text);
-        sectionLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+        sectionLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 12));
         sectionLabel.setForeground(new Color(150, 150, 150));
         sectionLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         sectionLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 0));
@@ -324,7 +317,7 @@ public class SidebarPanel extends JPanel {
         };
 
         // Set font to support emoji rendering
-        logoutButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 14));
+        logoutButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 14));
         logoutButton.setForeground(Color.WHITE);
         logoutButton.setHorizontalAlignment(SwingConstants.LEFT);
         logoutButton.setBorderPainted(false);
@@ -375,11 +368,10 @@ public class SidebarPanel extends JPanel {
             updateButtonStyles(button);
             if (contentCardLayout != null && contentPanel != null) {
                 contentCardLayout.show(contentPanel, buttonTextOrCardName);
-                System.out.println("Selecting button and showing card: " + buttonTextOrCardName);
+                LOGGER.debug("Selecting button and showing card {}", buttonTextOrCardName);
             }
         } else {
-            System.err.println("Button not found for selection: " + buttonTextOrCardName);
-            System.err.println("Available buttons: " + String.join(", ", buttonMap.keySet()));
+            LOGGER.warn("Button not found for selection: {}. Available buttons: {}", buttonTextOrCardName, buttonMap.keySet());
         }
     }
 
@@ -405,7 +397,7 @@ public class SidebarPanel extends JPanel {
                 // First show the card - use the buttonText as the card name
                 if (contentCardLayout != null && contentPanel != null) {
                     contentCardLayout.show(contentPanel, buttonText);
-                    System.out.println("Showing card from action listener: " + buttonText);
+                    LOGGER.debug("Showing card {} from action listener", buttonText);
                 }
 
                 // Update button styles
@@ -415,11 +407,9 @@ public class SidebarPanel extends JPanel {
                 listener.actionPerformed(e);
             });
 
-            System.out.println("Added action listener to button: " + buttonText);
+            LOGGER.debug("Added action listener to button {}", buttonText);
         } else {
-            System.err.println("Button not found for: " + buttonText);
-            // Print all keys in the buttonMap for debugging
-            System.err.println("Available buttons: " + String.join(", ", buttonMap.keySet()));
+            LOGGER.warn("Button not found for: {}. Available buttons: {}", buttonText, buttonMap.keySet());
         }
     }
 }
@@ -0,0 +1,261 @@
+package components;
+
+import utils.AppColors;
+import utils.UIConstants;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Virtualized list of rich item cards.
+ *
+ * Instead of one component tree per item, a single item component is
+ * created and re-stamped with each visible item while the list paints, so
+ * cost follows the rows on screen rather than the number of items. Buttons
+ * inside the stamped card are hit-tested on click: the card is laid out for
+ * the clicked item and the button under the mouse has its action listeners
+ * invoked as if it had been clicked itself.
+ *
+ * @param <T> Item type
+ */
+public class StampedList<T> extends JList<T> {
+    private static final int DEFAULT_GAP = 10;
+
+    private final KeyedListModel<T> listModel;
+    private String emptyText;
+    private final CellRendererPane hitTestPane = new CellRendererPane();
+    private Consumer<? super T> rowAction;
+
+    /**
+     * Creates an empty list
+     *
+     * @param keyFunction Stable identity of an item, e.g. its database ID
+     * @param factory Builds the item component, called once with the first item painted
+     * @param updater Re-stamps the item component with another item
+     * @param emptyText Text shown when there are no items
+     * @param <C> Item component type
+     */
+    public <C extends JComponent> StampedList(Function<? super T, ?> keyFunction,
+                                              Function<? super T, ? extends C> factory,
+                                              BiConsumer<? super C, ? super T> updater, String emptyText) {
+        this(new KeyedListModel<>(keyFunction), emptyText);
+        setCellRenderer(new StampRenderer<>(factory, updater, DEFAULT_GAP));
+    }
+
+    private StampedList(KeyedListModel<T> listModel, String emptyText) {
+        super(listModel);
+        this.listModel = listModel;
+        this.emptyText = emptyText;
+        setOpaque(false);
+        setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // Cells always span the viewport, so skip the width pass over every item
+        setFixedCellWidth(1);
+        add(hitTestPane);
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (SwingUtilities.isLeftMouseButton(e)) {
+                    handleClick(e.getPoint());
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                updateCursor(e.getPoint());
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setCursor(Cursor.getDefaultCursor());
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+    }
+
+    /**
+     * Show the given items; only rows whose item changed are repainted
+     *
+     * @param items Items in display order; items with equal keys are matched in order
+     */
+    public void setItems(List<? extends T> items) {
+        listModel.setItems(items);
+        if (getFixedCellHeight() < 0 && !items.isEmpty()) {
+            // Item cards share one height, so measure it once instead of stamping every row
+            Component stamp = getCellRenderer().getListCellRendererComponent(this, items.get(0), 0, false, false);
+            setFixedCellHeight(stamp.getPreferredSize().height);
+        }
+    }
+
+    /**
+     * Get the items shown
+     *
+     * @return The items in display order
+     */
+    public List<T> getItems() {
+        return listModel.getItems();
+    }
+
+    /**
+     * Get the number of items shown
+     *
+     * @return The item count
+     */
+    public int getItemCount() {
+        return listModel.getSize();
+    }
+
+    /**
+     * Set the text shown when there are no items
+     *
+     * @param emptyText The text, or null to show nothing
+     */
+    public void setEmptyText(String emptyText) {
+        this.emptyText = emptyText;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Set what happens when an item is clicked outside its buttons
+     *
+     * @param rowAction Called with the clicked item, or null for nothing
+     */
+    public void setRowAction(Consumer<? super T> rowAction) {
+        this.rowAction = rowAction;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (listModel.getSize() == 0 && emptyText != null) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(UIConstants.BODY_FONT);
+            g2.setColor(AppColors.TEXT_SECONDARY);
+            FontMetrics metrics = g2.getFontMetrics();
+            int x = (getWidth() - metrics.stringWidth(emptyText)) / 2;
+            g2.drawString(emptyText, Math.max(0, x), 20 + metrics.getAscent());
+            g2.dispose();
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        Dimension size = super.getPreferredSize();
+        if (listModel.getSize() == 0 && emptyText != null) {
+            size.height = Math.max(size.height, 40 + getFontMetrics(UIConstants.BODY_FONT).getHeight());
+        }
+        return size;
+    }
+
+    private void handleClick(Point point) {
+        int index = rowAt(point);
+        if (index < 0) {
+            return;
+        }
+        AbstractButton button = buttonAt(index, point);
+        if (button != null) {
+            ActionEvent event = new ActionEvent(button, ActionEvent.ACTION_PERFORMED, button.getActionCommand());
+            for (ActionListener listener : button.getActionListeners()) {
+                listener.actionPerformed(event);
+            }
+        } else if (rowAction != null) {
+            rowAction.accept(listModel.getElementAt(index));
+        }
+    }
+
+    private void updateCursor(Point point) {
+        int index = rowAt(point);
+        boolean clickable = index >= 0 && (rowAction != null || buttonAt(index, point) != null);
+        setCursor(clickable ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+    }
+
+    private int rowAt(Point point) {
+        int index = locationToIndex(point);
+        if (index < 0) {
+            return -1;
+        }
+        Rectangle bounds = getCellBounds(index, index);
+        return bounds != null && bounds.contains(point) ? index : -1;
+    }
+
+    /**
+     * Lay the stamped card out for one row and find the enabled button under a point
+     *
+     * @param index Row index
+     * @param point Point in list coordinates
+     * @return The button, or null if the point is not over one
+     */
+    private AbstractButton buttonAt(int index, Point point) {
+        Rectangle bounds = getCellBounds(index, index);
+        Component stamp = getCellRenderer().getListCellRendererComponent(
+            this, listModel.getElementAt(index), index, false, false);
+        if (stamp.getParent() == null) {
+            // Keep the card inside this window so its listeners can find their owner
+            hitTestPane.add(stamp);
+        }
+        stamp.setBounds(0, 0, bounds.width, bounds.height);
+        layoutTree(stamp);
+
+        Component hit = SwingUtilities.getDeepestComponentAt(stamp, point.x - bounds.x, point.y - bounds.y);
+        while (hit != null && hit != stamp && !(hit instanceof AbstractButton)) {
+            hit = hit.getParent();
+        }
+        return hit instanceof AbstractButton && hit.isEnabled() ? (AbstractButton) hit : null;
+    }
+
+    private static void layoutTree(Component component) {
+        if (component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+
+    /**
+     * Renderer that keeps one item component and re-stamps it per row
+     */
+    private static class StampRenderer<T, C extends JComponent> implements ListCellRenderer<T> {
+        private final Function<? super T, ? extends C> factory;
+        private final BiConsumer<? super C, ? super T> updater;
+        private final JPanel cell;
+        private C stamp;
+
+        StampRenderer(Function<? super T, ? extends C> factory, BiConsumer<? super C, ? super T> updater, int gap) {
+            this.factory = factory;
+            this.updater = updater;
+            cell = new JPanel(new BorderLayout());
+            cell.setOpaque(false);
+            cell.setBorder(BorderFactory.createEmptyBorder(0, 0, gap, 0));
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends T> list, T value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            if (stamp == null) {
+                stamp = factory.apply(value);
+                cell.add(stamp, BorderLayout.CENTER);
+            } else {
+                updater.accept(stamp, value);
+            }
+            return cell;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import javax.swing.SwingConstants;
 import utils.AppColors;
 import utils.UIConstants;
 import utils.UIUtils;
+import utils.UIResources;
 
 public class StatCard extends RoundedPanel {
     private final JLabel titleLabel;
@@ -49,7 +50,7 @@ public class StatCard extends RoundedPanel {
                 UIConstants.DASHBOARD_NUMBER_FONT,
                 valueColor
             );
-            iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 24)); // Support emoji rendering
+            iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 24)); // Support emoji rendering
             iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
             add(iconLabel, BorderLayout.WEST);
         } else {
@@ -8,7 +8,7 @@ import utils.UIUtils;
 import utils.ValidationUtils;
 import models.User;
 import utils.UIConstants;
-import utils.SecurityUtils;
+import utils.CredentialService;
 import controllers.AuthController;
 import java.awt.event.ActionListener;
 
@@ -245,55 +245,65 @@ public class UserEditDialog extends JDialog {
     }
 
     private void changePassword() {
-        try {
-            String newPassword = new String(newPasswordField.getPassword());
-            String confirmPassword = new String(confirmPasswordField.getPassword());
-
-            if (isCurrentUser) {
-                String currentPassword = new String(currentPasswordField.getPassword());
-                if (currentPassword.isEmpty()) {
-                    showError("Current password is required");
-                    return;
-                }
+        String newPassword = new String(newPasswordField.getPassword());
+        String confirmPassword = new String(confirmPasswordField.getPassword());
+        String currentPassword = isCurrentUser ? new String(currentPasswordField.getPassword()) : null;
 
-                // Verify current password
-                SecurityUtils.VerificationResult verificationResult = SecurityUtils.verifyPassword(currentPassword, user.getPassword());
-                if (!verificationResult.isSuccess()) {
-                    showError("Current password is incorrect");
-                    return;
-                }
-            }
+        if (isCurrentUser && currentPassword.isEmpty()) {
+            showError("Current password is required");
+            return;
+        }
 
-            if (newPassword.isEmpty() || confirmPassword.isEmpty()) {
-                showError("New password and confirmation are required");
-                return;
-            }
+        if (newPassword.isEmpty() || confirmPassword.isEmpty()) {
+            showError("New password and confirmation are required");
+            return;
+        }
 
-            if (!newPassword.equals(confirmPassword)) {
-                showError("New passwords do not match");
-                return;
-            }
+        if (!newPassword.equals(confirmPassword)) {
+            showError("New passwords do not match");
+            return;
+        }
 
-            if (!ValidationUtils.isValidPassword(newPassword)) {
-                showError("New password does not meet requirements");
-                return;
+        if (!ValidationUtils.isValidPassword(newPassword)) {
+            showError("New password does not meet requirements");
+            return;
+        }
+
+        // Verify current password and hash the new one on the credential pool, off the EDT
+        String storedPassword = user.getPassword();
+        CredentialService credentials = CredentialService.getInstance();
+        credentials.submit(() -> {
+            if (currentPassword != null && !credentials.verify(currentPassword, storedPassword).isSuccess()) {
+                throw new IllegalArgumentException("Current password is incorrect");
             }
+            return credentials.hash(newPassword);
+        }).whenComplete((newHash, error) -> SwingUtilities.invokeLater(() -> {
+            try {
+                if (error != null) {
+                    Throwable cause = CredentialService.unwrap(error);
+                    if (cause instanceof IllegalArgumentException) {
+                        showError(cause.getMessage());
+                        return;
+                    }
+                    throw cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+                }
 
-            // Update password
-            user.setPassword(newPassword);
-            AuthController.getInstance().updateUser(user);
-            
-            showSuccess("Password changed successfully");
-            
-            // Notify callback
-            if (onSaveCallback != null) {
-                onSaveCallback.actionPerformed(null);
+                // Update password
+                user.setPassword(newHash);
+                AuthController.getInstance().updateUser(user);
+
+                showSuccess("Password changed successfully");
+
+                // Notify callback
+                if (onSaveCallback != null) {
+                    onSaveCallback.actionPerformed(null);
+                }
+
+                dispose();
+            } catch (Exception e) {
+                showError("Error changing password: " + e.getMessage());
             }
-            
-            dispose();
-        } catch (Exception e) {
-            showError("Error changing password: " + e.getMessage());
-        }
+        }));
     }
 
     private void showError(String message) {
@@ -0,0 +1,157 @@
+package components;
+
+import controllers.UserController;
+import controllers.UserImporter;
+import models.User.UserRole;
+import utils.AppColors;
+import utils.UIConstants;
+import utils.UIUtils;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Progress dialog for a bulk user import running in the background.
+ *
+ * Asks for the CSV file, runs {@link UserController#importUsers} on a
+ * worker thread while showing how many rows have been read and imported,
+ * and offers to save the rows that were not imported as a CSV report.
+ */
+public class UserImportDialog extends JDialog {
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel;
+    private final JButton cancelButton;
+    private volatile boolean cancelled;
+
+    private UserImportDialog(Window parent) {
+        super(parent, "Import Users", ModalityType.MODELESS);
+
+        JPanel content = UIUtils.createPanel(new BorderLayout(0, 12), true);
+        content.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        statusLabel = UIUtils.createLabel("Reading file...", UIConstants.BODY_FONT, AppColors.TEXT_PRIMARY);
+        content.add(statusLabel, BorderLayout.NORTH);
+        progressBar.setIndeterminate(true);
+        content.add(progressBar, BorderLayout.CENTER);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        cancelButton = UIUtils.createButton("Cancel", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        cancelButton.addActionListener(e -> cancel());
+        actionPanel.add(cancelButton);
+        content.add(actionPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                cancel();
+            }
+        });
+        setSize(420, 170);
+        setResizable(false);
+        setLocationRelativeTo(parent);
+    }
+
+    /**
+     * Ask for a CSV file and import its users in the background
+     *
+     * @param parent Component the dialogs are shown over
+     * @param defaultRole Role for rows without a role column value
+     */
+    public static void importUsers(Component parent, UserRole defaultRole) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import Users (columns: name, email, password, optional role and phone)");
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV (comma-separated values)", "csv"));
+        if (chooser.showOpenDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Window owner = parent instanceof Window ? (Window) parent : SwingUtilities.getWindowAncestor(parent);
+        UserImportDialog dialog = new UserImportDialog(owner);
+        dialog.start(chooser.getSelectedFile(), defaultRole);
+        dialog.setVisible(true);
+    }
+
+    private void start(File file, UserRole defaultRole) {
+        new SwingWorker<UserImporter.Report, int[]>() {
+            @Override
+            protected UserImporter.Report doInBackground() throws Exception {
+                try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                    return UserController.getInstance().importUsers(reader, defaultRole, new UserImporter.Progress() {
+                        @Override
+                        public void onProgress(int rowsRead, int imported) {
+                            publish(new int[] {rowsRead, imported});
+                        }
+
+                        @Override
+                        public boolean isCancelled() {
+                            return cancelled;
+                        }
+                    });
+                }
+            }
+
+            @Override
+            protected void process(List<int[]> chunks) {
+                // Only the latest count matters
+                int[] latest = chunks.get(chunks.size() - 1);
+                statusLabel.setText((cancelled ? "Cancelling... " : "")
+                    + latest[1] + " imported, " + latest[0] + " rows read");
+            }
+
+            @Override
+            protected void done() {
+                dispose();
+                Component parent = getOwner();
+                try {
+                    showReport(parent, get());
+                } catch (ExecutionException e) {
+                    UIUtils.showError(parent, "Error importing users: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    private static void showReport(Component parent, UserImporter.Report report) {
+        String summary = "Imported " + report.getImported() + " of " + report.getRowsRead() + " users in "
+            + report.getElapsedMillis() / 1000.0 + " s" + (report.isCancelled() ? " before the import was cancelled" : "");
+        if (report.getErrors().isEmpty()) {
+            UIUtils.showSuccess(parent, summary + ".");
+            return;
+        }
+        if (!UIUtils.showConfirm(parent, summary + ".\n" + report.getErrors().size()
+                + " rows were not imported. Save a report of them?")) {
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("import-errors.csv"));
+        if (chooser.showSaveDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(chooser.getSelectedFile().toPath(), StandardCharsets.UTF_8)) {
+            report.writeErrors(writer);
+            UIUtils.showSuccess(parent, "Error report saved to " + chooser.getSelectedFile().getAbsolutePath());
+        } catch (IOException e) {
+            UIUtils.showError(parent, "Error saving the report: " + e.getMessage());
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        cancelButton.setEnabled(false);
+        statusLabel.setText("Cancelling after the current batch...");
+    }
+}
@@ -1,29 +1,45 @@
 package controllers;
 
+import logging.LogManager;
+import logging.Logger;
+import dao.LastLoginWriteBehind;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import events.EventBus;
+import events.UserCreated;
+import events.UserUpdated;
+import metrics.DAOMetrics;
+import metrics.Operation;
 import models.User;
 import models.User.UserRole;
 import java.util.regex.Pattern;
+import utils.CredentialService;
 import utils.ValidationUtils;
 import utils.SecurityUtils;
 import java.util.Date;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller class for handling authentication-related operations
  */
 public class AuthController {
+    private static final Logger LOGGER = LogManager.getLogger(AuthController.class);
+
     
     private static AuthController instance;
     private final UserDAO userDAO;
     private final SessionManager sessionManager;
+    private final LastLoginWriteBehind lastLoginWriter;
     
     // Private constructor for singleton pattern
     private AuthController() throws SQLException {
-        this.userDAO = new SQLUserDAO();
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
         this.sessionManager = SessionManager.getInstance();
+        this.lastLoginWriter = LastLoginWriteBehind.getInstance();
     }
     
     /**
@@ -38,6 +54,25 @@ public class AuthController {
         return instance;
     }
     
+    /**
+     * Attempt to log in a user on the credential pool, keeping the database lookup
+     * and bcrypt verification off the calling (usually the Event Dispatch) thread
+     * 
+     * @param email The user's email
+     * @param password The user's password
+     * @return A future completing with the LoginResult; it fails with SQLException on database errors
+     */
+    public CompletableFuture<LoginResult> loginAsync(String email, String password) {
+        return CredentialService.getInstance()
+            .submit(() -> login(email, password))
+            .exceptionally(e -> {
+                if (e instanceof RejectedExecutionException) {
+                    return new LoginResult(false, "Server is busy, please try again", null);
+                }
+                throw e instanceof RuntimeException ? (RuntimeException) e : new CompletionException(e);
+            });
+    }
+
     /**
      * Attempt to log in a user with the provided credentials
      * 
@@ -46,6 +81,30 @@ public class AuthController {
      * @return A LoginResult object containing the result of the login attempt
      */
     public LoginResult login(String email, String password) throws SQLException {
+        return Operation.start("AuthController.login").call(() -> doLogin(email, password));
+    }
+
+    private LoginResult doLogin(String email, String password) throws SQLException {
+        LoginResult result = authenticate(email, password);
+        if (result.isSuccess()) {
+            sessionManager.startSession(result.getUser());
+        }
+        return result;
+    }
+
+    /**
+     * Check a user's credentials without starting the desktop session.
+     * Used directly by callers that manage their own sessions, such as the HTTP API.
+     * 
+     * @param email The user's email
+     * @param password The user's password
+     * @return A LoginResult object containing the result of the authentication attempt
+     */
+    public LoginResult authenticate(String email, String password) throws SQLException {
+        return Operation.start("AuthController.authenticate").call(() -> doAuthenticate(email, password));
+    }
+
+    private LoginResult doAuthenticate(String email, String password) throws SQLException {
         if (!ValidationUtils.isValidEmail(email)) {
             return new LoginResult(false, "Invalid email format", null);
         }
@@ -54,10 +113,11 @@ public class AuthController {
             return new LoginResult(false, "Invalid password format", null);
         }
 
-        User user = userDAO.findByEmail(email);
+        User user = userDAO.findLoginByEmail(email);
         if (user == null) {
             return new LoginResult(false, "User not found", null);
         }
+        Operation.current().withUser(user);
 
         if (!user.isActive()) {
             return new LoginResult(false, "Account is inactive", null);
@@ -65,22 +125,27 @@ public class AuthController {
 
         // Use verifyPassword to compare the input password with the stored hash
         SecurityUtils.VerificationResult verificationResult = SecurityUtils.verifyPassword(password, user.getPassword());
-        
+
         if (!verificationResult.isSuccess()) {
             return new LoginResult(false, "Invalid password", null);
         }
 
-        // If password verification succeeded but needs migration, update the hash
+        // Legacy plain text or under-cost hash: store the new hash transparently.
+        // A failed write must not fail the login; the next login tries again.
         if (verificationResult.needsMigration()) {
-            user.setPassword(verificationResult.getNewHash());
-            userDAO.update(user);
+            try {
+                userDAO.updatePassword(user.getId(), verificationResult.getNewHash());
+                user.setPassword(verificationResult.getNewHash());
+            } catch (SQLException e) {
+                LOGGER.warn("Could not store rehashed password for user {}: {}", user.getId(), e.getMessage());
+            }
         }
 
-        // Update last login timestamp
-        userDAO.updateLastLogin(user.getId());
-        user.setLastLoginAt(new Date());
+        // Record last login timestamp; it is written to the database in batches
+        Date loginTime = new Date();
+        lastLoginWriter.record(user.getId(), loginTime.getTime());
+        user.setLastLoginAt(loginTime);
 
-        sessionManager.startSession(user);
         return new LoginResult(true, "Login successful", user);
     }
     
@@ -99,10 +164,13 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public RegisterResult register(String email, String password, String name, String roleStr, String securityQuestion1, String securityAnswer1, String securityQuestion2, String securityAnswer2) {
-        System.out.println("AuthController.register called with:");
-        System.out.println("Email: " + email);
-        System.out.println("Name: " + name);
-        System.out.println("Role: " + roleStr);
+        return Operation.start("AuthController.register")
+            .call(() -> doRegister(email, password, name, roleStr, securityQuestion1, securityAnswer1,
+                securityQuestion2, securityAnswer2));
+    }
+
+    private RegisterResult doRegister(String email, String password, String name, String roleStr, String securityQuestion1, String securityAnswer1, String securityQuestion2, String securityAnswer2) {
+        LOGGER.debug("Registering {} with role {}", email, roleStr);
 
         // Validate input fields
         if (!ValidationUtils.isValidEmail(email)) {
@@ -124,7 +192,6 @@ public class AuthController {
         try {
             // Check if email already exists
             if (userDAO.findByEmail(email) != null) {
-                System.out.println("Email already registered");
                 return new RegisterResult(false, "Email already registered");
             }
 
@@ -138,35 +205,32 @@ public class AuthController {
                 try {
                     role = User.UserRole.valueOf(roleStr);
                 } catch (IllegalArgumentException ex) {
-                    System.out.println("Invalid role: " + ex.getMessage());
+                    LOGGER.debug("Invalid role: {}", roleStr);
                     return new RegisterResult(false, "Invalid role");
                 }
             }
-            System.out.println("Role converted successfully: " + role);
 
             try {
-                System.out.println("Creating user in database...");
                 // Use createUser with provided security questions
-                userDAO.createUser(
+                User user = userDAO.createUser(
                     name,
                     email,
-                    password,
+                    SecurityUtils.hashPassword(password),
                     role,
                     securityQuestion1,
                     securityAnswer1,
                     securityQuestion2,
                     securityAnswer2
                 );
-                System.out.println("User created successfully");
+                EventBus.getInstance().publish(new UserCreated(user));
+                LOGGER.info("Registered user {} as {}", email, role);
                 return new RegisterResult(true, "Registration successful");
             } catch (SQLException e) {
-                System.out.println("SQL Exception during user creation: " + e.getMessage());
-                e.printStackTrace();
+                LOGGER.error("Error creating user {}", email, e);
                 return new RegisterResult(false, "Registration failed: " + e.getMessage());
             }
         } catch (SQLException e) {
-            System.out.println("SQL Exception during email check: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error checking whether {} is registered", email, e);
             return new RegisterResult(false, "Registration failed: " + e.getMessage());
         }
     }
@@ -241,7 +305,7 @@ public class AuthController {
      * @return The user if found, null otherwise
      */
     public User findUserByEmail(String email) throws SQLException {
-        return userDAO.findByEmail(email);
+        return Operation.start("AuthController.findUserByEmail").call(() -> userDAO.findByEmail(email));
     }
     
     /**
@@ -252,7 +316,7 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public boolean verifyEmail(String email) throws SQLException {
-        return userDAO.findByEmail(email) != null;
+        return Operation.start("AuthController.verifyEmail").call(() -> userDAO.findByEmail(email) != null);
     }
     
     /**
@@ -264,6 +328,10 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public ResetResult resetPassword(String email, String newPassword) throws SQLException {
+        return Operation.start("AuthController.resetPassword").call(() -> doResetPassword(email, newPassword));
+    }
+
+    private ResetResult doResetPassword(String email, String newPassword) throws SQLException {
         if (!ValidationUtils.isValidEmail(email)) {
             return new ResetResult(false, "Invalid email format");
         }
@@ -279,9 +347,8 @@ public class AuthController {
 
         try {
             // Hash the new password before storing
-           
-            user.setPassword(newPassword);
-            userDAO.update(user);
+            user.setPassword(SecurityUtils.hashPassword(newPassword));
+            userDAO.updatePassword(user.getId(), user.getPassword());
             return new ResetResult(true, "Password reset successful");
         } catch (SQLException e) {
             return new ResetResult(false, "Failed to reset password: " + e.getMessage());
@@ -295,7 +362,7 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public List<User> getAllUsers() throws SQLException {
-        return userDAO.getAllUsers();
+        return Operation.start("AuthController.getAllUsers").call(() -> userDAO.getAllUsers());
     }
 
     /**
@@ -306,7 +373,7 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public User getUserById(int userId) throws SQLException {
-        return userDAO.getUserById(userId);
+        return Operation.start("AuthController.getUserById").withUser(userId).call(() -> userDAO.getUserById(userId));
     }
 
     /**
@@ -316,7 +383,12 @@ public class AuthController {
      * @throws SQLException if a database error occurs
      */
     public void updateUser(User user) throws SQLException {
+        Operation.start("AuthController.updateUser").withUser(user).run(() -> doUpdateUser(user));
+    }
+
+    private void doUpdateUser(User user) throws SQLException {
         userDAO.update(user);
+        EventBus.getInstance().publish(new UserUpdated(user));
     }
     
     /**
@@ -0,0 +1,190 @@
+package controllers;
+
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import logging.LogManager;
+import logging.Logger;
+import models.Event;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Supplies calendar views with events one month at a time.
+ *
+ * Each month is loaded with a single date-range query and kept in a small
+ * least recently used set of month windows, so the calendar never loads
+ * the whole event table and its memory stays bounded. Months next to the
+ * one on screen can be prefetched in the background, which makes moving
+ * to the previous or next month instant. Windows holding an event that is
+ * created, changed or deleted are dropped as soon as the change is
+ * published on the {@link EventBus}.
+ */
+public class CalendarEventProvider {
+    private static final Logger LOGGER = LogManager.getLogger(CalendarEventProvider.class);
+    // The month on screen, both neighbours and a few recently visited months
+    private static final int MAX_MONTHS = 6;
+
+    private static CalendarEventProvider instance;
+
+    private final EventController eventController;
+    private final ExecutorService loader;
+    private final Map<YearMonth, List<Event>> months = new LinkedHashMap<YearMonth, List<Event>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<YearMonth, List<Event>> eldest) {
+            return size() > MAX_MONTHS;
+        }
+    };
+    private final Map<YearMonth, CompletableFuture<List<Event>>> loading = new HashMap<>();
+    // Bumped on every invalidation so loads that started earlier are not cached
+    private long generation;
+
+    // Private constructor for singleton pattern
+    private CalendarEventProvider() throws SQLException {
+        this.eventController = EventController.getInstance();
+        this.loader = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "calendar-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        EventBus bus = EventBus.getInstance();
+        bus.subscribe(EventCreated.class, created -> invalidate(created.getEvent().getId(), created.getEvent()));
+        bus.subscribe(EventUpdated.class, updated -> invalidate(updated.getEvent().getId(), updated.getEvent()));
+        bus.subscribe(EventStatusChanged.class, changed -> invalidate(changed.getEvent().getId(), changed.getEvent()));
+        bus.subscribe(EventDeleted.class, deleted -> invalidate(deleted.getEventId(), null));
+    }
+
+    /**
+     * Get the singleton instance of the CalendarEventProvider
+     *
+     * @return The CalendarEventProvider instance
+     * @throws SQLException if a database error occurs during initialization
+     */
+    public static synchronized CalendarEventProvider getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new CalendarEventProvider();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the events of a month, loading them on the calling thread if they are not cached
+     *
+     * @param month The month
+     * @return The month's events ordered by date; must not be modified
+     * @throws SQLException if a database error occurs
+     */
+    public List<Event> getMonth(YearMonth month) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            List<Event> cached = months.get(month);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        List<Event> events = load(month);
+        store(month, events, loadGeneration);
+        return events;
+    }
+
+    /**
+     * Get the events of a month without blocking
+     *
+     * @param month The month
+     * @return Already complete if the month is cached, otherwise completes when it has been loaded
+     */
+    public synchronized CompletableFuture<List<Event>> getMonthAsync(YearMonth month) {
+        List<Event> cached = months.get(month);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<List<Event>> inFlight = loading.get(month);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        long loadGeneration = generation;
+        CompletableFuture<List<Event>> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                List<Event> events = load(month);
+                store(month, events, loadGeneration);
+                return events;
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, loader);
+        loading.put(month, future);
+        future.whenComplete((events, error) -> {
+            synchronized (this) {
+                loading.remove(month, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Load the months before and after a month in the background
+     *
+     * @param month The month on screen
+     */
+    public void prefetchAround(YearMonth month) {
+        for (YearMonth neighbour : new YearMonth[] {month.minusMonths(1), month.plusMonths(1)}) {
+            getMonthAsync(neighbour).exceptionally(error -> {
+                LOGGER.debug("Prefetching calendar month {} failed", neighbour, error);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Drop all cached months
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        months.clear();
+        loading.clear();
+    }
+
+    private List<Event> load(YearMonth month) throws SQLException {
+        long start = System.nanoTime();
+        List<Event> events = eventController.getEventsBetween(
+            month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        LOGGER.debug("Loaded {} events for {} in {} ms", events.size(), month, (System.nanoTime() - start) / 1_000_000);
+        return Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    private synchronized void store(YearMonth month, List<Event> events, long loadGeneration) {
+        if (loadGeneration == generation) {
+            months.put(month, events);
+        }
+    }
+
+    /**
+     * Drop the windows an event was or now is in
+     *
+     * @param eventId ID of the changed event
+     * @param event The event as it is now, or null if it was deleted
+     */
+    private synchronized void invalidate(int eventId, Event event) {
+        generation++;
+        loading.clear();
+        if (event != null && event.getEventDate() != null) {
+            months.remove(YearMonth.from(event.getEventDate()));
+        }
+        months.values().removeIf(window -> window.stream().anyMatch(cached -> cached.getId() == eventId));
+    }
+}
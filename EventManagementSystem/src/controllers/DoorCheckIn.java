@@ -0,0 +1,294 @@
+package controllers;
+
+import dao.CheckInWriteBehind;
+import events.EventBus;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
+import models.Event;
+import models.Registration;
+import models.Registration.Status;
+import models.User;
+
+import java.util.Arrays;
+
+/**
+ * Check-in at the door of one event, validated against a roster held in memory.
+ *
+ * The roster is read once with a single query and kept in primitive arrays
+ * indexed by an open-addressing table of registration IDs, so a scan is
+ * checked without touching the database. Accepted check-ins go to the
+ * {@link CheckInWriteBehind} buffer, which journals them locally and writes
+ * them in batches. Attended, no-show and still-expected counts are kept as
+ * check-ins happen. Registrations made or changed elsewhere while the door
+ * is open are picked up from the {@link EventBus}.
+ */
+public class DoorCheckIn implements AutoCloseable {
+    private static final Status[] STATUSES = Status.values();
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Outcome of a scan
+     */
+    public enum Result {
+        /** The attendee is now checked in */
+        CHECKED_IN,
+        /** The attendee was already checked in */
+        ALREADY_CHECKED_IN,
+        /** The registration was marked as a no-show earlier */
+        MARKED_NO_SHOW,
+        /** The registration is for this event but is not confirmed, e.g. waitlisted or cancelled */
+        NOT_REGISTERED,
+        /** No registration for this event has the scanned ID */
+        UNKNOWN
+    }
+
+    private final Event event;
+    private final CheckInWriteBehind writeBehind;
+    private final EventBus.Subscription createdSubscription;
+    private final EventBus.Subscription changedSubscription;
+
+    // Slot holds a row index plus one, 0 when empty; the table is kept at most half full
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int[] registrationIds = new int[INITIAL_CAPACITY];
+    private int[] userIds = new int[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int registeredCount;
+    private int attendedCount;
+    private int noShowCount;
+
+    /**
+     * Open an empty roster; fill it with {@link #put} before the door opens
+     *
+     * @param event The event being checked in
+     * @param writeBehind Where accepted check-ins are recorded
+     */
+    DoorCheckIn(Event event, CheckInWriteBehind writeBehind) {
+        this.event = event;
+        this.writeBehind = writeBehind;
+        EventBus bus = EventBus.getInstance();
+        createdSubscription = bus.subscribe(RegistrationCreated.class, created -> putRegistration(created.getRegistration()));
+        changedSubscription = bus.subscribe(RegistrationStatusChanged.class, changed -> putRegistration(changed.getRegistration()));
+    }
+
+    /**
+     * Add or replace a roster entry
+     *
+     * @param registrationId The ID of the registration
+     * @param userId The ID of the attendee
+     * @param attendeeName The attendee's name, shown when they are scanned
+     * @param status The registration's status
+     */
+    synchronized void put(int registrationId, int userId, String attendeeName, Status status) {
+        int row = find(registrationId);
+        if (row < 0) {
+            row = add(registrationId);
+        } else {
+            count(STATUSES[statuses[row]], -1);
+        }
+        userIds[row] = userId;
+        if (attendeeName != null) {
+            names[row] = attendeeName;
+        }
+        statuses[row] = (byte) status.ordinal();
+        count(status, 1);
+    }
+
+    private void putRegistration(Registration registration) {
+        if (registration.getEvent() == null || registration.getEvent().getId() != event.getId()
+                || registration.getAttendee() == null) {
+            return;
+        }
+        put(registration.getId(), registration.getAttendee().getId(), registration.getAttendee().getName(),
+            registration.getStatus());
+    }
+
+    /**
+     * Check in the holder of a registration
+     *
+     * @param registrationId The scanned registration ID
+     * @return What the scan found; only CHECKED_IN changes anything
+     */
+    public Result checkIn(int registrationId) {
+        Registration checkedIn;
+        synchronized (this) {
+            int row = find(registrationId);
+            if (row < 0) {
+                return Result.UNKNOWN;
+            }
+            Status status = STATUSES[statuses[row]];
+            if (status == Status.ATTENDED) {
+                return Result.ALREADY_CHECKED_IN;
+            }
+            if (status == Status.NO_SHOW) {
+                return Result.MARKED_NO_SHOW;
+            }
+            if (status != Status.REGISTERED) {
+                return Result.NOT_REGISTERED;
+            }
+            checkedIn = setStatus(row, Status.ATTENDED);
+        }
+        EventBus.getInstance().publish(new RegistrationStatusChanged(checkedIn, Status.REGISTERED));
+        return Result.CHECKED_IN;
+    }
+
+    /**
+     * Mark everyone still expected as a no-show, typically when the door closes
+     *
+     * @return The number of registrations marked
+     */
+    public int markRemainingNoShows() {
+        Registration[] marked;
+        synchronized (this) {
+            marked = new Registration[registeredCount];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (statuses[row] == Status.REGISTERED.ordinal()) {
+                    marked[count++] = setStatus(row, Status.NO_SHOW);
+                }
+            }
+        }
+        EventBus bus = EventBus.getInstance();
+        for (Registration registration : marked) {
+            bus.publish(new RegistrationStatusChanged(registration, Status.REGISTERED));
+        }
+        return marked.length;
+    }
+
+    private Registration setStatus(int row, Status status) {
+        writeBehind.record(registrationIds[row], status);
+        count(STATUSES[statuses[row]], -1);
+        statuses[row] = (byte) status.ordinal();
+        count(status, 1);
+
+        // Listeners only need the IDs, the attendee's name and the event
+        User attendee = new User();
+        attendee.setId(userIds[row]);
+        attendee.setName(names[row]);
+        Registration registration = new Registration(attendee, event);
+        registration.setId(registrationIds[row]);
+        registration.setStatus(status);
+        registration.setCheckedIn(status == Status.ATTENDED);
+        return registration;
+    }
+
+    private void count(Status status, int delta) {
+        switch (status) {
+            case REGISTERED:
+                registeredCount += delta;
+                break;
+            case ATTENDED:
+                attendedCount += delta;
+                break;
+            case NO_SHOW:
+                noShowCount += delta;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the name of a registration's attendee
+     *
+     * @param registrationId The ID of the registration
+     * @return The name, or null if the registration is not on the roster
+     */
+    public synchronized String getAttendeeName(int registrationId) {
+        int row = find(registrationId);
+        return row < 0 ? null : names[row];
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * @return Confirmed registrations not checked in or marked as no-shows yet
+     */
+    public synchronized int getExpectedCount() {
+        return registeredCount;
+    }
+
+    /**
+     * @return Registrations checked in
+     */
+    public synchronized int getAttendedCount() {
+        return attendedCount;
+    }
+
+    /**
+     * @return Registrations marked as no-shows
+     */
+    public synchronized int getNoShowCount() {
+        return noShowCount;
+    }
+
+    /**
+     * @return Confirmed registrations, whether checked in, no-show or still expected
+     */
+    public synchronized int getConfirmedCount() {
+        return registeredCount + attendedCount + noShowCount;
+    }
+
+    /**
+     * @return Check-ins, from any door, not written to the database yet
+     */
+    public int getUnsavedCount() {
+        return writeBehind.getPendingCount();
+    }
+
+    /**
+     * Stop following registration changes
+     */
+    @Override
+    public void close() {
+        createdSubscription.unsubscribe();
+        changedSubscription.unsubscribe();
+    }
+
+    private int find(int registrationId) {
+        int mask = slots.length - 1;
+        for (int slot = hash(registrationId) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = slots[slot] - 1;
+            if (registrationIds[row] == registrationId) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private int add(int registrationId) {
+        if (size == registrationIds.length) {
+            int capacity = size * 2;
+            registrationIds = Arrays.copyOf(registrationIds, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            slots = new int[capacity * 2];
+            for (int row = 0; row < size; row++) {
+                insertSlot(registrationIds[row], row);
+            }
+        }
+        int row = size++;
+        registrationIds[row] = registrationId;
+        insertSlot(registrationId, row);
+        return row;
+    }
+
+    private void insertSlot(int registrationId, int row) {
+        int mask = slots.length - 1;
+        int slot = hash(registrationId) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private static int hash(int key) {
+        // Spread sequential IDs so they do not fill runs of neighbouring slots
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,5 +1,7 @@
 package controllers;
 
+import logging.LogManager;
+import logging.Logger;
 import models.Event;
 import models.User;
 import models.Event.EventStatus;
@@ -7,16 +9,31 @@ import dao.EventDAO;
 import dao.SQLEventDAO;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import metrics.DAOMetrics;
+import metrics.Operation;
 import utils.ValidationUtils;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Controller class for handling event-related operations
  */
 public class EventController {
+    private static final Logger LOGGER = LogManager.getLogger(EventController.class);
+
+    private static final DateTimeFormatter CONFLICT_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
 
     private static EventController instance;
     private final EventDAO eventDAO;
@@ -24,8 +41,8 @@ public class EventController {
 
     // Private constructor for singleton pattern
     private EventController() throws SQLException {
-        this.eventDAO = new SQLEventDAO();
-        this.userDAO = new SQLUserDAO();
+        this.eventDAO = DAOMetrics.instrument(EventDAO.class, new SQLEventDAO());
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
 
     /**
@@ -58,12 +75,23 @@ public class EventController {
      * @param additionalDocumentsType MIME type of the additional documents
      * @return The created event
      * @throws IllegalArgumentException if the input is invalid
+     * @throws IllegalStateException if the venue is already booked at that time
      */
     public Event createEvent(String title, String description, LocalDateTime eventDate,
                            LocalDateTime registrationDeadline, String venueName,
                            int totalSlots, User organizer, String category,
                            byte[] mainImage, String mainImageType,
                            byte[] additionalDocuments, String additionalDocumentsType) throws SQLException {
+        return Operation.start("EventController.createEvent").withUser(organizer)
+            .call(() -> doCreateEvent(title, description, eventDate, registrationDeadline, venueName, totalSlots,
+                organizer, category, mainImage, mainImageType, additionalDocuments, additionalDocumentsType));
+    }
+
+    private Event doCreateEvent(String title, String description, LocalDateTime eventDate,
+                           LocalDateTime registrationDeadline, String venueName,
+                           int totalSlots, User organizer, String category,
+                           byte[] mainImage, String mainImageType,
+                           byte[] additionalDocuments, String additionalDocumentsType) throws SQLException {
         // Validate input
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Event title is required");
@@ -98,6 +126,7 @@ public class EventController {
         if (!ValidationUtils.isNotEmpty(category)) {
             throw new IllegalArgumentException("Event category is required");
         }
+        checkVenueAvailable(venueName, eventDate, 0);
 
         // Create event
         Event event = new Event(title, description, eventDate, registrationDeadline,
@@ -109,7 +138,9 @@ public class EventController {
         event.setAdditionalDocuments(additionalDocuments);
         event.setAdditionalDocumentsType(additionalDocumentsType);
 
-        return eventDAO.save(event);
+        Event saved = eventDAO.save(event);
+        EventBus.getInstance().publish(new EventCreated(saved));
+        return saved;
     }
 
     /**
@@ -130,12 +161,23 @@ public class EventController {
      * @param additionalDocumentsType MIME type of the additional documents
      * @return The updated event
      * @throws IllegalArgumentException if the input is invalid
+     * @throws IllegalStateException if the venue is already booked at that time
      */
     public Event updateEvent(int id, String title, String description, LocalDateTime eventDate,
                            LocalDateTime registrationDeadline, String venueName,
                            int totalSlots, User organizer, String category,
                            byte[] mainImage, String mainImageType,
                            byte[] additionalDocuments, String additionalDocumentsType) throws SQLException {
+        return Operation.start("EventController.updateEvent").withEvent(id).withUser(organizer)
+            .call(() -> doUpdateEvent(id, title, description, eventDate, registrationDeadline, venueName, totalSlots,
+                organizer, category, mainImage, mainImageType, additionalDocuments, additionalDocumentsType));
+    }
+
+    private Event doUpdateEvent(int id, String title, String description, LocalDateTime eventDate,
+                           LocalDateTime registrationDeadline, String venueName,
+                           int totalSlots, User organizer, String category,
+                           byte[] mainImage, String mainImageType,
+                           byte[] additionalDocuments, String additionalDocumentsType) throws SQLException {
         // Validate input
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Event title is required");
@@ -167,6 +209,8 @@ public class EventController {
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
+        checkVenueAvailable(venueName, eventDate, id);
+        int previousTotalSlots = event.getTotalSlots();
 
         // Update event
         event.setTitle(title);
@@ -182,7 +226,31 @@ public class EventController {
         event.setAdditionalDocuments(additionalDocuments);
         event.setAdditionalDocumentsType(additionalDocumentsType);
 
-        return eventDAO.update(event);
+        Event updated = eventDAO.update(event);
+        if (totalSlots != previousTotalSlots) {
+            // Added seats go to the waitlist; this also recounts the available slots
+            RegistrationController.getInstance().promoteWaitlisted(updated);
+        }
+        EventBus.getInstance().publish(new EventUpdated(updated));
+        return updated;
+    }
+
+    /**
+     * Check that no other event is booked at a venue while an event would take place
+     *
+     * @param venueName The venue
+     * @param eventDate When the event starts
+     * @param eventId The event being saved, or 0 for a new one
+     * @throws IllegalStateException if the venue is already booked
+     */
+    private void checkVenueAvailable(String venueName, LocalDateTime eventDate, int eventId) throws SQLException {
+        List<ScheduleIndex.Booking> conflicts = ScheduleIndex.getInstance().findVenueConflicts(
+            venueName, eventDate, eventDate.plus(Event.DEFAULT_DURATION), eventId);
+        if (!conflicts.isEmpty()) {
+            ScheduleIndex.Booking conflict = conflicts.get(0);
+            throw new IllegalStateException(venueName.trim() + " is already booked for \"" + conflict.getTitle()
+                + "\" on " + conflict.getStart().format(CONFLICT_TIME_FORMAT));
+        }
     }
 
     /**
@@ -192,7 +260,15 @@ public class EventController {
      * @return true if the event was deleted, false otherwise
      */
     public boolean deleteEvent(int id) throws SQLException {
-        return eventDAO.delete(id);
+        return Operation.start("EventController.deleteEvent").withEvent(id).call(() -> doDeleteEvent(id));
+    }
+
+    private boolean doDeleteEvent(int id) throws SQLException {
+        boolean deleted = eventDAO.delete(id);
+        if (deleted) {
+            EventBus.getInstance().publish(new EventDeleted(id));
+        }
+        return deleted;
     }
 
     /**
@@ -202,7 +278,7 @@ public class EventController {
      * @return The event, or null if not found
      */
     public Event getEvent(int id) throws SQLException {
-        return eventDAO.findById(id);
+        return Operation.start("EventController.getEvent").withEvent(id).call(() -> eventDAO.findById(id));
     }
 
     /**
@@ -211,7 +287,26 @@ public class EventController {
      * @return A list of all events
      */
     public List<Event> getAllEvents() throws SQLException {
-        return eventDAO.findAll();
+        return Operation.start("EventController.getAllEvents").call(() -> eventDAO.findAll());
+    }
+
+    /**
+     * Get events taking place in a date range
+     *
+     * @param start Start of the range, inclusive
+     * @param end End of the range, exclusive
+     * @return A list of events in the range, ordered by date
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public List<Event> getEventsBetween(LocalDateTime start, LocalDateTime end) throws SQLException {
+        return Operation.start("EventController.getEventsBetween").call(() -> doGetEventsBetween(start, end));
+    }
+
+    private List<Event> doGetEventsBetween(LocalDateTime start, LocalDateTime end) throws SQLException {
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        return eventDAO.findBetween(start, end);
     }
 
     /**
@@ -221,6 +316,10 @@ public class EventController {
      * @return List of events in the specified category
      */
     public List<Event> getEventsByCategory(String category) throws SQLException {
+        return Operation.start("EventController.getEventsByCategory").call(() -> doGetEventsByCategory(category));
+    }
+
+    private List<Event> doGetEventsByCategory(String category) throws SQLException {
         return eventDAO.findAll().stream()
                 .filter(event -> event.getCategory().equals(category))
             .collect(Collectors.toList());
@@ -233,6 +332,10 @@ public class EventController {
      * @return A list of events at the specified venue
      */
     public List<Event> getEventsByVenue(String venueName) throws SQLException {
+        return Operation.start("EventController.getEventsByVenue").call(() -> doGetEventsByVenue(venueName));
+    }
+
+    private List<Event> doGetEventsByVenue(String venueName) throws SQLException {
         if (!ValidationUtils.isNotEmpty(venueName)) {
             throw new IllegalArgumentException("Venue name cannot be empty");
         }
@@ -248,6 +351,11 @@ public class EventController {
      * @return List of events organized by the specified user
      */
     public List<Event> getEventsByOrganizer(int organizerId) throws SQLException {
+        return Operation.start("EventController.getEventsByOrganizer").withUser(organizerId)
+            .call(() -> doGetEventsByOrganizer(organizerId));
+    }
+
+    private List<Event> doGetEventsByOrganizer(int organizerId) throws SQLException {
         return eventDAO.findAll().stream()
                 .filter(event -> event.getOrganizer() != null && event.getOrganizer().getId() == organizerId)
                 .collect(Collectors.toList());
@@ -261,6 +369,11 @@ public class EventController {
      * @return List of recent events organized by the specified user
      */
     public List<Event> getRecentEventsByOrganizer(int organizerId, int limit) throws SQLException {
+        return Operation.start("EventController.getRecentEventsByOrganizer").withUser(organizerId)
+            .call(() -> doGetRecentEventsByOrganizer(organizerId, limit));
+    }
+
+    private List<Event> doGetRecentEventsByOrganizer(int organizerId, int limit) throws SQLException {
         return eventDAO.findAll().stream()
                 .filter(event -> event.getOrganizer() != null && event.getOrganizer().getId() == organizerId)
                 .sorted((e1, e2) -> e2.getEventDate().compareTo(e1.getEventDate())) // Sort by date descending
@@ -275,7 +388,7 @@ public class EventController {
      * @return A list of events with the specified status
      */
     public List<Event> getEventsByStatus(EventStatus status) throws SQLException {
-        return eventDAO.findByStatus(status);
+        return Operation.start("EventController.getEventsByStatus").call(() -> eventDAO.findByStatus(status));
     }
 
     /**
@@ -284,7 +397,7 @@ public class EventController {
      * @return A list of upcoming events
      */
     public List<Event> getUpcomingEvents() throws SQLException {
-        return eventDAO.findUpcoming();
+        return Operation.start("EventController.getUpcomingEvents").call(() -> eventDAO.findUpcoming());
     }
 
     /**
@@ -293,7 +406,7 @@ public class EventController {
      * @return A list of past events
      */
     public List<Event> getPastEvents() throws SQLException {
-        return eventDAO.findPast();
+        return Operation.start("EventController.getPastEvents").call(() -> eventDAO.findPast());
     }
 
     /**
@@ -303,6 +416,10 @@ public class EventController {
      * @return The approved event
      */
     public Event approveEvent(int eventId) throws SQLException {
+        return Operation.start("EventController.approveEvent").withEvent(eventId).call(() -> doApproveEvent(eventId));
+    }
+
+    private Event doApproveEvent(int eventId) throws SQLException {
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
@@ -310,8 +427,11 @@ public class EventController {
         if (event.getStatus() != EventStatus.PENDING) {
             throw new IllegalStateException("Only pending events can be approved");
         }
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.APPROVED);
-        return eventDAO.update(event);
+        Event updated = eventDAO.update(event);
+        EventBus.getInstance().publish(EventStatusChanged.of(updated, previousStatus));
+        return updated;
     }
 
     /**
@@ -321,6 +441,10 @@ public class EventController {
      * @return The rejected event
      */
     public Event rejectEvent(int eventId) throws SQLException {
+        return Operation.start("EventController.rejectEvent").withEvent(eventId).call(() -> doRejectEvent(eventId));
+    }
+
+    private Event doRejectEvent(int eventId) throws SQLException {
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
@@ -328,8 +452,68 @@ public class EventController {
         if (event.getStatus() != EventStatus.PENDING) {
             throw new IllegalStateException("Only pending events can be rejected");
         }
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.REJECTED);
-        return eventDAO.update(event);
+        Event updated = eventDAO.update(event);
+        EventBus.getInstance().publish(EventStatusChanged.of(updated, previousStatus));
+        return updated;
+    }
+
+    /**
+     * Approve several pending events with one update, then notify their organizers
+     *
+     * @param events The events to approve
+     * @return The events that were approved; those no longer pending are skipped
+     * @throws SQLException if a database error occurs
+     */
+    public List<Event> approveEvents(List<Event> events) throws SQLException {
+        return Operation.start("EventController.approveEvents").call(() -> moderateEvents(events, EventStatus.APPROVED));
+    }
+
+    /**
+     * Reject several pending events with one update, then notify their organizers
+     *
+     * @param events The events to reject
+     * @return The events that were rejected; those no longer pending are skipped
+     * @throws SQLException if a database error occurs
+     */
+    public List<Event> rejectEvents(List<Event> events) throws SQLException {
+        return Operation.start("EventController.rejectEvents").call(() -> moderateEvents(events, EventStatus.REJECTED));
+    }
+
+    private List<Event> moderateEvents(List<Event> events, EventStatus newStatus) throws SQLException {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        Map<Integer, Event> byId = new LinkedHashMap<>();
+        for (Event event : events) {
+            byId.put(event.getId(), event);
+        }
+        List<Event> moderated = new ArrayList<>();
+        if (byId.isEmpty()) {
+            return moderated;
+        }
+
+        Set<Integer> updated = eventDAO.updateStatuses(byId.keySet(), EventStatus.PENDING, newStatus);
+        EventBus bus = EventBus.getInstance();
+        for (Event event : byId.values()) {
+            if (updated.contains(event.getId())) {
+                event.setStatus(newStatus);
+                moderated.add(event);
+                // Delivered to the dashboards as one batch in the next frame
+                bus.publish(EventStatusChanged.of(event, EventStatus.PENDING));
+            }
+        }
+
+        if (!moderated.isEmpty()) {
+            try {
+                NotificationController.getInstance().sendModerationNotifications(moderated);
+            } catch (SQLException e) {
+                // The status change is committed either way
+                LOGGER.warn("Could not notify organizers of {} moderated events: {}", moderated.size(), e.getMessage());
+            }
+        }
+        return moderated;
     }
 
     /**
@@ -339,6 +523,10 @@ public class EventController {
      * @return The cancelled event
      */
     public Event cancelEvent(int eventId) throws SQLException {
+        return Operation.start("EventController.cancelEvent").withEvent(eventId).call(() -> doCancelEvent(eventId));
+    }
+
+    private Event doCancelEvent(int eventId) throws SQLException {
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
@@ -346,8 +534,11 @@ public class EventController {
         if (event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED) {
             throw new IllegalStateException("Event is already cancelled or completed");
         }
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.CANCELLED);
-        return eventDAO.update(event);
+        Event updated = eventDAO.update(event);
+        EventBus.getInstance().publish(EventStatusChanged.of(updated, previousStatus));
+        return updated;
     }
 
     /**
@@ -357,7 +548,7 @@ public class EventController {
      * @return A list of matching events
      */
     public List<Event> searchEvents(String query) throws SQLException {
-        return eventDAO.search(query);
+        return Operation.start("EventController.searchEvents").call(() -> eventDAO.search(query));
     }
 
     /**
@@ -366,7 +557,7 @@ public class EventController {
      * @return The total number of events
      */
     public int getTotalEvents() throws SQLException {
-        return eventDAO.findAll().size();
+        return Operation.start("EventController.getTotalEvents").call(() -> eventDAO.findAll().size());
     }
 
     /**
@@ -375,6 +566,10 @@ public class EventController {
      * @return A list of active events
      */
     public List<Event> getActiveEvents() throws SQLException {
+        return Operation.start("EventController.getActiveEvents").call(() -> doGetActiveEvents());
+    }
+
+    private List<Event> doGetActiveEvents() throws SQLException {
         return eventDAO.findAll().stream()
                 .filter(event -> event.getStatus() == EventStatus.APPROVED && event.isUpcoming())
                 .collect(Collectors.toList());
@@ -386,7 +581,7 @@ public class EventController {
      * @return The total number of registrations
      */
     public int getTotalRegistrations() throws SQLException {
-        return eventDAO.getTotalRegistrations();
+        return Operation.start("EventController.getTotalRegistrations").call(() -> eventDAO.getTotalRegistrations());
     }
 
     /**
@@ -395,7 +590,7 @@ public class EventController {
      * @return A list of today's events
      */
     public List<Event> getTodaysEvents() throws SQLException {
-        return eventDAO.findToday();
+        return Operation.start("EventController.getTodaysEvents").call(() -> eventDAO.findToday());
     }
 
     /**
@@ -406,6 +601,10 @@ public class EventController {
      * @throws SQLException if a database error occurs
      */
     public Event updateEvent(Event event) throws SQLException {
+        return Operation.start("EventController.updateEvent").withEvent(event).call(() -> doUpdateEvent(event));
+    }
+
+    private Event doUpdateEvent(Event event) throws SQLException {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
@@ -418,6 +617,22 @@ public class EventController {
         // Preserve the original organizer
         event.setOrganizer(existingEvent.getOrganizer());
 
-        return eventDAO.update(event);
+        // Status changes keep the booking; a new time or venue must be free
+        boolean moved = event.getEventDate() != null && (!event.getEventDate().equals(existingEvent.getEventDate())
+            || !String.valueOf(event.getVenueName()).equalsIgnoreCase(String.valueOf(existingEvent.getVenueName())));
+        if (moved) {
+            checkVenueAvailable(event.getVenueName(), event.getEventDate(), event.getId());
+        }
+
+        Event updated = eventDAO.update(event);
+        if (existingEvent.getTotalSlots() != updated.getTotalSlots()) {
+            RegistrationController.getInstance().promoteWaitlisted(updated);
+        }
+        if (existingEvent.getStatus() != updated.getStatus()) {
+            EventBus.getInstance().publish(EventStatusChanged.of(updated, existingEvent.getStatus()));
+        } else {
+            EventBus.getInstance().publish(new EventUpdated(updated));
+        }
+        return updated;
     }
 }
@@ -0,0 +1,154 @@
+package controllers;
+
+import dao.ExportDAO;
+import dao.SQLExportDAO;
+import export.ExportFormat;
+import export.ExportProgress;
+import export.RowWriter;
+import metrics.DAOMetrics;
+import metrics.Operation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+
+/**
+ * Controller class for exporting participants, events and registrations to files.
+ *
+ * Exports are written to a temporary file next to the destination and
+ * moved into place only when complete, so a failed or cancelled export
+ * never leaves a partial file behind. They take as long as the data does
+ * and are meant to be run off the EDT.
+ */
+public class ExportController {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static ExportController instance;
+    private final ExportDAO exportDAO;
+
+    /**
+     * Writes the rows of one export
+     */
+    @FunctionalInterface
+    private interface ExportBody {
+        long write(RowWriter out) throws SQLException, IOException;
+    }
+
+    // Private constructor for singleton pattern
+    private ExportController() {
+        this.exportDAO = DAOMetrics.instrument(ExportDAO.class, new SQLExportDAO());
+    }
+
+    /**
+     * Get the singleton instance of the ExportController
+     *
+     * @return The ExportController instance
+     */
+    public static synchronized ExportController getInstance() {
+        if (instance == null) {
+            instance = new ExportController();
+        }
+        return instance;
+    }
+
+    /**
+     * Export the participants of every event an organizer runs
+     *
+     * @param organizerId The ID of the organizer
+     * @param file The file to write
+     * @param format The file format
+     * @param progress Progress callback and cancellation flag
+     * @return Number of participants written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if the file cannot be written
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    public long exportParticipants(int organizerId, Path file, ExportFormat format, ExportProgress progress)
+            throws SQLException, IOException {
+        if (organizerId <= 0) {
+            throw new IllegalArgumentException("Invalid organizer ID");
+        }
+        // The body throws two checked exceptions, which Operation.call cannot carry
+        Operation op = Operation.start("ExportController.exportParticipants").withUser(organizerId);
+        try {
+            return write(file, format, out -> exportDAO.exportParticipants(organizerId, out, progress));
+        } finally {
+            op.close();
+        }
+    }
+
+    /**
+     * Export every event
+     *
+     * @param file The file to write
+     * @param format The file format
+     * @param progress Progress callback and cancellation flag
+     * @return Number of events written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if the file cannot be written
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    public long exportEvents(Path file, ExportFormat format, ExportProgress progress) throws SQLException, IOException {
+        Operation op = Operation.start("ExportController.exportEvents");
+        try {
+            return write(file, format, out -> exportDAO.exportEvents(out, progress));
+        } finally {
+            op.close();
+        }
+    }
+
+    /**
+     * Export every registration
+     *
+     * @param file The file to write
+     * @param format The file format
+     * @param progress Progress callback and cancellation flag
+     * @return Number of registrations written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if the file cannot be written
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    public long exportRegistrations(Path file, ExportFormat format, ExportProgress progress)
+            throws SQLException, IOException {
+        Operation op = Operation.start("ExportController.exportRegistrations");
+        try {
+            return write(file, format, out -> exportDAO.exportRegistrations(out, progress));
+        } finally {
+            op.close();
+        }
+    }
+
+    private static long write(Path file, ExportFormat format, ExportBody body) throws SQLException, IOException {
+        if (file == null || format == null) {
+            throw new IllegalArgumentException("Export file and format are required");
+        }
+        Path target = file.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), ".export-", ".tmp");
+        boolean done = false;
+        try {
+            long rows;
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(temp), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                rows = body.write(format.open(writer));
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            done = true;
+            return rows;
+        } finally {
+            if (!done) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
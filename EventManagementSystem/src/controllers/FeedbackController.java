@@ -12,6 +12,8 @@ import dao.EventDAO;
 import dao.SQLEventDAO;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import metrics.DAOMetrics;
+import metrics.Operation;
 import utils.ValidationUtils;
 
 import java.sql.SQLException;
@@ -35,10 +37,10 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs during initialization
      */
     private FeedbackController() throws SQLException {
-        this.feedbackDAO = new SQLFeedbackDAO();
-        this.registrationDAO = new SQLEventRegistrationDAO();
-        this.eventDAO = new SQLEventDAO();
-        this.userDAO = new SQLUserDAO();
+        this.feedbackDAO = DAOMetrics.instrument(FeedbackDAO.class, new SQLFeedbackDAO());
+        this.registrationDAO = DAOMetrics.instrument(RegistrationDAO.class, new SQLEventRegistrationDAO());
+        this.eventDAO = DAOMetrics.instrument(EventDAO.class, new SQLEventDAO());
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
     
     /**
@@ -69,51 +71,57 @@ public class FeedbackController {
      */
     public Feedback submitFeedback(User user, int eventId, int rating, String comment, boolean anonymous) 
             throws SQLException {
+        return Operation.start("FeedbackController.submitFeedback").withUser(user).withEvent(eventId)
+            .call(() -> doSubmitFeedback(user, eventId, rating, comment, anonymous));
+    }
+
+    private Feedback doSubmitFeedback(User user, int eventId, int rating, String comment, boolean anonymous) 
+            throws SQLException {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
         }
-        
+
         if (eventId <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
-        
+
         if (rating < 1 || rating > 5) {
             throw new IllegalArgumentException("Rating must be between 1 and 5");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(comment)) {
             throw new IllegalArgumentException("Comment cannot be empty");
         }
-        
+
         // Get the event
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
-        
+
         // Check if the event has ended
         if (!event.isPast()) {
             throw new IllegalStateException("Cannot submit feedback for an event that hasn't ended yet");
         }
-        
+
         // Check if the user attended the event
         boolean attended = registrationDAO.findByUserAndEvent(user.getId(), eventId)
             .stream()
             .anyMatch(r -> r.getStatus() == Registration.Status.ATTENDED);
-        
+
         if (!attended) {
             throw new IllegalStateException("User did not attend this event");
         }
-        
+
         // Check if the user has already submitted feedback
         if (feedbackDAO.existsByUserAndEvent(user.getId(), eventId)) {
             throw new IllegalStateException("User has already submitted feedback for this event");
         }
-        
+
         // Create the feedback
         Feedback feedback = new Feedback(user, event, rating, comment.trim());
         feedback.setAnonymous(anonymous);
-        
+
         // Save the feedback
         return feedbackDAO.save(feedback);
     }
@@ -131,28 +139,34 @@ public class FeedbackController {
      */
     public Feedback updateFeedback(int feedbackId, int rating, String comment, boolean anonymous) 
             throws SQLException {
+        return Operation.start("FeedbackController.updateFeedback")
+            .call(() -> doUpdateFeedback(feedbackId, rating, comment, anonymous));
+    }
+
+    private Feedback doUpdateFeedback(int feedbackId, int rating, String comment, boolean anonymous) 
+            throws SQLException {
         if (feedbackId <= 0) {
             throw new IllegalArgumentException("Invalid feedback ID");
         }
-        
+
         if (rating < 1 || rating > 5) {
             throw new IllegalArgumentException("Rating must be between 1 and 5");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(comment)) {
             throw new IllegalArgumentException("Comment cannot be empty");
         }
-        
+
         Feedback feedback = feedbackDAO.findById(feedbackId);
         if (feedback == null) {
             throw new IllegalArgumentException("Feedback not found");
         }
-        
+
         // Update the feedback
         feedback.setRating(rating);
         feedback.setComment(comment.trim());
         feedback.setAnonymous(anonymous);
-        
+
         // Save the feedback
         return feedbackDAO.update(feedback);
     }
@@ -166,15 +180,19 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public boolean deleteFeedback(int feedbackId) throws SQLException {
+        return Operation.start("FeedbackController.deleteFeedback").call(() -> doDeleteFeedback(feedbackId));
+    }
+
+    private boolean doDeleteFeedback(int feedbackId) throws SQLException {
         if (feedbackId <= 0) {
             throw new IllegalArgumentException("Invalid feedback ID");
         }
-        
+
         Feedback feedback = feedbackDAO.findById(feedbackId);
         if (feedback == null) {
             throw new IllegalArgumentException("Feedback not found");
         }
-        
+
         return feedbackDAO.delete(feedbackId);
     }
     
@@ -187,6 +205,10 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public Feedback getFeedbackById(int feedbackId) throws SQLException {
+        return Operation.start("FeedbackController.getFeedbackById").call(() -> doGetFeedbackById(feedbackId));
+    }
+
+    private Feedback doGetFeedbackById(int feedbackId) throws SQLException {
         if (feedbackId <= 0) {
             throw new IllegalArgumentException("Invalid feedback ID");
         }
@@ -202,15 +224,20 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public List<Feedback> getFeedbackByUser(int userId) throws SQLException {
+        return Operation.start("FeedbackController.getFeedbackByUser").withUser(userId)
+            .call(() -> doGetFeedbackByUser(userId));
+    }
+
+    private List<Feedback> doGetFeedbackByUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         User user = userDAO.getUserById(userId);
         if (user == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         return feedbackDAO.findByUser(userId);
     }
     
@@ -223,15 +250,20 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public List<Feedback> getFeedbackByEvent(int eventId) throws SQLException {
+        return Operation.start("FeedbackController.getFeedbackByEvent").withEvent(eventId)
+            .call(() -> doGetFeedbackByEvent(eventId));
+    }
+
+    private List<Feedback> doGetFeedbackByEvent(int eventId) throws SQLException {
         if (eventId <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
-        
+
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
-        
+
         return feedbackDAO.findByEvent(eventId);
     }
     
@@ -244,24 +276,29 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public double getAverageRating(int eventId) throws SQLException {
+        return Operation.start("FeedbackController.getAverageRating").withEvent(eventId)
+            .call(() -> doGetAverageRating(eventId));
+    }
+
+    private double doGetAverageRating(int eventId) throws SQLException {
         if (eventId <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
-        
+
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
-        
+
         List<Feedback> feedbacks = feedbackDAO.findByEvent(eventId);
         if (feedbacks.isEmpty()) {
             return 0.0;
         }
-        
+
         double sum = feedbacks.stream()
             .mapToInt(Feedback::getRating)
             .sum();
-            
+
         return sum / feedbacks.size();
     }
     
@@ -274,25 +311,30 @@ public class FeedbackController {
      * @throws SQLException if a database error occurs
      */
     public int[] getRatingDistribution(int eventId) throws SQLException {
+        return Operation.start("FeedbackController.getRatingDistribution").withEvent(eventId)
+            .call(() -> doGetRatingDistribution(eventId));
+    }
+
+    private int[] doGetRatingDistribution(int eventId) throws SQLException {
         if (eventId <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
-        
+
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
-        
+
         List<Feedback> feedbacks = feedbackDAO.findByEvent(eventId);
         int[] distribution = new int[5];
-        
+
         for (Feedback feedback : feedbacks) {
             int rating = feedback.getRating();
             if (rating >= 1 && rating <= 5) {
                 distribution[rating - 1]++;
             }
         }
-        
+
         return distribution;
     }
 }
@@ -1,5 +1,7 @@
 package controllers;
 
+import logging.LogManager;
+import logging.Logger;
 import models.Notification;
 import models.User;
 import models.Event;
@@ -9,17 +11,27 @@ import dao.NotificationDAO;
 import dao.SQLNotificationDAO;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import events.EventBus;
+import events.NotificationSent;
+import metrics.DAOMetrics;
+import metrics.Operation;
 import utils.ValidationUtils;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Controller class for handling notification-related operations
  */
 public class NotificationController {
+    private static final Logger LOGGER = LogManager.getLogger(NotificationController.class);
+
     
     private static NotificationController instance;
     private final NotificationDAO notificationDAO;
@@ -31,8 +43,8 @@ public class NotificationController {
      * @throws SQLException if a database error occurs during initialization
      */
     private NotificationController() throws SQLException {
-        this.notificationDAO = new SQLNotificationDAO();
-        this.userDAO = new SQLUserDAO();
+        this.notificationDAO = DAOMetrics.instrument(NotificationDAO.class, new SQLNotificationDAO());
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
     
     /**
@@ -61,29 +73,37 @@ public class NotificationController {
      */
     public Notification sendNotification(int userId, String title, String message, NotificationType type) 
             throws SQLException {
+        return Operation.start("NotificationController.sendNotification").withUser(userId)
+            .call(() -> doSendNotification(userId, title, message, type));
+    }
+
+    private Notification doSendNotification(int userId, String title, String message, NotificationType type) 
+            throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Notification title cannot be empty");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(message)) {
             throw new IllegalArgumentException("Notification message cannot be empty");
         }
-        
+
         if (type == null) {
             throw new IllegalArgumentException("Notification type cannot be null");
         }
-        
+
         User recipient = userDAO.getUserById(userId);
         if (recipient == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         Notification notification = new Notification(recipient, title.trim(), message.trim(), type);
-        return notificationDAO.save(notification);
+        Notification saved = notificationDAO.save(notification);
+        EventBus.getInstance().publish(new NotificationSent(saved));
+        return saved;
     }
     
     /**
@@ -101,33 +121,42 @@ public class NotificationController {
     public Notification sendEventNotification(int userId, String title, String message, 
                                              NotificationType type, Event event) 
             throws SQLException {
+        return Operation.start("NotificationController.sendEventNotification").withUser(userId).withEvent(event)
+            .call(() -> doSendEventNotification(userId, title, message, type, event));
+    }
+
+    private Notification doSendEventNotification(int userId, String title, String message, 
+                                             NotificationType type, Event event) 
+            throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Notification title cannot be empty");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(message)) {
             throw new IllegalArgumentException("Notification message cannot be empty");
         }
-        
+
         if (type == null) {
             throw new IllegalArgumentException("Notification type cannot be null");
         }
-        
+
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
-        
+
         User recipient = userDAO.getUserById(userId);
         if (recipient == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         Notification notification = new Notification(recipient, title.trim(), message.trim(), type, event);
-        return notificationDAO.save(notification);
+        Notification saved = notificationDAO.save(notification);
+        EventBus.getInstance().publish(new NotificationSent(saved));
+        return saved;
     }
     
     /**
@@ -143,26 +172,32 @@ public class NotificationController {
      */
     public int sendNotificationToRole(String title, String message, NotificationType type, User.UserRole role) 
             throws SQLException {
+        return Operation.start("NotificationController.sendNotificationToRole")
+            .call(() -> doSendNotificationToRole(title, message, type, role));
+    }
+
+    private int doSendNotificationToRole(String title, String message, NotificationType type, User.UserRole role) 
+            throws SQLException {
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Notification title cannot be empty");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(message)) {
             throw new IllegalArgumentException("Notification message cannot be empty");
         }
-        
+
         if (type == null) {
             throw new IllegalArgumentException("Notification type cannot be null");
         }
-        
+
         if (role == null) {
             throw new IllegalArgumentException("User role cannot be null");
         }
-        
+
         List<User> recipients = userDAO.getAllUsers().stream()
             .filter(user -> user.getRole() == role)
             .collect(Collectors.toList());
-            
+
         int count = 0;
         for (User recipient : recipients) {
             try {
@@ -170,7 +205,7 @@ public class NotificationController {
                 count++;
             } catch (SQLException e) {
                 // Log error but continue with other recipients
-                System.err.println("Failed to send notification to user " + recipient.getId() + ": " + e.getMessage());
+                LOGGER.warn("Failed to send notification to user {}: {}", recipient.getId(), e.getMessage());
             }
         }
         return count;
@@ -189,27 +224,33 @@ public class NotificationController {
      */
     public int sendNotificationToEventParticipants(Event event, String title, String message, NotificationType type) 
             throws SQLException {
+        return Operation.start("NotificationController.sendNotificationToEventParticipants").withEvent(event)
+            .call(() -> doSendNotificationToEventParticipants(event, title, message, type));
+    }
+
+    private int doSendNotificationToEventParticipants(Event event, String title, String message, NotificationType type) 
+            throws SQLException {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(title)) {
             throw new IllegalArgumentException("Notification title cannot be empty");
         }
-        
+
         if (!ValidationUtils.isNotEmpty(message)) {
             throw new IllegalArgumentException("Notification message cannot be empty");
         }
-        
+
         if (type == null) {
             throw new IllegalArgumentException("Notification type cannot be null");
         }
-        
+
         List<Registration> registrations = event.getRegistrations();
         if (registrations.isEmpty()) {
             return 0;
         }
-        
+
         int count = 0;
         for (Registration registration : registrations) {
             if (registration.getStatus() == Registration.Status.REGISTERED) {
@@ -218,14 +259,64 @@ public class NotificationController {
                     count++;
                 } catch (SQLException e) {
                     // Log error but continue with other recipients
-                    System.err.println("Failed to send notification to user " + 
-                        registration.getAttendee().getId() + ": " + e.getMessage());
+                    LOGGER.warn("Failed to send notification to user {}: {}",
+                        registration.getAttendee().getId(), e.getMessage());
                 }
             }
         }
         return count;
     }
     
+    /**
+     * Tell organizers that events of theirs were moderated, with one
+     * notification per organizer saved in a single batch
+     * 
+     * @param events The events, carrying their new status
+     * @return The number of notifications sent
+     * @throws SQLException if a database error occurs
+     */
+    public int sendModerationNotifications(List<Event> events) throws SQLException {
+        return Operation.start("NotificationController.sendModerationNotifications")
+            .call(() -> doSendModerationNotifications(events));
+    }
+
+    private int doSendModerationNotifications(List<Event> events) throws SQLException {
+        Map<Integer, List<Event>> byOrganizer = new LinkedHashMap<>();
+        Map<Integer, User> organizers = new HashMap<>();
+        for (Event event : events) {
+            if (event.getOrganizer() != null) {
+                organizers.putIfAbsent(event.getOrganizer().getId(), event.getOrganizer());
+                byOrganizer.computeIfAbsent(event.getOrganizer().getId(), id -> new ArrayList<>()).add(event);
+            }
+        }
+
+        List<Notification> notifications = new ArrayList<>();
+        for (Map.Entry<Integer, List<Event>> entry : byOrganizer.entrySet()) {
+            User organizer = organizers.get(entry.getKey());
+            List<Event> moderated = entry.getValue();
+            if (moderated.size() == 1) {
+                Event event = moderated.get(0);
+                String status = event.getStatus().name().toLowerCase();
+                notifications.add(new Notification(organizer, "Event " + status,
+                    "Your event \"" + event.getTitle() + "\" was " + status + ".", NotificationType.EVENT_UPDATED, event));
+            } else {
+                StringBuilder message = new StringBuilder("Your events were reviewed:");
+                for (Event event : moderated) {
+                    message.append("\n- ").append(event.getTitle()).append(": ").append(event.getStatus().name().toLowerCase());
+                }
+                notifications.add(new Notification(organizer, moderated.size() + " events reviewed",
+                    message.toString(), NotificationType.EVENT_UPDATED));
+            }
+        }
+
+        notificationDAO.saveAll(notifications);
+        EventBus bus = EventBus.getInstance();
+        for (Notification notification : notifications) {
+            bus.publish(new NotificationSent(notification));
+        }
+        return notifications.size();
+    }
+    
     /**
      * Mark a notification as read
      * 
@@ -235,19 +326,23 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public Notification markAsRead(int notificationId) throws SQLException {
+        return Operation.start("NotificationController.markAsRead").call(() -> doMarkAsRead(notificationId));
+    }
+
+    private Notification doMarkAsRead(int notificationId) throws SQLException {
         if (notificationId <= 0) {
             throw new IllegalArgumentException("Invalid notification ID");
         }
-        
+
         Notification notification = notificationDAO.findById(notificationId);
         if (notification == null) {
             throw new IllegalArgumentException("Notification not found");
         }
-        
+
         if (notification.isRead()) {
             throw new IllegalStateException("Notification is already marked as read");
         }
-        
+
         notification.markAsRead();
         notification.setReadAt(LocalDateTime.now());
         return notificationDAO.update(notification);
@@ -262,14 +357,19 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public int markAllAsRead(int userId) throws SQLException {
+        return Operation.start("NotificationController.markAllAsRead").withUser(userId)
+            .call(() -> doMarkAllAsRead(userId));
+    }
+
+    private int doMarkAllAsRead(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         if (userDAO.getUserById(userId) == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         List<Notification> notifications = notificationDAO.findUnreadByRecipient(userId);
         int count = 0;
         for (Notification notification : notifications) {
@@ -279,7 +379,7 @@ public class NotificationController {
                 count++;
             } catch (SQLException e) {
                 // Log error but continue with other notifications
-                System.err.println("Failed to mark notification " + notification.getId() + " as read: " + e.getMessage());
+                LOGGER.warn("Failed to mark notification {} as read: {}", notification.getId(), e.getMessage());
             }
         }
         return count;
@@ -294,15 +394,20 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public boolean deleteNotification(int notificationId) throws SQLException {
+        return Operation.start("NotificationController.deleteNotification")
+            .call(() -> doDeleteNotification(notificationId));
+    }
+
+    private boolean doDeleteNotification(int notificationId) throws SQLException {
         if (notificationId <= 0) {
             throw new IllegalArgumentException("Invalid notification ID");
         }
-        
+
         Notification notification = notificationDAO.findById(notificationId);
         if (notification == null) {
             throw new IllegalArgumentException("Notification not found");
         }
-        
+
         return notificationDAO.delete(notificationId);
     }
     
@@ -315,10 +420,15 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public Notification getNotificationById(int notificationId) throws SQLException {
+        return Operation.start("NotificationController.getNotificationById")
+            .call(() -> doGetNotificationById(notificationId));
+    }
+
+    private Notification doGetNotificationById(int notificationId) throws SQLException {
         if (notificationId <= 0) {
             throw new IllegalArgumentException("Invalid notification ID");
         }
-        
+
         return notificationDAO.findById(notificationId);
     }
     
@@ -331,14 +441,19 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public List<Notification> getNotificationsByUser(int userId) throws SQLException {
+        return Operation.start("NotificationController.getNotificationsByUser").withUser(userId)
+            .call(() -> doGetNotificationsByUser(userId));
+    }
+
+    private List<Notification> doGetNotificationsByUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         if (userDAO.getUserById(userId) == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         return notificationDAO.findByRecipient(userId);
     }
     
@@ -351,14 +466,19 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public List<Notification> getUnreadNotificationsByUser(int userId) throws SQLException {
+        return Operation.start("NotificationController.getUnreadNotificationsByUser").withUser(userId)
+            .call(() -> doGetUnreadNotificationsByUser(userId));
+    }
+
+    private List<Notification> doGetUnreadNotificationsByUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
-        
+
         if (userDAO.getUserById(userId) == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         return notificationDAO.findUnreadByRecipient(userId);
     }
     
@@ -371,10 +491,15 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public List<Notification> getNotificationsByType(NotificationType type) throws SQLException {
+        return Operation.start("NotificationController.getNotificationsByType")
+            .call(() -> doGetNotificationsByType(type));
+    }
+
+    private List<Notification> doGetNotificationsByType(NotificationType type) throws SQLException {
         if (type == null) {
             throw new IllegalArgumentException("Notification type cannot be null");
         }
-        
+
         return notificationDAO.findByType(type);
     }
     
@@ -387,10 +512,15 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public List<Notification> getNotificationsByEvent(int eventId) throws SQLException {
+        return Operation.start("NotificationController.getNotificationsByEvent").withEvent(eventId)
+            .call(() -> doGetNotificationsByEvent(eventId));
+    }
+
+    private List<Notification> doGetNotificationsByEvent(int eventId) throws SQLException {
         if (eventId <= 0) {
             throw new IllegalArgumentException("Invalid event ID");
         }
-        
+
         return notificationDAO.findByEvent(eventId);
     }
     
@@ -403,26 +533,31 @@ public class NotificationController {
      * @throws IllegalArgumentException if the event is null or hoursBeforeEvent is invalid
      */
     public void sendEventReminder(Event event, int hoursBeforeEvent) throws SQLException {
+        Operation.start("NotificationController.sendEventReminder").withEvent(event)
+            .run(() -> doSendEventReminder(event, hoursBeforeEvent));
+    }
+
+    private void doSendEventReminder(Event event, int hoursBeforeEvent) throws SQLException {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
-        
+
         if (hoursBeforeEvent <= 0) {
             throw new IllegalArgumentException("Hours before event must be positive");
         }
-        
+
         if (event.getEventDate().isBefore(LocalDateTime.now())) {
             throw new IllegalStateException("Cannot send reminder for past event");
         }
-        
+
         // Calculate when to send the reminder
         LocalDateTime reminderTime = event.getEventDate().minusHours(hoursBeforeEvent);
-        
+
         // Only send if the reminder time is in the future
         if (reminderTime.isAfter(LocalDateTime.now())) {
             return;
         }
-        
+
         // Create reminder message
         String title = "Event Reminder: " + event.getTitle();
         String message = String.format(
@@ -432,13 +567,13 @@ public class NotificationController {
             hoursBeforeEvent,
             event.getVenueName()
         );
-        
+
         // Send notifications to all registered participants
         List<Registration> registrations = event.getRegistrations();
         if (registrations.isEmpty()) {
             return;
         }
-        
+
         for (Registration registration : registrations) {
             if (registration.getStatus() == Registration.Status.REGISTERED) {
                 try {
@@ -451,14 +586,19 @@ public class NotificationController {
                     );
                 } catch (SQLException e) {
                     // Log error but continue with other recipients
-                    System.err.println("Failed to send reminder to user " + 
-                        registration.getAttendee().getId() + ": " + e.getMessage());
+                    LOGGER.warn("Failed to send reminder to user {}: {}",
+                        registration.getAttendee().getId(), e.getMessage());
                 }
             }
         }
     }
     
     public List<Notification> getRecentNotifications(int limit) throws SQLException {
+        return Operation.start("NotificationController.getRecentNotifications")
+            .call(() -> doGetRecentNotifications(limit));
+    }
+
+    private List<Notification> doGetRecentNotifications(int limit) throws SQLException {
         List<Notification> all = notificationDAO.findAll();
         return all.stream().limit(limit).collect(java.util.stream.Collectors.toList());
     }
@@ -471,6 +611,11 @@ public class NotificationController {
      * @throws SQLException if a database error occurs
      */
     public List<String[]> getRecentAdminNotifications(int limit) throws SQLException {
+        return Operation.start("NotificationController.getRecentAdminNotifications")
+            .call(() -> doGetRecentAdminNotifications(limit));
+    }
+
+    private List<String[]> doGetRecentAdminNotifications(int limit) throws SQLException {
         List<Notification> notifications = notificationDAO.findAll().stream()
             .filter(n -> n.getType() == NotificationType.ADMIN)
             .limit(limit)
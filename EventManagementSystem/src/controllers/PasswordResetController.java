@@ -1,5 +1,6 @@
 package controllers;
 
+import metrics.Operation;
 import models.User;
 import utils.DatabaseUtil;
 import java.sql.Connection;
@@ -40,6 +41,11 @@ public class PasswordResetController {
      * @return true if the answers are correct, false otherwise
      */
     public boolean verifySecurityAnswers(User user, String answer1, String answer2) {
+        return Operation.start("PasswordResetController.verifySecurityAnswers")
+            .call(() -> doVerifySecurityAnswers(user, answer1, answer2));
+    }
+
+    private boolean doVerifySecurityAnswers(User user, String answer1, String answer2) {
         if (user == null || answer1 == null || answer2 == null) {
             return false;
         }
@@ -56,6 +62,10 @@ public class PasswordResetController {
      * @return a ResetResult object containing the result of the operation
      */
     public ResetResult resetPassword(String email, String newPassword) {
+        return Operation.start("PasswordResetController.resetPassword").call(() -> doResetPassword(email, newPassword));
+    }
+
+    private ResetResult doResetPassword(String email, String newPassword) {
         if (email == null || newPassword == null) {
             return new ResetResult(false, "Invalid input parameters");
         }
@@ -71,10 +81,10 @@ public class PasswordResetController {
             try (Connection conn = DatabaseUtil.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                      "UPDATE users SET password = ? WHERE email = ?")) {
-                
-                stmt.setString(1, newPassword);  // Store hashed password
+
+                stmt.setString(1, SecurityUtils.hashPassword(newPassword));
                 stmt.setString(2, email);
-                
+
                 int rowsAffected = stmt.executeUpdate();
                 if (rowsAffected > 0) {
                     return new ResetResult(true, "Password reset successful");
@@ -4,32 +4,82 @@ import models.Registration;
 import models.Event;
 import models.User;
 import models.Registration.Status;
+import dao.CheckInWriteBehind;
 import dao.RegistrationDAO;
 import dao.EventDAO;
 import dao.SQLEventDAO;
 import dao.SQLEventRegistrationDAO;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import events.EventBus;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
+import metrics.DAOMetrics;
+import metrics.Operation;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.sql.SQLException;
 
 /**
  * Controller class for handling registration-related operations
  */
-public class RegistrationController {
+public class RegistrationController implements AutoCloseable {
     
+    private static final DateTimeFormatter CONFLICT_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a");
+
     private static RegistrationController instance;
-    private final SQLEventRegistrationDAO registrationDAO;
+    private final RegistrationDAO registrationDAO;
     private final EventDAO eventDAO;
     private final UserDAO userDAO;
+    private final ScheduleIndex scheduleIndex;
+    // Whether the schedule index was created for this controller rather than shared
+    private final boolean ownsScheduleIndex;
     
     // Private constructor for singleton pattern
     private RegistrationController() throws SQLException {
-        this.registrationDAO = new SQLEventRegistrationDAO();
-        this.eventDAO = new SQLEventDAO();
-        this.userDAO = new SQLUserDAO();
+        this(DAOMetrics.instrument(RegistrationDAO.class, new SQLEventRegistrationDAO()),
+            DAOMetrics.instrument(EventDAO.class, new SQLEventDAO()),
+            DAOMetrics.instrument(UserDAO.class, new SQLUserDAO()),
+            ScheduleIndex.getInstance(), false);
+    }
+
+    private RegistrationController(RegistrationDAO registrationDAO, EventDAO eventDAO, UserDAO userDAO,
+                                   ScheduleIndex scheduleIndex, boolean ownsScheduleIndex) {
+        this.registrationDAO = registrationDAO;
+        this.eventDAO = eventDAO;
+        this.userDAO = userDAO;
+        this.scheduleIndex = scheduleIndex;
+        this.ownsScheduleIndex = ownsScheduleIndex;
+    }
+
+    /**
+     * Create a standalone RegistrationController over the given DAOs instead of
+     * the shared SQL ones, e.g. to run simulations against an in-memory store.
+     * Close it when done so its schedule index stops following the event bus.
+     * 
+     * @param registrationDAO The registration DAO to use
+     * @param eventDAO The event DAO to use
+     * @param userDAO The user DAO to use
+     * @return A new RegistrationController, independent of the singleton
+     */
+    public static RegistrationController withDAOs(RegistrationDAO registrationDAO, EventDAO eventDAO, UserDAO userDAO) {
+        return new RegistrationController(registrationDAO, eventDAO, userDAO,
+            new ScheduleIndex(eventDAO, registrationDAO), true);
+    }
+
+    /**
+     * Release the schedule index of a controller created with
+     * {@link #withDAOs}; the shared index of the singleton is left open
+     */
+    @Override
+    public void close() {
+        if (ownsScheduleIndex) {
+            scheduleIndex.close();
+        }
     }
     
     /**
@@ -53,47 +103,146 @@ public class RegistrationController {
      * @return The created registration
      * @throws SQLException if a database error occurs
      * @throws IllegalArgumentException if user is null or event is not found
-     * @throws IllegalStateException if event is not available or user is already registered
+     * @throws IllegalStateException if event is not available, user is already registered
+     *         or the event overlaps another of the user's registrations
      */
     public Registration registerForEvent(User user, int eventId) throws SQLException {
+        return registerForEvent(user, eventId, false);
+    }
+
+    /**
+     * Register a user for an event
+     * 
+     * @param user The user to register
+     * @param eventId The ID of the event to register for
+     * @param allowScheduleConflict Whether to register even if the event overlaps another of the
+     *        user's registrations, e.g. after the user confirmed {@link #getScheduleConflicts}
+     * @return The created registration
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if user is null or event is not found
+     * @throws IllegalStateException if event is not available, user is already registered
+     *         or, unless allowed, the event overlaps another of the user's registrations
+     */
+    public Registration registerForEvent(User user, int eventId, boolean allowScheduleConflict) throws SQLException {
+        return Operation.start("RegistrationController.registerForEvent").withUser(user).withEvent(eventId)
+            .call(() -> doRegisterForEvent(user, eventId, allowScheduleConflict));
+    }
+
+    private Registration doRegisterForEvent(User user, int eventId, boolean allowScheduleConflict) throws SQLException {
+        return register(user, eventId, allowScheduleConflict, false);
+    }
+
+    /**
+     * Register a user for an event they hold a seat on, see {@link SeatHoldManager}.
+     * The held seat becomes the registration's; if the hold has expired the user
+     * takes a free seat or joins the waitlist like any other registration.
+     *
+     * @param user The user to register
+     * @param eventId The ID of the event to register for
+     * @param allowScheduleConflict Whether to register even if the event overlaps another of the
+     *        user's registrations
+     * @return The created registration
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if user is null or event is not found
+     * @throws IllegalStateException if registration for the event has closed, user is already registered
+     *         or, unless allowed, the event overlaps another of the user's registrations
+     */
+    Registration registerWithHold(User user, int eventId, boolean allowScheduleConflict) throws SQLException {
+        return Operation.start("RegistrationController.registerWithHold").withUser(user).withEvent(eventId)
+            .call(() -> doRegisterWithHold(user, eventId, allowScheduleConflict));
+    }
+
+    private Registration doRegisterWithHold(User user, int eventId, boolean allowScheduleConflict) throws SQLException {
+        return register(user, eventId, allowScheduleConflict, true);
+    }
+
+    private Registration register(User user, int eventId, boolean allowScheduleConflict, boolean seatHeld)
+            throws SQLException {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
         }
-        
+
         // Get the event
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
         }
-        
-        // Check if the event is available for registration
-        if (!event.isAvailable()) {
+
+        // Check if the event is available for registration; a held seat is already counted as taken
+        if (seatHeld ? !event.isOpenForRegistration() : !event.isAvailable()) {
             throw new IllegalStateException("Event is not available for registration");
         }
-        
+
         // Check if the user is already registered
         if (registrationDAO.existsByUserAndEvent(user.getId(), eventId)) {
             throw new IllegalStateException("User is already registered for this event");
         }
-        
-        // Create the registration
-        Registration registration = new Registration(user, event);
-        
-        // Check if the event is at capacity
-        if (event.getAvailableSlots() <= 0) {
-            registration.setStatus(Status.WAITLISTED);
-        } else {
-            registration.setStatus(Status.REGISTERED);
-            
-            // Update the event's available slots
-            event.setAvailableSlots(event.getAvailableSlots() - 1);
-            eventDAO.update(event);
+
+        // Check the user's schedule
+        if (!allowScheduleConflict) {
+            List<ScheduleIndex.Booking> conflicts = scheduleIndex.findAttendeeConflicts(
+                user.getId(), event.getEventDate(), event.getEndDate(), eventId);
+            if (!conflicts.isEmpty()) {
+                ScheduleIndex.Booking conflict = conflicts.get(0);
+                throw new IllegalStateException("Event overlaps your registration for \"" + conflict.getTitle()
+                    + "\" on " + conflict.getStart().format(CONFLICT_TIME_FORMAT));
+            }
         }
-        
-        // Save the registration
-        return registrationDAO.save(registration);
+
+        // Take the seat the user holds, or join the end of the waitlist and take a seat if one is free,
+        // in one transaction, so the registration cannot pass anyone already waiting or take a seat twice
+        Registration registration = new Registration(user, event);
+        List<Registration> promoted = registrationDAO.promoteWaitlisted(event, registration);
+        publishPromotions(event, promoted);
+        EventBus.getInstance().publish(new RegistrationCreated(registration));
+        return registration;
     }
     
+    /**
+     * Find the user's registrations that overlap an event
+     * 
+     * @param userId The user
+     * @param eventId The event the user is about to register for
+     * @return The overlapping registered events, in start order
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if the event is not found
+     */
+    public List<ScheduleIndex.Booking> getScheduleConflicts(int userId, int eventId) throws SQLException {
+        return Operation.start("RegistrationController.getScheduleConflicts").withUser(userId).withEvent(eventId)
+            .call(() -> doGetScheduleConflicts(userId, eventId));
+    }
+
+    private List<ScheduleIndex.Booking> doGetScheduleConflicts(int userId, int eventId) throws SQLException {
+        Event event = eventDAO.findById(eventId);
+        if (event == null) {
+            throw new IllegalArgumentException("Event not found");
+        }
+        return scheduleIndex.findAttendeeConflicts(userId, event.getEventDate(), event.getEndDate(), eventId);
+    }
+
+    /**
+     * Find which of the given events overlap another of the user's registrations
+     * 
+     * @param userId The user
+     * @param events Events to check, e.g. those on screen
+     * @return IDs of the events that clash with the user's schedule
+     * @throws SQLException if a database error occurs
+     */
+    public Set<Integer> getConflictingEventIds(int userId, List<Event> events) throws SQLException {
+        return Operation.start("RegistrationController.getConflictingEventIds").withUser(userId)
+            .call(() -> doGetConflictingEventIds(userId, events));
+    }
+
+    private Set<Integer> doGetConflictingEventIds(int userId, List<Event> events) throws SQLException {
+        Set<Integer> conflicting = new HashSet<>();
+        for (Event event : events) {
+            if (!scheduleIndex.findAttendeeConflicts(userId, event.getEventDate(), event.getEndDate(), event.getId()).isEmpty()) {
+                conflicting.add(event.getId());
+            }
+        }
+        return conflicting;
+    }
+
     /**
      * Register a user for an event by user ID
      * 
@@ -105,12 +254,17 @@ public class RegistrationController {
      * @throws IllegalStateException if event is not available or user is already registered
      */
     public Registration registerUser(int eventId, int userId) throws SQLException {
+        return Operation.start("RegistrationController.registerUser").withEvent(eventId).withUser(userId)
+            .call(() -> doRegisterUser(eventId, userId));
+    }
+
+    private Registration doRegisterUser(int eventId, int userId) throws SQLException {
         // Get the user
         User user = userDAO.getUserById(userId);
         if (user == null) {
             throw new IllegalArgumentException("User not found");
         }
-        
+
         return registerForEvent(user, eventId);
     }
     
@@ -124,31 +278,33 @@ public class RegistrationController {
      * @throws IllegalStateException if registration is already cancelled
      */
     public Registration cancelRegistration(int registrationId) throws SQLException {
+        return Operation.start("RegistrationController.cancelRegistration")
+            .call(() -> doCancelRegistration(registrationId));
+    }
+
+    private Registration doCancelRegistration(int registrationId) throws SQLException {
         Registration registration = registrationDAO.findById(registrationId);
         if (registration == null) {
             throw new IllegalArgumentException("Registration not found");
         }
-        
+        Operation.current().withEvent(registration.getEvent()).withUser(registration.getAttendee());
+
         // Check if the registration is already cancelled
         if (registration.getStatus() == Status.CANCELLED) {
             throw new IllegalStateException("Registration is already cancelled");
         }
-        
+
         // Cancel the registration
+        Status previousStatus = registration.getStatus();
         registration.setStatus(Status.CANCELLED);
-        
-        // Update the event's available slots if the registration was active
-        if (registration.getStatus() == Status.REGISTERED) {
-            Event event = registration.getEvent();
-            event.setAvailableSlots(event.getAvailableSlots() + 1);
-            eventDAO.update(event);
-            
-            // Check if there are waitlisted registrations that can be promoted
-            promoteWaitlistedRegistration(event.getId());
+        Registration updated = registrationDAO.update(registration);
+        EventBus.getInstance().publish(new RegistrationStatusChanged(updated, previousStatus));
+
+        // A freed seat goes to the waitlist
+        if (previousStatus == Status.REGISTERED || previousStatus == Status.ATTENDED) {
+            promoteWaitlisted(registration.getEvent());
         }
-        
-        // Save the registration
-        return registrationDAO.update(registration);
+        return updated;
     }
     
     /**
@@ -161,47 +317,46 @@ public class RegistrationController {
      * @throws IllegalArgumentException if registration is not found
      */
     public Registration unregisterUser(int eventId, int userId) throws SQLException {
+        return Operation.start("RegistrationController.unregisterUser").withEvent(eventId).withUser(userId)
+            .call(() -> doUnregisterUser(eventId, userId));
+    }
+
+    private Registration doUnregisterUser(int eventId, int userId) throws SQLException {
         List<Registration> registrations = registrationDAO.findByUserAndEvent(userId, eventId);
         if (registrations.isEmpty()) {
             throw new IllegalArgumentException("No registration found for user and event");
         }
-        
+
         // Get the first registration (there should only be one)
         Registration registration = registrations.get(0);
         return cancelRegistration(registration.getId());
     }
     
     /**
-     * Promote a waitlisted registration to registered status
+     * Give an event's free seats to its waitlist, oldest registration first,
+     * e.g. after a cancellation or a capacity increase
      * 
-     * @param eventId The ID of the event
+     * @param event The event; its available slots are updated
+     * @return The registrations promoted, in waitlist order
      * @throws SQLException if a database error occurs
      */
-    private void promoteWaitlistedRegistration(int eventId) throws SQLException {
-        // Get the event
-        Event event = eventDAO.findById(eventId);
-        if (event == null) {
-            return;
-        }
-        
-        // Check if there's room for more registrations
-        if (event.getAvailableSlots() <= 0) {
-            return;
-        }
-        
-        // Get the oldest waitlisted registration
-        Registration waitlisted = registrationDAO.findOldestWaitlisted(eventId);
-        if (waitlisted == null) {
-            return;
+    public List<Registration> promoteWaitlisted(Event event) throws SQLException {
+        return Operation.start("RegistrationController.promoteWaitlisted").withEvent(event)
+            .call(() -> doPromoteWaitlisted(event));
+    }
+
+    private List<Registration> doPromoteWaitlisted(Event event) throws SQLException {
+        List<Registration> promoted = registrationDAO.promoteWaitlisted(event, null);
+        publishPromotions(event, promoted);
+        return promoted;
+    }
+
+    private void publishPromotions(Event event, List<Registration> promoted) {
+        EventBus bus = EventBus.getInstance();
+        for (Registration registration : promoted) {
+            registration.setEvent(event);
+            bus.publish(new RegistrationStatusChanged(registration, Status.WAITLISTED));
         }
-        
-        // Promote the registration
-        waitlisted.setStatus(Status.REGISTERED);
-        registrationDAO.update(waitlisted);
-        
-        // Update the event's available slots
-        event.setAvailableSlots(event.getAvailableSlots() - 1);
-        eventDAO.update(event);
     }
     
     /**
@@ -214,22 +369,30 @@ public class RegistrationController {
      * @throws IllegalStateException if registration is not in a valid state for check-in
      */
     public Registration checkInParticipant(int registrationId) throws SQLException {
+        return Operation.start("RegistrationController.checkInParticipant")
+            .call(() -> doCheckInParticipant(registrationId));
+    }
+
+    private Registration doCheckInParticipant(int registrationId) throws SQLException {
         Registration registration = registrationDAO.findById(registrationId);
         if (registration == null) {
             throw new IllegalArgumentException("Registration not found");
         }
-        
+        Operation.current().withEvent(registration.getEvent()).withUser(registration.getAttendee());
+
         // Check if the registration is valid
         if (registration.getStatus() != Status.REGISTERED) {
             throw new IllegalStateException("Registration is not in a valid state for check-in");
         }
-        
+
         // Check in the participant
         registration.setCheckedIn(true);
         registration.setStatus(Status.ATTENDED);
-        
+
         // Save the registration
-        return registrationDAO.update(registration);
+        Registration updated = registrationDAO.update(registration);
+        EventBus.getInstance().publish(new RegistrationStatusChanged(updated, Status.REGISTERED));
+        return updated;
     }
     
     /**
@@ -242,23 +405,64 @@ public class RegistrationController {
      * @throws IllegalStateException if registration is not in a valid state to mark as no-show
      */
     public Registration markNoShow(int registrationId) throws SQLException {
+        return Operation.start("RegistrationController.markNoShow").call(() -> doMarkNoShow(registrationId));
+    }
+
+    private Registration doMarkNoShow(int registrationId) throws SQLException {
         Registration registration = registrationDAO.findById(registrationId);
         if (registration == null) {
             throw new IllegalArgumentException("Registration not found");
         }
-        
+        Operation.current().withEvent(registration.getEvent()).withUser(registration.getAttendee());
+
         // Check if the registration is valid
         if (registration.getStatus() != Status.REGISTERED) {
             throw new IllegalStateException("Registration is not in a valid state to mark as no-show");
         }
-        
+
         // Mark as no-show
         registration.setStatus(Status.NO_SHOW);
-        
+
         // Save the registration
-        return registrationDAO.update(registration);
+        Registration updated = registrationDAO.update(registration);
+        EventBus.getInstance().publish(new RegistrationStatusChanged(updated, Status.REGISTERED));
+        return updated;
     }
     
+    /**
+     * Open door check-in for an event. The event's roster is loaded once, and
+     * check-ins are then validated in memory and written in the background.
+     *
+     * @param eventId The ID of the event
+     * @return The check-in session; close it when the door closes
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if event is not found
+     */
+    public DoorCheckIn openDoorCheckIn(int eventId) throws SQLException {
+        return Operation.start("RegistrationController.openDoorCheckIn").call(() -> doOpenDoorCheckIn(eventId));
+    }
+
+    private DoorCheckIn doOpenDoorCheckIn(int eventId) throws SQLException {
+        Event event = eventDAO.findById(eventId);
+        if (event == null) {
+            throw new IllegalArgumentException("Event not found");
+        }
+        Operation.current().withEvent(event);
+
+        CheckInWriteBehind writeBehind = CheckInWriteBehind.getInstance();
+        // Write check-ins left from an earlier session first, so the roster reflects them
+        writeBehind.flush();
+
+        DoorCheckIn doorCheckIn = new DoorCheckIn(event, writeBehind);
+        registrationDAO.loadRoster(eventId, (registrationId, userId, attendeeName, status) -> {
+            // Check-ins recorded since the flush are not in the database yet
+            Status pending = writeBehind.getPendingStatus(registrationId);
+            doorCheckIn.put(registrationId, userId, attendeeName,
+                pending != null && status == Status.REGISTERED ? pending : status);
+        });
+        return doorCheckIn;
+    }
+
     /**
      * Update the status of a registration
      * 
@@ -269,13 +473,24 @@ public class RegistrationController {
      * @throws IllegalArgumentException if registration is not found
      */
     public Registration updateRegistrationStatus(int registrationId, Status status) throws SQLException {
+        return Operation.start("RegistrationController.updateRegistrationStatus")
+            .call(() -> doUpdateRegistrationStatus(registrationId, status));
+    }
+
+    private Registration doUpdateRegistrationStatus(int registrationId, Status status) throws SQLException {
         Registration registration = registrationDAO.findById(registrationId);
         if (registration == null) {
             throw new IllegalArgumentException("Registration not found");
         }
-        
+        Operation.current().withEvent(registration.getEvent()).withUser(registration.getAttendee());
+
+        Status previousStatus = registration.getStatus();
         registration.setStatus(status);
-        return registrationDAO.update(registration);
+        Registration updated = registrationDAO.update(registration);
+        if (previousStatus != status) {
+            EventBus.getInstance().publish(new RegistrationStatusChanged(updated, previousStatus));
+        }
+        return updated;
     }
     
     /**
@@ -286,7 +501,7 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public Registration getRegistration(int registrationId) throws SQLException {
-        return registrationDAO.findById(registrationId);
+        return Operation.start("RegistrationController.getRegistration").call(() -> registrationDAO.findById(registrationId));
     }
     
     /**
@@ -297,6 +512,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public List<Registration> getEventRegistrations(int eventId) throws SQLException {
+        return Operation.start("RegistrationController.getEventRegistrations").withEvent(eventId)
+            .call(() -> doGetEventRegistrations(eventId));
+    }
+
+    private List<Registration> doGetEventRegistrations(int eventId) throws SQLException {
         return registrationDAO.findByEvent(eventId);
     }
     
@@ -308,6 +528,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public List<Registration> getUserRegistrations(int userId) throws SQLException {
+        return Operation.start("RegistrationController.getUserRegistrations").withUser(userId)
+            .call(() -> doGetUserRegistrations(userId));
+    }
+
+    private List<Registration> doGetUserRegistrations(int userId) throws SQLException {
         return registrationDAO.findByUser(userId);
     }
     
@@ -319,6 +544,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public List<Registration> getRegistrationsByStatus(Status status) throws SQLException {
+        return Operation.start("RegistrationController.getRegistrationsByStatus")
+            .call(() -> doGetRegistrationsByStatus(status));
+    }
+
+    private List<Registration> doGetRegistrationsByStatus(Status status) throws SQLException {
         return registrationDAO.findByStatus(status);
     }
     
@@ -330,6 +560,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public int getRegistrationCount(int eventId) throws SQLException {
+        return Operation.start("RegistrationController.getRegistrationCount").withEvent(eventId)
+            .call(() -> doGetRegistrationCount(eventId));
+    }
+
+    private int doGetRegistrationCount(int eventId) throws SQLException {
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
@@ -345,6 +580,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public int getAvailableSlots(int eventId) throws SQLException {
+        return Operation.start("RegistrationController.getAvailableSlots").withEvent(eventId)
+            .call(() -> doGetAvailableSlots(eventId));
+    }
+
+    private int doGetAvailableSlots(int eventId) throws SQLException {
         Event event = eventDAO.findById(eventId);
         if (event == null) {
             throw new IllegalArgumentException("Event not found");
@@ -361,6 +601,11 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public boolean isUserRegistered(int eventId, int userId) throws SQLException {
+        return Operation.start("RegistrationController.isUserRegistered").withEvent(eventId).withUser(userId)
+            .call(() -> doIsUserRegistered(eventId, userId));
+    }
+
+    private boolean doIsUserRegistered(int eventId, int userId) throws SQLException {
         return registrationDAO.existsByUserAndEvent(userId, eventId);
     }
     
@@ -371,6 +616,6 @@ public class RegistrationController {
      * @throws SQLException if a database error occurs
      */
     public List<Registration> getAllRegistrations() throws SQLException {
-        return registrationDAO.findAll();
+        return Operation.start("RegistrationController.getAllRegistrations").call(() -> registrationDAO.findAll());
     }
 }
@@ -0,0 +1,332 @@
+package controllers;
+
+import dao.EventDAO;
+import dao.RegistrationDAO;
+import dao.SQLEventDAO;
+import dao.SQLEventRegistrationDAO;
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
+import logging.LogManager;
+import logging.Logger;
+import metrics.DAOMetrics;
+import models.Event;
+import models.Event.EventStatus;
+import models.Registration;
+import models.Registration.Status;
+import utils.IntervalTree;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Interval index of when venues are booked and when attendees are busy.
+ *
+ * Each venue and each attendee has an {@link IntervalTree} of the events
+ * occupying them, so "is anything else on at this time?" is answered
+ * without scanning all events. Venue trees are built from every event on
+ * first use; an attendee's tree is built from their registrations the first
+ * time they are asked about. Both are kept current from the domain events
+ * on the {@link EventBus}. Indexes other than the shared one must be
+ * closed to stop following the bus.
+ */
+public class ScheduleIndex implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(ScheduleIndex.class);
+    // Events in these states do not occupy their venue or their attendees
+    private static final Set<EventStatus> INACTIVE_EVENTS = EnumSet.of(EventStatus.REJECTED, EventStatus.CANCELLED);
+    // Registrations in these states keep the attendee busy
+    private static final Set<Status> ACTIVE_REGISTRATIONS = EnumSet.of(
+        Status.PENDING, Status.APPROVED, Status.REGISTERED, Status.WAITLISTED, Status.ATTENDED);
+
+    private static ScheduleIndex instance;
+
+    private final EventDAO eventDAO;
+    private final RegistrationDAO registrationDAO;
+    private final List<EventBus.Subscription> subscriptions = new ArrayList<>();
+    private boolean venuesLoaded;
+    private final Map<Integer, Booking> bookings = new HashMap<>();
+    private final Map<String, IntervalTree<Booking>> byVenue = new HashMap<>();
+    private final Map<Integer, IntervalTree<Booking>> byAttendee = new HashMap<>();
+    // Loaded attendees with an active registration, by event
+    private final Map<Integer, Set<Integer>> attendeesByEvent = new HashMap<>();
+    // Registration changes for attendees whose registrations are being read
+    private final Map<Integer, List<Registration>> loadingAttendees = new HashMap<>();
+
+    /**
+     * When and where an event takes place
+     */
+    public static final class Booking {
+        private final int eventId;
+        private final String title;
+        private final String venueName;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final boolean active;
+
+        private Booking(Event event) {
+            this.eventId = event.getId();
+            this.title = event.getTitle();
+            this.venueName = event.getVenueName();
+            this.start = event.getEventDate();
+            this.end = event.getEndDate();
+            this.active = event.getStatus() == null || !INACTIVE_EVENTS.contains(event.getStatus());
+        }
+
+        public int getEventId() { return eventId; }
+        public String getTitle() { return title; }
+        public String getVenueName() { return venueName; }
+        public LocalDateTime getStart() { return start; }
+        public LocalDateTime getEnd() { return end; }
+    }
+
+    // Private constructor for singleton pattern
+    private ScheduleIndex() throws SQLException {
+        this(DAOMetrics.instrument(EventDAO.class, new SQLEventDAO()),
+            DAOMetrics.instrument(RegistrationDAO.class, new SQLEventRegistrationDAO()));
+    }
+
+    /**
+     * Create an index over the given DAOs instead of the shared SQL ones
+     *
+     * @param eventDAO The event DAO to load venues from
+     * @param registrationDAO The registration DAO to load attendees from
+     */
+    public ScheduleIndex(EventDAO eventDAO, RegistrationDAO registrationDAO) {
+        this.eventDAO = eventDAO;
+        this.registrationDAO = registrationDAO;
+
+        EventBus bus = EventBus.getInstance();
+        subscriptions.add(bus.subscribe(EventCreated.class, created -> putEvent(created.getEvent())));
+        subscriptions.add(bus.subscribe(EventUpdated.class, updated -> putEvent(updated.getEvent())));
+        subscriptions.add(bus.subscribe(EventStatusChanged.class, changed -> putEvent(changed.getEvent())));
+        subscriptions.add(bus.subscribe(EventDeleted.class, deleted -> removeEvent(deleted.getEventId())));
+        subscriptions.add(bus.subscribe(RegistrationCreated.class, created -> putRegistration(created.getRegistration())));
+        subscriptions.add(bus.subscribe(RegistrationStatusChanged.class, changed -> putRegistration(changed.getRegistration())));
+    }
+
+    /**
+     * Get the singleton instance of the ScheduleIndex
+     *
+     * @return The ScheduleIndex instance
+     * @throws SQLException if a database error occurs during initialization
+     */
+    public static synchronized ScheduleIndex getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new ScheduleIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Find events booked at a venue during a time range
+     *
+     * @param venueName Venue name, compared ignoring case and surrounding spaces
+     * @param start Range start, inclusive
+     * @param end Range end, exclusive
+     * @param ignoreEventId Event to leave out, e.g. the one being edited; 0 for none
+     * @return The overlapping bookings in start order
+     * @throws SQLException if the venues could not be loaded
+     */
+    public synchronized List<Booking> findVenueConflicts(String venueName, LocalDateTime start, LocalDateTime end,
+                                                         int ignoreEventId) throws SQLException {
+        loadVenues();
+        return overlapping(byVenue.get(venueKey(venueName)), start, end, ignoreEventId);
+    }
+
+    /**
+     * Find events an attendee is registered for during a time range
+     *
+     * @param userId The attendee
+     * @param start Range start, inclusive
+     * @param end Range end, exclusive
+     * @param ignoreEventId Event to leave out, e.g. the one being registered for; 0 for none
+     * @return The overlapping bookings in start order
+     * @throws SQLException if the attendee's registrations could not be loaded
+     */
+    public List<Booking> findAttendeeConflicts(int userId, LocalDateTime start, LocalDateTime end,
+                                               int ignoreEventId) throws SQLException {
+        synchronized (this) {
+            IntervalTree<Booking> tree = byAttendee.get(userId);
+            if (tree != null) {
+                return overlapping(tree, start, end, ignoreEventId);
+            }
+            loadingAttendees.putIfAbsent(userId, new ArrayList<>());
+        }
+        // Read outside the lock so concurrent registrations are not serialized behind the query
+        List<Registration> registrations;
+        try {
+            registrations = registrationDAO.findByUser(userId);
+        } catch (SQLException | RuntimeException e) {
+            synchronized (this) {
+                loadingAttendees.remove(userId);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            if (!byAttendee.containsKey(userId)) {
+                installAttendee(userId, registrations);
+            }
+            return overlapping(byAttendee.get(userId), start, end, ignoreEventId);
+        }
+    }
+
+    /**
+     * Stop following event and registration changes
+     */
+    @Override
+    public void close() {
+        for (EventBus.Subscription subscription : subscriptions) {
+            subscription.unsubscribe();
+        }
+    }
+
+    private static List<Booking> overlapping(IntervalTree<Booking> tree, LocalDateTime start, LocalDateTime end,
+                                             int ignoreEventId) {
+        List<Booking> conflicts = new ArrayList<>();
+        if (tree == null || start == null || end == null || !end.isAfter(start)) {
+            return conflicts;
+        }
+        for (Booking booking : tree.findOverlapping(toKey(start), toKey(end))) {
+            if (booking.eventId != ignoreEventId) {
+                conflicts.add(booking);
+            }
+        }
+        return conflicts;
+    }
+
+    private void loadVenues() throws SQLException {
+        if (venuesLoaded) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        for (Event event : eventDAO.findAll()) {
+            putEvent(event);
+        }
+        venuesLoaded = true;
+        LOGGER.debug("Indexed {} events across {} venues in {} ms", bookings.size(), byVenue.size(),
+            (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void installAttendee(int userId, List<Registration> registrations) {
+        byAttendee.put(userId, new IntervalTree<>());
+        for (Registration registration : registrations) {
+            Event event = registration.getEvent();
+            if (!bookings.containsKey(event.getId())) {
+                // Registrations come with their event, so the venues need not be loaded for this
+                putEvent(event);
+            }
+            putRegistration(userId, event.getId(), registration.getStatus());
+        }
+        // Changes published while the registrations were being read
+        List<Registration> missed = loadingAttendees.remove(userId);
+        if (missed != null) {
+            for (Registration registration : missed) {
+                putRegistration(registration);
+            }
+        }
+    }
+
+    private synchronized void putEvent(Event event) {
+        Booking previous = bookings.remove(event.getId());
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (event.getEventDate() == null) {
+            return;
+        }
+        Booking booking = new Booking(event);
+        bookings.put(booking.eventId, booking);
+        if (booking.active) {
+            venueTree(booking.venueName).add(toKey(booking.start), toKey(booking.end), booking);
+            for (int userId : attendeesByEvent.getOrDefault(booking.eventId, Set.of())) {
+                byAttendee.get(userId).add(toKey(booking.start), toKey(booking.end), booking);
+            }
+        }
+    }
+
+    private synchronized void removeEvent(int eventId) {
+        Booking previous = bookings.remove(eventId);
+        if (previous != null) {
+            unindex(previous);
+        }
+        attendeesByEvent.remove(eventId);
+    }
+
+    private void unindex(Booking booking) {
+        if (!booking.active) {
+            return;
+        }
+        IntervalTree<Booking> venue = byVenue.get(venueKey(booking.venueName));
+        if (venue != null) {
+            venue.remove(toKey(booking.start), toKey(booking.end), booking);
+            if (venue.isEmpty()) {
+                byVenue.remove(venueKey(booking.venueName));
+            }
+        }
+        for (int userId : attendeesByEvent.getOrDefault(booking.eventId, Set.of())) {
+            byAttendee.get(userId).remove(toKey(booking.start), toKey(booking.end), booking);
+        }
+    }
+
+    private synchronized void putRegistration(Registration registration) {
+        if (registration.getAttendee() == null || registration.getEvent() == null) {
+            return;
+        }
+        int userId = registration.getAttendee().getId();
+        List<Registration> loading = loadingAttendees.get(userId);
+        if (loading != null && !byAttendee.containsKey(userId)) {
+            loading.add(registration);
+            return;
+        }
+        if (byAttendee.containsKey(userId) && !bookings.containsKey(registration.getEvent().getId())) {
+            putEvent(registration.getEvent());
+        }
+        putRegistration(userId, registration.getEvent().getId(), registration.getStatus());
+    }
+
+    private void putRegistration(int userId, int eventId, Status status) {
+        IntervalTree<Booking> tree = byAttendee.get(userId);
+        if (tree == null) {
+            // Not loaded yet; the registration is read when the attendee is first asked about
+            return;
+        }
+        Set<Integer> attendees = attendeesByEvent.computeIfAbsent(eventId, id -> new HashSet<>());
+        Booking booking = bookings.get(eventId);
+        boolean indexed = booking != null && booking.active;
+        if (status != null && ACTIVE_REGISTRATIONS.contains(status)) {
+            if (attendees.add(userId) && indexed) {
+                tree.add(toKey(booking.start), toKey(booking.end), booking);
+            }
+        } else if (attendees.remove(userId) && indexed) {
+            tree.remove(toKey(booking.start), toKey(booking.end), booking);
+        }
+        if (attendees.isEmpty()) {
+            attendeesByEvent.remove(eventId);
+        }
+    }
+
+    private IntervalTree<Booking> venueTree(String venueName) {
+        return byVenue.computeIfAbsent(venueKey(venueName), key -> new IntervalTree<>());
+    }
+
+    private static String venueKey(String venueName) {
+        return venueName == null ? "" : venueName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toKey(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
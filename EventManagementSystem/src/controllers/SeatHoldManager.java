@@ -0,0 +1,326 @@
+package controllers;
+
+import dao.EventDAO;
+import dao.SQLEventDAO;
+import dao.SQLSeatHoldDAO;
+import dao.SeatHoldDAO;
+import logging.LogManager;
+import logging.Logger;
+import metrics.DAOMetrics;
+import metrics.Operation;
+import models.Event;
+import models.Registration;
+import models.SeatHold;
+import models.User;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seats held for attendees while they fill in the registration dialog.
+ *
+ * Placing a hold takes one of the event's free seats for a limited time.
+ * Confirming turns the hold into a registration on that seat; releasing it,
+ * or letting it expire, gives the seat back to the waitlist or to the next
+ * attendee. Holds live in the seat_holds table, so every client counts the
+ * same seats as taken. This client's holds wait in a {@link DelayQueue}; an
+ * expirer thread wakes when the first one is due, gives the holds due just
+ * after it a moment to fall due too, then deletes the expired rows in batches
+ * and promotes the waitlist of each event affected once. It also sweeps periodically for holds left behind
+ * by clients that exited before their holds ran out. The shared instance
+ * starts its expirer; a standalone one must be started, and closed when done.
+ */
+public class SeatHoldManager implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(SeatHoldManager.class);
+
+    private static final int DEFAULT_TTL_SECONDS = 300;
+    private static final int EXPIRY_BATCH = 500;
+    // How often expired holds are swept up when none of this client's are due
+    private static final long SWEEP_INTERVAL_MS = 10_000;
+    // Allowance for this client's clock running ahead of the database's
+    private static final long EXPIRY_GRACE_MS = 250;
+    // Holds falling due within this long of the first are expired in the same pass
+    private static final long EXPIRY_WINDOW_MS = 1000;
+
+    private static SeatHoldManager instance;
+    private final SeatHoldDAO seatHoldDAO;
+    private final EventDAO eventDAO;
+    private final RegistrationController registrationController;
+    private final int ttlSeconds;
+    private final DelayQueue<Expiry> expiries = new DelayQueue<>();
+    private final AtomicLong placed = new AtomicLong();
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong expiryPasses = new AtomicLong();
+    private Thread expirer;
+
+    /**
+     * When one of this client's holds runs out
+     */
+    private static final class Expiry implements Delayed {
+        private final int holdId;
+        private final long dueNanos;
+
+        Expiry(SeatHold hold, int ttlSeconds) {
+            this.holdId = hold.getId();
+            this.dueNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)
+                + TimeUnit.MILLISECONDS.toNanos(EXPIRY_GRACE_MS);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((Expiry) other).dueNanos);
+        }
+    }
+
+    // Private constructor for singleton pattern
+    private SeatHoldManager() throws SQLException {
+        this(DAOMetrics.instrument(SeatHoldDAO.class, new SQLSeatHoldDAO()),
+            DAOMetrics.instrument(EventDAO.class, new SQLEventDAO()),
+            RegistrationController.getInstance(),
+            Integer.getInteger("ems.seathold.ttl.seconds", DEFAULT_TTL_SECONDS));
+    }
+
+    /**
+     * Create a manager over the given DAOs and controller instead of the shared ones
+     *
+     * @param seatHoldDAO The DAO holds are kept in
+     * @param eventDAO The DAO events are read from when their holds expire
+     * @param registrationController The controller holds are confirmed and waitlists promoted through
+     * @param ttlSeconds How long a seat is held
+     * @throws IllegalArgumentException if ttlSeconds is not positive
+     */
+    public SeatHoldManager(SeatHoldDAO seatHoldDAO, EventDAO eventDAO, RegistrationController registrationController,
+                           int ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Seat hold time must be positive");
+        }
+        this.seatHoldDAO = seatHoldDAO;
+        this.eventDAO = eventDAO;
+        this.registrationController = registrationController;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * Get the singleton instance of the SeatHoldManager
+     *
+     * @return The SeatHoldManager instance
+     * @throws SQLException if a database error occurs during initialization
+     */
+    public static synchronized SeatHoldManager getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new SeatHoldManager();
+            instance.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Start expiring holds; later calls have no effect
+     */
+    public synchronized void start() {
+        if (expirer != null) {
+            return;
+        }
+        expirer = new Thread(this::runExpirer, "seat-hold-expirer");
+        expirer.setDaemon(true);
+        expirer.start();
+    }
+
+    /**
+     * Stop expiring holds. Holds still placed run out in the database and are
+     * swept up by the next client that expires holds.
+     */
+    @Override
+    public synchronized void close() {
+        if (expirer != null) {
+            expirer.interrupt();
+            expirer = null;
+        }
+    }
+
+    /**
+     * Hold a seat for a user while they confirm their registration
+     *
+     * @param user The user
+     * @param event The event; its available slots are updated
+     * @return The hold, or null if the event has no free seat
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if user or event is null
+     * @throws IllegalStateException if registration for the event has closed or the user is already registered
+     */
+    public SeatHold hold(User user, Event event) throws SQLException {
+        return Operation.start("SeatHoldManager.hold").withUser(user).withEvent(event).call(() -> doHold(user, event));
+    }
+
+    private SeatHold doHold(User user, Event event) throws SQLException {
+        if (user == null || event == null) {
+            throw new IllegalArgumentException("User and event cannot be null");
+        }
+        if (!event.isOpenForRegistration()) {
+            throw new IllegalStateException("Event is not available for registration");
+        }
+        if (registrationController.isUserRegistered(event.getId(), user.getId())) {
+            throw new IllegalStateException("User is already registered for this event");
+        }
+
+        SeatHold hold = seatHoldDAO.placeHold(event, user.getId(), ttlSeconds);
+        if (hold != null) {
+            expiries.add(new Expiry(hold, ttlSeconds));
+            placed.incrementAndGet();
+        } else if (event.getAvailableSlots() > 0) {
+            // Refused because attendees are waiting for the free seats; give the seats to them
+            registrationController.promoteWaitlisted(event);
+        }
+        return hold;
+    }
+
+    /**
+     * Register the holder of a seat hold on the held seat. If the hold has
+     * expired the user takes a free seat or joins the waitlist instead.
+     *
+     * @param user The user holding the seat
+     * @param hold The hold
+     * @param allowScheduleConflict Whether to register even if the event overlaps another of the
+     *        user's registrations
+     * @return The created registration; check its status for whether it got a seat
+     * @throws SQLException if a database error occurs
+     * @throws IllegalArgumentException if the hold is not the user's
+     * @throws IllegalStateException if the registration is refused; the hold is kept until released or expired
+     */
+    public Registration confirm(User user, SeatHold hold, boolean allowScheduleConflict) throws SQLException {
+        return Operation.start("SeatHoldManager.confirm").withUser(user).withEvent(hold.getEventId())
+            .call(() -> doConfirm(user, hold, allowScheduleConflict));
+    }
+
+    private Registration doConfirm(User user, SeatHold hold, boolean allowScheduleConflict) throws SQLException {
+        if (user == null || user.getId() != hold.getUserId()) {
+            throw new IllegalArgumentException("The seat is held for another user");
+        }
+        Registration registration = registrationController.registerWithHold(user, hold.getEventId(),
+            allowScheduleConflict);
+        confirmed.incrementAndGet();
+        return registration;
+    }
+
+    /**
+     * Give a held seat back, e.g. when the user closes the registration dialog
+     *
+     * @param hold The hold
+     * @throws SQLException if a database error occurs
+     */
+    public void release(SeatHold hold) throws SQLException {
+        Operation.start("SeatHoldManager.release").withEvent(hold.getEventId()).run(() -> doRelease(hold));
+    }
+
+    private void doRelease(SeatHold hold) throws SQLException {
+        // Its Expiry stays queued; when due it finds nothing left to expire
+        if (seatHoldDAO.releaseHold(hold.getId())) {
+            released.incrementAndGet();
+            promote(hold.getEventId());
+        }
+    }
+
+    /**
+     * Delete every expired hold, from any client, and give their seats back
+     *
+     * @return The number of events whose seats were given back
+     * @throws SQLException if a database error occurs
+     */
+    public int expireHolds() throws SQLException {
+        return Operation.start("SeatHoldManager.expireHolds").call(() -> doExpireHolds());
+    }
+
+    private int doExpireHolds() throws SQLException {
+        Set<Integer> eventIds = new HashSet<>();
+        Set<Integer> batch;
+        do {
+            batch = seatHoldDAO.expireHolds(EXPIRY_BATCH);
+            eventIds.addAll(batch);
+        } while (!batch.isEmpty());
+
+        // One transaction per event, whatever the number of its holds that expired
+        for (int eventId : eventIds) {
+            promote(eventId);
+        }
+        expiryPasses.incrementAndGet();
+        return eventIds.size();
+    }
+
+    private void promote(int eventId) throws SQLException {
+        Event event = eventDAO.findById(eventId);
+        if (event != null) {
+            registrationController.promoteWaitlisted(event);
+        }
+    }
+
+    private void runExpirer() {
+        List<Expiry> due = new ArrayList<>();
+        while (true) {
+            try {
+                Expiry first = expiries.poll(SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    // Let the holds placed just after it fall due too, so a burst expires in a few passes
+                    Thread.sleep(EXPIRY_WINDOW_MS);
+                    expiries.drainTo(due);
+                    LOGGER.debug("{} seat holds due", due.size() + 1);
+                    due.clear();
+                }
+                expireHolds();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (SQLException | RuntimeException e) {
+                // Left for the next pass; until then the seats only stay taken a little longer
+                LOGGER.error("Failed to expire seat holds: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return How long a seat is held, in seconds
+     */
+    public int getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * @return The number of holds placed by this client since startup
+     */
+    public long getPlacedCount() {
+        return placed.get();
+    }
+
+    /**
+     * @return The number of holds confirmed by this client since startup
+     */
+    public long getConfirmedCount() {
+        return confirmed.get();
+    }
+
+    /**
+     * @return The number of holds released by this client since startup
+     */
+    public long getReleasedCount() {
+        return released.get();
+    }
+
+    /**
+     * @return The number of expiry passes since startup
+     */
+    public long getExpiryPassCount() {
+        return expiryPasses.get();
+    }
+}
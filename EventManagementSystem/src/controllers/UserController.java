@@ -4,8 +4,17 @@ import models.User;
 import models.User.UserRole;
 import dao.UserDAO;
 import dao.SQLUserDAO;
+import events.EventBus;
+import events.UserCreated;
+import events.UserDeleted;
+import events.UserUpdated;
+import metrics.DAOMetrics;
+import metrics.Operation;
 import utils.ValidationUtils;
 import utils.SecurityUtils;
+import utils.CredentialService;
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,6 +23,11 @@ import java.util.stream.Collectors;
  * Controller class for managing user-related operations
  */
 public class UserController {
+    // Security questions for accounts an admin creates, until the user sets their own
+    static final String DEFAULT_SECURITY_QUESTION1 = "What is your mother's maiden name?";
+    static final String DEFAULT_SECURITY_QUESTION2 = "What was your first pet's name?";
+    static final String DEFAULT_SECURITY_ANSWER = "default";
+
     private static UserController instance;
     private final UserDAO userDAO;
 
@@ -23,7 +37,7 @@ public class UserController {
      * @throws SQLException if a database error occurs during initialization
      */
     private UserController() throws SQLException {
-        this.userDAO = new SQLUserDAO();
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
 
     /**
@@ -46,7 +60,7 @@ public class UserController {
      * @throws SQLException if there is an error accessing the database
      */
     public List<User> getAllUsers() throws SQLException {
-        return userDAO.getAllUsers();
+        return Operation.start("UserController.getAllUsers").call(() -> userDAO.getAllUsers());
     }
 
     /**
@@ -58,6 +72,10 @@ public class UserController {
      * @throws IllegalArgumentException if userId is invalid
      */
     public User getUserById(int userId) throws SQLException {
+        return Operation.start("UserController.getUserById").call(() -> doGetUserById(userId));
+    }
+
+    private User doGetUserById(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
@@ -73,6 +91,10 @@ public class UserController {
      * @throws IllegalArgumentException if email is invalid
      */
     public User getUserByEmail(String email) throws SQLException {
+        return Operation.start("UserController.getUserByEmail").call(() -> doGetUserByEmail(email));
+    }
+
+    private User doGetUserByEmail(String email) throws SQLException {
         if (!ValidationUtils.isValidEmail(email)) {
             throw new IllegalArgumentException("Invalid email format");
         }
@@ -91,6 +113,10 @@ public class UserController {
      * @throws IllegalArgumentException if any input is invalid
      */
     public User createUser(String name, String email, String password, UserRole role) throws SQLException {
+        return Operation.start("UserController.createUser").call(() -> doCreateUser(name, email, password, role));
+    }
+
+    private User doCreateUser(String name, String email, String password, UserRole role) throws SQLException {
         // Validate input
         if (!ValidationUtils.isNotEmpty(name)) {
             throw new IllegalArgumentException("Name is required");
@@ -111,16 +137,41 @@ public class UserController {
         }
 
         // Create user with default security questions
-        return userDAO.createUser(
+        User user = userDAO.createUser(
             name,
             email,
-            password,
+            SecurityUtils.hashPassword(password),
             role,
-            "What is your mother's maiden name?",
-            "default",
-            "What was your first pet's name?",
-            "default"
+            DEFAULT_SECURITY_QUESTION1,
+            DEFAULT_SECURITY_ANSWER,
+            DEFAULT_SECURITY_QUESTION2,
+            DEFAULT_SECURITY_ANSWER
         );
+        EventBus.getInstance().publish(new UserCreated(user));
+        return user;
+    }
+
+    /**
+     * Import users from CSV in batches; see {@link UserImporter} for the format
+     * 
+     * @param input the CSV to read; not closed
+     * @param defaultRole the role for rows that do not name one
+     * @param progress progress callback and cancellation flag
+     * @return the number of users imported and the rows that were not
+     * @throws IOException if the input cannot be read
+     * @throws IllegalArgumentException if the file is empty or lacks a required column
+     */
+    public UserImporter.Report importUsers(Reader input, UserRole defaultRole, UserImporter.Progress progress)
+            throws IOException {
+        return Operation.start("UserController.importUsers").call(() -> doImportUsers(input, defaultRole, progress));
+    }
+
+    private UserImporter.Report doImportUsers(Reader input, UserRole defaultRole, UserImporter.Progress progress)
+            throws IOException {
+        if (defaultRole == null) {
+            throw new IllegalArgumentException("Role is required");
+        }
+        return new UserImporter(userDAO, CredentialService.getInstance()).importUsers(input, defaultRole, progress);
     }
 
     /**
@@ -131,6 +182,10 @@ public class UserController {
      * @throws IllegalArgumentException if user is null or invalid
      */
     public void updateUser(User user) throws SQLException {
+        Operation.start("UserController.updateUser").run(() -> doUpdateUser(user));
+    }
+
+    private void doUpdateUser(User user) throws SQLException {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
         }
@@ -151,6 +206,7 @@ public class UserController {
         }
 
         userDAO.update(user);
+        EventBus.getInstance().publish(new UserUpdated(user));
     }
 
     /**
@@ -161,6 +217,10 @@ public class UserController {
      * @throws IllegalArgumentException if userId is invalid
      */
     public void deleteUser(int userId) throws SQLException {
+        Operation.start("UserController.deleteUser").run(() -> doDeleteUser(userId));
+    }
+
+    private void doDeleteUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
@@ -168,6 +228,7 @@ public class UserController {
             throw new IllegalArgumentException("User not found");
         }
         userDAO.deleteUser(userId);
+        EventBus.getInstance().publish(new UserDeleted(userId));
     }
 
     /**
@@ -178,6 +239,10 @@ public class UserController {
      * @throws IllegalArgumentException if userId is invalid or user not found
      */
     public void activateUser(int userId) throws SQLException {
+        Operation.start("UserController.activateUser").run(() -> doActivateUser(userId));
+    }
+
+    private void doActivateUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
@@ -189,6 +254,8 @@ public class UserController {
             throw new IllegalStateException("User is already active");
         }
         userDAO.activateUser(userId);
+        user.setActive(true);
+        EventBus.getInstance().publish(new UserUpdated(user));
     }
 
     /**
@@ -199,6 +266,10 @@ public class UserController {
      * @throws IllegalArgumentException if userId is invalid or user not found
      */
     public void deactivateUser(int userId) throws SQLException {
+        Operation.start("UserController.deactivateUser").run(() -> doDeactivateUser(userId));
+    }
+
+    private void doDeactivateUser(int userId) throws SQLException {
         if (userId <= 0) {
             throw new IllegalArgumentException("Invalid user ID");
         }
@@ -210,6 +281,8 @@ public class UserController {
             throw new IllegalStateException("User is already inactive");
         }
         userDAO.deactivateUser(userId);
+        user.setActive(false);
+        EventBus.getInstance().publish(new UserUpdated(user));
     }
 
     /**
@@ -220,6 +293,10 @@ public class UserController {
      * @throws IllegalArgumentException if the role is null.
      */
     public List<User> getUsersByRole(UserRole role) throws SQLException {
+        return Operation.start("UserController.getUsersByRole").call(() -> doGetUsersByRole(role));
+    }
+
+    private List<User> doGetUsersByRole(UserRole role) throws SQLException {
         if (role == null) {
             throw new IllegalArgumentException("User role cannot be null.");
         }
@@ -236,6 +313,6 @@ public class UserController {
      * @throws SQLException if a database error occurs
      */
     public int getTotalUsers() throws SQLException {
-        return userDAO.getAllUsers().size();
+        return Operation.start("UserController.getTotalUsers").call(() -> userDAO.getAllUsers().size());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,348 @@
+package controllers;
+
+import dao.UserDAO;
+import events.EventBus;
+import events.UserCreated;
+import export.CsvRowWriter;
+import export.RowWriter;
+import logging.LogManager;
+import logging.Logger;
+import models.User;
+import models.User.UserRole;
+import utils.CredentialService;
+import utils.CsvReader;
+import utils.ValidationUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users from a CSV file a chunk of rows at a time.
+ *
+ * Only one chunk is held in memory. Its rows are validated in parallel,
+ * checked against the emails earlier in the file and, with one query per
+ * chunk, against existing users. The valid rows' passwords are then hashed
+ * across all cores and the rows inserted as a single JDBC batch in one
+ * transaction. Rows that cannot be imported are reported with their line
+ * number and the reason.
+ *
+ * The file needs a header row with name, email and password columns; role
+ * and phone columns are optional. Role accepts either the role name, e.g.
+ * EVENT_ORGANIZER, or its display name.
+ */
+public class UserImporter {
+    private static final Logger LOGGER = LogManager.getLogger(UserImporter.class);
+    public static final int CHUNK_SIZE = 2000;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_EMAIL_LENGTH = 100;
+
+    private final UserDAO userDAO;
+    private final CredentialService credentialService;
+
+    /**
+     * Receives progress from a running import and lets its caller stop it
+     */
+    public interface Progress {
+        /**
+         * Called after each chunk, on the importing thread
+         *
+         * @param rowsRead Data rows read so far
+         * @param imported Users created so far
+         */
+        void onProgress(int rowsRead, int imported);
+
+        /**
+         * Polled between chunks; chunks already imported are kept
+         *
+         * @return true if the import should stop
+         */
+        boolean isCancelled();
+    }
+
+    /**
+     * A row that was not imported
+     */
+    public static final class RowError {
+        private final int line;
+        private final String email;
+        private final String message;
+
+        private RowError(int line, String email, String message) {
+            this.line = line;
+            this.email = email;
+            this.message = message;
+        }
+
+        public int getLine() { return line; }
+        public String getEmail() { return email; }
+        public String getMessage() { return message; }
+    }
+
+    /**
+     * Outcome of an import
+     */
+    public static final class Report {
+        private int rowsRead;
+        private int imported;
+        private boolean cancelled;
+        private long elapsedMillis;
+        private final List<RowError> errors = new ArrayList<>();
+
+        public int getRowsRead() { return rowsRead; }
+        public int getImported() { return imported; }
+        public boolean isCancelled() { return cancelled; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        /**
+         * @return The rows that were not imported, in file order
+         */
+        public List<RowError> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Write the rows that were not imported as CSV
+         *
+         * @param writer Destination; not closed
+         * @throws IOException if writing fails
+         */
+        public void writeErrors(Writer writer) throws IOException {
+            RowWriter out = new CsvRowWriter(writer);
+            out.start("Import errors", new String[] {"Line", "Email", "Error"});
+            for (RowError error : errors) {
+                out.writeRow(new Object[] {error.line, error.email, error.message});
+            }
+            out.finish();
+        }
+    }
+
+    /**
+     * A parsed row
+     */
+    private static final class Candidate {
+        private final int line;
+        private String name;
+        private String email;
+        private String password;
+        private String phone;
+        private UserRole role;
+        private String error;
+
+        Candidate(int line) {
+            this.line = line;
+        }
+
+        String key() {
+            return email.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Create an importer
+     *
+     * @param userDAO The DAO to check emails against and insert into
+     * @param credentialService Hashes the imported passwords
+     */
+    public UserImporter(UserDAO userDAO, CredentialService credentialService) {
+        this.userDAO = userDAO;
+        this.credentialService = credentialService;
+    }
+
+    /**
+     * Import users from CSV
+     *
+     * @param input The CSV; not closed
+     * @param defaultRole Role for rows without one
+     * @param progress Progress callback and cancellation flag
+     * @return What was imported and which rows were not
+     * @throws IOException if the input cannot be read
+     * @throws IllegalArgumentException if the file is empty or lacks a required column
+     */
+    public Report importUsers(Reader input, UserRole defaultRole, Progress progress) throws IOException {
+        long start = System.nanoTime();
+        CsvReader csv = new CsvReader(input);
+        String[] header = csv.readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.putIfAbsent(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : new String[] {"name", "email", "password"}) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+
+        Report report = new Report();
+        // First line of every email seen so far, to report duplicates within the file
+        Map<String, Integer> firstLines = new HashMap<>();
+        List<String[]> rows = new ArrayList<>(CHUNK_SIZE);
+        List<Integer> lines = new ArrayList<>(CHUNK_SIZE);
+        String[] row;
+        while ((row = csv.readRow()) != null) {
+            if (row.length == 1 && row[0].trim().isEmpty()) {
+                continue;
+            }
+            rows.add(row);
+            lines.add(csv.getLineNumber());
+            if (rows.size() == CHUNK_SIZE) {
+                importChunk(rows, lines, columns, defaultRole, firstLines, report);
+                rows.clear();
+                lines.clear();
+                progress.onProgress(report.rowsRead, report.imported);
+                if (progress.isCancelled()) {
+                    report.cancelled = true;
+                    break;
+                }
+            }
+        }
+        if (!report.cancelled && !rows.isEmpty()) {
+            importChunk(rows, lines, columns, defaultRole, firstLines, report);
+            progress.onProgress(report.rowsRead, report.imported);
+        }
+        report.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        LOGGER.info("Imported {} of {} users in {} ms", report.imported, report.rowsRead, report.elapsedMillis);
+        if (report.cancelled) {
+            LOGGER.info("User import cancelled after {} rows", report.rowsRead);
+        }
+        return report;
+    }
+
+    private void importChunk(List<String[]> rows, List<Integer> lines, Map<String, Integer> columns,
+                             UserRole defaultRole, Map<String, Integer> firstLines, Report report) {
+        report.rowsRead += rows.size();
+        List<Integer> indexes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            indexes.add(i);
+        }
+        List<Candidate> candidates = indexes.parallelStream()
+            .map(i -> parse(rows.get(i), lines.get(i), columns, defaultRole))
+            .collect(Collectors.toList());
+
+        List<Candidate> valid = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (candidate.error == null) {
+                Integer firstLine = firstLines.putIfAbsent(candidate.key(), candidate.line);
+                if (firstLine != null) {
+                    candidate.error = "Duplicate email, first on line " + firstLine;
+                } else {
+                    valid.add(candidate);
+                }
+            }
+        }
+
+        try {
+            Set<String> existing = userDAO.findExistingEmails(
+                valid.stream().map(candidate -> candidate.email).collect(Collectors.toList()));
+            if (!existing.isEmpty()) {
+                for (Candidate candidate : valid) {
+                    if (existing.contains(candidate.key())) {
+                        candidate.error = "Email already registered";
+                    }
+                }
+                valid.removeIf(candidate -> candidate.error != null);
+            }
+
+            List<String> hashes = credentialService.hashAll(
+                valid.stream().map(candidate -> candidate.password).collect(Collectors.toList()),
+                CredentialService.MIN_COST);
+            List<User> users = new ArrayList<>(valid.size());
+            for (int i = 0; i < valid.size(); i++) {
+                Candidate candidate = valid.get(i);
+                User user = new User(candidate.name, candidate.email, hashes.get(i), candidate.role);
+                user.setPhone(candidate.phone);
+                user.setSecurityQuestion1(UserController.DEFAULT_SECURITY_QUESTION1);
+                user.setSecurityAnswer1(UserController.DEFAULT_SECURITY_ANSWER);
+                user.setSecurityQuestion2(UserController.DEFAULT_SECURITY_QUESTION2);
+                user.setSecurityAnswer2(UserController.DEFAULT_SECURITY_ANSWER);
+                users.add(user);
+            }
+            userDAO.createUsers(users);
+            report.imported += users.size();
+            EventBus bus = EventBus.getInstance();
+            for (User user : users) {
+                bus.publish(new UserCreated(user));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Importing the chunk starting on line {} failed: {}", lines.get(0), e.getMessage());
+            for (Candidate candidate : valid) {
+                if (candidate.error == null) {
+                    candidate.error = "Not imported: " + e.getMessage();
+                }
+            }
+        }
+
+        for (Candidate candidate : candidates) {
+            if (candidate.error != null) {
+                report.errors.add(new RowError(candidate.line, candidate.email, candidate.error));
+            }
+        }
+    }
+
+    private static Candidate parse(String[] row, int line, Map<String, Integer> columns, UserRole defaultRole) {
+        Candidate candidate = new Candidate(line);
+        candidate.name = field(row, columns, "name");
+        candidate.email = field(row, columns, "email");
+        candidate.password = rawField(row, columns, "password");
+        candidate.phone = field(row, columns, "phone");
+        String role = field(row, columns, "role");
+
+        if (!ValidationUtils.isNotEmpty(candidate.name)) {
+            candidate.error = "Name is required";
+        } else if (candidate.name.length() > MAX_NAME_LENGTH) {
+            candidate.error = "Name is longer than " + MAX_NAME_LENGTH + " characters";
+        } else if (!ValidationUtils.isValidEmail(candidate.email)) {
+            candidate.error = "Invalid email format";
+        } else if (candidate.email.length() > MAX_EMAIL_LENGTH) {
+            candidate.error = "Email is longer than " + MAX_EMAIL_LENGTH + " characters";
+        } else if (!ValidationUtils.isValidPassword(candidate.password)) {
+            candidate.error = "Password must be at least 8 characters with a letter and a digit";
+        } else if (!candidate.phone.isEmpty() && !ValidationUtils.isValidPhone(candidate.phone)) {
+            candidate.error = "Invalid phone number";
+        } else if (role.isEmpty()) {
+            candidate.role = defaultRole;
+        } else {
+            candidate.role = parseRole(role);
+            if (candidate.role == null) {
+                candidate.error = "Unknown role: " + role;
+            }
+        }
+        if (candidate.phone.isEmpty()) {
+            candidate.phone = null;
+        }
+        return candidate;
+    }
+
+    private static UserRole parseRole(String text) {
+        try {
+            return UserRole.valueOf(text.toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            try {
+                return UserRole.fromString(text);
+            } catch (IllegalArgumentException notDisplayName) {
+                return null;
+            }
+        }
+    }
+
+    private static String field(String[] row, Map<String, Integer> columns, String column) {
+        return rawField(row, columns, column).trim();
+    }
+
+    private static String rawField(String[] row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < row.length ? row[index] : "";
+    }
+}
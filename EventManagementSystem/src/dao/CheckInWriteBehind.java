@@ -0,0 +1,288 @@
+package dao;
+
+import logging.LogManager;
+import logging.Logger;
+import metrics.DAOMetrics;
+import models.Registration.Status;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for door check-ins.
+ *
+ * A check-in is appended to a local journal and queued in memory; a
+ * background thread writes the queue to the database in batches. The
+ * journal holds every check-in not yet written, so check-ins made while the
+ * database is unreachable, or just before the client exits or crashes, are
+ * replayed and written on the next start. Writes only change registrations
+ * that are still REGISTERED, so replaying a check-in twice is harmless.
+ */
+public class CheckInWriteBehind {
+    private static final Logger LOGGER = LogManager.getLogger(CheckInWriteBehind.class);
+
+    private static final long FLUSH_INTERVAL_MS = 1000;
+    private static final int FLUSH_THRESHOLD = 200;
+
+    private static CheckInWriteBehind instance;
+    private final RegistrationDAO registrationDAO;
+    private final Path journalPath;
+    // Guards pending and the journal, which always hold the same check-ins
+    private final Object journalLock = new Object();
+    private final Map<Integer, Status> pending = new LinkedHashMap<>();
+    private FileChannel journal;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    // Private constructor for singleton pattern
+    private CheckInWriteBehind() throws SQLException {
+        this(DAOMetrics.instrument(RegistrationDAO.class, new SQLEventRegistrationDAO()),
+            Paths.get(System.getProperty("ems.checkin.journal", "data/checkin-journal.log")));
+    }
+
+    /**
+     * Create a buffer over the given DAO and journal instead of the shared ones
+     *
+     * @param registrationDAO The DAO check-ins are written to
+     * @param journalPath The journal file; check-ins left in it are replayed
+     */
+    public CheckInWriteBehind(RegistrationDAO registrationDAO, Path journalPath) {
+        this.registrationDAO = registrationDAO;
+        this.journalPath = journalPath;
+        replayJournal();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "check-in-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, 0, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushQuietly, "check-in-shutdown-flush"));
+    }
+
+    /**
+     * Get the singleton instance of the CheckInWriteBehind buffer
+     *
+     * @return The CheckInWriteBehind instance
+     * @throws SQLException if a database error occurs during initialization
+     */
+    public static synchronized CheckInWriteBehind getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new CheckInWriteBehind();
+        }
+        return instance;
+    }
+
+    /**
+     * Record that a registration attended or did not show up. The change is
+     * journaled before this returns and written to the database shortly after.
+     *
+     * @param registrationId The ID of the registration
+     * @param status ATTENDED or NO_SHOW
+     * @throws IllegalArgumentException if status is neither
+     */
+    public void record(int registrationId, Status status) {
+        if (status != Status.ATTENDED && status != Status.NO_SHOW) {
+            throw new IllegalArgumentException("Only ATTENDED or NO_SHOW can be recorded at the door");
+        }
+        int queued;
+        synchronized (journalLock) {
+            append(registrationId, status);
+            pending.put(registrationId, status);
+            queued = pending.size();
+        }
+        recorded.incrementAndGet();
+        if (queued >= FLUSH_THRESHOLD && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * Get a check-in that has not been written to the database yet
+     *
+     * @param registrationId The ID of the registration
+     * @return The recorded status, or null if nothing is waiting for the registration
+     */
+    public Status getPendingStatus(int registrationId) {
+        synchronized (journalLock) {
+            return pending.get(registrationId);
+        }
+    }
+
+    /**
+     * Write all pending check-ins to the database in one batch, then drop
+     * them from the journal
+     *
+     * @return The number of check-ins written
+     * @throws SQLException if a database error occurs; the check-ins stay queued and journaled
+     */
+    public synchronized int flush() throws SQLException {
+        Map<Integer, Status> batch;
+        synchronized (journalLock) {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            batch = new LinkedHashMap<>(pending);
+            forceJournal();
+        }
+
+        // Written outside the journal lock so check-ins are not held up by the database
+        int changed = registrationDAO.updateAttendance(batch);
+
+        synchronized (journalLock) {
+            // Keep check-ins recorded again while the batch was being written
+            pending.entrySet().removeIf(entry -> entry.getValue() == batch.get(entry.getKey()));
+            compactJournal();
+        }
+        written.addAndGet(batch.size());
+        batches.incrementAndGet();
+        LOGGER.debug("Wrote {} check-ins, {} changed a registration", batch.size(), changed);
+        return batch.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to write check-ins, {} kept in the journal: {}", getPendingCount(), e.getMessage());
+        }
+    }
+
+    private void replayJournal() {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(" ");
+                try {
+                    pending.put(Integer.parseInt(fields[0]), Status.valueOf(fields[1]));
+                } catch (RuntimeException e) {
+                    // The last line may be cut short if the client died while writing it
+                    LOGGER.warn("Skipping unreadable check-in journal line: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not read check-in journal {}: {}", journalPath, e.getMessage());
+        }
+        if (!pending.isEmpty()) {
+            LOGGER.info("Replaying {} check-ins from {}", pending.size(), journalPath);
+        }
+    }
+
+    private void append(int registrationId, Status status) {
+        try {
+            if (journal == null) {
+                Path parent = journalPath.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                journal = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            // One write per check-in, so it reaches the OS before the scan is confirmed
+            ByteBuffer line = ByteBuffer.wrap((registrationId + " " + status.name() + "\n")
+                .getBytes(StandardCharsets.US_ASCII));
+            while (line.hasRemaining()) {
+                journal.write(line);
+            }
+        } catch (IOException e) {
+            // The check-in is still queued; it is only at risk if the client exits before the next flush
+            LOGGER.error("Could not journal check-in {}: {}", registrationId, e.getMessage());
+        }
+    }
+
+    private void forceJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.force(false);
+        } catch (IOException e) {
+            LOGGER.warn("Could not sync check-in journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the journal with one holding only the check-ins still pending
+     */
+    private void compactJournal() {
+        try {
+            if (journal != null) {
+                journal.close();
+                journal = null;
+            }
+            if (pending.isEmpty()) {
+                Files.deleteIfExists(journalPath);
+                return;
+            }
+            StringBuilder lines = new StringBuilder();
+            pending.forEach((registrationId, status) ->
+                lines.append(registrationId).append(' ').append(status.name()).append('\n'));
+            Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+            Files.write(temp, lines.toString().getBytes(StandardCharsets.US_ASCII), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            try {
+                Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The old journal still holds everything pending; replaying the extra lines is harmless
+            LOGGER.warn("Could not compact check-in journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return The number of check-ins recorded since startup
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * @return The number of check-ins written since startup
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * @return The number of batches written since startup
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * @return The number of check-ins waiting to be written
+     */
+    public int getPendingCount() {
+        synchronized (journalLock) {
+            return pending.size();
+        }
+    }
+}
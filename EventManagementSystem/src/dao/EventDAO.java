@@ -3,7 +3,10 @@ package dao;
 import models.Event;
 import models.Event.EventStatus;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data Access Object interface for Event model
@@ -61,6 +64,18 @@ public interface EventDAO {
      */
     List<Event> findPast() throws SQLException;
     
+    /**
+     * Find events taking place in a date range, for calendar views. The
+     * events come without their image, documents and eligibility criteria;
+     * load an event by ID to show those.
+     * 
+     * @param start Start of the range, inclusive
+     * @param end End of the range, exclusive
+     * @return A list of events in the range, ordered by date
+     * @throws SQLException if a database error occurs
+     */
+    List<Event> findBetween(LocalDateTime start, LocalDateTime end) throws SQLException;
+    
     /**
      * Find events by category
      * 
@@ -98,7 +113,8 @@ public interface EventDAO {
     Event save(Event event) throws SQLException;
     
     /**
-     * Update an existing event
+     * Update an existing event. Available slots are not written; they follow
+     * the seats held, see {@link RegistrationDAO#promoteWaitlisted}.
      * 
      * @param event The event to update
      * @return The updated event
@@ -106,6 +122,19 @@ public interface EventDAO {
      */
     Event update(Event event) throws SQLException;
     
+    /**
+     * Move several events from one status to another with a single UPDATE in
+     * one transaction. Events that no longer have the expected status, e.g.
+     * because another administrator got to them first, are left alone.
+     *
+     * @param eventIds IDs of the events to update
+     * @param from The status the events must still have
+     * @param to The new status
+     * @return IDs of the events that were updated
+     * @throws SQLException if a database error occurs
+     */
+    Set<Integer> updateStatuses(Collection<Integer> eventIds, EventStatus from, EventStatus to) throws SQLException;
+
     /**
      * Delete an event by its ID
      * 
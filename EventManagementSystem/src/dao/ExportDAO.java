@@ -0,0 +1,52 @@
+package dao;
+
+import export.ExportProgress;
+import export.RowWriter;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Data Access Object interface for streaming bulk exports.
+ *
+ * Rows go straight from the database to the {@link RowWriter} as they are
+ * read, so an export needs the same memory however many rows it has.
+ */
+public interface ExportDAO {
+    /**
+     * Export the registrations for every event of an organizer
+     *
+     * @param organizerId The ID of the organizer
+     * @param out Destination for the rows
+     * @param progress Progress callback and cancellation flag
+     * @return Number of rows written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if writing fails
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    long exportParticipants(int organizerId, RowWriter out, ExportProgress progress) throws SQLException, IOException;
+
+    /**
+     * Export every event, without its images and documents
+     *
+     * @param out Destination for the rows
+     * @param progress Progress callback and cancellation flag
+     * @return Number of rows written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if writing fails
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    long exportEvents(RowWriter out, ExportProgress progress) throws SQLException, IOException;
+
+    /**
+     * Export every registration with its event and attendee
+     *
+     * @param out Destination for the rows
+     * @param progress Progress callback and cancellation flag
+     * @return Number of rows written
+     * @throws SQLException if a database error occurs
+     * @throws IOException if writing fails
+     * @throws java.util.concurrent.CancellationException if the export was cancelled
+     */
+    long exportRegistrations(RowWriter out, ExportProgress progress) throws SQLException, IOException;
+}
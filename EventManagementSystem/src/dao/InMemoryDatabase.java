@@ -0,0 +1,133 @@
+package dao;
+
+import models.Event;
+import models.Registration;
+import models.SeatHold;
+import models.User;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory stand-in for the MySQL schema, shared by the InMemory*DAO classes.
+ *
+ * Rows are stored as model objects and every read and write copies them, so
+ * callers observe the same read-modify-write behaviour (and races) as with the
+ * SQL DAOs. An optional simulated round-trip latency is applied to each call.
+ */
+public class InMemoryDatabase {
+
+    final Map<Integer, User> users = new ConcurrentHashMap<>();
+    final Map<Integer, Event> events = new ConcurrentHashMap<>();
+    final Map<Integer, Registration> registrations = new ConcurrentHashMap<>();
+    /** Mirrors the unique_registration (event_id, user_id) key */
+    final Map<Long, Integer> registrationKeys = new ConcurrentHashMap<>();
+    final Map<Integer, SeatHold> seatHolds = new ConcurrentHashMap<>();
+    /** Mirrors the unique_seat_hold (event_id, user_id) key */
+    final Map<Long, Integer> seatHoldKeys = new ConcurrentHashMap<>();
+
+    /** Stand-ins for SELECT ... FOR UPDATE on an event row */
+    private final Map<Integer, Object> eventLocks = new ConcurrentHashMap<>();
+
+    final AtomicInteger userIds = new AtomicInteger();
+    final AtomicInteger eventIds = new AtomicInteger();
+    final AtomicInteger registrationIds = new AtomicInteger();
+    final AtomicInteger seatHoldIds = new AtomicInteger();
+
+    private volatile long latencyNanos;
+
+    /**
+     * @param latencyMicros Simulated database round trip applied to every DAO call
+     */
+    public void setLatencyMicros(long latencyMicros) {
+        this.latencyNanos = latencyMicros * 1000;
+    }
+
+    void roundTrip() {
+        long nanos = latencyNanos;
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+
+    Object eventLock(int eventId) {
+        return eventLocks.computeIfAbsent(eventId, id -> new Object());
+    }
+
+    static long registrationKey(int eventId, int userId) {
+        return ((long) eventId << 32) | (userId & 0xffffffffL);
+    }
+
+    static User copy(User source) {
+        if (source == null) {
+            return null;
+        }
+        User user = new User(source.getId(), source.getName(), source.getEmail(),
+            source.getPassword(), source.getRole(), source.isActive());
+        user.setPhone(source.getPhone());
+        user.setRegistrationDate(source.getRegistrationDate());
+        user.setCreatedAt(source.getCreatedAt());
+        user.setLastLoginAt(source.getLastLoginAt());
+        user.setSecurityQuestion1(source.getSecurityQuestion1());
+        user.setSecurityAnswer1(source.getSecurityAnswer1());
+        user.setSecurityQuestion2(source.getSecurityQuestion2());
+        user.setSecurityAnswer2(source.getSecurityAnswer2());
+        return user;
+    }
+
+    static Event copy(Event source) {
+        if (source == null) {
+            return null;
+        }
+        Event event = new Event();
+        event.setId(source.getId());
+        event.setTitle(source.getTitle());
+        event.setDescription(source.getDescription());
+        event.setCategory(source.getCategory());
+        event.setVenueName(source.getVenueName());
+        event.setOrganizer(copy(source.getOrganizer()));
+        event.setEventDate(source.getEventDate());
+        event.setRegistrationDeadline(source.getRegistrationDeadline());
+        event.setTotalSlots(source.getTotalSlots());
+        event.setAvailableSlots(source.getAvailableSlots());
+        event.setEligibilityCriteria(source.getEligibilityCriteria());
+        event.setContactInfo(source.getContactInfo());
+        event.setStatus(source.getStatus());
+        event.setMainImage(source.getMainImage());
+        event.setMainImageType(source.getMainImageType());
+        event.setAdditionalDocuments(source.getAdditionalDocuments());
+        event.setAdditionalDocumentsType(source.getAdditionalDocumentsType());
+        event.setCreatedAt(source.getCreatedAt());
+        event.setUpdatedAt(source.getUpdatedAt());
+        event.setRegistrations(new ArrayList<>());
+        return event;
+    }
+
+    /**
+     * Copy a registration row, re-reading its event and attendee the way
+     * SQLEventRegistrationDAO hydrates them
+     */
+    Registration copy(Registration source) {
+        if (source == null) {
+            return null;
+        }
+        Registration registration = new Registration();
+        registration.setId(source.getId());
+        registration.setStatus(source.getStatus());
+        registration.setRegistrationDate(source.getRegistrationDate());
+        registration.setCheckedIn(source.isCheckedIn());
+        registration.setEvent(copy(events.get(source.getEvent().getId())));
+        registration.setAttendee(copy(users.get(source.getAttendee().getId())));
+        return registration;
+    }
+
+    static SeatHold copy(SeatHold source) {
+        if (source == null) {
+            return null;
+        }
+        return new SeatHold(source.getId(), source.getEventId(), source.getUserId(), source.getExpiresAt());
+    }
+}
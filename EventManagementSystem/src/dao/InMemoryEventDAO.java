@@ -0,0 +1,169 @@
+package dao;
+
+import models.Event;
+import models.Event.EventStatus;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * EventDAO backed by an {@link InMemoryDatabase}, for simulations and benchmarks
+ */
+public class InMemoryEventDAO implements EventDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryEventDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    private List<Event> select(Predicate<Event> filter) {
+        db.roundTrip();
+        List<Event> events = new ArrayList<>();
+        for (Event event : db.events.values()) {
+            if (filter.test(event)) {
+                events.add(InMemoryDatabase.copy(event));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public Event findById(int id) throws SQLException {
+        db.roundTrip();
+        return InMemoryDatabase.copy(db.events.get(id));
+    }
+
+    @Override
+    public List<Event> findAll() throws SQLException {
+        return select(event -> true);
+    }
+
+    @Override
+    public List<Event> findByOrganizer(int organizerId) throws SQLException {
+        return select(event -> event.getOrganizer() != null && event.getOrganizer().getId() == organizerId);
+    }
+
+    @Override
+    public List<Event> findByStatus(EventStatus status) throws SQLException {
+        return select(event -> event.getStatus() == status);
+    }
+
+    @Override
+    public List<Event> findUpcoming() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        return select(event -> event.getEventDate().isAfter(now) && event.getStatus() == EventStatus.APPROVED);
+    }
+
+    @Override
+    public List<Event> findPast() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        return select(event -> event.getEventDate().isBefore(now));
+    }
+
+    @Override
+    public List<Event> findBetween(LocalDateTime start, LocalDateTime end) throws SQLException {
+        List<Event> events = select(event -> event.getEventDate() != null
+            && !event.getEventDate().isBefore(start) && event.getEventDate().isBefore(end));
+        events.sort(Comparator.comparing(Event::getEventDate));
+        for (Event event : events) {
+            // Same columns as the SQL calendar query
+            event.setMainImage(null);
+            event.setAdditionalDocuments(null);
+            event.setEligibilityCriteria(null);
+        }
+        return events;
+    }
+
+    @Override
+    public List<Event> findByCategory(String category) throws SQLException {
+        return select(event -> category.equals(event.getCategory()));
+    }
+
+    @Override
+    public List<Event> findByVenue(String venueName) throws SQLException {
+        return select(event -> venueName.equals(event.getVenueName()));
+    }
+
+    @Override
+    public List<Event> search(String query) throws SQLException {
+        String needle = query.toLowerCase();
+        return select(event -> (event.getTitle() != null && event.getTitle().toLowerCase().contains(needle))
+            || (event.getDescription() != null && event.getDescription().toLowerCase().contains(needle)));
+    }
+
+    @Override
+    public Event save(Event event) throws SQLException {
+        db.roundTrip();
+        event.setId(db.eventIds.incrementAndGet());
+        db.events.put(event.getId(), InMemoryDatabase.copy(event));
+        return event;
+    }
+
+    @Override
+    public Event update(Event event) throws SQLException {
+        db.roundTrip();
+        // Like the SQL update, leaves available_slots alone
+        Event updated = db.events.computeIfPresent(event.getId(), (id, existing) -> {
+            Event row = InMemoryDatabase.copy(event);
+            row.setAvailableSlots(existing.getAvailableSlots());
+            return row;
+        });
+        if (updated == null) {
+            throw new SQLException("Updating event failed, no rows affected.");
+        }
+        return event;
+    }
+
+    @Override
+    public Set<Integer> updateStatuses(Collection<Integer> eventIds, EventStatus from, EventStatus to) throws SQLException {
+        db.roundTrip();
+        Set<Integer> updated = new HashSet<>();
+        for (int id : eventIds) {
+            db.events.computeIfPresent(id, (key, event) -> {
+                if (event.getStatus() != from) {
+                    return event;
+                }
+                Event row = InMemoryDatabase.copy(event);
+                row.setStatus(to);
+                updated.add(id);
+                return row;
+            });
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean delete(int id) throws SQLException {
+        db.roundTrip();
+        return db.events.remove(id) != null;
+    }
+
+    @Override
+    public List<Event> findFeatured() throws SQLException {
+        return select(event -> event.getStatus() == EventStatus.APPROVED).stream()
+            .sorted(Comparator.comparing(Event::getEventDate))
+            .limit(5)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> findToday() throws SQLException {
+        LocalDate today = LocalDate.now();
+        return select(event -> event.getEventDate().toLocalDate().equals(today));
+    }
+
+    @Override
+    public int getTotalRegistrations() throws SQLException {
+        db.roundTrip();
+        return db.registrations.size();
+    }
+}
@@ -0,0 +1,284 @@
+package dao;
+
+import models.Event;
+import models.Registration;
+import models.Registration.Status;
+import models.User;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * RegistrationDAO backed by an {@link InMemoryDatabase}, for simulations and benchmarks
+ */
+public class InMemoryRegistrationDAO implements RegistrationDAO {
+    private static final Comparator<Registration> NEWEST_FIRST =
+        Comparator.comparing(Registration::getRegistrationDate).thenComparing(Registration::getId).reversed();
+    private static final Comparator<Registration> OLDEST_FIRST =
+        Comparator.comparing(Registration::getRegistrationDate).thenComparing(Registration::getId);
+
+    private final InMemoryDatabase db;
+
+    public InMemoryRegistrationDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    private List<Registration> select(Predicate<Registration> filter) {
+        db.roundTrip();
+        List<Registration> registrations = new ArrayList<>();
+        for (Registration registration : db.registrations.values()) {
+            if (filter.test(registration)) {
+                registrations.add(db.copy(registration));
+            }
+        }
+        registrations.sort(NEWEST_FIRST);
+        return registrations;
+    }
+
+    @Override
+    public Registration findById(int id) throws SQLException {
+        db.roundTrip();
+        return db.copy(db.registrations.get(id));
+    }
+
+    @Override
+    public List<Registration> findAll() throws SQLException {
+        return select(registration -> true);
+    }
+
+    @Override
+    public List<Registration> findByUser(int userId) throws SQLException {
+        return select(registration -> registration.getAttendee().getId() == userId);
+    }
+
+    @Override
+    public List<Registration> findByEvent(int eventId) throws SQLException {
+        return select(registration -> registration.getEvent().getId() == eventId);
+    }
+
+    @Override
+    public List<Registration> findByStatus(Status status) throws SQLException {
+        return select(registration -> registration.getStatus() == status);
+    }
+
+    @Override
+    public List<Registration> findByUserAndEvent(int userId, int eventId) throws SQLException {
+        return select(registration -> registration.getAttendee().getId() == userId
+            && registration.getEvent().getId() == eventId);
+    }
+
+    @Override
+    public boolean existsByUserAndEvent(int userId, int eventId) throws SQLException {
+        db.roundTrip();
+        return db.registrationKeys.containsKey(InMemoryDatabase.registrationKey(eventId, userId));
+    }
+
+    @Override
+    public Registration findOldestWaitlisted(int eventId) throws SQLException {
+        List<Registration> waitlisted = select(registration -> registration.getEvent().getId() == eventId
+            && registration.getStatus() == Status.WAITLISTED);
+        return waitlisted.isEmpty() ? null : waitlisted.get(waitlisted.size() - 1);
+    }
+
+    @Override
+    public List<Registration> promoteWaitlisted(Event event, Registration joining) throws SQLException {
+        List<Registration> promoted = new ArrayList<>();
+        synchronized (db.eventLock(event.getId())) {
+            // SELECT ... FOR UPDATE on the event
+            db.roundTrip();
+            Event row = db.events.get(event.getId());
+            if (row == null) {
+                throw new SQLException("Event not found for ID: " + event.getId());
+            }
+
+            if (joining != null) {
+                db.roundTrip();
+                boolean seatHeld = InMemorySeatHoldDAO.takeLiveHold(db, event.getId(), joining.getAttendee().getId());
+                db.roundTrip();
+                joining.setStatus(seatHeld ? Status.REGISTERED : Status.WAITLISTED);
+                joining.setRegistrationDate(LocalDateTime.now());
+                insert(joining);
+            }
+
+            // Counting the seats taken by registrations and live holds
+            db.roundTrip();
+            int held = InMemorySeatHoldDAO.countSeatsTaken(db, event.getId(), 0);
+
+            int free = row.getTotalSlots() - held;
+            if (free > 0) {
+                db.roundTrip();
+                List<Registration> waitlisted = new ArrayList<>();
+                for (Registration registration : db.registrations.values()) {
+                    if (registration.getEvent().getId() == event.getId() && registration.getStatus() == Status.WAITLISTED) {
+                        waitlisted.add(registration);
+                    }
+                }
+                waitlisted.sort(OLDEST_FIRST);
+                if (!waitlisted.isEmpty()) {
+                    // UPDATE ... WHERE id IN (...) AND status = 'WAITLISTED'
+                    db.roundTrip();
+                    for (Registration registration : waitlisted.subList(0, Math.min(free, waitlisted.size()))) {
+                        Registration seated = row(registration);
+                        seated.setStatus(Status.REGISTERED);
+                        Registration current = db.registrations.computeIfPresent(seated.getId(),
+                            (id, existing) -> existing.getStatus() == Status.WAITLISTED ? seated : existing);
+                        if (current != seated) {
+                            continue;
+                        }
+                        if (joining != null && seated.getId() == joining.getId()) {
+                            joining.setStatus(Status.REGISTERED);
+                        } else {
+                            promoted.add(row(seated));
+                        }
+                        held++;
+                    }
+                }
+            }
+
+            int available = Math.max(0, row.getTotalSlots() - held);
+            if (available != row.getAvailableSlots()) {
+                db.roundTrip();
+                Event updated = InMemoryDatabase.copy(row);
+                updated.setAvailableSlots(available);
+                db.events.put(updated.getId(), updated);
+            }
+            // COMMIT
+            db.roundTrip();
+            event.setTotalSlots(row.getTotalSlots());
+            event.setAvailableSlots(available);
+        }
+        return promoted;
+    }
+
+    static boolean holdsSeat(Status status) {
+        return status == Status.REGISTERED || status == Status.ATTENDED;
+    }
+
+    @Override
+    public Registration save(Registration registration) throws SQLException {
+        db.roundTrip();
+        return insert(registration);
+    }
+
+    private Registration insert(Registration registration) throws SQLException {
+        int eventId = registration.getEvent().getId();
+        int userId = registration.getAttendee().getId();
+        int id = db.registrationIds.incrementAndGet();
+        if (db.registrationKeys.putIfAbsent(InMemoryDatabase.registrationKey(eventId, userId), id) != null) {
+            throw new SQLIntegrityConstraintViolationException(
+                "Duplicate entry '" + eventId + "-" + userId + "' for key 'unique_registration'");
+        }
+        registration.setId(id);
+        db.registrations.put(id, row(registration));
+        return registration;
+    }
+
+    @Override
+    public Registration update(Registration registration) throws SQLException {
+        db.roundTrip();
+        Registration existing = db.registrations.get(registration.getId());
+        if (existing == null) {
+            throw new SQLException("Updating registration failed, no rows affected.");
+        }
+        // UPDATE registrations SET status = ?, checked_in = ? only touches those two columns
+        Registration row = row(existing);
+        row.setStatus(registration.getStatus());
+        row.setCheckedIn(registration.isCheckedIn());
+        db.registrations.put(row.getId(), row);
+        return registration;
+    }
+
+    @Override
+    public boolean delete(int id) throws SQLException {
+        db.roundTrip();
+        Registration removed = db.registrations.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        db.registrationKeys.remove(InMemoryDatabase.registrationKey(
+            removed.getEvent().getId(), removed.getAttendee().getId()));
+        return true;
+    }
+
+    @Override
+    public int countByEvent(int eventId) throws SQLException {
+        db.roundTrip();
+        int count = 0;
+        for (Registration registration : db.registrations.values()) {
+            if (registration.getEvent().getId() == eventId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countByEventAndStatus(int eventId, Status status) throws SQLException {
+        db.roundTrip();
+        int count = 0;
+        for (Registration registration : db.registrations.values()) {
+            if (registration.getEvent().getId() == eventId && registration.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void loadRoster(int eventId, RosterSink sink) throws SQLException {
+        db.roundTrip();
+        for (Registration registration : db.registrations.values()) {
+            if (registration.getEvent().getId() == eventId) {
+                User attendee = db.users.get(registration.getAttendee().getId());
+                sink.add(registration.getId(), registration.getAttendee().getId(),
+                    attendee != null ? attendee.getName() : null, registration.getStatus());
+            }
+        }
+    }
+
+    @Override
+    public int updateAttendance(Map<Integer, Status> statuses) throws SQLException {
+        db.roundTrip();
+        int changed = 0;
+        for (Map.Entry<Integer, Status> entry : statuses.entrySet()) {
+            boolean[] applied = {false};
+            db.registrations.computeIfPresent(entry.getKey(), (id, existing) -> {
+                if (existing.getStatus() != Status.REGISTERED) {
+                    return existing;
+                }
+                Registration row = row(existing);
+                row.setStatus(entry.getValue());
+                row.setCheckedIn(entry.getValue() == Status.ATTENDED);
+                applied[0] = true;
+                return row;
+            });
+            if (applied[0]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Build a stored row that only references its event and attendee by ID
+     */
+    private static Registration row(Registration source) {
+        Event event = new Event();
+        event.setId(source.getEvent().getId());
+        User attendee = new User();
+        attendee.setId(source.getAttendee().getId());
+
+        Registration row = new Registration(attendee, event);
+        row.setId(source.getId());
+        row.setStatus(source.getStatus());
+        row.setRegistrationDate(source.getRegistrationDate());
+        row.setCheckedIn(source.isCheckedIn());
+        return row;
+    }
+}
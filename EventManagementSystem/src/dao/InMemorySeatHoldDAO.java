@@ -0,0 +1,162 @@
+package dao;
+
+import models.Event;
+import models.Registration;
+import models.Registration.Status;
+import models.SeatHold;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SeatHoldDAO backed by an {@link InMemoryDatabase}, for simulations and benchmarks
+ */
+public class InMemorySeatHoldDAO implements SeatHoldDAO {
+    private static final Comparator<SeatHold> EXPIRING_FIRST =
+        Comparator.comparing(SeatHold::getExpiresAt).thenComparing(SeatHold::getId);
+
+    private final InMemoryDatabase db;
+
+    public InMemorySeatHoldDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public SeatHold placeHold(Event event, int userId, int ttlSeconds) throws SQLException {
+        SeatHold hold = null;
+        synchronized (db.eventLock(event.getId())) {
+            // SELECT ... FOR UPDATE on the event
+            db.roundTrip();
+            Event row = db.events.get(event.getId());
+            if (row == null) {
+                throw new SQLException("Event not found for ID: " + event.getId());
+            }
+
+            db.roundTrip();
+            int taken = countSeatsTaken(db, event.getId(), userId);
+            db.roundTrip();
+            boolean waiting = false;
+            for (Registration registration : db.registrations.values()) {
+                if (registration.getEvent().getId() == event.getId() && registration.getStatus() == Status.WAITLISTED) {
+                    waiting = true;
+                    break;
+                }
+            }
+
+            if (taken < row.getTotalSlots() && !waiting) {
+                // INSERT ... ON DUPLICATE KEY UPDATE expires_at
+                db.roundTrip();
+                long key = InMemoryDatabase.registrationKey(event.getId(), userId);
+                int holdId = db.seatHoldKeys.computeIfAbsent(key, k -> db.seatHoldIds.incrementAndGet());
+                hold = new SeatHold(holdId, event.getId(), userId, LocalDateTime.now().plusSeconds(ttlSeconds));
+                db.seatHolds.put(holdId, InMemoryDatabase.copy(hold));
+                taken++;
+            }
+
+            int available = Math.max(0, row.getTotalSlots() - taken);
+            if (available != row.getAvailableSlots()) {
+                db.roundTrip();
+                Event updated = InMemoryDatabase.copy(row);
+                updated.setAvailableSlots(available);
+                db.events.put(updated.getId(), updated);
+            }
+            // COMMIT
+            db.roundTrip();
+            event.setTotalSlots(row.getTotalSlots());
+            event.setAvailableSlots(available);
+        }
+        return hold;
+    }
+
+    /**
+     * Count the seats of an event taken by registrations and live holds;
+     * call holding the event's lock
+     *
+     * @param db The database
+     * @param eventId The ID of the event
+     * @param exceptUserId A user whose hold is left out, or 0 for none
+     * @return The number of seats taken
+     */
+    static int countSeatsTaken(InMemoryDatabase db, int eventId, int exceptUserId) {
+        int taken = 0;
+        for (Registration registration : db.registrations.values()) {
+            if (registration.getEvent().getId() == eventId && InMemoryRegistrationDAO.holdsSeat(registration.getStatus())) {
+                taken++;
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (SeatHold hold : db.seatHolds.values()) {
+            if (hold.getEventId() == eventId && hold.getUserId() != exceptUserId && now.isBefore(hold.getExpiresAt())) {
+                taken++;
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Delete a user's live hold on an event, handing its seat to the caller;
+     * call holding the event's lock
+     *
+     * @param db The database
+     * @param eventId The ID of the event
+     * @param userId The ID of the user
+     * @return true if the user held a seat
+     */
+    static boolean takeLiveHold(InMemoryDatabase db, int eventId, int userId) {
+        Integer holdId = db.seatHoldKeys.get(InMemoryDatabase.registrationKey(eventId, userId));
+        if (holdId == null) {
+            return false;
+        }
+        SeatHold hold = db.seatHolds.get(holdId);
+        if (hold == null || hold.isExpired()) {
+            return false;
+        }
+        return remove(db, hold);
+    }
+
+    @Override
+    public boolean releaseHold(int holdId) throws SQLException {
+        db.roundTrip();
+        SeatHold hold = db.seatHolds.get(holdId);
+        return hold != null && remove(db, hold);
+    }
+
+    @Override
+    public Set<Integer> expireHolds(int limit) throws SQLException {
+        // SELECT ... WHERE expires_at <= NOW() ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED
+        db.roundTrip();
+        List<SeatHold> expired = new ArrayList<>();
+        for (SeatHold hold : db.seatHolds.values()) {
+            if (hold.isExpired()) {
+                expired.add(hold);
+            }
+        }
+        expired.sort(EXPIRING_FIRST);
+
+        // DELETE ... WHERE id IN (...)
+        db.roundTrip();
+        Set<Integer> eventIds = new HashSet<>();
+        for (SeatHold hold : expired.subList(0, Math.min(limit, expired.size()))) {
+            if (remove(db, hold)) {
+                eventIds.add(hold.getEventId());
+            }
+        }
+        return eventIds;
+    }
+
+    private static boolean remove(InMemoryDatabase db, SeatHold hold) {
+        // Stands in for the hold's row lock, so a hold renewed meanwhile is not deleted
+        synchronized (db.eventLock(hold.getEventId())) {
+            if (!db.seatHolds.remove(hold.getId(), hold)) {
+                return false;
+            }
+            db.seatHoldKeys.remove(InMemoryDatabase.registrationKey(hold.getEventId(), hold.getUserId()), hold.getId());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package dao;
+
+import models.User;
+import models.User.UserRole;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * UserDAO backed by an {@link InMemoryDatabase}, for simulations and benchmarks
+ */
+public class InMemoryUserDAO implements UserDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryUserDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public List<User> getAllUsers() throws SQLException {
+        db.roundTrip();
+        List<User> users = new ArrayList<>();
+        for (User user : db.users.values()) {
+            users.add(InMemoryDatabase.copy(user));
+        }
+        return users;
+    }
+
+    @Override
+    public User getUserById(int userId) throws SQLException {
+        db.roundTrip();
+        return InMemoryDatabase.copy(db.users.get(userId));
+    }
+
+    @Override
+    public User findByEmail(String email) throws SQLException {
+        db.roundTrip();
+        for (User user : db.users.values()) {
+            if (user.getEmail().equals(email)) {
+                return InMemoryDatabase.copy(user);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public User findLoginByEmail(String email) throws SQLException {
+        User user = findByEmail(email);
+        if (user != null) {
+            user.setSecurityQuestion1(null);
+            user.setSecurityAnswer1(null);
+            user.setSecurityQuestion2(null);
+            user.setSecurityAnswer2(null);
+        }
+        return user;
+    }
+
+    @Override
+    public User createUser(String name, String email, String password, UserRole role, String securityQuestion1,
+                           String securityAnswer1, String securityQuestion2, String securityAnswer2) throws SQLException {
+        db.roundTrip();
+        for (User existing : db.users.values()) {
+            if (existing.getEmail().equals(email)) {
+                throw new SQLIntegrityConstraintViolationException("Duplicate entry '" + email + "' for key 'email'");
+            }
+        }
+        User user = new User(name, email, password, role);
+        user.setId(db.userIds.incrementAndGet());
+        user.setSecurityQuestion1(securityQuestion1);
+        user.setSecurityAnswer1(securityAnswer1);
+        user.setSecurityQuestion2(securityQuestion2);
+        user.setSecurityAnswer2(securityAnswer2);
+        db.users.put(user.getId(), InMemoryDatabase.copy(user));
+        return user;
+    }
+
+    @Override
+    public User update(User user) throws SQLException {
+        db.roundTrip();
+        User existing = db.users.get(user.getId());
+        if (existing == null) {
+            throw new SQLException("Updating user failed, no rows affected.");
+        }
+        User row = InMemoryDatabase.copy(user);
+        // Mirror the COALESCE in SQLUserDAO.update
+        if (row.getSecurityQuestion1() == null) row.setSecurityQuestion1(existing.getSecurityQuestion1());
+        if (row.getSecurityAnswer1() == null) row.setSecurityAnswer1(existing.getSecurityAnswer1());
+        if (row.getSecurityQuestion2() == null) row.setSecurityQuestion2(existing.getSecurityQuestion2());
+        if (row.getSecurityAnswer2() == null) row.setSecurityAnswer2(existing.getSecurityAnswer2());
+        row.setLastLoginAt(existing.getLastLoginAt());
+        db.users.put(row.getId(), row);
+        return user;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) throws SQLException {
+        db.roundTrip();
+        Set<String> wanted = new HashSet<>();
+        for (String email : emails) {
+            wanted.add(email.toLowerCase(Locale.ROOT));
+        }
+        Set<String> existing = new HashSet<>();
+        for (User user : db.users.values()) {
+            String email = user.getEmail().toLowerCase(Locale.ROOT);
+            if (wanted.contains(email)) {
+                existing.add(email);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public synchronized void createUsers(List<User> users) throws SQLException {
+        db.roundTrip();
+        Set<String> taken = findExistingEmails(users.stream().map(User::getEmail).collect(Collectors.toList()));
+        Set<String> batch = new HashSet<>();
+        for (User user : users) {
+            String email = user.getEmail().toLowerCase(Locale.ROOT);
+            if (taken.contains(email) || !batch.add(email)) {
+                throw new SQLIntegrityConstraintViolationException("Duplicate entry '" + user.getEmail() + "' for key 'email'");
+            }
+        }
+        for (User user : users) {
+            user.setId(db.userIds.incrementAndGet());
+            db.users.put(user.getId(), InMemoryDatabase.copy(user));
+        }
+    }
+
+    @Override
+    public User save(User user) throws SQLException {
+        if (user.getId() == 0) {
+            return createUser(user.getName(), user.getEmail(), user.getPassword(), user.getRole(),
+                user.getSecurityQuestion1(), user.getSecurityAnswer1(), user.getSecurityQuestion2(), user.getSecurityAnswer2());
+        }
+        return update(user);
+    }
+
+    @Override
+    public boolean deleteUser(int userId) throws SQLException {
+        db.roundTrip();
+        return db.users.remove(userId) != null;
+    }
+
+    @Override
+    public boolean activateUser(int userId) throws SQLException {
+        return setActive(userId, true);
+    }
+
+    @Override
+    public boolean deactivateUser(int userId) throws SQLException {
+        return setActive(userId, false);
+    }
+
+    private boolean setActive(int userId, boolean active) {
+        db.roundTrip();
+        return db.users.computeIfPresent(userId, (id, user) -> {
+            User row = InMemoryDatabase.copy(user);
+            row.setActive(active);
+            return row;
+        }) != null;
+    }
+
+    @Override
+    public void updateLastLogin(int userId) throws SQLException {
+        updateLastLogins(Map.of(userId, new Timestamp(System.currentTimeMillis())));
+    }
+
+    @Override
+    public void updateLastLogins(Map<Integer, Timestamp> lastLogins) throws SQLException {
+        db.roundTrip();
+        lastLogins.forEach((userId, ts) -> db.users.computeIfPresent(userId, (id, user) -> {
+            User row = InMemoryDatabase.copy(user);
+            row.setLastLoginAt(new Date(ts.getTime()));
+            return row;
+        }));
+    }
+
+    @Override
+    public void updatePassword(int userId, String passwordHash) throws SQLException {
+        db.roundTrip();
+        db.users.computeIfPresent(userId, (id, user) -> {
+            User row = InMemoryDatabase.copy(user);
+            row.setPassword(passwordHash);
+            return row;
+        });
+    }
+
+    @Override
+    public User findById(int id) throws SQLException {
+        return getUserById(id);
+    }
+
+    @Override
+    public List<User> findAll() throws SQLException {
+        return getAllUsers();
+    }
+
+    @Override
+    public void delete(int id) throws SQLException {
+        deleteUser(id);
+    }
+
+    @Override
+    public User getUserByEmail(String email) throws SQLException {
+        return findByEmail(email);
+    }
+}
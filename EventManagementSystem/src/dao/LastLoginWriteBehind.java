@@ -0,0 +1,148 @@
+package dao;
+
+import logging.LogManager;
+import logging.Logger;
+import metrics.DAOMetrics;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalescing write-behind buffer for users' last login timestamps.
+ * Logins only record the timestamp in memory; a background thread writes
+ * the latest timestamp per user to the database in a single batch.
+ */
+public class LastLoginWriteBehind {
+    private static final Logger LOGGER = LogManager.getLogger(LastLoginWriteBehind.class);
+
+    private static final long FLUSH_INTERVAL_MS = 5000;
+    private static final int FLUSH_THRESHOLD = 250;
+
+    private static LastLoginWriteBehind instance;
+    private final UserDAO userDAO;
+    private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    // Private constructor for singleton pattern
+    private LastLoginWriteBehind() throws SQLException {
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "last-login-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushQuietly, "last-login-shutdown-flush"));
+    }
+
+    /**
+     * Get the singleton instance of the LastLoginWriteBehind buffer
+     *
+     * @return The LastLoginWriteBehind instance
+     * @throws SQLException if a database error occurs during initialization
+     */
+    public static synchronized LastLoginWriteBehind getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new LastLoginWriteBehind();
+        }
+        return instance;
+    }
+
+    /**
+     * Record a login. Repeated logins by the same user before the next flush
+     * collapse into a single write of the most recent timestamp.
+     *
+     * @param userId The ID of the user who logged in
+     * @param loginTime The login time in epoch milliseconds
+     */
+    public void record(int userId, long loginTime) {
+        pending.merge(userId, loginTime, Math::max);
+        recorded.incrementAndGet();
+        if (pending.size() >= FLUSH_THRESHOLD && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * Write all pending timestamps to the database in one batch
+     *
+     * @return The number of users written
+     * @throws SQLException if a database error occurs
+     */
+    public synchronized int flush() throws SQLException {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, Timestamp> batch = new HashMap<>();
+        for (Integer userId : pending.keySet()) {
+            Long loginTime = pending.remove(userId);
+            if (loginTime != null) {
+                batch.put(userId, new Timestamp(loginTime));
+            }
+        }
+
+        try {
+            userDAO.updateLastLogins(batch);
+        } catch (SQLException e) {
+            // Put the batch back so the next flush retries it
+            batch.forEach((userId, ts) -> pending.merge(userId, ts.getTime(), Math::max));
+            throw e;
+        }
+
+        written.addAndGet(batch.size());
+        batches.incrementAndGet();
+        return batch.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            LOGGER.error("Failed to write last login timestamps: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return The number of logins recorded since startup
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * @return The number of user rows written since startup
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * @return The number of batches written since startup
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * @return The number of users waiting to be written
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+}
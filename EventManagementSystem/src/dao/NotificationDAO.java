@@ -55,6 +55,14 @@ public interface NotificationDAO {
      */
     Notification save(Notification notification) throws SQLException;
 
+    /**
+     * Save several new notifications in one batch
+     *
+     * @param notifications The notifications to save; their IDs are set
+     * @throws SQLException if a database error occurs
+     */
+    void saveAll(List<Notification> notifications) throws SQLException;
+
     /**
      * Update an existing notification
      *
@@ -1,14 +1,24 @@
 package dao;
 
+import models.Event;
 import models.Registration;
 import models.Registration.Status;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object interface for Registration entities
  */
 public interface RegistrationDAO {
+
+    /**
+     * Receives an event's roster one registration at a time
+     */
+    @FunctionalInterface
+    interface RosterSink {
+        void add(int registrationId, int userId, String attendeeName, Status status);
+    }
     
     /**
      * Find a registration by its ID
@@ -74,6 +84,24 @@ public interface RegistrationDAO {
      */
     boolean existsByUserAndEvent(int userId, int eventId) throws SQLException;
     
+    /**
+     * Give an event's free seats to its waitlist, oldest registration first.
+     *
+     * Runs as one transaction holding the event's row lock, so concurrent
+     * calls for the same event take turns and a seat is never given out twice.
+     * Free seats are counted from the registrations and live seat holds
+     * taking one, and the event's available_slots is set to what is left.
+     *
+     * @param event The event; its available slots are set to the recomputed count
+     * @param joining A new registration to add to the end of the waitlist first, or null.
+     *        If its attendee holds a seat (see {@link SeatHoldDAO}) it takes that seat instead.
+     *        Its ID and registration date are set, and its status becomes REGISTERED if it gets a seat.
+     * @return The other registrations promoted, in waitlist order, carrying only their
+     *         ID, status and the IDs of their event and attendee
+     * @throws SQLException if a database error occurs, including a duplicate joining registration
+     */
+    List<Registration> promoteWaitlisted(Event event, Registration joining) throws SQLException;
+
     /**
      * Find the oldest waitlisted registration for an event
      * 
@@ -128,4 +156,24 @@ public interface RegistrationDAO {
      * @throws SQLException if a database error occurs
      */
     int countByEventAndStatus(int eventId, Status status) throws SQLException;
+
+    /**
+     * Read an event's roster with a single query, without loading each
+     * registration's event and attendee
+     *
+     * @param eventId The ID of the event
+     * @param sink Receives each registration with its attendee's ID and name
+     * @throws SQLException if a database error occurs
+     */
+    void loadRoster(int eventId, RosterSink sink) throws SQLException;
+
+    /**
+     * Record attendance for several registrations in one batch. Only
+     * registrations still REGISTERED are changed, so replaying a batch is harmless.
+     *
+     * @param statuses ATTENDED or NO_SHOW by registration ID; ATTENDED also marks the registration checked in
+     * @return The number of registrations changed
+     * @throws SQLException if a database error occurs
+     */
+    int updateAttendance(Map<Integer, Status> statuses) throws SQLException;
 }
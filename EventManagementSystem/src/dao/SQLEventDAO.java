@@ -1,23 +1,39 @@
 package dao;
 
+import logging.LogManager;
+import logging.Logger;
 import models.Event;
 import models.Event.EventStatus;
 import models.User;
 import utils.DatabaseConnection;
+import metrics.DAOMetrics;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class SQLEventDAO implements EventDAO {
+    private static final Logger LOGGER = LogManager.getLogger(SQLEventDAO.class);
+    // The calendar never shows the image or documents, so the LONGBLOB columns are left out
+    private static final String CALENDAR_SQL =
+        "SELECT e.id, e.title, e.description, e.category, e.status, e.event_date, e.registration_deadline, " +
+        "e.venue_name, e.total_slots, e.available_slots, e.contact_info, e.organizer_id, u.name AS organizer_name, " +
+        "u.email AS organizer_email, u.role AS organizer_role " +
+        "FROM events e JOIN users u ON u.id = e.organizer_id " +
+        "WHERE e.event_date >= ? AND e.event_date < ? ORDER BY e.event_date";
+
     private final Connection connection;
     private final UserDAO userDAO;
     
     public SQLEventDAO() throws SQLException {
         this.connection = DatabaseConnection.getConnection();
-        this.userDAO = new SQLUserDAO();
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
     
     @Override
@@ -133,6 +149,22 @@ public class SQLEventDAO implements EventDAO {
         return events;
     }
     
+    @Override
+    public List<Event> findBetween(LocalDateTime start, LocalDateTime end) throws SQLException {
+        List<Event> events = new ArrayList<>();
+        // A plain range on event_date so idx_events_date can be used
+        try (PreparedStatement stmt = connection.prepareStatement(CALENDAR_SQL)) {
+            stmt.setTimestamp(1, Timestamp.valueOf(start));
+            stmt.setTimestamp(2, Timestamp.valueOf(end));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapCalendarRow(rs));
+                }
+            }
+        }
+        return events;
+    }
+    
     @Override
     public List<Event> findFeatured() throws SQLException {
         List<Event> events = new ArrayList<>();
@@ -222,8 +254,9 @@ public class SQLEventDAO implements EventDAO {
     
     @Override
     public Event update(Event event) throws SQLException {
+        // available_slots is left to RegistrationDAO.promoteWaitlisted, which keeps it in step with the seats held
         String sql = "UPDATE events SET title = ?, description = ?, event_date = ?, registration_deadline = ?, " +
-                    "venue_name = ?, total_slots = ?, available_slots = ?, " +
+                    "venue_name = ?, total_slots = ?, " +
                     "organizer_id = ?, category = ?, eligibility_criteria = ?, contact_info = ?, status = ?, " +
                     "main_image = ?, main_image_type = ?, additional_documents = ?, additional_documents_type = ? " +
                     "WHERE id = ?";
@@ -236,7 +269,6 @@ public class SQLEventDAO implements EventDAO {
             stmt.setTimestamp(paramIndex++, Timestamp.valueOf(event.getRegistrationDeadline()));
             stmt.setString(paramIndex++, event.getVenueName());
             stmt.setInt(paramIndex++, event.getTotalSlots());
-            stmt.setInt(paramIndex++, event.getAvailableSlots());
             stmt.setInt(paramIndex++, event.getOrganizer().getId());
             stmt.setString(paramIndex++, event.getCategory());
             stmt.setString(paramIndex++, event.getEligibilityCriteria());
@@ -256,6 +288,55 @@ public class SQLEventDAO implements EventDAO {
         }
     }
     
+    @Override
+    public Set<Integer> updateStatuses(Collection<Integer> eventIds, EventStatus from, EventStatus to) throws SQLException {
+        Set<Integer> updated = new HashSet<>();
+        if (eventIds.isEmpty()) {
+            return updated;
+        }
+        List<Integer> ids = new ArrayList<>(eventIds);
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        String lockSql = "SELECT id FROM events WHERE id IN (" + placeholders + ") AND status = ? FOR UPDATE";
+        String updateSql = "UPDATE events SET status = ? WHERE id IN (" + placeholders + ") AND status = ?";
+
+        // A connection of its own so the transaction does not take in other threads' statements on the shared one
+        try (Connection txConnection = DatabaseConnection.openDedicatedConnection()) {
+            txConnection.setAutoCommit(false);
+            try {
+                // Lock the rows first so the IDs read are exactly the ones the UPDATE changes
+                try (PreparedStatement stmt = txConnection.prepareStatement(lockSql)) {
+                    int paramIndex = 1;
+                    for (int id : ids) {
+                        stmt.setInt(paramIndex++, id);
+                    }
+                    stmt.setString(paramIndex, from.name());
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            updated.add(rs.getInt(1));
+                        }
+                    }
+                }
+                if (!updated.isEmpty()) {
+                    try (PreparedStatement stmt = txConnection.prepareStatement(updateSql)) {
+                        int paramIndex = 1;
+                        stmt.setString(paramIndex++, to.name());
+                        for (int id : ids) {
+                            stmt.setInt(paramIndex++, id);
+                        }
+                        stmt.setString(paramIndex, from.name());
+                        stmt.executeUpdate();
+                    }
+                }
+                txConnection.commit();
+            } catch (SQLException e) {
+                txConnection.rollback();
+                throw e;
+            }
+        }
+        LOGGER.debug("Moved {} of {} events to {}", updated.size(), ids.size(), to);
+        return updated;
+    }
+
     @Override
     public boolean delete(int id) throws SQLException {
         String sql = "DELETE FROM events WHERE id = ?";
@@ -330,9 +411,47 @@ public class SQLEventDAO implements EventDAO {
             event.setOrganizer(organizer);
         } catch (SQLException e) {
             // Log error but don't fail the entire event load
-            System.err.println("Error loading organizer for event " + event.getId() + ": " + e.getMessage());
+            LOGGER.warn("Error loading organizer for event {}: {}", event.getId(), e.getMessage());
         }
         
         return event;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Map a {@link #CALENDAR_SQL} row: no image, documents or eligibility
+     * criteria, and the organizer comes from the join rather than a lookup
+     */
+    private Event mapCalendarRow(ResultSet rs) throws SQLException {
+        Event event = new Event();
+        event.setId(rs.getInt("id"));
+        event.setTitle(rs.getString("title"));
+        event.setDescription(rs.getString("description"));
+        event.setCategory(rs.getString("category"));
+        event.setVenueName(rs.getString("venue_name"));
+        event.setContactInfo(rs.getString("contact_info"));
+
+        Timestamp eventDate = rs.getTimestamp("event_date");
+        if (eventDate != null) {
+            event.setEventDate(eventDate.toLocalDateTime());
+        }
+        Timestamp regDeadline = rs.getTimestamp("registration_deadline");
+        if (regDeadline != null) {
+            event.setRegistrationDeadline(regDeadline.toLocalDateTime());
+        }
+
+        event.setTotalSlots(rs.getInt("total_slots"));
+        event.setAvailableSlots(rs.getInt("available_slots"));
+        String statusStr = rs.getString("status");
+        if (statusStr != null) {
+            event.setStatus(Event.EventStatus.valueOf(statusStr));
+        }
+
+        User organizer = new User();
+        organizer.setId(rs.getInt("organizer_id"));
+        organizer.setName(rs.getString("organizer_name"));
+        organizer.setEmail(rs.getString("organizer_email"));
+        organizer.setRole(User.UserRole.valueOf(rs.getString("organizer_role")));
+        event.setOrganizer(organizer);
+        return event;
+    }
+}
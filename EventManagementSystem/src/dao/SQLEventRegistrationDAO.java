@@ -5,24 +5,31 @@ import models.Registration.Status;
 import models.Event;
 import models.User;
 import utils.DatabaseConnection;
+import metrics.DAOMetrics;
+import logging.LogManager;
+import logging.Logger;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL implementation of the RegistrationDAO interface
  */
 public class SQLEventRegistrationDAO implements RegistrationDAO {
+    private static final Logger LOGGER = LogManager.getLogger(SQLEventRegistrationDAO.class);
+
     private final Connection connection;
     private final EventDAO eventDAO;
     private final UserDAO userDAO;
     
     public SQLEventRegistrationDAO() throws SQLException {
         this.connection = DatabaseConnection.getConnection();
-        this.eventDAO = new SQLEventDAO();
-        this.userDAO = new SQLUserDAO();
+        this.eventDAO = DAOMetrics.instrument(EventDAO.class, new SQLEventDAO());
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
     
     @Override
@@ -151,12 +158,126 @@ public class SQLEventRegistrationDAO implements RegistrationDAO {
         return null;
     }
     
+    @Override
+    public List<Registration> promoteWaitlisted(Event event, Registration joining) throws SQLException {
+        List<Registration> promoted = new ArrayList<>();
+
+        // A connection of its own so the transaction does not take in other threads' statements on the shared one
+        try (Connection txConnection = DatabaseConnection.openDedicatedConnection()) {
+            txConnection.setAutoCommit(false);
+            // Every statement sees what was committed before it, including by the transaction the lock waited for
+            txConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            try {
+                int totalSlots;
+                int availableSlots;
+                try (PreparedStatement stmt = txConnection.prepareStatement(
+                        "SELECT total_slots, available_slots FROM events WHERE id = ? FOR UPDATE")) {
+                    stmt.setInt(1, event.getId());
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("Event not found for ID: " + event.getId());
+                        }
+                        totalSlots = rs.getInt(1);
+                        availableSlots = rs.getInt(2);
+                    }
+                }
+
+                if (joining != null) {
+                    // A seat the user held while confirming becomes theirs; anyone else joins the waitlist
+                    boolean seatHeld = SQLSeatHoldDAO.takeLiveHold(txConnection, event.getId(), joining.getAttendee().getId());
+                    // Stamped under the lock, so waitlist order is the order registrations joined
+                    joining.setStatus(seatHeld ? Status.REGISTERED : Status.WAITLISTED);
+                    joining.setRegistrationDate(LocalDateTime.now());
+                    insert(txConnection, joining);
+                }
+
+                int held = SQLSeatHoldDAO.countSeatsTaken(txConnection, event.getId(), 0);
+
+                int free = totalSlots - held;
+                if (free > 0) {
+                    List<Registration> seated = new ArrayList<>();
+                    try (PreparedStatement stmt = txConnection.prepareStatement(
+                            "SELECT id, user_id FROM registrations WHERE event_id = ? AND status = 'WAITLISTED' " +
+                            "ORDER BY registration_date, id LIMIT ? FOR UPDATE")) {
+                        stmt.setInt(1, event.getId());
+                        stmt.setInt(2, free);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                Registration registration = joining != null && rs.getInt(1) == joining.getId()
+                                    ? joining : stub(rs.getInt(1), event.getId(), rs.getInt(2));
+                                seated.add(registration);
+                            }
+                        }
+                    }
+                    if (!seated.isEmpty()) {
+                        String placeholders = String.join(",", Collections.nCopies(seated.size(), "?"));
+                        try (PreparedStatement stmt = txConnection.prepareStatement(
+                                "UPDATE registrations SET status = 'REGISTERED' WHERE id IN (" + placeholders + ")")) {
+                            int paramIndex = 1;
+                            for (Registration registration : seated) {
+                                stmt.setInt(paramIndex++, registration.getId());
+                            }
+                            stmt.executeUpdate();
+                        }
+                        for (Registration registration : seated) {
+                            registration.setStatus(Status.REGISTERED);
+                            if (registration != joining) {
+                                promoted.add(registration);
+                            }
+                        }
+                        held += seated.size();
+                    }
+                }
+
+                int available = Math.max(0, totalSlots - held);
+                if (available != availableSlots) {
+                    try (PreparedStatement stmt = txConnection.prepareStatement(
+                            "UPDATE events SET available_slots = ? WHERE id = ?")) {
+                        stmt.setInt(1, available);
+                        stmt.setInt(2, event.getId());
+                        stmt.executeUpdate();
+                    }
+                }
+                txConnection.commit();
+                event.setTotalSlots(totalSlots);
+                event.setAvailableSlots(available);
+            } catch (SQLException e) {
+                txConnection.rollback();
+                if (joining != null) {
+                    joining.setId(0);
+                }
+                throw e;
+            }
+        }
+        if (!promoted.isEmpty()) {
+            LOGGER.debug("Promoted {} waitlisted registrations for event {}", promoted.size(), event.getId());
+        }
+        return promoted;
+    }
+
+    /**
+     * Build a registration that only references its event and attendee by ID
+     */
+    private static Registration stub(int id, int eventId, int userId) {
+        Event event = new Event();
+        event.setId(eventId);
+        User attendee = new User();
+        attendee.setId(userId);
+        Registration registration = new Registration(attendee, event);
+        registration.setId(id);
+        return registration;
+    }
+
     @Override
     public Registration save(Registration registration) throws SQLException {
+        return insert(connection, registration);
+    }
+
+    private Registration insert(Connection target, Registration registration) throws SQLException {
         String sql = "INSERT INTO registrations (event_id, user_id, status, registration_date, checked_in) " +
                     "VALUES (?, ?, ?, ?, ?)";
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (PreparedStatement stmt = target.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setInt(1, registration.getEvent().getId());
             stmt.setInt(2, registration.getAttendee().getId());
             stmt.setString(3, registration.getStatus().name());
@@ -238,6 +359,53 @@ public class SQLEventRegistrationDAO implements RegistrationDAO {
         return 0;
     }
     
+    @Override
+    public void loadRoster(int eventId, RosterSink sink) throws SQLException {
+        String sql = "SELECT r.id, r.user_id, u.name, r.status FROM registrations r " +
+                    "JOIN users u ON u.id = r.user_id WHERE r.event_id = ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    sink.add(rs.getInt(1), rs.getInt(2), rs.getString(3), Status.valueOf(rs.getString(4)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public int updateAttendance(Map<Integer, Status> statuses) throws SQLException {
+        if (statuses.isEmpty()) {
+            return 0;
+        }
+        String sql = "UPDATE registrations SET status = ?, checked_in = ? WHERE id = ? AND status = 'REGISTERED'";
+
+        // A connection of its own so the transaction does not take in other threads' statements on the shared one
+        try (Connection batchConnection = DatabaseConnection.openDedicatedConnection()) {
+            batchConnection.setAutoCommit(false);
+            try (PreparedStatement stmt = batchConnection.prepareStatement(sql)) {
+                for (Map.Entry<Integer, Status> entry : statuses.entrySet()) {
+                    stmt.setString(1, entry.getValue().name());
+                    stmt.setBoolean(2, entry.getValue() == Status.ATTENDED);
+                    stmt.setInt(3, entry.getKey());
+                    stmt.addBatch();
+                }
+                int changed = 0;
+                for (int count : stmt.executeBatch()) {
+                    // Rewritten batches may only report that rows were affected
+                    changed += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+                batchConnection.commit();
+                LOGGER.debug("Recorded attendance for {} of {} registrations", changed, statuses.size());
+                return changed;
+            } catch (SQLException e) {
+                batchConnection.rollback();
+                throw e;
+            }
+        }
+    }
+
     private Registration mapResultSetToRegistration(ResultSet rs) throws SQLException {
         Registration registration = new Registration();
         registration.setId(rs.getInt("id"));
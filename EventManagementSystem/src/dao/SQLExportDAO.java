@@ -0,0 +1,128 @@
+package dao;
+
+import export.ExportProgress;
+import export.RowWriter;
+import logging.LogManager;
+import logging.Logger;
+import utils.DatabaseConnection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * SQL implementation of the ExportDAO interface.
+ *
+ * Each export reads through a forward-only, read-only cursor on a
+ * connection of its own. With a fetch size of Integer.MIN_VALUE the MySQL
+ * driver hands rows over one at a time as they arrive instead of buffering
+ * the whole result, and while such a result is open its connection cannot
+ * run anything else, which is why the shared connection is not used.
+ */
+public class SQLExportDAO implements ExportDAO {
+    private static final Logger LOGGER = LogManager.getLogger(SQLExportDAO.class);
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private static final String[] PARTICIPANT_HEADERS = {
+        "Registration ID", "Name", "Email", "Phone", "Event", "Event Date", "Registered On", "Status", "Checked In"
+    };
+    private static final String PARTICIPANTS_SQL =
+        "SELECT r.id, u.name, u.email, u.phone, e.title, e.event_date, r.registration_date, r.status, r.checked_in " +
+        "FROM registrations r JOIN events e ON e.id = r.event_id JOIN users u ON u.id = r.user_id " +
+        "WHERE e.organizer_id = ? ORDER BY e.event_date, e.id, r.registration_date, r.id";
+    private static final String PARTICIPANTS_COUNT_SQL =
+        "SELECT COUNT(*) FROM registrations r JOIN events e ON e.id = r.event_id WHERE e.organizer_id = ?";
+
+    private static final String[] EVENT_HEADERS = {
+        "Event ID", "Title", "Category", "Status", "Event Date", "Registration Deadline", "Venue",
+        "Total Slots", "Available Slots", "Organizer", "Organizer Email", "Contact", "Created"
+    };
+    // Explicit columns so the image and document BLOBs are never read
+    private static final String EVENTS_SQL =
+        "SELECT e.id, e.title, e.category, e.status, e.event_date, e.registration_deadline, e.venue_name, " +
+        "e.total_slots, e.available_slots, u.name, u.email, e.contact_info, e.created_at " +
+        "FROM events e JOIN users u ON u.id = e.organizer_id ORDER BY e.event_date, e.id";
+    private static final String EVENTS_COUNT_SQL = "SELECT COUNT(*) FROM events";
+
+    private static final String[] REGISTRATION_HEADERS = {
+        "Registration ID", "Event ID", "Event", "Event Date", "Attendee ID", "Attendee", "Email",
+        "Registered On", "Status", "Checked In"
+    };
+    private static final String REGISTRATIONS_SQL =
+        "SELECT r.id, e.id, e.title, e.event_date, u.id, u.name, u.email, r.registration_date, r.status, r.checked_in " +
+        "FROM registrations r JOIN events e ON e.id = r.event_id JOIN users u ON u.id = r.user_id ORDER BY r.id";
+    private static final String REGISTRATIONS_COUNT_SQL = "SELECT COUNT(*) FROM registrations";
+
+    @Override
+    public long exportParticipants(int organizerId, RowWriter out, ExportProgress progress) throws SQLException, IOException {
+        return stream("Participants", PARTICIPANT_HEADERS, PARTICIPANTS_COUNT_SQL, PARTICIPANTS_SQL, out, progress, organizerId);
+    }
+
+    @Override
+    public long exportEvents(RowWriter out, ExportProgress progress) throws SQLException, IOException {
+        return stream("Events", EVENT_HEADERS, EVENTS_COUNT_SQL, EVENTS_SQL, out, progress);
+    }
+
+    @Override
+    public long exportRegistrations(RowWriter out, ExportProgress progress) throws SQLException, IOException {
+        return stream("Registrations", REGISTRATION_HEADERS, REGISTRATIONS_COUNT_SQL, REGISTRATIONS_SQL, out, progress);
+    }
+
+    private long stream(String title, String[] headers, String countSql, String sql, RowWriter out,
+                        ExportProgress progress, Object... params) throws SQLException, IOException {
+        long start = System.nanoTime();
+        try (Connection connection = DatabaseConnection.openDedicatedConnection()) {
+            // Counted first: nothing else can run on the connection while the rows stream
+            long total = count(connection, countSql, params);
+            progress.onProgress(0, total);
+
+            try (PreparedStatement stmt = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                bind(stmt, params);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    out.start(title, headers);
+                    Object[] row = new Object[headers.length];
+                    long written = 0;
+                    while (rs.next()) {
+                        if (progress.isCancelled()) {
+                            // Stops the server sending the rest, which closing the result would otherwise read
+                            stmt.cancel();
+                            throw new CancellationException("Export cancelled after " + written + " rows");
+                        }
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = rs.getObject(i + 1);
+                        }
+                        out.writeRow(row);
+                        if (++written % PROGRESS_INTERVAL == 0) {
+                            progress.onProgress(written, total);
+                        }
+                    }
+                    out.finish();
+                    progress.onProgress(written, total);
+                    LOGGER.info("Exported {} {} rows in {} ms", written, title.toLowerCase(),
+                        (System.nanoTime() - start) / 1_000_000);
+                    return written;
+                }
+            }
+        }
+    }
+
+    private static long count(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            bind(stmt, params);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1;
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement stmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import models.Feedback;
 import models.Event;
 import models.User;
 import utils.DatabaseConnection;
+import metrics.DAOMetrics;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -20,8 +21,8 @@ public class SQLFeedbackDAO implements FeedbackDAO {
     
     public SQLFeedbackDAO() throws SQLException {
         this.connection = DatabaseConnection.getConnection();
-        this.eventDAO = new SQLEventDAO();
-        this.userDAO = new SQLUserDAO();
+        this.eventDAO = DAOMetrics.instrument(EventDAO.class, new SQLEventDAO());
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
     }
     
     @Override
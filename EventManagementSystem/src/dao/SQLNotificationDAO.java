@@ -5,6 +5,7 @@ import models.User;
 import models.Event;
 import models.Notification.NotificationType;
 import utils.DatabaseConnection;
+import metrics.DAOMetrics;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -21,8 +22,8 @@ public class SQLNotificationDAO implements NotificationDAO {
     
     public SQLNotificationDAO() throws SQLException {
         this.connection = DatabaseConnection.getConnection();
-        this.userDAO = new SQLUserDAO();
-        this.eventDAO = new SQLEventDAO();
+        this.userDAO = DAOMetrics.instrument(UserDAO.class, new SQLUserDAO());
+        this.eventDAO = DAOMetrics.instrument(EventDAO.class, new SQLEventDAO());
     }
     
     @Override
@@ -55,6 +56,50 @@ public class SQLNotificationDAO implements NotificationDAO {
         }
     }
     
+    @Override
+    public void saveAll(List<Notification> notifications) throws SQLException {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO notifications (recipient_id, title, message, type, event_id, is_read, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        // A pooled connection of its own, with rewriteBatchedStatements, so the batch reaches the server
+        // as a few multi-row INSERTs and either every recipient is notified or none is
+        try (Connection batchConnection = DatabaseConnection.openDedicatedConnection()) {
+            batchConnection.setAutoCommit(false);
+            try (PreparedStatement stmt = batchConnection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    stmt.setInt(1, notification.getRecipient().getId());
+                    stmt.setString(2, notification.getTitle());
+                    stmt.setString(3, notification.getMessage());
+                    stmt.setString(4, notification.getType().toString());
+                    stmt.setObject(5, notification.getEvent() != null ? notification.getEvent().getId() : null);
+                    stmt.setBoolean(6, notification.isRead());
+                    stmt.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    for (Notification notification : notifications) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Creating notifications failed, no ID obtained.");
+                        }
+                        notification.setId(generatedKeys.getInt(1));
+                    }
+                }
+                batchConnection.commit();
+            } catch (SQLException e) {
+                batchConnection.rollback();
+                for (Notification notification : notifications) {
+                    notification.setId(0);
+                }
+                throw e;
+            }
+        }
+    }
+    
     @Override
     public Notification update(Notification notification) throws SQLException {
         String sql = "UPDATE notifications SET title = ?, message = ?, type = ?, event_id = ?, " +
@@ -0,0 +1,204 @@
+package dao;
+
+import models.Event;
+import models.SeatHold;
+import utils.DatabaseConnection;
+import logging.LogManager;
+import logging.Logger;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL implementation of the SeatHoldDAO interface
+ */
+public class SQLSeatHoldDAO implements SeatHoldDAO {
+    private static final Logger LOGGER = LogManager.getLogger(SQLSeatHoldDAO.class);
+
+    private final Connection connection;
+
+    public SQLSeatHoldDAO() throws SQLException {
+        this.connection = DatabaseConnection.getConnection();
+    }
+
+    @Override
+    public SeatHold placeHold(Event event, int userId, int ttlSeconds) throws SQLException {
+        SeatHold hold = null;
+
+        // Borrowed from the pool, since a hold is placed on every Register click, and kept apart
+        // from the shared connection so the transaction does not take in other threads' statements
+        try (Connection txConnection = DatabaseConnection.openDedicatedConnection()) {
+            txConnection.setAutoCommit(false);
+            txConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            try {
+                int totalSlots;
+                int availableSlots;
+                try (PreparedStatement stmt = txConnection.prepareStatement(
+                        "SELECT total_slots, available_slots FROM events WHERE id = ? FOR UPDATE")) {
+                    stmt.setInt(1, event.getId());
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("Event not found for ID: " + event.getId());
+                        }
+                        totalSlots = rs.getInt(1);
+                        availableSlots = rs.getInt(2);
+                    }
+                }
+
+                // The user's own hold is about to be renewed, so it does not count against them
+                int taken = countSeatsTaken(txConnection, event.getId(), userId);
+                boolean waiting;
+                try (PreparedStatement stmt = txConnection.prepareStatement(
+                        "SELECT EXISTS (SELECT 1 FROM registrations WHERE event_id = ? AND status = 'WAITLISTED')")) {
+                    stmt.setInt(1, event.getId());
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        rs.next();
+                        waiting = rs.getBoolean(1);
+                    }
+                }
+
+                if (taken < totalSlots && !waiting) {
+                    // Expiry is by the database clock, so every client agrees on which holds are live
+                    try (PreparedStatement stmt = txConnection.prepareStatement(
+                            "INSERT INTO seat_holds (event_id, user_id, expires_at) " +
+                            "VALUES (?, ?, NOW(3) + INTERVAL ? SECOND) " +
+                            "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id), expires_at = VALUES(expires_at)",
+                            Statement.RETURN_GENERATED_KEYS)) {
+                        stmt.setInt(1, event.getId());
+                        stmt.setInt(2, userId);
+                        stmt.setInt(3, ttlSeconds);
+                        stmt.executeUpdate();
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (!generatedKeys.next()) {
+                                throw new SQLException("Placing seat hold failed, no ID obtained.");
+                            }
+                            hold = new SeatHold(generatedKeys.getInt(1), event.getId(), userId,
+                                LocalDateTime.now().plusSeconds(ttlSeconds));
+                        }
+                    }
+                    taken++;
+                }
+
+                int available = Math.max(0, totalSlots - taken);
+                if (available != availableSlots) {
+                    try (PreparedStatement stmt = txConnection.prepareStatement(
+                            "UPDATE events SET available_slots = ? WHERE id = ?")) {
+                        stmt.setInt(1, available);
+                        stmt.setInt(2, event.getId());
+                        stmt.executeUpdate();
+                    }
+                }
+                txConnection.commit();
+                event.setTotalSlots(totalSlots);
+                event.setAvailableSlots(available);
+            } catch (SQLException e) {
+                txConnection.rollback();
+                throw e;
+            }
+        }
+        return hold;
+    }
+
+    /**
+     * Count the seats of an event taken by registrations and live holds;
+     * call with the event's row locked
+     *
+     * @param txConnection The connection holding the lock
+     * @param eventId The ID of the event
+     * @param exceptUserId A user whose hold is left out, or 0 for none
+     * @return The number of seats taken
+     * @throws SQLException if a database error occurs
+     */
+    static int countSeatsTaken(Connection txConnection, int eventId, int exceptUserId) throws SQLException {
+        String sql = "SELECT (SELECT COUNT(*) FROM registrations WHERE event_id = ? AND status IN ('REGISTERED', 'ATTENDED')) + " +
+                    "(SELECT COUNT(*) FROM seat_holds WHERE event_id = ? AND expires_at > NOW(3) AND user_id <> ?)";
+        try (PreparedStatement stmt = txConnection.prepareStatement(sql)) {
+            stmt.setInt(1, eventId);
+            stmt.setInt(2, eventId);
+            stmt.setInt(3, exceptUserId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Delete a user's live hold on an event, handing its seat to the caller;
+     * call with the event's row locked
+     *
+     * @param txConnection The connection holding the lock
+     * @param eventId The ID of the event
+     * @param userId The ID of the user
+     * @return true if the user held a seat
+     * @throws SQLException if a database error occurs
+     */
+    static boolean takeLiveHold(Connection txConnection, int eventId, int userId) throws SQLException {
+        try (PreparedStatement stmt = txConnection.prepareStatement(
+                "DELETE FROM seat_holds WHERE event_id = ? AND user_id = ? AND expires_at > NOW(3)")) {
+            stmt.setInt(1, eventId);
+            stmt.setInt(2, userId);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    @Override
+    public boolean releaseHold(int holdId) throws SQLException {
+        String sql = "DELETE FROM seat_holds WHERE id = ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, holdId);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    @Override
+    public Set<Integer> expireHolds(int limit) throws SQLException {
+        Set<Integer> eventIds = new HashSet<>();
+
+        // Borrowed from the pool for the one transaction, like placeHold
+        try (Connection txConnection = DatabaseConnection.openDedicatedConnection()) {
+            txConnection.setAutoCommit(false);
+            txConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            try {
+                List<Integer> holdIds = new ArrayList<>();
+                // Clients expiring at the same time each take different rows instead of queueing on the same ones
+                try (PreparedStatement stmt = txConnection.prepareStatement(
+                        "SELECT id, event_id FROM seat_holds WHERE expires_at <= NOW(3) " +
+                        "ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED")) {
+                    stmt.setInt(1, limit);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            holdIds.add(rs.getInt(1));
+                            eventIds.add(rs.getInt(2));
+                        }
+                    }
+                }
+                if (!holdIds.isEmpty()) {
+                    String placeholders = String.join(",", Collections.nCopies(holdIds.size(), "?"));
+                    try (PreparedStatement stmt = txConnection.prepareStatement(
+                            "DELETE FROM seat_holds WHERE id IN (" + placeholders + ")")) {
+                        int paramIndex = 1;
+                        for (int holdId : holdIds) {
+                            stmt.setInt(paramIndex++, holdId);
+                        }
+                        stmt.executeUpdate();
+                    }
+                }
+                txConnection.commit();
+                if (!holdIds.isEmpty()) {
+                    LOGGER.debug("Expired {} seat holds across {} events", holdIds.size(), eventIds.size());
+                }
+            } catch (SQLException e) {
+                txConnection.rollback();
+                throw e;
+            }
+        }
+        return eventIds;
+    }
+}
@@ -1,5 +1,7 @@
 package dao;
 
+import logging.LogManager;
+import logging.Logger;
 import models.User;
 import models.User.UserRole;
 import utils.DatabaseConnection;
@@ -7,12 +9,23 @@ import utils.SecurityUtils;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Access Object for User model using SQL database
  */
 public class SQLUserDAO implements UserDAO {
+    private static final Logger LOGGER = LogManager.getLogger(SQLUserDAO.class);
+
+    // Placeholders per IN (...) lookup, well under MySQL's packet and prepared statement limits
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
     private final Connection connection;
 
     public SQLUserDAO() throws SQLException {
@@ -86,6 +99,40 @@ public class SQLUserDAO implements UserDAO {
         return null;
     }
 
+    /**
+     * Get the subset of a user's columns needed to authenticate and open a dashboard:
+     * id, name, email, password, role, active, phone and registration_date.
+     * @param email the email of the user to get
+     * @return the user with the specified email, or null if not found
+     * @throws SQLException if there is an error accessing the database
+     */
+    @Override
+    public User findLoginByEmail(String email) throws SQLException {
+        String query = "SELECT id, name, email, password, role, active, phone, registration_date FROM users WHERE email = ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setString(1, email);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    User user = new User(
+                        rs.getInt("id"),
+                        rs.getString("name"),
+                        rs.getString("email"),
+                        rs.getString("password"),
+                        UserRole.valueOf(rs.getString("role")),
+                        rs.getBoolean("active")
+                    );
+                    user.setPhone(rs.getString("phone"));
+                    user.setRegistrationDate(rs.getString("registration_date"));
+                    return user;
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Create a new user
      * @param name the user's name
@@ -101,10 +148,7 @@ public class SQLUserDAO implements UserDAO {
      */
     @Override
     public User createUser(String name, String email, String password, UserRole role, String securityQuestion1, String securityAnswer1, String securityQuestion2, String securityAnswer2) throws SQLException {
-        System.out.println("SQLUserDAO.createUser called with:");
-        System.out.println("Name: " + name);
-        System.out.println("Email: " + email);
-        System.out.println("Role: " + role);
+        LOGGER.debug("Creating user {} with role {}", email, role);
 
         String query = "INSERT INTO users (name, email, password, role, active, registration_date, security_question1, security_answer1, security_question2, security_answer2) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (PreparedStatement stmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
@@ -119,29 +163,23 @@ public class SQLUserDAO implements UserDAO {
             stmt.setString(9, securityQuestion2);
             stmt.setString(10, securityAnswer2);
 
-            System.out.println("Executing SQL query...");
             int affectedRows = stmt.executeUpdate();
-            System.out.println("Affected rows: " + affectedRows);
-
             if (affectedRows == 0) {
-                System.out.println("No rows affected during user creation");
                 throw new SQLException("Creating user failed, no rows affected.");
             }
 
             try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
                     int userId = generatedKeys.getInt(1);
-                    System.out.println("User created with ID: " + userId);
+                    LOGGER.debug("User {} created with ID {}", email, userId);
                     User user = new User(name, email, password, role);
                     user.setId(userId);
                     return user;
                 }
-                System.out.println("No ID obtained after user creation");
                 throw new SQLException("Creating user failed, no ID obtained.");
             }
         } catch (SQLException e) {
-            System.out.println("SQL Exception in createUser: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error creating user {}: {}", email, e.getMessage());
             throw e;
         }
     }
@@ -153,7 +191,9 @@ public class SQLUserDAO implements UserDAO {
      */
     @Override
     public User update(User user) throws SQLException {
-        String query = "UPDATE users SET name = ?, email = ?, password = ?, role = ?, active = ?, phone = ?, security_question1 = ?, security_answer1 = ?, security_question2 = ?, security_answer2 = ? WHERE id = ?";
+        String query = "UPDATE users SET name = ?, email = ?, password = ?, role = ?, active = ?, phone = ?, " +
+                "security_question1 = COALESCE(?, security_question1), security_answer1 = COALESCE(?, security_answer1), " +
+                "security_question2 = COALESCE(?, security_question2), security_answer2 = COALESCE(?, security_answer2) WHERE id = ?";
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, user.getName());
             stmt.setString(2, user.getEmail());
@@ -265,6 +305,110 @@ public class SQLUserDAO implements UserDAO {
         }
     }
 
+    @Override
+    public void updatePassword(int userId, String passwordHash) throws SQLException {
+        String query = "UPDATE users SET password = ? WHERE id = ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setString(1, passwordHash);
+            stmt.setInt(2, userId);
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public void updateLastLogins(Map<Integer, Timestamp> lastLogins) throws SQLException {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+        String query = "UPDATE users SET last_login_at = ? WHERE id = ?";
+
+        // Written from a background thread, so on a pooled connection of its own rather than
+        // interleaved with the statements the UI runs on the shared one
+        try (Connection batchConnection = DatabaseConnection.openDedicatedConnection();
+             PreparedStatement stmt = batchConnection.prepareStatement(query)) {
+            for (Map.Entry<Integer, Timestamp> entry : lastLogins.entrySet()) {
+                stmt.setTimestamp(1, entry.getValue());
+                stmt.setInt(2, entry.getKey());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        List<String> pending = new ArrayList<>(emails);
+        for (int from = 0; from < pending.size(); from += IN_CLAUSE_LIMIT) {
+            List<String> slice = pending.subList(from, Math.min(pending.size(), from + IN_CLAUSE_LIMIT));
+            String query = "SELECT email FROM users WHERE email IN (" + String.join(",", Collections.nCopies(slice.size(), "?")) + ")";
+
+            try (PreparedStatement stmt = connection.prepareStatement(query)) {
+                for (int i = 0; i < slice.size(); i++) {
+                    stmt.setString(i + 1, slice.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getString(1).toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public void createUsers(List<User> users) throws SQLException {
+        if (users.isEmpty()) {
+            return;
+        }
+        String query = "INSERT INTO users (name, email, password, role, phone, active, registration_date, security_question1, security_answer1, security_question2, security_answer2) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        // A connection of its own: the transaction must not take in other threads' statements on the shared one,
+        // and with rewriteBatchedStatements the driver sends the batch as a few multi-row INSERTs
+        try (Connection batchConnection = DatabaseConnection.openDedicatedConnection()) {
+            batchConnection.setAutoCommit(false);
+            try (PreparedStatement stmt = batchConnection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+                Date today = Date.valueOf(java.time.LocalDate.now());
+                for (User user : users) {
+                    stmt.setString(1, user.getName());
+                    stmt.setString(2, user.getEmail());
+                    stmt.setString(3, user.getPassword());
+                    stmt.setString(4, user.getRole().toString());
+                    stmt.setString(5, user.getPhone());
+                    stmt.setBoolean(6, user.isActive());
+                    stmt.setDate(7, today);
+                    stmt.setString(8, user.getSecurityQuestion1());
+                    stmt.setString(9, user.getSecurityAnswer1());
+                    stmt.setString(10, user.getSecurityQuestion2());
+                    stmt.setString(11, user.getSecurityAnswer2());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                int index = 0;
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    while (generatedKeys.next() && index < users.size()) {
+                        users.get(index++).setId(generatedKeys.getInt(1));
+                    }
+                }
+                if (index != users.size()) {
+                    throw new SQLException("Creating users failed, " + index + " of " + users.size() + " IDs obtained.");
+                }
+                batchConnection.commit();
+                LOGGER.debug("Created {} users in one batch", users.size());
+            } catch (SQLException e) {
+                batchConnection.rollback();
+                for (User user : users) {
+                    user.setId(0);
+                }
+                LOGGER.error("Error creating {} users: {}", users.size(), e.getMessage());
+                throw e;
+            }
+        }
+    }
+
     @Override
     public User save(User user) throws SQLException {
         if (user.getId() == 0) {
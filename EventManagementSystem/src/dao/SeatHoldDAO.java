@@ -0,0 +1,51 @@
+package dao;
+
+import models.Event;
+import models.SeatHold;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Data Access Object interface for seats held while attendees confirm a registration.
+ *
+ * A live hold counts as a taken seat in the event's available slots, for every
+ * client sharing the database, until it is confirmed, released or expires.
+ */
+public interface SeatHoldDAO {
+    /**
+     * Hold one of an event's free seats for a user.
+     *
+     * Runs as one transaction holding the event's row lock, like
+     * {@link RegistrationDAO#promoteWaitlisted}, so two holds never take the
+     * same seat. A user holding a seat already has their hold renewed. No seat
+     * is held while anyone is waitlisted, since free seats go to the waitlist.
+     *
+     * @param event The event; its available slots are set to the recomputed count
+     * @param userId The ID of the user
+     * @param ttlSeconds How long the seat is held
+     * @return The hold, whose expiry is by this client's clock, or null if no seat is free
+     * @throws SQLException if a database error occurs
+     */
+    SeatHold placeHold(Event event, int userId, int ttlSeconds) throws SQLException;
+
+    /**
+     * Give a held seat back before its hold expires
+     *
+     * @param holdId The ID of the hold
+     * @return true if the hold was still there
+     * @throws SQLException if a database error occurs
+     */
+    boolean releaseHold(int holdId) throws SQLException;
+
+    /**
+     * Delete a batch of expired holds, oldest first. Holds being expired by
+     * another client at the same time are skipped rather than waited for.
+     *
+     * @param limit The most holds to delete
+     * @return The IDs of the events whose holds were deleted; their available
+     *         slots are stale until their waitlists are promoted
+     * @throws SQLException if a database error occurs
+     */
+    Set<Integer> expireHolds(int limit) throws SQLException;
+}
@@ -3,7 +3,11 @@ package dao;
 import models.User;
 import models.User.UserRole;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Access Object interface for User model
@@ -32,6 +36,15 @@ public interface UserDAO {
      */
     User findByEmail(String email) throws SQLException;
 
+    /**
+     * Get the subset of a user's columns needed to authenticate and open a dashboard.
+     * Security questions, answers and audit timestamps are left unset.
+     * @param email the email of the user to get
+     * @return the user with the specified email, or null if not found
+     * @throws SQLException if there is an error accessing the database
+     */
+    User findLoginByEmail(String email) throws SQLException;
+
     /**
      * Create a new user
      * @param name the user's name
@@ -94,6 +107,37 @@ public interface UserDAO {
      */
     void updateLastLogin(int userId) throws SQLException;
 
+    /**
+     * Update only a user's stored password hash
+     * @param userId the ID of the user to update
+     * @param passwordHash the new password hash
+     * @throws SQLException if there is an error accessing the database
+     */
+    void updatePassword(int userId, String passwordHash) throws SQLException;
+
+    /**
+     * Update the last login timestamp of several users in one batch
+     * @param lastLogins map of user ID to last login time
+     * @throws SQLException if there is an error accessing the database
+     */
+    void updateLastLogins(Map<Integer, Timestamp> lastLogins) throws SQLException;
+
+    /**
+     * Find which of the given emails already belong to a user
+     * @param emails the emails to look up
+     * @return the emails that are taken, in lower case
+     * @throws SQLException if there is an error accessing the database
+     */
+    Set<String> findExistingEmails(Collection<String> emails) throws SQLException;
+
+    /**
+     * Insert several new users in one batch and one transaction; either all are
+     * inserted or none are. Passwords must already be hashed.
+     * @param users the users to insert; their IDs are set on success
+     * @throws SQLException if there is an error accessing the database
+     */
+    void createUsers(List<User> users) throws SQLException;
+
     User findById(int id) throws SQLException;
 
     List<User> findAll() throws SQLException;
@@ -21,6 +21,10 @@ CREATE TABLE IF NOT EXISTS users (
     security_answer2 VARCHAR(255) NOT NULL
 );
 
+-- The login lookup (AuthController.login) is a point read on the UNIQUE email index.
+-- For databases that added the covering idx_users_login, which only doubled the cost of user writes:
+-- ALTER TABLE users DROP INDEX idx_users_login;
+
 -- Events table
 CREATE TABLE IF NOT EXISTS events (
     id INT PRIMARY KEY AUTO_INCREMENT,
@@ -43,9 +47,14 @@ CREATE TABLE IF NOT EXISTS events (
     additional_documents_type VARCHAR(50),
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (organizer_id) REFERENCES users(id)
+    FOREIGN KEY (organizer_id) REFERENCES users(id),
+    -- Date range lookups for the calendar (EventDAO.findBetween)
+    INDEX idx_events_date (event_date)
 );
 
+-- For databases created before idx_events_date existed:
+-- ALTER TABLE events ADD INDEX idx_events_date (event_date);
+
 -- Registrations table
 CREATE TABLE IF NOT EXISTS registrations (
     id INT PRIMARY KEY AUTO_INCREMENT,
@@ -56,7 +65,27 @@ CREATE TABLE IF NOT EXISTS registrations (
     checked_in BOOLEAN DEFAULT FALSE,
     FOREIGN KEY (event_id) REFERENCES events(id),
     FOREIGN KEY (user_id) REFERENCES users(id),
-    UNIQUE KEY unique_registration (event_id, user_id)
+    UNIQUE KEY unique_registration (event_id, user_id),
+    -- Seat counts and the oldest waitlisted first (RegistrationDAO.promoteWaitlisted)
+    INDEX idx_registrations_seats (event_id, status, registration_date)
+);
+
+-- For databases created before idx_registrations_seats existed:
+-- ALTER TABLE registrations ADD INDEX idx_registrations_seats (event_id, status, registration_date);
+
+-- Seats held while attendees confirm a registration; a hold counts as a taken seat until it expires
+CREATE TABLE IF NOT EXISTS seat_holds (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    event_id INT NOT NULL,
+    user_id INT NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    -- A hold is short-lived, so one left over never blocks deleting its event or user
+    FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_seat_hold (event_id, user_id),
+    -- Live holds per event and the batched expiry sweep (SeatHoldDAO)
+    INDEX idx_seat_holds_event (event_id, expires_at),
+    INDEX idx_seat_holds_expiry (expires_at)
 );
 
 -- Feedback table
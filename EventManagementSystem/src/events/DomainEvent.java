@@ -0,0 +1,35 @@
+package events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Something that happened in the domain, published by a controller on the
+ * {@link EventBus} after the change has been written to the database.
+ */
+public abstract class DomainEvent {
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * Key identifying what this event is about, for coalescing several events
+     * delivered in the same frame into one
+     *
+     * @return The key, or null if this event is never coalesced
+     */
+    protected Object getCoalesceKey() {
+        return null;
+    }
+
+    /**
+     * Combine this event with an earlier one that has the same coalesce key
+     *
+     * @param earlier The earlier event
+     * @return The event to deliver in place of both
+     */
+    protected DomainEvent coalesce(DomainEvent earlier) {
+        return this;
+    }
+}
@@ -0,0 +1,104 @@
+package events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The domain events delivered to an EDT subscriber in one frame
+ */
+public final class DomainEventBatch {
+    private final List<DomainEvent> events;
+
+    private DomainEventBatch(List<DomainEvent> events) {
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Build a batch, replacing events that share a coalesce key with one
+     * combined event at the position of the latest
+     *
+     * @param published Events in publication order
+     * @return The coalesced batch
+     */
+    static DomainEventBatch coalesce(List<DomainEvent> published) {
+        Map<Object, DomainEvent> byKey = new LinkedHashMap<>();
+        for (DomainEvent event : published) {
+            Object key = event.getCoalesceKey();
+            if (key == null) {
+                byKey.put(new Object(), event);
+                continue;
+            }
+            DomainEvent earlier = byKey.remove(key);
+            byKey.put(key, earlier != null ? event.coalesce(earlier) : event);
+        }
+        return new DomainEventBatch(new ArrayList<>(byKey.values()));
+    }
+
+    /**
+     * Keep only the events of the given types
+     *
+     * @param types Event types, or empty for all
+     * @return The filtered batch, possibly this one
+     */
+    DomainEventBatch filter(List<Class<? extends DomainEvent>> types) {
+        if (types.isEmpty()) {
+            return this;
+        }
+        List<DomainEvent> matching = new ArrayList<>();
+        for (DomainEvent event : events) {
+            for (Class<? extends DomainEvent> type : types) {
+                if (type.isInstance(event)) {
+                    matching.add(event);
+                    break;
+                }
+            }
+        }
+        return matching.size() == events.size() ? this : new DomainEventBatch(matching);
+    }
+
+    public List<DomainEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Get the events of one type
+     *
+     * @param type Event type, subclasses included
+     * @return Matching events in publication order
+     */
+    public <T extends DomainEvent> List<T> getEvents(Class<T> type) {
+        List<T> matching = new ArrayList<>();
+        for (DomainEvent event : events) {
+            if (type.isInstance(event)) {
+                matching.add(type.cast(event));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Check whether the batch holds any event of a type
+     *
+     * @param type Event type, subclasses included
+     * @return true if at least one event matches
+     */
+    public boolean contains(Class<? extends DomainEvent> type) {
+        for (DomainEvent event : events) {
+            if (type.isInstance(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
@@ -0,0 +1,14 @@
+package events;
+
+/**
+ * Receives batches of domain events on the Event Dispatch Thread
+ */
+@FunctionalInterface
+public interface DomainEventListener {
+    /**
+     * Apply the events published since the previous frame
+     *
+     * @param batch The coalesced events, in publication order
+     */
+    void onEvents(DomainEventBatch batch);
+}
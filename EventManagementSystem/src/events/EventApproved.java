@@ -0,0 +1,13 @@
+package events;
+
+import models.Event;
+import models.Event.EventStatus;
+
+/**
+ * An event was approved by an administrator
+ */
+public class EventApproved extends EventStatusChanged {
+    EventApproved(Event event, EventStatus previousStatus) {
+        super(event, previousStatus);
+    }
+}
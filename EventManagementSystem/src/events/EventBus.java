@@ -0,0 +1,186 @@
+package events;
+
+import logging.LogManager;
+import logging.Logger;
+import metrics.EdtWatchdog;
+import metrics.MetricsRegistry;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe bus for {@link DomainEvent}s.
+ *
+ * Direct subscribers are called on the publishing thread, which suits caches
+ * that must never serve stale data. EDT subscribers are called on the Event
+ * Dispatch Thread at most once per frame with everything published since the
+ * previous frame, coalesced, so a burst of changes costs one UI update.
+ */
+public final class EventBus {
+    private static final Logger LOGGER = LogManager.getLogger(EventBus.class);
+    private static final int FRAME_MILLIS = 16;
+
+    private static EventBus instance;
+
+    private final List<DirectSubscription<?>> directSubscriptions = new CopyOnWriteArrayList<>();
+    private final List<EdtSubscription> edtSubscriptions = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<DomainEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Timer frameTimer;
+
+    // Private constructor for singleton pattern
+    private EventBus() {
+        frameTimer = new Timer(FRAME_MILLIS, e -> flush());
+        frameTimer.setRepeats(false);
+        // A coalescing timer drops a firing while the previous flush is still running,
+        // which would strand events published during that flush
+        frameTimer.setCoalesce(false);
+    }
+
+    /**
+     * Get the singleton instance of the EventBus
+     *
+     * @return The EventBus instance
+     */
+    public static synchronized EventBus getInstance() {
+        if (instance == null) {
+            instance = new EventBus();
+        }
+        return instance;
+    }
+
+    /**
+     * A registered listener
+     */
+    public interface Subscription {
+        /**
+         * Stop delivering events to the listener
+         */
+        void unsubscribe();
+    }
+
+    /**
+     * Call a listener on the publishing thread for every event of a type
+     *
+     * @param type Event type, subclasses included
+     * @param listener The listener
+     * @return The subscription
+     */
+    public <T extends DomainEvent> Subscription subscribe(Class<T> type, Consumer<? super T> listener) {
+        DirectSubscription<T> subscription = new DirectSubscription<>(type, listener);
+        directSubscriptions.add(subscription);
+        return () -> directSubscriptions.remove(subscription);
+    }
+
+    /**
+     * Call a listener on the EDT once per frame with the coalesced events of
+     * the given types published since the previous frame
+     *
+     * @param listener The listener
+     * @param types Event types, subclasses included; none means all
+     * @return The subscription
+     */
+    @SafeVarargs
+    public final Subscription subscribeOnEdt(DomainEventListener listener, Class<? extends DomainEvent>... types) {
+        // Copied element by element: handing the generic array on would make the @SafeVarargs claim unsound
+        List<Class<? extends DomainEvent>> typeList = new ArrayList<>(types.length);
+        for (Class<? extends DomainEvent> type : types) {
+            typeList.add(type);
+        }
+        EdtSubscription subscription = new EdtSubscription(listener, typeList);
+        edtSubscriptions.add(subscription);
+        return () -> edtSubscriptions.remove(subscription);
+    }
+
+    /**
+     * Publish an event. Direct subscribers run before this returns; EDT
+     * subscribers run on the next frame.
+     *
+     * @param event The event
+     */
+    public void publish(DomainEvent event) {
+        for (DirectSubscription<?> subscription : directSubscriptions) {
+            subscription.deliver(event);
+        }
+        if (edtSubscriptions.isEmpty()) {
+            return;
+        }
+        pending.add(event);
+        if (flushScheduled.compareAndSet(false, true)) {
+            frameTimer.start();
+        }
+    }
+
+    /**
+     * Deliver everything published so far to the EDT subscribers without
+     * waiting for the frame timer. Must be called on the EDT.
+     */
+    public void flush() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            throw new IllegalStateException("EventBus.flush must be called on the Event Dispatch Thread");
+        }
+        // Clear the flag first so events published from here on schedule another frame
+        flushScheduled.set(false);
+        List<DomainEvent> published = new ArrayList<>();
+        for (DomainEvent event = pending.poll(); event != null; event = pending.poll()) {
+            published.add(event);
+        }
+        if (published.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        DomainEventBatch batch = DomainEventBatch.coalesce(published);
+        for (EdtSubscription subscription : edtSubscriptions) {
+            DomainEventBatch events = batch.filter(subscription.types);
+            if (events.isEmpty()) {
+                continue;
+            }
+            try {
+                subscription.listener.onEvents(events);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Domain event listener {} failed", subscription.listener.getClass().getName(), e);
+            }
+        }
+        MetricsRegistry.getInstance().operation(EdtWatchdog.LAYER_EDT, "EventBus.flush")
+            .record(System.nanoTime() - start, batch.size(), 0);
+        LOGGER.debug("Delivered {} domain events ({} published)", batch.size(), published.size());
+    }
+
+    private static final class DirectSubscription<T extends DomainEvent> {
+        private final Class<T> type;
+        private final Consumer<? super T> listener;
+
+        DirectSubscription(Class<T> type, Consumer<? super T> listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+
+        void deliver(DomainEvent event) {
+            if (!type.isInstance(event)) {
+                return;
+            }
+            try {
+                listener.accept(type.cast(event));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Domain event listener for {} failed", type.getSimpleName(), e);
+            }
+        }
+    }
+
+    private static final class EdtSubscription {
+        private final DomainEventListener listener;
+        private final List<Class<? extends DomainEvent>> types;
+
+        EdtSubscription(DomainEventListener listener, List<Class<? extends DomainEvent>> types) {
+            this.listener = listener;
+            this.types = types;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package events;
+
+import models.Event;
+
+/**
+ * An event was created
+ */
+public class EventCreated extends DomainEvent {
+    private final Event event;
+
+    public EventCreated(Event event) {
+        this.event = event;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+}
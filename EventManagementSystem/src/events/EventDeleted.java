@@ -0,0 +1,16 @@
+package events;
+
+/**
+ * An event was deleted
+ */
+public class EventDeleted extends DomainEvent {
+    private final int eventId;
+
+    public EventDeleted(int eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,13 @@
+package events;
+
+import models.Event;
+import models.Event.EventStatus;
+
+/**
+ * An event was rejected by an administrator
+ */
+public class EventRejected extends EventStatusChanged {
+    EventRejected(Event event, EventStatus previousStatus) {
+        super(event, previousStatus);
+    }
+}
@@ -0,0 +1,59 @@
+package events;
+
+import models.Event;
+import models.Event.EventStatus;
+
+/**
+ * An event moved from one status to another
+ */
+public class EventStatusChanged extends DomainEvent {
+    private final Event event;
+    private final EventStatus previousStatus;
+
+    protected EventStatusChanged(Event event, EventStatus previousStatus) {
+        this.event = event;
+        this.previousStatus = previousStatus;
+    }
+
+    /**
+     * Create the event for a status change, using {@link EventApproved} or
+     * {@link EventRejected} where they apply
+     *
+     * @param event The event, already carrying its new status
+     * @param previousStatus The status before the change
+     * @return The domain event
+     */
+    public static EventStatusChanged of(Event event, EventStatus previousStatus) {
+        switch (event.getStatus()) {
+            case APPROVED:
+                return new EventApproved(event, previousStatus);
+            case REJECTED:
+                return new EventRejected(event, previousStatus);
+            default:
+                return new EventStatusChanged(event, previousStatus);
+        }
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public EventStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public EventStatus getStatus() {
+        return event.getStatus();
+    }
+
+    @Override
+    protected Object getCoalesceKey() {
+        return "event-status:" + event.getId();
+    }
+
+    @Override
+    protected DomainEvent coalesce(DomainEvent earlier) {
+        // Keep the status the event had before the first change in the frame
+        return of(event, ((EventStatusChanged) earlier).previousStatus);
+    }
+}
@@ -0,0 +1,23 @@
+package events;
+
+import models.Event;
+
+/**
+ * An event's details changed without a change of status
+ */
+public class EventUpdated extends DomainEvent {
+    private final Event event;
+
+    public EventUpdated(Event event) {
+        this.event = event;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    @Override
+    protected Object getCoalesceKey() {
+        return "event:" + event.getId();
+    }
+}
@@ -0,0 +1,18 @@
+package events;
+
+import models.Notification;
+
+/**
+ * A notification was stored for a user
+ */
+public class NotificationSent extends DomainEvent {
+    private final Notification notification;
+
+    public NotificationSent(Notification notification) {
+        this.notification = notification;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+}
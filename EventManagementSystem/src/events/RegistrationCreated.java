@@ -0,0 +1,18 @@
+package events;
+
+import models.Registration;
+
+/**
+ * A user registered or joined the waitlist for an event
+ */
+public class RegistrationCreated extends DomainEvent {
+    private final Registration registration;
+
+    public RegistrationCreated(Registration registration) {
+        this.registration = registration;
+    }
+
+    public Registration getRegistration() {
+        return registration;
+    }
+}
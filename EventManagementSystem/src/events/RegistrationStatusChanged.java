@@ -0,0 +1,40 @@
+package events;
+
+import models.Registration;
+import models.Registration.Status;
+
+/**
+ * A registration was cancelled, promoted from the waitlist, checked in or
+ * otherwise moved to another status
+ */
+public class RegistrationStatusChanged extends DomainEvent {
+    private final Registration registration;
+    private final Status previousStatus;
+
+    public RegistrationStatusChanged(Registration registration, Status previousStatus) {
+        this.registration = registration;
+        this.previousStatus = previousStatus;
+    }
+
+    public Registration getRegistration() {
+        return registration;
+    }
+
+    public Status getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Status getStatus() {
+        return registration.getStatus();
+    }
+
+    @Override
+    protected Object getCoalesceKey() {
+        return "registration-status:" + registration.getId();
+    }
+
+    @Override
+    protected DomainEvent coalesce(DomainEvent earlier) {
+        return new RegistrationStatusChanged(registration, ((RegistrationStatusChanged) earlier).previousStatus);
+    }
+}
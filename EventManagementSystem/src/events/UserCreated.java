@@ -0,0 +1,18 @@
+package events;
+
+import models.User;
+
+/**
+ * A user account was created
+ */
+public class UserCreated extends DomainEvent {
+    private final User user;
+
+    public UserCreated(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+}
@@ -0,0 +1,16 @@
+package events;
+
+/**
+ * A user account was deleted
+ */
+public class UserDeleted extends DomainEvent {
+    private final int userId;
+
+    public UserDeleted(int userId) {
+        this.userId = userId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+}
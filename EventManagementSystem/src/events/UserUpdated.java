@@ -0,0 +1,23 @@
+package events;
+
+import models.User;
+
+/**
+ * A user's profile or active flag changed
+ */
+public class UserUpdated extends DomainEvent {
+    private final User user;
+
+    public UserUpdated(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    protected Object getCoalesceKey() {
+        return "user:" + user.getId();
+    }
+}
@@ -0,0 +1,64 @@
+package export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows as RFC 4180 CSV
+ */
+public class CsvRowWriter implements RowWriter {
+    private final Writer writer;
+
+    /**
+     * @param writer Destination, ideally buffered; not closed
+     */
+    public CsvRowWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void start(String title, String[] headers) throws IOException {
+        // Byte order mark so spreadsheet programs read the file as UTF-8
+        writer.write('\uFEFF');
+        writeRow(headers);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(RowWriter.toText(values[i]), !RowWriter.isNumber(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String text, boolean isText) throws IOException {
+        // A leading =, +, - or @ would make a spreadsheet evaluate a name or email as a formula
+        boolean formula = isText && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0;
+        boolean quote = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+            || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,43 @@
+package export;
+
+import java.io.Writer;
+
+/**
+ * File formats data can be exported to
+ */
+public enum ExportFormat {
+    CSV("CSV (comma-separated values)", "csv"),
+    SPREADSHEET("Excel spreadsheet (XML)", "xml");
+
+    private final String description;
+    private final String extension;
+
+    ExportFormat(String description, String extension) {
+        this.description = description;
+        this.extension = extension;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Create a row writer for this format
+     *
+     * @param writer Destination, ideally buffered; not closed by the row writer
+     * @return The row writer
+     */
+    public RowWriter open(Writer writer) {
+        switch (this) {
+            case SPREADSHEET:
+                return new SpreadsheetRowWriter(writer);
+            case CSV:
+            default:
+                return new CsvRowWriter(writer);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package export;
+
+/**
+ * Receives progress from a running export and lets its caller stop it
+ */
+public interface ExportProgress {
+    /**
+     * Called every few hundred rows and once at the end, on the exporting thread
+     *
+     * @param written Rows written so far
+     * @param total Rows the export will write, or -1 if not known
+     */
+    void onProgress(long written, long total);
+
+    /**
+     * Polled between rows; once true the export stops and its file is discarded
+     *
+     * @return true if the export should stop
+     */
+    boolean isCancelled();
+}
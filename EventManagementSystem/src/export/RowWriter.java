@@ -0,0 +1,82 @@
+package export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes exported rows to a file format one row at a time, so nothing but
+ * the current row is held in memory
+ */
+public interface RowWriter {
+    DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * Begin the output and write the column headers
+     *
+     * @param title Sheet or document title
+     * @param headers Column headers
+     * @throws IOException if writing fails
+     */
+    void start(String title, String[] headers) throws IOException;
+
+    /**
+     * Write one row
+     *
+     * @param values One value per header; null for an empty cell
+     * @throws IOException if writing fails
+     */
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * End the output and flush it; the underlying writer is not closed
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException;
+
+    /**
+     * Whether a value should be written as a number rather than text
+     *
+     * @param value A column value
+     * @return true for integers and decimals
+     */
+    static boolean isNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short
+            || value instanceof BigDecimal || value instanceof Double || value instanceof Float;
+    }
+
+    /**
+     * Format a column value as text
+     *
+     * @param value A column value as read from JDBC
+     * @return The text, empty for null
+     */
+    static String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime) {
+            return DATE_TIME_FORMAT.format((LocalDateTime) value);
+        }
+        if (value instanceof Timestamp) {
+            return DATE_TIME_FORMAT.format(((Timestamp) value).toLocalDateTime());
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toString();
+        }
+        if (value instanceof LocalDate) {
+            return value.toString();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "Yes" : "No";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows as a single-sheet SpreadsheetML workbook, the XML format
+ * Excel and LibreOffice open directly. Unlike .xlsx it is plain text, so it
+ * can be streamed row by row without building the sheet in memory.
+ */
+public class SpreadsheetRowWriter implements RowWriter {
+    private final Writer writer;
+
+    /**
+     * @param writer Destination, ideally buffered; not closed
+     */
+    public SpreadsheetRowWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void start(String title, String[] headers) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<?mso-application progid=\"Excel.Sheet\"?>\n");
+        writer.write("<Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\""
+            + " xmlns:ss=\"urn:schemas-microsoft-com:office:spreadsheet\">\n");
+        writer.write(" <Styles><Style ss:ID=\"header\"><Font ss:Bold=\"1\"/></Style></Styles>\n");
+        writer.write(" <Worksheet ss:Name=\"");
+        writeEscaped(sheetName(title));
+        writer.write("\">\n  <Table>\n");
+        writer.write("   <Row ss:StyleID=\"header\">");
+        for (String header : headers) {
+            writeCell(header);
+        }
+        writer.write("</Row>\n");
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        writer.write("   <Row>");
+        for (Object value : values) {
+            writeCell(value);
+        }
+        writer.write("</Row>\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write("  </Table>\n </Worksheet>\n</Workbook>\n");
+        writer.flush();
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            writer.write("<Cell/>");
+        } else if (RowWriter.isNumber(value)) {
+            writer.write("<Cell><Data ss:Type=\"Number\">");
+            writer.write(RowWriter.toText(value));
+            writer.write("</Data></Cell>");
+        } else {
+            writer.write("<Cell><Data ss:Type=\"String\">");
+            writeEscaped(RowWriter.toText(value));
+            writer.write("</Data></Cell>");
+        }
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': writer.write("&lt;"); break;
+                case '>': writer.write("&gt;"); break;
+                case '&': writer.write("&amp;"); break;
+                case '"': writer.write("&quot;"); break;
+                case '\n': writer.write("&#10;"); break;
+                case '\r': break;
+                default:
+                    // Other control characters are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t') {
+                        writer.write(c);
+                    }
+            }
+        }
+    }
+
+    private static String sheetName(String title) {
+        // Excel sheet names are at most 31 characters and cannot contain : \ / ? * [ ]
+        String name = title == null ? "" : title.replaceAll("[:\\\\/?*\\[\\]]", " ").trim();
+        if (name.isEmpty()) {
+            return "Sheet1";
+        }
+        return name.length() > 31 ? name.substring(0, 31) : name;
+    }
+}
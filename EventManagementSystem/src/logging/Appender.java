@@ -0,0 +1,11 @@
+package logging;
+
+import java.io.IOException;
+
+/**
+ * Destination for formatted log lines. Only ever called from the appender thread.
+ */
+public interface Appender {
+    void append(Level level, String line) throws IOException;
+    void flush() throws IOException;
+}
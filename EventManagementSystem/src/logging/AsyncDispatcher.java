@@ -0,0 +1,217 @@
+package logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free multi-producer, single-consumer ring buffer of log records with
+ * a background appender thread.
+ *
+ * Producers claim a sequence number with a CAS, fill the preallocated slot
+ * and publish it through a volatile write; no locks are taken and nothing is
+ * allocated. When the buffer is full, TRACE to INFO records are dropped (and
+ * counted) while WARN and ERROR wait for space. The appender thread formats
+ * records, hands them to the appenders, and flushes whenever it has caught up.
+ */
+final class AsyncDispatcher {
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final long FULL_PARK_NANOS = 50_000;
+    private static final long SHUTDOWN_WAIT_MILLIS = 2000;
+    private static final DateTimeFormatter TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Slot[] slots;
+    private final int mask;
+    /** Next sequence to claim */
+    private final AtomicLong claimed = new AtomicLong();
+    /** Every sequence below this has been consumed and its slot may be reused */
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final List<Appender> appenders;
+    private final Thread thread;
+    private volatile boolean closing;
+
+    private static final class Slot {
+        volatile long published = -1;
+        Level level;
+        String logger;
+        String thread;
+        long timestamp;
+        String message;
+        int argCount;
+        Object arg1;
+        Object arg2;
+        Object arg3;
+    }
+
+    /**
+     * @param capacity Ring size, rounded up to a power of two
+     * @param appenders Destinations for formatted lines
+     */
+    AsyncDispatcher(int capacity, List<Appender> appenders) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.appenders = appenders;
+        this.thread = new Thread(this::run, "log-appender");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "log-shutdown"));
+    }
+
+    void publish(Level level, String logger, String message, int argCount, Object arg1, Object arg2, Object arg3) {
+        long sequence;
+        while (true) {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                if (level.compareTo(Level.WARN) < 0 || closing) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.level = level;
+        slot.logger = logger;
+        slot.thread = Thread.currentThread().getName();
+        slot.timestamp = System.currentTimeMillis();
+        slot.message = message;
+        slot.argCount = argCount;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.arg3 = arg3;
+        slot.published = sequence;
+        if (level.compareTo(Level.WARN) >= 0) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void run() {
+        long next = 0;
+        long reportedDrops = 0;
+        boolean unflushed = false;
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.published == next) {
+                line.setLength(0);
+                format(slot, line);
+                Level level = slot.level;
+                slot.logger = null;
+                slot.message = null;
+                slot.arg1 = null;
+                slot.arg2 = null;
+                slot.arg3 = null;
+                next++;
+                consumed.set(next);
+                write(level, line.toString());
+                unflushed = true;
+                continue;
+            }
+            long drops = dropped.sum();
+            if (drops != reportedDrops) {
+                write(Level.WARN, TIMESTAMP.format(Instant.now()) + " WARN  [log-appender] logging - "
+                    + (drops - reportedDrops) + " log messages dropped, buffer full" + System.lineSeparator());
+                reportedDrops = drops;
+                unflushed = true;
+            }
+            if (unflushed) {
+                flush();
+                unflushed = false;
+            }
+            if (closing && claimed.get() == next) {
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void close() {
+        closing = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(Level level, String line) {
+        for (Appender appender : appenders) {
+            try {
+                appender.append(level, line);
+            } catch (Exception e) {
+                // Nowhere left to report it; keep the other appenders going
+            }
+        }
+    }
+
+    private void flush() {
+        for (Appender appender : appenders) {
+            try {
+                appender.flush();
+            } catch (Exception e) {
+                // Same as write
+            }
+        }
+    }
+
+    private static void format(Slot slot, StringBuilder line) {
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(slot.timestamp), line);
+        line.append(' ').append(slot.level.name());
+        for (int i = slot.level.name().length(); i < 5; i++) {
+            line.append(' ');
+        }
+        line.append(" [").append(slot.thread).append("] ").append(slot.logger).append(" - ");
+
+        Object[] args = { slot.arg1, slot.arg2, slot.arg3 };
+        int used = 0;
+        String message = slot.message != null ? slot.message : "null";
+        int start = 0;
+        int placeholder;
+        while (used < slot.argCount && (placeholder = message.indexOf("{}", start)) >= 0) {
+            line.append(message, start, placeholder);
+            appendArg(line, args[used++]);
+            start = placeholder + 2;
+        }
+        line.append(message, start, message.length());
+
+        Object last = slot.argCount > 0 ? args[slot.argCount - 1] : null;
+        if (used < slot.argCount && last instanceof Throwable) {
+            line.append(System.lineSeparator());
+            StringWriter trace = new StringWriter();
+            ((Throwable) last).printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        } else {
+            line.append(System.lineSeparator());
+        }
+    }
+
+    private static void appendArg(StringBuilder line, Object arg) {
+        try {
+            line.append(arg);
+        } catch (RuntimeException e) {
+            line.append("[toString failed: ").append(e).append(']');
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package logging;
+
+/**
+ * Writes WARN and ERROR lines to stderr and everything else to stdout
+ */
+public class ConsoleAppender implements Appender {
+
+    @Override
+    public void append(Level level, String line) {
+        if (level.compareTo(Level.WARN) >= 0) {
+            System.err.print(line);
+        } else {
+            System.out.print(line);
+        }
+    }
+
+    @Override
+    public void flush() {
+        System.out.flush();
+        System.err.flush();
+    }
+}
@@ -0,0 +1,32 @@
+package logging;
+
+import utils.RollingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes log lines to a size-bounded rolling file
+ */
+public class FileAppender implements Appender {
+    private final RollingFile file;
+
+    /**
+     * @param path Log file
+     * @param maxBytes Size at which the file is rolled
+     * @param backups Number of rolled files to keep
+     */
+    public FileAppender(Path path, long maxBytes, int backups) {
+        this.file = new RollingFile(path, maxBytes, backups);
+    }
+
+    @Override
+    public void append(Level level, String line) throws IOException {
+        file.append(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        file.flush();
+    }
+}
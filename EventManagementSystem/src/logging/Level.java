@@ -0,0 +1,24 @@
+package logging;
+
+/**
+ * Log levels, from most to least verbose
+ */
+public enum Level {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Parse a level name, case-insensitively
+     *
+     * @param name Level name, e.g. "debug"
+     * @return The level
+     * @throws IllegalArgumentException if the name is not a level
+     */
+    public static Level parse(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,158 @@
+package logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates loggers and holds the logging configuration.
+ *
+ * Configuration is read from an optional {@code ems-logging.properties} on
+ * the classpath and then from system properties prefixed with "ems.log.":
+ * <pre>
+ * level=INFO                  root level
+ * level.dao=DEBUG             level for the dao package and below
+ * level.utils.DatabaseUtil=WARN
+ * console=true                write to stdout/stderr
+ * file=logs/ems.log           rolling log file, empty to disable
+ * file.maxBytes=5242880
+ * file.backups=5
+ * bufferSize=8192             ring buffer slots
+ * </pre>
+ * Levels can also be changed at runtime with {@link #setLevel(String, Level)}.
+ */
+public final class LogManager {
+    private static final String CONFIG_RESOURCE = "ems-logging.properties";
+    private static final String PROPERTY_PREFIX = "ems.log.";
+    private static final String LEVEL_KEY = "level";
+
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    /** Configured levels by logger name prefix; "" is the root */
+    private static final Map<String, Level> levels = new ConcurrentHashMap<>();
+    private static final Properties config = loadConfig();
+    private static volatile AsyncDispatcher dispatcher;
+
+    static {
+        levels.put("", Level.INFO);
+        for (String key : config.stringPropertyNames()) {
+            if (key.equals(LEVEL_KEY)) {
+                levels.put("", Level.parse(config.getProperty(key)));
+            } else if (key.startsWith(LEVEL_KEY + ".")) {
+                levels.put(key.substring(LEVEL_KEY.length() + 1), Level.parse(config.getProperty(key)));
+            }
+        }
+    }
+
+    private LogManager() {
+    }
+
+    /**
+     * Get the logger for a class
+     *
+     * @param type The class
+     * @return The logger named after the class
+     */
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    /**
+     * Get a logger by name
+     *
+     * @param name Logger name, usually a class name
+     * @return The logger
+     */
+    public static Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, key -> new Logger(key, effectiveLevel(key)));
+    }
+
+    /**
+     * Change the level of a package, class or the root at runtime
+     *
+     * @param prefix Package or class name, or "" for the root
+     * @param level The new level
+     */
+    public static void setLevel(String prefix, Level level) {
+        levels.put(prefix, level);
+        for (Logger logger : loggers.values()) {
+            logger.setLevel(effectiveLevel(logger.getName()));
+        }
+    }
+
+    /**
+     * Get the number of messages dropped because the ring buffer was full
+     *
+     * @return Dropped message count
+     */
+    public static long getDroppedCount() {
+        return dispatcher().getDroppedCount();
+    }
+
+    /**
+     * The level configured for the longest matching prefix of a logger name
+     */
+    static Level effectiveLevel(String name) {
+        String prefix = name;
+        while (true) {
+            Level level = levels.get(prefix);
+            if (level != null) {
+                return level;
+            }
+            int dot = prefix.lastIndexOf('.');
+            if (dot < 0) {
+                return levels.getOrDefault("", Level.INFO);
+            }
+            prefix = prefix.substring(0, dot);
+        }
+    }
+
+    static AsyncDispatcher dispatcher() {
+        AsyncDispatcher current = dispatcher;
+        if (current == null) {
+            synchronized (LogManager.class) {
+                current = dispatcher;
+                if (current == null) {
+                    current = createDispatcher();
+                    dispatcher = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static AsyncDispatcher createDispatcher() {
+        List<Appender> appenders = new ArrayList<>();
+        if (Boolean.parseBoolean(config.getProperty("console", "true"))) {
+            appenders.add(new ConsoleAppender());
+        }
+        String file = config.getProperty("file", "logs/ems.log");
+        if (!file.isEmpty()) {
+            appenders.add(new FileAppender(Paths.get(file),
+                Long.parseLong(config.getProperty("file.maxBytes", "5242880")),
+                Integer.parseInt(config.getProperty("file.backups", "5"))));
+        }
+        return new AsyncDispatcher(Integer.parseInt(config.getProperty("bufferSize", "8192")), appenders);
+    }
+
+    private static Properties loadConfig() {
+        Properties properties = new Properties();
+        try (InputStream in = LogManager.class.getClassLoader().getResourceAsStream(CONFIG_RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            // Fall back to defaults and system properties
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(PROPERTY_PREFIX)) {
+                properties.setProperty(key.substring(PROPERTY_PREFIX.length()), System.getProperty(key));
+            }
+        }
+        return properties;
+    }
+}
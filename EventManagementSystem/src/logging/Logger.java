@@ -0,0 +1,124 @@
+package logging;
+
+/**
+ * Named logger. Obtain one per class with {@link LogManager#getLogger(Class)}.
+ *
+ * Messages use "{}" placeholders for up to three arguments. A disabled call
+ * costs one volatile read and allocates nothing (primitive arguments are
+ * still boxed at the call site). Enabled calls only copy references into the
+ * ring buffer; the message is formatted on the appender thread, so arguments
+ * should not be mutated after logging. A {@link Throwable} passed as the last
+ * argument without a matching placeholder is logged with its stack trace.
+ */
+public final class Logger {
+    private final String name;
+    private volatile int threshold;
+
+    Logger(String name, Level level) {
+        this.name = name;
+        this.threshold = level.ordinal();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void setLevel(Level level) {
+        this.threshold = level.ordinal();
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= threshold;
+    }
+
+    public void trace(String message) {
+        log(Level.TRACE, message, 0, null, null, null);
+    }
+
+    public void trace(String message, Object arg) {
+        log(Level.TRACE, message, 1, arg, null, null);
+    }
+
+    public void trace(String message, Object arg1, Object arg2) {
+        log(Level.TRACE, message, 2, arg1, arg2, null);
+    }
+
+    public void trace(String message, Object arg1, Object arg2, Object arg3) {
+        log(Level.TRACE, message, 3, arg1, arg2, arg3);
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, 0, null, null, null);
+    }
+
+    public void debug(String message, Object arg) {
+        log(Level.DEBUG, message, 1, arg, null, null);
+    }
+
+    public void debug(String message, Object arg1, Object arg2) {
+        log(Level.DEBUG, message, 2, arg1, arg2, null);
+    }
+
+    public void debug(String message, Object arg1, Object arg2, Object arg3) {
+        log(Level.DEBUG, message, 3, arg1, arg2, arg3);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, 0, null, null, null);
+    }
+
+    public void info(String message, Object arg) {
+        log(Level.INFO, message, 1, arg, null, null);
+    }
+
+    public void info(String message, Object arg1, Object arg2) {
+        log(Level.INFO, message, 2, arg1, arg2, null);
+    }
+
+    public void info(String message, Object arg1, Object arg2, Object arg3) {
+        log(Level.INFO, message, 3, arg1, arg2, arg3);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, 0, null, null, null);
+    }
+
+    public void warn(String message, Object arg) {
+        log(Level.WARN, message, 1, arg, null, null);
+    }
+
+    public void warn(String message, Object arg1, Object arg2) {
+        log(Level.WARN, message, 2, arg1, arg2, null);
+    }
+
+    public void warn(String message, Object arg1, Object arg2, Object arg3) {
+        log(Level.WARN, message, 3, arg1, arg2, arg3);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, 0, null, null, null);
+    }
+
+    public void error(String message, Object arg) {
+        log(Level.ERROR, message, 1, arg, null, null);
+    }
+
+    public void error(String message, Object arg1, Object arg2) {
+        log(Level.ERROR, message, 2, arg1, arg2, null);
+    }
+
+    public void error(String message, Object arg1, Object arg2, Object arg3) {
+        log(Level.ERROR, message, 3, arg1, arg2, arg3);
+    }
+
+    private void log(Level level, String message, int argCount, Object arg1, Object arg2, Object arg3) {
+        if (level.ordinal() < threshold) {
+            return;
+        }
+        LogManager.dispatcher().publish(level, name, message, argCount, arg1, arg2, arg3);
+    }
+}
@@ -0,0 +1,37 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one public controller method call
+ */
+@Name("ems.ControllerCall")
+@Label("Controller Call")
+@Category({"Event Management System", "Controller"})
+@Description("A public controller method, with the event and user it acted on")
+@StackTrace(false)
+public class ControllerCallEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Event ID")
+    int eventId;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("SQL Statements")
+    int statementCount;
+
+    @Label("Rows")
+    long rowCount;
+
+    @Label("BLOB Bytes")
+    @DataAmount
+    long blobBytes;
+}
@@ -0,0 +1,129 @@
+package metrics;
+
+import models.Event;
+import models.Feedback;
+import models.Notification;
+import models.Registration;
+import models.User;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps DAO implementations in a proxy that records every interface method
+ * in the {@link MetricsRegistry}
+ */
+public final class DAOMetrics {
+
+    private DAOMetrics() {
+    }
+
+    /**
+     * Instrument a DAO
+     *
+     * @param type DAO interface, e.g. EventDAO.class
+     * @param dao Implementation to wrap
+     * @param <T> DAO interface type
+     * @return A proxy implementing {@code type} that delegates to {@code dao}
+     */
+    public static <T> T instrument(Class<T> type, T dao) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            new Handler(type.getSimpleName(), dao)));
+    }
+
+    private static final class Handler implements InvocationHandler {
+        private final String prefix;
+        private final Object target;
+        private final Map<Method, OperationStats> stats = new ConcurrentHashMap<>();
+
+        Handler(String prefix, Object target) {
+            this.prefix = prefix + '.';
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            OperationStats operation = stats.computeIfAbsent(method,
+                m -> MetricsRegistry.getInstance().operation(MetricsRegistry.LAYER_DAO, prefix + m.getName()));
+            // A registration DAO loading its events through the event DAO must not credit them twice
+            Operation scope = Operation.current();
+            boolean outermost = scope != null && scope.enterDao();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                operation.recordError(System.nanoTime() - start);
+                throw e.getCause();
+            } finally {
+                if (scope != null) {
+                    scope.exitDao();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long rows = rows(result);
+            long bytes = blobBytes(result);
+            if (args != null) {
+                for (Object arg : args) {
+                    bytes += blobBytes(arg);
+                }
+            }
+            operation.record(elapsed, rows, bytes);
+            if (outermost) {
+                scope.addResult(rows, bytes);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Count materialised rows: the size of a returned list, or one for a model object
+     */
+    private static long rows(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        return result instanceof Event || result instanceof Registration || result instanceof User
+            || result instanceof Feedback || result instanceof Notification ? 1 : 0;
+    }
+
+    /**
+     * Sum the image and document BLOBs carried by a value
+     */
+    private static long blobBytes(Object value) {
+        if (value instanceof Event) {
+            Event event = (Event) value;
+            return length(event.getMainImage()) + length(event.getAdditionalDocuments());
+        }
+        if (value instanceof Registration) {
+            return blobBytes(((Registration) value).getEvent());
+        }
+        if (value instanceof Feedback) {
+            return blobBytes(((Feedback) value).getEvent());
+        }
+        if (value instanceof Notification) {
+            return blobBytes(((Notification) value).getEvent());
+        }
+        if (value instanceof Collection) {
+            long total = 0;
+            for (Object element : (Collection<?>) value) {
+                total += blobBytes(element);
+            }
+            return total;
+        }
+        return 0;
+    }
+
+    private static long length(byte[] data) {
+        return data == null ? 0 : data.length;
+    }
+}
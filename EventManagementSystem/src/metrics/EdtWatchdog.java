@@ -0,0 +1,264 @@
+package metrics;
+
+import logging.LogManager;
+import logging.Logger;
+import utils.RollingFile;
+
+import java.awt.EventQueue;
+import java.awt.Frame;
+import java.awt.KeyboardFocusManager;
+import java.awt.Window;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Watchdog that heartbeats the Swing Event Dispatch Thread.
+ *
+ * A daemon thread posts a heartbeat to the EDT every {@value #HEARTBEAT_MS} ms.
+ * When a heartbeat has been waiting longer than the stall threshold
+ * (-Dems.edt.stallMs, default 500) the EDT stack is captured, together with
+ * the last statement the EDT prepared when the stack is inside JDBC code. Once the EDT recovers, the stall is
+ * written to a rolling report file (-Dems.edt.log, default
+ * logs/edt-stalls.log) with the screen that was active. Stall durations are
+ * kept per screen, recorded in the {@link MetricsRegistry} under the "edt"
+ * layer, and written to the report as a histogram every ten minutes and at
+ * exit.
+ */
+public class EdtWatchdog {
+    private static final Logger LOGGER = LogManager.getLogger(EdtWatchdog.class);
+
+    public static final String LAYER_EDT = "edt";
+
+    private static final long HEARTBEAT_MS = 100;
+    private static final long HISTOGRAM_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long MAX_REPORT_BYTES = 1024 * 1024;
+    private static final int REPORT_BACKUPS = 5;
+    /** Upper bounds of the stall duration histogram buckets, in milliseconds */
+    private static final long[] BUCKET_BOUNDS_MS = { 1000, 2000, 5000, 10000, Long.MAX_VALUE };
+    private static final String[] BUCKET_LABELS = { "<1s", "1-2s", "2-5s", "5-10s", ">10s" };
+
+    private static final EdtWatchdog instance = new EdtWatchdog();
+
+    private final long stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("ems.edt.stallMs", 500));
+    private final RollingFile report = new RollingFile(
+        Paths.get(System.getProperty("ems.edt.log", "logs/edt-stalls.log")), MAX_REPORT_BYTES, REPORT_BACKUPS);
+    private final Map<String, ScreenStalls> stallsByScreen = new ConcurrentHashMap<>();
+
+    private volatile Thread edt;
+    private volatile boolean beatPending;
+    private volatile long beatPostedAt;
+    private volatile long lastBeatDelay;
+    private boolean histogramDirty;
+    private Thread thread;
+
+    // Private constructor for singleton pattern
+    private EdtWatchdog() {
+    }
+
+    /**
+     * Get the singleton instance of the EdtWatchdog
+     *
+     * @return The EdtWatchdog instance
+     */
+    public static EdtWatchdog getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start watching the EDT; later calls have no effect
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "edt-watchdog");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writeHistogram, "edt-watchdog-shutdown"));
+    }
+
+    private void run() {
+        Stall stall = null;
+        long lastHistogram = System.nanoTime();
+        try {
+            while (true) {
+                if (!beatPending) {
+                    if (stall != null) {
+                        finish(stall, lastBeatDelay);
+                        stall = null;
+                    }
+                    // Only beat while a window is open, so AWT can still shut down on its own
+                    if (hasDisplayableWindow()) {
+                        beatPending = true;
+                        beatPostedAt = System.nanoTime();
+                        EventQueue.invokeLater(this::beat);
+                    }
+                } else if (stall == null && edt != null
+                        && System.nanoTime() - beatPostedAt > stallThresholdNanos) {
+                    stall = capture();
+                }
+                if (histogramDirty && System.nanoTime() - lastHistogram > HISTOGRAM_INTERVAL_NANOS) {
+                    writeHistogram();
+                    lastHistogram = System.nanoTime();
+                }
+                Thread.sleep(HEARTBEAT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the EDT
+     */
+    private void beat() {
+        Thread current = Thread.currentThread();
+        if (edt != current) {
+            // The EDT is replaced after an uncaught exception
+            SqlInspector.getInstance().watch(current);
+            edt = current;
+        }
+        lastBeatDelay = System.nanoTime() - beatPostedAt;
+        beatPending = false;
+    }
+
+    private Stall capture() {
+        Thread dispatchThread = edt;
+        Stall stall = new Stall();
+        stall.startedAt = System.currentTimeMillis()
+            - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beatPostedAt);
+        stall.screen = currentScreen();
+        stall.stack = dispatchThread.getStackTrace();
+        if (inJdbc(stall.stack)) {
+            stall.sql = SqlInspector.getInstance().getLastStatement(dispatchThread);
+        }
+        return stall;
+    }
+
+    /**
+     * Whether the stack is blocked in the driver or the pool, so that the
+     * last statement the thread prepared is the one it is waiting on
+     */
+    private static boolean inJdbc(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith("com.mysql.") || className.startsWith("com.zaxxer.hikari.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDisplayableWindow() {
+        for (Window window : Window.getWindows()) {
+            if (window.isDisplayable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Name of the frame that owns the active window, e.g. "AdminDashboardNew"
+     */
+    private static String currentScreen() {
+        Window window = KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow();
+        while (window != null && !(window instanceof Frame)) {
+            window = window.getOwner();
+        }
+        if (window == null) {
+            for (Window candidate : Window.getWindows()) {
+                if (candidate instanceof Frame && candidate.isShowing()) {
+                    window = candidate;
+                    break;
+                }
+            }
+        }
+        return window != null ? window.getClass().getSimpleName() : "Unknown";
+    }
+
+    private void finish(Stall stall, long nanos) {
+        stallsByScreen.computeIfAbsent(stall.screen, screen -> new ScreenStalls()).record(nanos);
+        MetricsRegistry.getInstance().operation(LAYER_EDT, stall.screen).record(nanos, 0, 0);
+        histogramDirty = true;
+
+        StringBuilder entry = new StringBuilder();
+        entry.append("=== EDT stall ").append(format(stall.startedAt)).append(" | ").append(stall.screen)
+            .append(" | ").append(TimeUnit.NANOSECONDS.toMillis(nanos)).append(" ms").append(System.lineSeparator());
+        entry.append("SQL: ").append(stall.sql != null ? stall.sql : "(none)").append(System.lineSeparator());
+        for (StackTraceElement frame : stall.stack) {
+            entry.append("\tat ").append(frame).append(System.lineSeparator());
+        }
+        entry.append(System.lineSeparator());
+        write(entry);
+    }
+
+    private synchronized void writeHistogram() {
+        if (stallsByScreen.isEmpty()) {
+            return;
+        }
+        StringBuilder summary = new StringBuilder();
+        summary.append("=== EDT stall histogram ").append(format(System.currentTimeMillis()))
+            .append(" (threshold ").append(TimeUnit.NANOSECONDS.toMillis(stallThresholdNanos)).append(" ms)")
+            .append(System.lineSeparator());
+        for (Map.Entry<String, ScreenStalls> entry : new TreeMap<>(stallsByScreen).entrySet()) {
+            ScreenStalls stalls = entry.getValue();
+            summary.append(String.format(Locale.ROOT, "%-22s count=%d p50=%d ms p90=%d ms p99=%d ms max=%d ms |",
+                entry.getKey(), stalls.latency.getCount(),
+                TimeUnit.NANOSECONDS.toMillis(stalls.latency.getPercentileNanos(50)),
+                TimeUnit.NANOSECONDS.toMillis(stalls.latency.getPercentileNanos(90)),
+                TimeUnit.NANOSECONDS.toMillis(stalls.latency.getPercentileNanos(99)),
+                TimeUnit.NANOSECONDS.toMillis(stalls.latency.getMaxNanos())));
+            for (int i = 0; i < BUCKET_LABELS.length; i++) {
+                summary.append(' ').append(BUCKET_LABELS[i]).append('=').append(stalls.buckets.get(i));
+            }
+            summary.append(System.lineSeparator());
+        }
+        summary.append(System.lineSeparator());
+        histogramDirty = false;
+        write(summary);
+    }
+
+    private void write(CharSequence text) {
+        try {
+            report.append(text);
+            report.flush();
+        } catch (IOException e) {
+            LOGGER.error("Error writing EDT stall report: {}", e.getMessage());
+        }
+    }
+
+    private static String format(long millis) {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(millis));
+    }
+
+    private static final class Stall {
+        long startedAt;
+        String screen;
+        StackTraceElement[] stack;
+        String sql;
+    }
+
+    private static final class ScreenStalls {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length);
+
+        void record(long nanos) {
+            latency.record(nanos);
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (millis >= BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+        }
+    }
+}
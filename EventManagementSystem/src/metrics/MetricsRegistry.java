@@ -0,0 +1,152 @@
+package metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of operation metrics.
+ *
+ * Every operation is registered with the platform MBean server under
+ * {@code ems:type=Operation,layer=<layer>,name=<name>} so it can be watched
+ * from JConsole or VisualVM; the registry itself is {@code ems:type=Metrics}.
+ */
+public class MetricsRegistry implements MetricsRegistryMXBean {
+    public static final String LAYER_CONTROLLER = "controller";
+    public static final String LAYER_DAO = "dao";
+
+    private static final String DOMAIN = "ems";
+    private static final MetricsRegistry instance = new MetricsRegistry();
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    // Private constructor for singleton pattern
+    private MetricsRegistry() {
+        register(this, DOMAIN + ":type=Metrics");
+    }
+
+    /**
+     * Get the singleton instance of the MetricsRegistry
+     *
+     * @return The MetricsRegistry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get or create the stats for an operation
+     *
+     * @param layer Layer the operation belongs to, e.g. {@link #LAYER_DAO}
+     * @param name Operation name, e.g. "EventDAO.findById"
+     * @return The stats for that operation
+     */
+    public OperationStats operation(String layer, String name) {
+        return operations.computeIfAbsent(layer + ':' + name, key -> {
+            OperationStats stats = new OperationStats(layer, name);
+            register(stats, DOMAIN + ":type=Operation,layer=" + ObjectName.quote(layer)
+                + ",name=" + ObjectName.quote(name));
+            return stats;
+        });
+    }
+
+    /**
+     * Get all operations, slowest in total first
+     *
+     * @return Snapshot list of operation stats
+     */
+    public List<OperationStats> getOperations() {
+        List<OperationStats> snapshot = new ArrayList<>(operations.values());
+        snapshot.sort(Comparator.comparingDouble(OperationStats::getTotalMillis).reversed()
+            .thenComparing(OperationStats::getName));
+        return snapshot;
+    }
+
+    @Override
+    public int getOperationCount() {
+        return operations.size();
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long total = 0;
+        for (OperationStats stats : operations.values()) {
+            total += stats.getCalls();
+        }
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        for (OperationStats stats : operations.values()) {
+            stats.reset();
+        }
+    }
+
+    @Override
+    public String exportCsv(String path) {
+        try {
+            return exportCsv(Paths.get(path)).toAbsolutePath().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Export all operations as CSV to a file
+     *
+     * @param path File to write
+     * @return The written file
+     * @throws IOException if the file cannot be written
+     */
+    public Path exportCsv(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            exportCsv(writer);
+        }
+        return path;
+    }
+
+    /**
+     * Export all operations as CSV
+     *
+     * @param writer Destination; not closed
+     * @throws IOException if writing fails
+     */
+    public void exportCsv(Writer writer) throws IOException {
+        writer.write("layer,operation,calls,errors,rows,blob_bytes,total_ms,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (OperationStats stats : getOperations()) {
+            writer.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                stats.getLayer(), stats.getName(), stats.getCalls(), stats.getErrors(), stats.getRows(),
+                stats.getBlobBytes(), stats.getTotalMillis(), stats.getMeanMillis(), stats.getP50Millis(),
+                stats.getP90Millis(), stats.getP99Millis(), stats.getMaxMillis()));
+        }
+        writer.flush();
+    }
+
+    private void register(Object mbean, String objectName) {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(mbean, name);
+            }
+        } catch (JMException e) {
+            // Metrics still work in-process without JMX
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package metrics;
+
+/**
+ * JMX management interface for the metrics registry
+ */
+public interface MetricsRegistryMXBean {
+    int getOperationCount();
+    long getTotalCalls();
+    void reset();
+    String exportCsv(String path);
+}
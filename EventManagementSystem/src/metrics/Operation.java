@@ -0,0 +1,267 @@
+package metrics;
+
+import models.Event;
+import models.User;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Timing scope for a controller entry point.
+ *
+ * Each public controller method runs its body through {@link #call} or
+ * {@link #run}, which close the scope when the body returns or throws.
+ * Scopes nest per thread, and rows and BLOB bytes returned by DAO
+ * calls made inside a scope are also credited to it. Each call is also
+ * emitted as a {@link ControllerCallEvent} when Flight Recorder is recording.
+ */
+public final class Operation implements AutoCloseable {
+    private static final ThreadLocal<Operation> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final OperationStats stats;
+    private final Operation parent;
+    private final long startNanos;
+    private final ControllerCallEvent event = new ControllerCallEvent();
+    private int eventId;
+    private int userId;
+    private int statements;
+    private long rows;
+    private long blobBytes;
+    /** Instrumented DAO calls currently running inside this operation */
+    private int daoDepth;
+    private Map<String, Integer> statementCounts;
+
+    /**
+     * Controller body timed by an operation
+     */
+    @FunctionalInterface
+    public interface Body<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * Controller body without a result timed by an operation
+     */
+    @FunctionalInterface
+    public interface VoidBody<E extends Exception> {
+        void run() throws E;
+    }
+
+    private Operation(String name, Operation parent) {
+        this.name = name;
+        this.stats = MetricsRegistry.getInstance().operation(MetricsRegistry.LAYER_CONTROLLER, name);
+        this.parent = parent;
+        this.startNanos = System.nanoTime();
+        event.begin();
+    }
+
+    /**
+     * Start timing a controller operation on the current thread
+     *
+     * @param name Operation name, e.g. "EventController.createEvent"
+     * @return The open scope, to be closed when the method returns
+     */
+    public static Operation start(String name) {
+        Operation operation = new Operation(name, CURRENT.get());
+        CURRENT.set(operation);
+        return operation;
+    }
+
+    /**
+     * Get the innermost open operation on the current thread
+     *
+     * @return The current operation, or null outside any controller call
+     */
+    public static Operation current() {
+        return CURRENT.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Tag this call with the event it acts on
+     *
+     * @param eventId Event ID
+     * @return This operation
+     */
+    public Operation withEvent(int eventId) {
+        this.eventId = eventId;
+        return this;
+    }
+
+    /**
+     * Tag this call with the event it acts on
+     *
+     * @param event The event, may be null
+     * @return This operation
+     */
+    public Operation withEvent(Event event) {
+        return event != null ? withEvent(event.getId()) : this;
+    }
+
+    /**
+     * Tag this call with the user it acts for
+     *
+     * @param userId User ID
+     * @return This operation
+     */
+    public Operation withUser(int userId) {
+        this.userId = userId;
+        return this;
+    }
+
+    /**
+     * Tag this call with the user it acts for
+     *
+     * @param user The user, may be null
+     * @return This operation
+     */
+    public Operation withUser(User user) {
+        return user != null ? withUser(user.getId()) : this;
+    }
+
+    /**
+     * Get the event ID tagged on this operation or the nearest enclosing one
+     *
+     * @return The event ID, or 0 if none was tagged
+     */
+    public int getEventId() {
+        for (Operation operation = this; operation != null; operation = operation.parent) {
+            if (operation.eventId != 0) {
+                return operation.eventId;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the user ID tagged on this operation or the nearest enclosing one
+     *
+     * @return The user ID, or 0 if none was tagged
+     */
+    public int getUserId() {
+        for (Operation operation = this; operation != null; operation = operation.parent) {
+            if (operation.userId != 0) {
+                return operation.userId;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the outermost operation this one is nested in
+     *
+     * @return The root operation, possibly this one
+     */
+    public Operation getRoot() {
+        Operation root = this;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        return root;
+    }
+
+    /**
+     * Enter an instrumented DAO call
+     *
+     * @return Whether this is the outermost DAO call, the only one whose
+     *         results should be credited
+     */
+    boolean enterDao() {
+        return daoDepth++ == 0;
+    }
+
+    /**
+     * Leave an instrumented DAO call entered with {@link #enterDao()}
+     */
+    void exitDao() {
+        daoDepth--;
+    }
+
+    /**
+     * Credit DAO results to this operation and every enclosing one
+     *
+     * @param rowCount Rows returned
+     * @param bytes BLOB bytes transferred
+     */
+    void addResult(long rowCount, long bytes) {
+        for (Operation operation = this; operation != null; operation = operation.parent) {
+            operation.rows += rowCount;
+            operation.blobBytes += bytes;
+        }
+    }
+
+    /**
+     * Credit an executed SQL statement to this operation and every enclosing one
+     */
+    void addStatement() {
+        for (Operation operation = this; operation != null; operation = operation.parent) {
+            operation.statements++;
+        }
+    }
+
+    /**
+     * Count an executed SQL statement fingerprint against this operation
+     *
+     * @param fingerprint Statement fingerprint
+     * @return How many times that fingerprint has now run inside this operation
+     */
+    int countStatement(String fingerprint) {
+        if (statementCounts == null) {
+            statementCounts = new HashMap<>();
+        }
+        return statementCounts.merge(fingerprint, 1, Integer::sum);
+    }
+
+    /**
+     * Run a controller body inside this scope and close the scope afterwards
+     *
+     * @param body The method body
+     * @return What the body returned
+     * @throws E if the body throws
+     */
+    public <T, E extends Exception> T call(Body<T, E> body) throws E {
+        try {
+            return body.call();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Run a controller body inside this scope and close the scope afterwards
+     *
+     * @param body The method body
+     * @throws E if the body throws
+     */
+    public <E extends Exception> void run(VoidBody<E> body) throws E {
+        try {
+            body.run();
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        stats.record(System.nanoTime() - startNanos, rows, blobBytes);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = name;
+            event.eventId = getEventId();
+            event.userId = getUserId();
+            event.statementCount = statements;
+            event.rowCount = rows;
+            event.blobBytes = blobBytes;
+            event.commit();
+        }
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, latency histogram, rows and BLOB bytes for one DAO method or
+ * controller entry point
+ */
+public class OperationStats implements OperationStatsMXBean {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String layer;
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder blobBytes = new LongAdder();
+
+    OperationStats(String layer, String name) {
+        this.layer = layer;
+        this.name = name;
+    }
+
+    /**
+     * Record a completed call
+     *
+     * @param nanos Elapsed time in nanoseconds
+     * @param rowCount Rows returned by the call
+     * @param bytes BLOB bytes read or written by the call
+     */
+    public void record(long nanos, long rowCount, long bytes) {
+        latency.record(nanos);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        if (bytes > 0) {
+            blobBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Record a call that ended with an exception
+     *
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public void recordError(long nanos) {
+        latency.record(nanos);
+        errors.increment();
+    }
+
+    @Override
+    public String getLayer() {
+        return layer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public long getBlobBytes() {
+        return blobBytes.sum();
+    }
+
+    @Override
+    public double getTotalMillis() {
+        return latency.getTotalNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.getMeanNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.getPercentileNanos(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP90Millis() {
+        return latency.getPercentileNanos(90) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.getPercentileNanos(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        errors.reset();
+        rows.reset();
+        blobBytes.reset();
+    }
+}
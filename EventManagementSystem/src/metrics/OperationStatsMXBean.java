@@ -0,0 +1,20 @@
+package metrics;
+
+/**
+ * JMX view of a single instrumented operation
+ */
+public interface OperationStatsMXBean {
+    String getLayer();
+    String getName();
+    long getCalls();
+    long getErrors();
+    long getRows();
+    long getBlobBytes();
+    double getTotalMillis();
+    double getMeanMillis();
+    double getP50Millis();
+    double getP90Millis();
+    double getP99Millis();
+    double getMaxMillis();
+    void reset();
+}
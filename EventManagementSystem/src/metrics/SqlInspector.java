@@ -0,0 +1,421 @@
+package metrics;
+
+import logging.LogManager;
+import logging.Logger;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * JDBC interception layer for spotting N+1 query patterns and slow statements.
+ *
+ * The shared connection is wrapped once; while the inspector is disabled it
+ * hands out the driver's own statements, so the only cost is one proxy
+ * dispatch per prepareStatement. While enabled, every executed statement is
+ * fingerprinted (literals replaced by ?) and counted against the outermost
+ * controller {@link Operation} on the thread. When one fingerprint runs more
+ * than {@link #getRepeatThreshold()} times inside a single controller call a
+ * warning with the call-site stack is logged, once per fingerprint and call.
+ * Statements slower than {@link #getSlowThresholdMillis()} are logged as well.
+ *
+ * Independently of the switch, statements are also wrapped while a Flight
+ * Recorder session has {@code ems.SqlStatement} enabled, and each one is
+ * emitted as a {@link SqlStatementEvent} with its fingerprint and row count.
+ * For the {@link EdtWatchdog} the connection proxy also remembers the last
+ * statement prepared on the Event Dispatch Thread. That is a plain field
+ * write on the EDT only and does not wrap the statement.
+ *
+ * Switch it on with -Dems.sql.inspect=true, over JMX (ems:type=SqlInspector)
+ * or from the admin performance view.
+ */
+public class SqlInspector implements SqlInspectorMXBean {
+    private static final Logger LOGGER = LogManager.getLogger(SqlInspector.class);
+
+    private static final SqlInspector instance = new SqlInspector();
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int FINGERPRINT_CACHE_LIMIT = 1024;
+    private static final int STACK_DEPTH = 12;
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder repeatWarnings = new LongAdder();
+    private final LongAdder slowStatements = new LongAdder();
+
+    private volatile boolean enabled = Boolean.getBoolean("ems.sql.inspect");
+    /** Thread whose statements are remembered for stall reports, normally the EDT */
+    private volatile Thread watchedThread;
+    private volatile String watchedSql;
+    private volatile String watchedOperation;
+    private volatile int repeatThreshold = Integer.getInteger("ems.sql.repeatThreshold", 5);
+    private volatile long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("ems.sql.slowMs", 200));
+
+    // Private constructor for singleton pattern
+    private SqlInspector() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName("ems:type=SqlInspector"));
+        } catch (JMException e) {
+            // Still usable in-process without JMX
+        }
+    }
+
+    /**
+     * Get the singleton instance of the SqlInspector
+     *
+     * @return The SqlInspector instance
+     */
+    public static SqlInspector getInstance() {
+        return instance;
+    }
+
+    /**
+     * Wrap a connection so its statements can be inspected
+     *
+     * @param connection The driver connection
+     * @return A proxy delegating to {@code connection}
+     */
+    public static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    /**
+     * Normalise a SQL string so that statements differing only in literal
+     * values share one fingerprint
+     *
+     * @param sql The SQL text
+     * @return The fingerprint
+     */
+    public static String fingerprint(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String cached = instance.fingerprints.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("IN (...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        if (instance.fingerprints.size() < FINGERPRINT_CACHE_LIMIT) {
+            instance.fingerprints.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * Remember the statements prepared on a thread, for stall reports
+     *
+     * @param thread The thread to watch, or null to stop watching
+     */
+    void watch(Thread thread) {
+        watchedSql = null;
+        watchedOperation = null;
+        watchedThread = thread;
+    }
+
+    /**
+     * Get the statement most recently prepared or executed on the watched
+     * thread. It is only the statement the thread is blocked in when its
+     * stack is inside the driver.
+     *
+     * @param thread The thread
+     * @return "operation: fingerprint", or null if {@code thread} is not
+     *         watched or has not run a statement yet
+     */
+    public String getLastStatement(Thread thread) {
+        String sql = watchedSql;
+        if (thread != watchedThread || sql == null) {
+            return null;
+        }
+        String operation = watchedOperation;
+        return (operation != null ? operation : "no operation") + ": " + fingerprint(sql);
+    }
+
+    /**
+     * Called for every statement prepared or executed; a field read unless
+     * the current thread is the watched one
+     */
+    private void remember(String sql) {
+        if (sql != null && Thread.currentThread() == watchedThread) {
+            Operation operation = Operation.current();
+            watchedOperation = operation != null ? operation.getName() : null;
+            watchedSql = sql;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    @Override
+    public void setRepeatThreshold(int repeatThreshold) {
+        if (repeatThreshold < 1) {
+            throw new IllegalArgumentException("Repeat threshold must be at least 1");
+        }
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    @Override
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("Slow threshold cannot be negative");
+        }
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    @Override
+    public long getRepeatWarningCount() {
+        return repeatWarnings.sum();
+    }
+
+    @Override
+    public long getSlowStatementCount() {
+        return slowStatements.sum();
+    }
+
+    @Override
+    public void resetCounters() {
+        statements.reset();
+        repeatWarnings.reset();
+        slowStatements.reset();
+    }
+
+    /**
+     * Account for one executed statement
+     */
+    private void executed(String sql, long nanos) {
+        statements.increment();
+        String fingerprint = fingerprint(sql);
+        Operation operation = Operation.current();
+        String caller = operation != null ? operation.getRoot().getName() : Thread.currentThread().getName();
+
+        if (operation != null) {
+            int count = operation.getRoot().countStatement(fingerprint);
+            if (count == repeatThreshold + 1) {
+                repeatWarnings.increment();
+                LOGGER.warn("Possible N+1: statement repeated more than {} times in {}: {}",
+                    repeatThreshold, caller, fingerprint + callSite());
+            }
+        }
+        if (nanos > slowThresholdNanos) {
+            slowStatements.increment();
+            LOGGER.warn("Slow statement ({} ms) in {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), caller, fingerprint);
+        }
+    }
+
+    /**
+     * Application frames of the current stack, skipping JDBC, proxy and JDK frames
+     */
+    private static String callSite() {
+        StringBuilder site = new StringBuilder();
+        int frames = 0;
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String className = frame.getClassName();
+            if (className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.")
+                || className.startsWith("sun.") || className.startsWith("com.sun.") || className.startsWith("com.mysql.")
+                || className.startsWith("metrics.") || className.contains("$Proxy")) {
+                continue;
+            }
+            site.append(System.lineSeparator()).append("\tat ").append(frame);
+            if (++frames == STACK_DEPTH) {
+                break;
+            }
+        }
+        return site.toString();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Statements only need wrapping while inspection is on or a Flight
+     * Recorder session is collecting {@link SqlStatementEvent}s
+     */
+    private boolean shouldWrap() {
+        return enabled || new SqlStatementEvent().isEnabled();
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlInspector.invoke(connection, method, args);
+            if (!(result instanceof Statement)) {
+                return result;
+            }
+            // prepareStatement/prepareCall carry their SQL; createStatement passes it to execute
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            instance.remember(sql);
+            if (!instance.shouldWrap()) {
+                return result;
+            }
+            Class<?> type = method.getReturnType();
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                new StatementHandler((Statement) result, sql));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        /** Flight Recorder event of a query whose result set is still open */
+        private SqlStatementEvent pending;
+        private long pendingRows;
+
+        StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!EXECUTE_METHODS.contains(name)) {
+                if ("close".equals(name)) {
+                    finishPending();
+                }
+                return SqlInspector.invoke(statement, method, args);
+            }
+            finishPending();
+            String executed = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            Operation operation = Operation.current();
+            if (operation != null) {
+                operation.addStatement();
+            }
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            if (sql == null) {
+                instance.remember(executed);
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = SqlInspector.invoke(statement, method, args);
+            } finally {
+                if (instance.enabled) {
+                    instance.executed(executed, System.nanoTime() - start);
+                }
+            }
+            if (!event.isEnabled()) {
+                return result;
+            }
+            event.fingerprint = fingerprint(executed);
+            if (operation != null) {
+                event.operation = operation.getName();
+                event.eventId = operation.getEventId();
+                event.userId = operation.getUserId();
+            }
+            if (result instanceof ResultSet) {
+                // Keep timing until the rows have been read
+                pending = event;
+                pendingRows = 0;
+                return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                    new ResultSetHandler((ResultSet) result, this));
+            }
+            event.rowCount = updateCount(result);
+            event.commit();
+            return result;
+        }
+
+        void finishPending() {
+            SqlStatementEvent event = pending;
+            if (event != null) {
+                pending = null;
+                event.rowCount = pendingRows;
+                event.commit();
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final StatementHandler owner;
+
+        ResultSetHandler(ResultSet resultSet, StatementHandler owner) {
+            this.resultSet = resultSet;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlInspector.invoke(resultSet, method, args);
+            String name = method.getName();
+            if ("next".equals(name)) {
+                if (Boolean.TRUE.equals(result)) {
+                    owner.pendingRows++;
+                }
+            } else if ("close".equals(name)) {
+                owner.finishPending();
+            }
+            return result;
+        }
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        long total = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                total += Math.max(count, 0);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                total += Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,17 @@
+package metrics;
+
+/**
+ * JMX management interface for the SQL inspector
+ */
+public interface SqlInspectorMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    int getRepeatThreshold();
+    void setRepeatThreshold(int repeatThreshold);
+    long getSlowThresholdMillis();
+    void setSlowThresholdMillis(long slowThresholdMillis);
+    long getStatementCount();
+    long getRepeatWarningCount();
+    long getSlowStatementCount();
+    void resetCounters();
+}
@@ -0,0 +1,33 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one SQL statement, from execute until its
+ * result set is closed. Carries a stack trace so EDT stalls can be traced
+ * back to the screen that issued the query.
+ */
+@Name("ems.SqlStatement")
+@Label("SQL Statement")
+@Category({"Event Management System", "JDBC"})
+@Description("A SQL statement executed on the application connection")
+public class SqlStatementEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Event ID")
+    int eventId;
+
+    @Label("User ID")
+    int userId;
+
+    @Label("Fingerprint")
+    String fingerprint;
+
+    @Label("Rows")
+    @Description("Rows read from the result set, or the update count")
+    long rowCount;
+}
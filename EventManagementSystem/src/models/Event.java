@@ -1,5 +1,6 @@
 package models;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +9,9 @@ import java.util.List;
  * Model class representing an event in the system
  */
 public class Event {
+    /** Events have no end time of their own; they are taken to last this long */
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(2);
+
     private int id;
     private String title;
     private String description;
@@ -153,6 +157,15 @@ public class Event {
         this.eventDate = eventDate;
     }
 
+    /**
+     * Get when the event ends, assuming {@link #DEFAULT_DURATION}
+     *
+     * @return The end time, or null if the event has no date
+     */
+    public LocalDateTime getEndDate() {
+        return eventDate != null ? eventDate.plus(DEFAULT_DURATION) : null;
+    }
+
     public LocalDateTime getRegistrationDeadline() {
         return registrationDeadline;
     }
@@ -279,8 +292,11 @@ public class Event {
     }
 
     public boolean isAvailable() {
-        return availableSlots > 0 && 
-               LocalDateTime.now().isBefore(registrationDeadline) &&
+        return availableSlots > 0 && isOpenForRegistration();
+    }
+
+    public boolean isOpenForRegistration() {
+        return LocalDateTime.now().isBefore(registrationDeadline) &&
                status == EventStatus.APPROVED;
     }
 
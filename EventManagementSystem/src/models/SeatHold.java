@@ -0,0 +1,67 @@
+package models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Model class representing a seat held for an attendee while they confirm a registration
+ */
+public class SeatHold {
+    private int id;
+    private int eventId;
+    private int userId;
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public SeatHold() {
+    }
+
+    // Constructor with all fields
+    public SeatHold(int id, int eventId, int userId, LocalDateTime expiresAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(int eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Check if the hold has run out
+     *
+     * @return true if the seat is no longer held
+     */
+    public boolean isExpired() {
+        return !LocalDateTime.now().isBefore(expiresAt);
+    }
+}
@@ -1,18 +1,37 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import controllers.AuthController;
 import controllers.RegistrationController;
 import controllers.EventController;
 import controllers.UserController;
 import controllers.SessionManager;
+import controllers.ExportController;
+import events.DomainEvent;
+import events.DomainEventBatch;
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import events.NotificationSent;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
+import events.UserCreated;
+import events.UserDeleted;
+import models.Notification;
 import models.User;
 import models.Event;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.border.*;
 import javax.swing.table.*;
@@ -44,8 +63,10 @@ import java.awt.Desktop;
  */
 @SuppressWarnings("unused")
 public class AdminDashboardNew extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(AdminDashboardNew.class);
+
     private JPanel mainContentPanel;
-    private CardLayout cardLayout;
+    private LazyCardLayout cardLayout;
     private String username;
     private EventController eventController = EventController.getInstance();
     private UserController userController = UserController.getInstance();
@@ -60,8 +81,25 @@ public class AdminDashboardNew extends JFrame {
 
     // Store references to dynamic panels for updating
     private JPanel statsPanelRef;
-    private JPanel pendingListRef;
-    private JPanel activityListRef;
+    private StampedList<Event> pendingListRef;
+    private StampedList<String[]> activityListRef;
+    private StampedList<Event> pendingApprovalsListRef;
+    private DefaultTableModel eventsTableModel;
+    private final Map<String, JLabel> statValueLabels = new HashMap<>();
+    private final Map<String, JLabel> eventStatValueLabels = new HashMap<>();
+
+    // Dashboard state kept in step with domain events, so a change patches the UI instead of re-querying
+    private final Map<Integer, Event.EventStatus> eventStatuses = new HashMap<>();
+    private final List<Event> pendingEvents = new ArrayList<>();
+    // Pending events ticked on the Pending Approvals page for batch moderation
+    private final Set<Integer> selectedPendingIds = new HashSet<>();
+    private JButton approveSelectedButton;
+    private JButton rejectSelectedButton;
+    private final List<String[]> recentActivities = new ArrayList<>();
+    private int userCount;
+    private EventBus.Subscription domainEventSubscription;
+
+    private static final int DASHBOARD_LIST_SIZE = 5;
 
     /**
      * Creates a new admin dashboard
@@ -69,28 +107,22 @@ public class AdminDashboardNew extends JFrame {
      * @throws SQLException if there is an error connecting to the database
      */
     public AdminDashboardNew() throws SQLException {
-        System.out.println("Initializing AdminDashboardNew");
         // Get the current user from the session
         User currentUser = SessionManager.getInstance().getCurrentUser();
-        System.out.println("Current user: " + (currentUser != null ? currentUser.getName() : "null"));
 
         if (currentUser == null || currentUser.getRole() != User.UserRole.ADMIN) {
-            System.out.println("Access denied - User is null or not admin");
+            LOGGER.warn("Admin dashboard access denied for {}", currentUser != null ? currentUser.getEmail() : "no session");
             // If no user is logged in or not an admin, redirect to login screen
             SwingUtilities.invokeLater(() -> {
                 UIUtils.showError(this, "Access denied. Only administrators can access this dashboard.");
                 dispose();
-                try {
-                    new LoginScreen().setVisible(true);
-                } catch (SQLException e) {
-                    UIUtils.showError(this, "Error opening login screen: " + e.getMessage());
-                }
+                new LoginScreen().setVisible(true);
             });
             return;
         }
 
         username = currentUser.getName();
-        System.out.println("Setting up dashboard for user: " + username);
+        LOGGER.debug("Setting up admin dashboard for {}", username);
 
         setTitle("Event Management System - Admin Dashboard");
         setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -109,11 +141,8 @@ public class AdminDashboardNew extends JFrame {
             }
         });
 
-        System.out.println("Setting up UI components");
         setupUI();
-        System.out.println("Setting frame visible");
         setVisible(true);
-        System.out.println("AdminDashboardNew initialization complete");
     }
 
     /**
@@ -123,8 +152,8 @@ public class AdminDashboardNew extends JFrame {
         JPanel mainPanel = UIUtils.createPanel(new BorderLayout(), true);
         mainPanel.setBackground(AppColors.BACKGROUND_LIGHT);
 
-        mainContentPanel = UIUtils.createPanel(new CardLayout(), true);
-        cardLayout = (CardLayout) mainContentPanel.getLayout();
+        cardLayout = new LazyCardLayout();
+        mainContentPanel = UIUtils.createPanel(cardLayout, true);
 
         // Use the shared header and sidebar
         HeaderPanel headerPanel = new HeaderPanel(username, "Admin");
@@ -152,19 +181,19 @@ public class AdminDashboardNew extends JFrame {
         sidebarPanel.addNavButton("👤 My Profile", null, "My Profile", false);
         sidebarPanel.addLogoutButton(e -> handleLogout());
 
-        // Add content cards
+        // Add content cards; all but the dashboard are built the first time they are shown
         mainContentPanel.add(createDashboardPanel(), "Dashboard");
-        mainContentPanel.add(createEventsPanel(), "All Events");
-        mainContentPanel.add(createUsersPanel(), "Registered Users");
-        mainContentPanel.add(createSettingsPanel(), "System Settings");
-        mainContentPanel.add(createPendingApprovalsPanel(), "Pending Approvals");
-        mainContentPanel.add(new CreateEventForm("Admin", success -> {
+        cardLayout.register("All Events", this::createEventsPanel, true);
+        cardLayout.register("Registered Users", this::createUsersPanel, true);
+        cardLayout.register("System Settings", this::createSettingsPanel);
+        cardLayout.register("Pending Approvals", this::createPendingApprovalsPanel, true);
+        cardLayout.register("Create Event", () -> new CreateEventForm("Admin", success -> {
             if (success) {
                 cardLayout.show(mainContentPanel, "Dashboard");
-                loadDashboardData(); // Refresh dashboard after event creation
             }
-        }), "Create Event");
-        mainContentPanel.add(createProfilePanel(), "My Profile");
+        }));
+        cardLayout.register("My Profile", this::createProfilePanel);
+        cardLayout.register("Activity Log", this::createActivityLogPanel, true);
 
         mainPanel.add(headerPanel, BorderLayout.NORTH);
         mainPanel.add(sidebarPanel, BorderLayout.WEST);
@@ -173,6 +202,18 @@ public class AdminDashboardNew extends JFrame {
 
         cardLayout.show(mainContentPanel, "Dashboard");
         loadDashboardData(); // Initial load
+        cardLayout.preload(mainContentPanel, "Pending Approvals", "All Events");
+
+        domainEventSubscription = EventBus.getInstance().subscribeOnEdt(this::applyDomainEvents);
+    }
+
+    @Override
+    public void dispose() {
+        if (domainEventSubscription != null) {
+            domainEventSubscription.unsubscribe();
+            domainEventSubscription = null;
+        }
+        super.dispose();
     }
 
     /**
@@ -228,6 +269,10 @@ public class AdminDashboardNew extends JFrame {
         // --- Stats Panel ---
         statsPanelRef = UIUtils.createPanel(new GridLayout(1, 5, 20, 0), false);
         statsPanelRef.setOpaque(false);
+        statsPanelRef.add(createStatCard("TOTAL USERS", "", AppColors.PRIMARY, statValueLabels));
+        statsPanelRef.add(createStatCard("TOTAL EVENTS", "", AppColors.SECONDARY, statValueLabels));
+        statsPanelRef.add(createStatCard("PENDING EVENTS", "", AppColors.WARNING, statValueLabels));
+        statsPanelRef.add(createStatCard("APPROVED EVENTS", "", AppColors.SUCCESS, statValueLabels));
         mainContent.add(statsPanelRef, BorderLayout.NORTH);
 
         // --- Bottom Section: Pending Approvals & Recent Activity ---
@@ -242,9 +287,7 @@ public class AdminDashboardNew extends JFrame {
         pendingTitle.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
         pendingPanel.add(pendingTitle, BorderLayout.NORTH);
 
-        pendingListRef = new JPanel();
-        pendingListRef.setLayout(new BoxLayout(pendingListRef, BoxLayout.Y_AXIS));
-        pendingListRef.setOpaque(false);
+        pendingListRef = createPendingList("No pending events", false);
         JScrollPane pendingScrollPane = new JScrollPane(pendingListRef);
         pendingScrollPane.setBorder(BorderFactory.createEmptyBorder());
         pendingScrollPane.setOpaque(false);
@@ -267,9 +310,7 @@ public class AdminDashboardNew extends JFrame {
         activityTitle.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
         activityPanel.add(activityTitle, BorderLayout.NORTH);
 
-        activityListRef = new JPanel();
-        activityListRef.setLayout(new BoxLayout(activityListRef, BoxLayout.Y_AXIS));
-        activityListRef.setOpaque(false);
+        activityListRef = createActivityList("No recent activities");
         JScrollPane activityScrollPane = new JScrollPane(activityListRef);
         activityScrollPane.setBorder(BorderFactory.createEmptyBorder());
         activityScrollPane.setOpaque(false);
@@ -339,10 +380,11 @@ public class AdminDashboardNew extends JFrame {
             int totalRegistrations = events.stream().mapToInt(e -> e.getTotalSlots() - e.getAvailableSlots()).sum();
             double avgRegistrationsPerEvent = totalEvents > 0 ? (double) totalRegistrations / totalEvents : 0;
 
-            statsPanel.add(createStatCard("TOTAL EVENTS", String.valueOf(totalEvents), AppColors.PRIMARY));
-            statsPanel.add(createStatCard("ACTIVE EVENTS", String.valueOf(activeEvents), AppColors.SUCCESS));
-            statsPanel.add(createStatCard("TOTAL REGISTRATIONS", String.valueOf(totalRegistrations), AppColors.SECONDARY));
-            statsPanel.add(createStatCard("AVG REGISTRATIONS", String.format("%.1f", avgRegistrationsPerEvent), AppColors.ACCENT));
+            eventStatValueLabels.clear();
+            statsPanel.add(createStatCard("TOTAL EVENTS", String.valueOf(totalEvents), AppColors.PRIMARY, eventStatValueLabels));
+            statsPanel.add(createStatCard("ACTIVE EVENTS", String.valueOf(activeEvents), AppColors.SUCCESS, eventStatValueLabels));
+            statsPanel.add(createStatCard("TOTAL REGISTRATIONS", String.valueOf(totalRegistrations), AppColors.SECONDARY, eventStatValueLabels));
+            statsPanel.add(createStatCard("AVG REGISTRATIONS", String.format("%.1f", avgRegistrationsPerEvent), AppColors.ACCENT, eventStatValueLabels));
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading event statistics: " + e.getMessage());
         }
@@ -362,6 +404,8 @@ public class AdminDashboardNew extends JFrame {
             }
         };
 
+        eventsTableModel = tableModel;
+
         // Create table
         JTable eventsTable = new JTable(tableModel);
         eventsTable.setRowHeight(40);
@@ -439,21 +483,8 @@ public class AdminDashboardNew extends JFrame {
         // Load events data
         try {
             List<Event> events = eventController.getAllEvents();
-            DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-
             for (Event event : events) {
-                Object[] rowData = {
-                    event.getId(),
-                    event.getTitle(),
-                    event.getEventDate() != null ? event.getEventDate().format(dateFormat) : "N/A",
-                    event.getVenueName(),
-                    event.getOrganizer() != null ? event.getOrganizer().getName() : "Admin",
-                    event.getStatus().toString(),
-                    event.getTotalSlots() - event.getAvailableSlots(),
-                    event.getAvailableSlots(),
-                    "View Details"
-                };
-                tableModel.addRow(rowData);
+                tableModel.addRow(createEventRow(event));
             }
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading events: " + e.getMessage());
@@ -731,7 +762,15 @@ public class AdminDashboardNew extends JFrame {
             UIUtils.showError(this, "Error loading user statistics: " + e.getMessage());
         }
 
-        panel.add(statsPanel, BorderLayout.NORTH);
+        JPanel northPanel = UIUtils.createPanel(new BorderLayout(), false);
+        northPanel.add(statsPanel, BorderLayout.CENTER);
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        actionPanel.setOpaque(false);
+        JButton importBtn = UIUtils.createButton("Import Users", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        importBtn.addActionListener(e -> UserImportDialog.importUsers(this, User.UserRole.ATTENDEE));
+        actionPanel.add(importBtn);
+        northPanel.add(actionPanel, BorderLayout.SOUTH);
+        panel.add(northPanel, BorderLayout.NORTH);
 
         // Add the RegisteredUsersView component
         RegisteredUsersView usersView = new RegisteredUsersView();
@@ -807,12 +846,23 @@ public class AdminDashboardNew extends JFrame {
         actionPanel.setOpaque(false);
         JButton backupBtn = UIUtils.createButton("Backup Database", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
         JButton resetBtn = UIUtils.createButton("Reset Settings", null, UIUtils.ButtonType.ERROR, UIUtils.ButtonSize.NORMAL);
+        JButton exportEventsBtn = UIUtils.createButton("Export Events", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        JButton exportRegistrationsBtn = UIUtils.createButton("Export Registrations", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        exportEventsBtn.addActionListener(e -> ExportDialog.export(this, "Export Events", "events",
+            ExportController.getInstance()::exportEvents));
+        exportRegistrationsBtn.addActionListener(e -> ExportDialog.export(this, "Export Registrations", "registrations",
+            ExportController.getInstance()::exportRegistrations));
+        actionPanel.add(exportEventsBtn);
+        actionPanel.add(exportRegistrationsBtn);
         actionPanel.add(backupBtn);
         actionPanel.add(resetBtn);
         settingsCard.add(actionPanel, BorderLayout.SOUTH);
 
         mainContent.add(settingsCard, BorderLayout.NORTH);
 
+        // Per-operation timings for finding slow screens
+        mainContent.add(new PerformancePanel(), BorderLayout.CENTER);
+
         panel.add(mainContent, BorderLayout.CENTER);
 
         return panel;
@@ -854,11 +904,7 @@ public class AdminDashboardNew extends JFrame {
 
         // Show login screen
         dispose();
-        try {
-            new LoginScreen().setVisible(true);
-        } catch (SQLException e) {
-            UIUtils.showError(this, "Error opening login screen: " + e.getMessage());
-        }
+        new LoginScreen().setVisible(true);
     }
 
     // Helper class for rendering buttons in a JTable cell
@@ -941,64 +987,28 @@ public class AdminDashboardNew extends JFrame {
      * Loads dashboard data and updates the UI.
      */
     public void loadDashboardData() {
-        // Clear previous data
-        statsPanelRef.removeAll();
-        pendingListRef.removeAll();
-        activityListRef.removeAll();
-
         try {
             // Load stats
             List<User> users = userController.getAllUsers();
             List<Event> events = eventController.getAllEvents();
-            List<Event> pendingEvents = eventController.getEventsByStatus(Event.EventStatus.PENDING);
-            List<Event> approvedEvents = eventController.getEventsByStatus(Event.EventStatus.APPROVED);
-
-            // Add stat cards
-            statsPanelRef.add(createStatCard("TOTAL USERS", String.valueOf(users.size()), AppColors.PRIMARY));
-            statsPanelRef.add(createStatCard("TOTAL EVENTS", String.valueOf(events.size()), AppColors.SECONDARY));
-            statsPanelRef.add(createStatCard("PENDING EVENTS", String.valueOf(pendingEvents.size()), AppColors.WARNING));
-            statsPanelRef.add(createStatCard("APPROVED EVENTS", String.valueOf(approvedEvents.size()), AppColors.SUCCESS));
-
-            // Pending approval events
-            if (pendingEvents.isEmpty()) {
-                JLabel emptyLabel = UIUtils.createLabel("No pending events", UIConstants.BODY_FONT, AppColors.TEXT_SECONDARY);
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                emptyLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
-                pendingListRef.add(emptyLabel);
-            } else {
-                for (Event event : pendingEvents.subList(0, Math.min(5, pendingEvents.size()))) {
-                    PendingEventItem item = new PendingEventItem(
-                        event,
-                        e -> handleEventApproval(event),
-                        e -> handleEventRejection(event)
-                    );
-                    pendingListRef.add(item);
-                    pendingListRef.add(Box.createVerticalStrut(10));
-                }
-            }
 
-            // Recent activity
-            List<String[]> activities = NotificationController.getInstance().getRecentAdminNotifications(5);
-            if (activities.isEmpty()) {
-                JLabel emptyLabel = UIUtils.createLabel("No recent activities", UIConstants.BODY_FONT, AppColors.TEXT_SECONDARY);
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                emptyLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
-                activityListRef.add(emptyLabel);
-            } else {
-                for (String[] activity : activities) {
-                    ActivityItem item = new ActivityItem(activity[0], activity[1], activity[2]);
-                    activityListRef.add(item);
-                    activityListRef.add(Box.createVerticalStrut(10));
+            userCount = users.size();
+            eventStatuses.clear();
+            pendingEvents.clear();
+            for (Event event : events) {
+                eventStatuses.put(event.getId(), event.getStatus());
+                if (event.getStatus() == Event.EventStatus.PENDING) {
+                    pendingEvents.add(event);
                 }
             }
 
-            // Refresh the UI
-            statsPanelRef.revalidate();
-            statsPanelRef.repaint();
-            pendingListRef.revalidate();
-            pendingListRef.repaint();
-            activityListRef.revalidate();
-            activityListRef.repaint();
+            recentActivities.clear();
+            recentActivities.addAll(NotificationController.getInstance().getRecentAdminNotifications(DASHBOARD_LIST_SIZE));
+
+            // Existing stat cards and list items are updated in place
+            updateStatValues();
+            pendingListRef.setItems(pendingEvents.subList(0, Math.min(DASHBOARD_LIST_SIZE, pendingEvents.size())));
+            activityListRef.setItems(recentActivities);
 
             isDataLoaded = true;
 
@@ -1008,17 +1018,264 @@ public class AdminDashboardNew extends JFrame {
     }
 
     /**
-     * Updates the event status and refreshes all relevant panels
+     * Patches the dashboard, pending approvals and events table from a batch
+     * of domain events, without going back to the database
+     *
+     * @param batch Events published since the previous frame
+     */
+    private void applyDomainEvents(DomainEventBatch batch) {
+        boolean pendingChanged = false;
+        boolean activityChanged = false;
+
+        for (DomainEvent domainEvent : batch.getEvents()) {
+            if (domainEvent instanceof EventCreated) {
+                Event event = ((EventCreated) domainEvent).getEvent();
+                eventStatuses.put(event.getId(), event.getStatus());
+                if (event.getStatus() == Event.EventStatus.PENDING) {
+                    pendingEvents.add(event);
+                    pendingChanged = true;
+                }
+                upsertEventRow(event);
+            } else if (domainEvent instanceof EventStatusChanged) {
+                Event event = ((EventStatusChanged) domainEvent).getEvent();
+                eventStatuses.put(event.getId(), event.getStatus());
+                pendingChanged |= removePendingEvent(event.getId());
+                if (event.getStatus() == Event.EventStatus.PENDING) {
+                    pendingEvents.add(event);
+                    pendingChanged = true;
+                }
+                upsertEventRow(event);
+            } else if (domainEvent instanceof EventUpdated) {
+                Event event = ((EventUpdated) domainEvent).getEvent();
+                eventStatuses.put(event.getId(), event.getStatus());
+                for (int i = 0; i < pendingEvents.size(); i++) {
+                    if (pendingEvents.get(i).getId() == event.getId()) {
+                        pendingEvents.set(i, event);
+                        pendingChanged = true;
+                    }
+                }
+                upsertEventRow(event);
+            } else if (domainEvent instanceof EventDeleted) {
+                int eventId = ((EventDeleted) domainEvent).getEventId();
+                eventStatuses.remove(eventId);
+                pendingChanged |= removePendingEvent(eventId);
+                removeEventRow(eventId);
+            } else if (domainEvent instanceof RegistrationCreated) {
+                updateEventSlots(((RegistrationCreated) domainEvent).getRegistration().getEvent());
+            } else if (domainEvent instanceof RegistrationStatusChanged) {
+                updateEventSlots(((RegistrationStatusChanged) domainEvent).getRegistration().getEvent());
+            } else if (domainEvent instanceof UserCreated) {
+                userCount++;
+            } else if (domainEvent instanceof UserDeleted) {
+                userCount--;
+            } else if (domainEvent instanceof NotificationSent) {
+                Notification notification = ((NotificationSent) domainEvent).getNotification();
+                if (notification.getType() == Notification.NotificationType.ADMIN) {
+                    recentActivities.add(0, new String[] {
+                        notification.getTitle(),
+                        notification.getMessage(),
+                        notification.getCreatedAt().toString()
+                    });
+                    if (recentActivities.size() > DASHBOARD_LIST_SIZE) {
+                        recentActivities.remove(recentActivities.size() - 1);
+                    }
+                    activityChanged = true;
+                }
+            }
+        }
+
+        updateStatValues();
+        updateEventStatValues();
+        if (pendingChanged) {
+            pendingListRef.setItems(pendingEvents.subList(0, Math.min(DASHBOARD_LIST_SIZE, pendingEvents.size())));
+            if (pendingApprovalsListRef != null) {
+                pendingApprovalsListRef.setItems(pendingEvents);
+            }
+            // Events moderated elsewhere are no longer selectable
+            Set<Integer> stillPending = new HashSet<>();
+            for (Event event : pendingEvents) {
+                stillPending.add(event.getId());
+            }
+            if (selectedPendingIds.retainAll(stillPending)) {
+                updateSelectionButtons();
+            }
+        }
+        if (activityChanged) {
+            activityListRef.setItems(recentActivities);
+        }
+    }
+
+    private boolean removePendingEvent(int eventId) {
+        return pendingEvents.removeIf(event -> event.getId() == eventId);
+    }
+
+    /**
+     * Sets the dashboard stat cards from the in-memory counts
+     */
+    private void updateStatValues() {
+        int pending = 0;
+        int approved = 0;
+        for (Event.EventStatus status : eventStatuses.values()) {
+            if (status == Event.EventStatus.PENDING) {
+                pending++;
+            } else if (status == Event.EventStatus.APPROVED) {
+                approved++;
+            }
+        }
+        setStatValue(statValueLabels, "TOTAL USERS", String.valueOf(userCount));
+        setStatValue(statValueLabels, "TOTAL EVENTS", String.valueOf(eventStatuses.size()));
+        setStatValue(statValueLabels, "PENDING EVENTS", String.valueOf(pending));
+        setStatValue(statValueLabels, "APPROVED EVENTS", String.valueOf(approved));
+    }
+
+    /**
+     * Sets the All Events stat cards from the rows of the events table
+     */
+    private void updateEventStatValues() {
+        if (eventsTableModel == null) {
+            return;
+        }
+        int totalEvents = eventsTableModel.getRowCount();
+        int activeEvents = 0;
+        int totalRegistrations = 0;
+        for (int row = 0; row < totalEvents; row++) {
+            if ("APPROVED".equals(eventsTableModel.getValueAt(row, 5))) {
+                activeEvents++;
+            }
+            totalRegistrations += (int) eventsTableModel.getValueAt(row, 6);
+        }
+        double avgRegistrationsPerEvent = totalEvents > 0 ? (double) totalRegistrations / totalEvents : 0;
+        setStatValue(eventStatValueLabels, "TOTAL EVENTS", String.valueOf(totalEvents));
+        setStatValue(eventStatValueLabels, "ACTIVE EVENTS", String.valueOf(activeEvents));
+        setStatValue(eventStatValueLabels, "TOTAL REGISTRATIONS", String.valueOf(totalRegistrations));
+        setStatValue(eventStatValueLabels, "AVG REGISTRATIONS", String.format("%.1f", avgRegistrationsPerEvent));
+    }
+
+    private void setStatValue(Map<String, JLabel> valueLabels, String title, String value) {
+        JLabel label = valueLabels.get(title);
+        if (label != null && !value.equals(label.getText())) {
+            label.setText(value);
+        }
+    }
+
+    /**
+     * Builds an All Events table row
+     */
+    private Object[] createEventRow(Event event) {
+        return new Object[] {
+            event.getId(),
+            event.getTitle(),
+            event.getEventDate() != null ? event.getEventDate().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")) : "N/A",
+            event.getVenueName(),
+            event.getOrganizer() != null ? event.getOrganizer().getName() : "Admin",
+            event.getStatus().toString(),
+            event.getTotalSlots() - event.getAvailableSlots(),
+            event.getAvailableSlots(),
+            "View Details"
+        };
+    }
+
+    private int findEventRow(int eventId) {
+        for (int row = 0; row < eventsTableModel.getRowCount(); row++) {
+            if ((int) eventsTableModel.getValueAt(row, 0) == eventId) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the table row of an event, or appends one for a new event
+     */
+    private void upsertEventRow(Event event) {
+        if (eventsTableModel == null) {
+            return;
+        }
+        Object[] rowData = createEventRow(event);
+        int row = findEventRow(event.getId());
+        if (row < 0) {
+            eventsTableModel.addRow(rowData);
+            return;
+        }
+        for (int column = 1; column < rowData.length; column++) {
+            if (!rowData[column].equals(eventsTableModel.getValueAt(row, column))) {
+                eventsTableModel.setValueAt(rowData[column], row, column);
+            }
+        }
+    }
+
+    private void removeEventRow(int eventId) {
+        if (eventsTableModel == null) {
+            return;
+        }
+        int row = findEventRow(eventId);
+        if (row >= 0) {
+            eventsTableModel.removeRow(row);
+        }
+    }
+
+    /**
+     * Updates the Registered and Available cells of an event after a registration change
+     */
+    private void updateEventSlots(Event event) {
+        if (eventsTableModel == null || event == null || event.getTotalSlots() <= 0) {
+            return;
+        }
+        int row = findEventRow(event.getId());
+        if (row >= 0) {
+            eventsTableModel.setValueAt(event.getTotalSlots() - event.getAvailableSlots(), row, 6);
+            eventsTableModel.setValueAt(event.getAvailableSlots(), row, 7);
+        }
+    }
+
+    /**
+     * Creates a list of pending event items keyed by event ID
+     *
+     * @param selectable Whether items have a checkbox for batch moderation
+     */
+    private StampedList<Event> createPendingList(String emptyText, boolean selectable) {
+        StampedList<Event> list = new StampedList<>(
+            Event::getId,
+            event -> new PendingEventItem(
+                event,
+                e -> handleEventApproval(((PendingEventItem) e.getSource()).getEvent()),
+                e -> handleEventRejection(((PendingEventItem) e.getSource()).getEvent()),
+                selectable ? pending -> selectedPendingIds.contains(pending.getId()) : null,
+                selectable ? e -> togglePendingSelection(((PendingEventItem) e.getSource()).getEvent()) : null
+            ),
+            PendingEventItem::updateEvent,
+            emptyText
+        );
+        list.setRowAction(this::showEventDetails);
+        return list;
+    }
+
+    /**
+     * Creates a list of activity items; an activity is keyed by its action, details and time
+     */
+    private StampedList<String[]> createActivityList(String emptyText) {
+        return new StampedList<>(
+            activity -> Arrays.asList(activity),
+            activity -> new ActivityItem(activity[0], activity[1], activity[2]),
+            (item, activity) -> {
+                item.updateAction(activity[0]);
+                item.updateDetails(activity[1]);
+                item.updateTime(activity[2]);
+            },
+            emptyText
+        );
+    }
+
+    /**
+     * Updates the event status; the affected panels update from the resulting domain event
      */
     private void handleEventApproval(Event event) {
         try {
-            event.setStatus(Event.EventStatus.APPROVED);
-            eventController.updateEvent(event);
-
-            // Refresh all affected panels
-            loadDashboardData();
-            refreshPendingApprovals();
-            refreshEventsPanel();
+            // The dashboard, pending list and events table patch themselves from the published domain event
+            if (eventController.approveEvents(List.of(event)).isEmpty()) {
+                UIUtils.showError(this, "Event is no longer pending: " + event.getTitle());
+                return;
+            }
 
             UIUtils.showSuccess(this, "Event approved: " + event.getTitle());
         } catch (SQLException ex) {
@@ -1027,17 +1284,15 @@ public class AdminDashboardNew extends JFrame {
     }
 
     /**
-     * Updates the event status and refreshes all relevant panels
+     * Updates the event status; the affected panels update from the resulting domain event
      */
     private void handleEventRejection(Event event) {
         try {
-            event.setStatus(Event.EventStatus.REJECTED);
-            eventController.updateEvent(event);
-
-            // Refresh all affected panels
-            loadDashboardData();
-            refreshPendingApprovals();
-            refreshEventsPanel();
+            // The dashboard, pending list and events table patch themselves from the published domain event
+            if (eventController.rejectEvents(List.of(event)).isEmpty()) {
+                UIUtils.showError(this, "Event is no longer pending: " + event.getTitle());
+                return;
+            }
 
             UIUtils.showSuccess(this, "Event rejected: " + event.getTitle());
         } catch (SQLException ex) {
@@ -1045,88 +1300,96 @@ public class AdminDashboardNew extends JFrame {
         }
     }
 
+    private void togglePendingSelection(Event event) {
+        if (!selectedPendingIds.remove(event.getId())) {
+            selectedPendingIds.add(event.getId());
+        }
+        updateSelectionButtons();
+        pendingApprovalsListRef.repaint();
+    }
+
     /**
-     * Refreshes the pending approvals panel
+     * Selects every pending event on the Pending Approvals page, or clears the selection if all are selected
      */
-    private void refreshPendingApprovals() {
-        try {
-            // Remove existing content
-            Component[] components = mainContentPanel.getComponents();
-            for (Component comp : components) {
-                if (comp.getName() != null && comp.getName().equals("Pending Approvals")) {
-                    mainContentPanel.remove(comp);
-                    break;
-                }
+    private void toggleSelectAllPending() {
+        List<Event> shown = pendingApprovalsListRef.getItems();
+        if (!shown.isEmpty() && selectedPendingIds.size() == shown.size()) {
+            selectedPendingIds.clear();
+        } else {
+            for (Event event : shown) {
+                selectedPendingIds.add(event.getId());
             }
+        }
+        updateSelectionButtons();
+        pendingApprovalsListRef.repaint();
+    }
 
-            // Add updated panel
-            JPanel newPanel = createPendingApprovalsPanel();
-            newPanel.setName("Pending Approvals");
-            mainContentPanel.add(newPanel, "Pending Approvals");
-            cardLayout.show(mainContentPanel, "Pending Approvals");
-
-            // Refresh UI
-            mainContentPanel.revalidate();
-            mainContentPanel.repaint();
-        } catch (Exception e) {
-            UIUtils.showError(this, "Error refreshing pending approvals: " + e.getMessage());
+    private void updateSelectionButtons() {
+        if (approveSelectedButton == null) {
+            return;
         }
+        int count = selectedPendingIds.size();
+        approveSelectedButton.setText("Approve Selected (" + count + ")");
+        rejectSelectedButton.setText("Reject Selected (" + count + ")");
+        approveSelectedButton.setEnabled(count > 0);
+        rejectSelectedButton.setEnabled(count > 0);
     }
 
     /**
-     * Refreshes the events panel
+     * Approves or rejects every selected pending event in one batch
+     *
+     * @param approve true to approve, false to reject
      */
-    private void refreshEventsPanel() {
+    private void handleBatchModeration(boolean approve) {
+        List<Event> selected = new ArrayList<>();
+        for (Event event : pendingApprovalsListRef.getItems()) {
+            if (selectedPendingIds.contains(event.getId())) {
+                selected.add(event);
+            }
+        }
+        if (selected.isEmpty()) {
+            return;
+        }
+        String verb = approve ? "approve" : "reject";
+        if (!UIUtils.showConfirm(this, "Are you sure you want to " + verb + " " + selected.size() + " events?")) {
+            return;
+        }
         try {
-            // Remove existing content
-            Component[] components = mainContentPanel.getComponents();
-            for (Component comp : components) {
-                if (comp.getName() != null && comp.getName().equals("All Events")) {
-                    mainContentPanel.remove(comp);
-                    break;
-                }
+            // The pending list prunes the selection when the resulting domain events arrive
+            int moderated = (approve ? eventController.approveEvents(selected) : eventController.rejectEvents(selected)).size();
+            selectedPendingIds.clear();
+            updateSelectionButtons();
+            pendingApprovalsListRef.repaint();
+
+            String message = (approve ? "Approved " : "Rejected ") + moderated + " events.";
+            if (moderated < selected.size()) {
+                message += " " + (selected.size() - moderated) + " were no longer pending and were skipped.";
             }
+            UIUtils.showSuccess(this, message);
+        } catch (SQLException ex) {
+            UIUtils.showError(this, "Error trying to " + verb + " events: " + ex.getMessage());
+        }
+    }
 
-            // Add updated panel
-            JPanel newPanel = createEventsPanel();
-            newPanel.setName("All Events");
-            mainContentPanel.add(newPanel, "All Events");
-            cardLayout.show(mainContentPanel, "All Events");
+    /**
+     * Refreshes the pending approvals panel
+     */
+    private void refreshPendingApprovals() {
+        cardLayout.reload(mainContentPanel, "Pending Approvals");
+    }
 
-            // Refresh UI
-            mainContentPanel.revalidate();
-            mainContentPanel.repaint();
-        } catch (Exception e) {
-            UIUtils.showError(this, "Error refreshing events panel: " + e.getMessage());
-        }
+    /**
+     * Refreshes the events panel
+     */
+    private void refreshEventsPanel() {
+        cardLayout.reload(mainContentPanel, "All Events");
     }
 
     /**
      * Refreshes the users panel
      */
     private void refreshUsersPanel() {
-        try {
-            // Remove existing content
-            Component[] components = mainContentPanel.getComponents();
-            for (Component comp : components) {
-                if (comp.getName() != null && comp.getName().equals("Registered Users")) {
-                    mainContentPanel.remove(comp);
-                    break;
-                }
-            }
-
-            // Add updated panel
-            JPanel newPanel = createUsersPanel();
-            newPanel.setName("Registered Users");
-            mainContentPanel.add(newPanel, "Registered Users");
-            cardLayout.show(mainContentPanel, "Registered Users");
-
-            // Refresh UI
-            mainContentPanel.revalidate();
-            mainContentPanel.repaint();
-        } catch (Exception e) {
-            UIUtils.showError(this, "Error refreshing users panel: " + e.getMessage());
-        }
+        cardLayout.reload(mainContentPanel, "Registered Users");
     }
 
     private JPanel createPendingApprovalsPanel() {
@@ -1145,6 +1408,20 @@ public class AdminDashboardNew extends JFrame {
         );
         headerSection.add(titleLabel, BorderLayout.WEST);
 
+        // Batch moderation of the ticked events
+        JPanel batchPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        batchPanel.setOpaque(false);
+        JButton selectAllBtn = UIUtils.createButton("Select All", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
+        selectAllBtn.addActionListener(e -> toggleSelectAllPending());
+        approveSelectedButton = UIUtils.createButton("", null, UIUtils.ButtonType.PRIMARY, UIUtils.ButtonSize.NORMAL);
+        approveSelectedButton.addActionListener(e -> handleBatchModeration(true));
+        rejectSelectedButton = UIUtils.createButton("", null, UIUtils.ButtonType.ERROR, UIUtils.ButtonSize.NORMAL);
+        rejectSelectedButton.addActionListener(e -> handleBatchModeration(false));
+        batchPanel.add(selectAllBtn);
+        batchPanel.add(approveSelectedButton);
+        batchPanel.add(rejectSelectedButton);
+        headerSection.add(batchPanel, BorderLayout.EAST);
+
         panel.add(headerSection, BorderLayout.NORTH);
 
         // Main content
@@ -1152,32 +1429,13 @@ public class AdminDashboardNew extends JFrame {
         contentPanel.setBorder(UIUtils.createRoundedBorderWithPadding(AppColors.BORDER, UIConstants.CORNER_RADIUS_MEDIUM, 1, 15));
 
         // Create scrollable list panel
-        JPanel listPanel = new JPanel();
-        listPanel.setLayout(new BoxLayout(listPanel, BoxLayout.Y_AXIS));
-        listPanel.setOpaque(false);
+        StampedList<Event> listPanel = createPendingList("No pending events to approve", true);
+        pendingApprovalsListRef = listPanel;
+        selectedPendingIds.clear();
+        updateSelectionButtons();
 
         try {
-            List<Event> pendingEvents = eventController.getEventsByStatus(Event.EventStatus.PENDING);
-            if (pendingEvents.isEmpty()) {
-                JLabel emptyLabel = UIUtils.createLabel(
-                    "No pending events to approve",
-                    UIConstants.BODY_FONT,
-                    AppColors.TEXT_SECONDARY
-                );
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                emptyLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
-                listPanel.add(emptyLabel);
-            } else {
-                for (Event event : pendingEvents) {
-                    PendingEventItem item = new PendingEventItem(
-                        event,
-                        e -> handleEventApproval(event),
-                        e -> handleEventRejection(event)
-                    );
-                    listPanel.add(item);
-                    listPanel.add(Box.createVerticalStrut(10));
-                }
-            }
+            listPanel.setItems(eventController.getEventsByStatus(Event.EventStatus.PENDING));
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading pending events: " + e.getMessage());
         }
@@ -1215,28 +1473,10 @@ public class AdminDashboardNew extends JFrame {
         contentPanel.setBorder(UIUtils.createRoundedBorderWithPadding(AppColors.BORDER, UIConstants.CORNER_RADIUS_MEDIUM, 1, 15));
 
         // Create scrollable list panel
-        JPanel listPanel = new JPanel();
-        listPanel.setLayout(new BoxLayout(listPanel, BoxLayout.Y_AXIS));
-        listPanel.setOpaque(false);
+        StampedList<String[]> listPanel = createActivityList("No activities to display");
 
         try {
-            List<String[]> activities = NotificationController.getInstance().getRecentAdminNotifications(50); // Get more activities for the full log
-            if (activities.isEmpty()) {
-                JLabel emptyLabel = UIUtils.createLabel(
-                    "No activities to display",
-                    UIConstants.BODY_FONT,
-                    AppColors.TEXT_SECONDARY
-                );
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                emptyLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
-                listPanel.add(emptyLabel);
-            } else {
-                for (String[] activity : activities) {
-                    ActivityItem item = new ActivityItem(activity[0], activity[1], activity[2]);
-                    listPanel.add(item);
-                    listPanel.add(Box.createVerticalStrut(10));
-                }
-            }
+            listPanel.setItems(NotificationController.getInstance().getRecentAdminNotifications(50)); // Get more activities for the full log
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading activity log: " + e.getMessage());
         }
@@ -1251,6 +1491,13 @@ public class AdminDashboardNew extends JFrame {
         return panel;
     }
 
+    // Stat card whose value label is registered under its title so it can be updated in place
+    private JPanel createStatCard(String title, String value, Color valueColor, Map<String, JLabel> valueLabels) {
+        JPanel card = createStatCard(title, value, valueColor);
+        valueLabels.put(title, (JLabel) ((BorderLayout) card.getLayout()).getLayoutComponent(BorderLayout.CENTER));
+        return card;
+    }
+
     // Stat card for user stats and dashboard stats
     private JPanel createStatCard(String title, String value, Color valueColor) {
         RoundedPanel card = new RoundedPanel(new BorderLayout(0, 5), Color.WHITE, UIConstants.CORNER_RADIUS_MEDIUM);
@@ -1422,50 +1669,70 @@ public class AdminDashboardNew extends JFrame {
                 JButton cancelButton = UIUtils.createButton("Cancel", null, UIUtils.ButtonType.SECONDARY, UIUtils.ButtonSize.NORMAL);
 
                 saveButton.addActionListener(e -> {
-                    try {
-                        // Validate and update basic info
-                        currentUser.setName(nameField.getText().trim());
-                        currentUser.setEmail(emailField.getText().trim());
-                        currentUser.setPhone(phoneField.getText().trim());
-
-                        // Check if password needs to be updated
-                        String currentPassword = new String(currentPasswordField.getPassword());
-                        String newPassword = new String(newPasswordField.getPassword());
-                        String confirmPassword = new String(confirmPasswordField.getPassword());
-
-                        if (!newPassword.isEmpty() || !confirmPassword.isEmpty()) {
-                            // Verify current password
-                            SecurityUtils.VerificationResult verificationResult = SecurityUtils.verifyPassword(currentPassword, currentUser.getPassword());
-                            if (!verificationResult.isSuccess()) {
+                    // Check if password needs to be updated
+                    String currentPassword = new String(currentPasswordField.getPassword());
+                    String newPassword = new String(newPasswordField.getPassword());
+                    String confirmPassword = new String(confirmPasswordField.getPassword());
+
+                    CompletableFuture<String> newHash;
+                    if (!newPassword.isEmpty() || !confirmPassword.isEmpty()) {
+                        String error = !newPassword.equals(confirmPassword) ? "New passwords do not match"
+                            : !ValidationUtils.isValidPassword(newPassword) ? "New password does not meet requirements"
+                            : null;
+                        if (error != null) {
+                            JOptionPane.showMessageDialog(this,
+                                "Error updating profile: " + error,
+                                "Error",
+                                JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+
+                        // Verify current password and hash the new one on the credential pool, off the EDT
+                        String storedPassword = currentUser.getPassword();
+                        CredentialService credentials = CredentialService.getInstance();
+                        newHash = credentials.submit(() -> {
+                            if (!credentials.verify(currentPassword, storedPassword).isSuccess()) {
                                 throw new IllegalArgumentException("Current password is incorrect");
                             }
+                            return credentials.hash(newPassword);
+                        });
+                    } else {
+                        newHash = CompletableFuture.completedFuture(null);
+                    }
 
-                            if (!newPassword.equals(confirmPassword)) {
-                                throw new IllegalArgumentException("New passwords do not match");
+                    saveButton.setEnabled(false);
+                    newHash.whenComplete((hash, error) -> SwingUtilities.invokeLater(() -> {
+                        saveButton.setEnabled(true);
+                        try {
+                            if (error != null) {
+                                Throwable cause = CredentialService.unwrap(error);
+                                throw cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
                             }
 
-                            if (!ValidationUtils.isValidPassword(newPassword)) {
-                                throw new IllegalArgumentException("New password does not meet requirements");
+                            // Update basic info
+                            currentUser.setName(nameField.getText().trim());
+                            currentUser.setEmail(emailField.getText().trim());
+                            currentUser.setPhone(phoneField.getText().trim());
+                            if (hash != null) {
+                                // Update password with new hash
+                                currentUser.setPassword(hash);
                             }
 
-                            // Update password with new hash
-                            currentUser.setPassword(newPassword);
+                            // Save changes
+                            authController.updateUser(currentUser);
+                            dialog.dispose();
+
+                            JOptionPane.showMessageDialog(this,
+                                "Profile updated successfully",
+                                "Success",
+                                JOptionPane.INFORMATION_MESSAGE);
+                        } catch (Exception ex) {
+                            JOptionPane.showMessageDialog(this,
+                                "Error updating profile: " + ex.getMessage(),
+                                "Error",
+                                JOptionPane.ERROR_MESSAGE);
                         }
-
-                        // Save changes
-                        authController.updateUser(currentUser);
-                        dialog.dispose();
-
-                        JOptionPane.showMessageDialog(this,
-                            "Profile updated successfully",
-                            "Success",
-                            JOptionPane.INFORMATION_MESSAGE);
-                    } catch (Exception ex) {
-                        JOptionPane.showMessageDialog(this,
-                            "Error updating profile: " + ex.getMessage(),
-                            "Error",
-                            JOptionPane.ERROR_MESSAGE);
-                    }
+                    }));
                 });
 
                 cancelButton.addActionListener(e -> dialog.dispose());
@@ -1540,14 +1807,14 @@ public class AdminDashboardNew extends JFrame {
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
 
         SwingUtilities.invokeLater(() -> {
             try {
                 new AdminDashboardNew().setVisible(true);
             } catch (SQLException e) {
-                e.printStackTrace();
+                LOGGER.error("Error initializing admin dashboard", e);
                 JOptionPane.showMessageDialog(null,
                     "Error initializing admin dashboard: " + e.getMessage(),
                     "Initialization Error",
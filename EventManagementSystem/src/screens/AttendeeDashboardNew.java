@@ -1,11 +1,22 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import controllers.AuthController;
+import controllers.CalendarEventProvider;
+import controllers.ScheduleIndex;
 import controllers.EventController;
 import controllers.RegistrationController;
 import models.User;
 import models.Event;
 import models.Registration;
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
 import java.awt.*;
 import java.awt.event.ActionListener;
 import java.text.*;
@@ -17,8 +28,11 @@ import utils.*;
 import components.*;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
@@ -31,12 +45,17 @@ import components.ModernStatCard;
  */
 @SuppressWarnings("unused")
 public class AttendeeDashboardNew extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(AttendeeDashboardNew.class);
+
     private JPanel contentPanel;
-    private CardLayout contentLayout;
+    private LazyCardLayout contentLayout;
     private SidebarPanel sidebarPanel;
 
     // Components that need to be accessed from multiple methods
     private CalendarPanel calendarPanel;
+    private CalendarEventProvider calendarProvider;
+    private Set<Integer> registeredEventIds = Collections.emptySet();
+    private EventBus.Subscription domainEventSubscription;
     private SearchResultsPanel searchResultsPanel;
     private EventController eventController;
     private RegistrationController registrationController;
@@ -79,11 +98,7 @@ public class AttendeeDashboardNew extends JFrame {
         } catch (SQLException e) {
             UIUtils.showError(this, "Error initializing dashboard: " + e.getMessage());
             dispose();
-            try {
-                new LoginScreen();
-            } catch (SQLException ex) {
-                UIUtils.showError(this, "Error opening login screen: " + ex.getMessage());
-            }
+            new LoginScreen();
         }
     }
 
@@ -99,8 +114,8 @@ public class AttendeeDashboardNew extends JFrame {
         JPanel mainPanel = UIUtils.createPanel(new BorderLayout(), true);
         mainPanel.setBackground(AppColors.BACKGROUND_LIGHT);
 
-        contentPanel = UIUtils.createPanel(new CardLayout(), true);
-        contentLayout = (CardLayout) contentPanel.getLayout();
+        contentLayout = new LazyCardLayout();
+        contentPanel = UIUtils.createPanel(contentLayout, true);
 
         // Use the shared header and sidebar
         String username = AuthController.getInstance().getCurrentUser().getName();
@@ -110,13 +125,15 @@ public class AttendeeDashboardNew extends JFrame {
         // Add navigation buttons (now with emoji icons)
         JButton dashboardBtn = sidebarPanel.addNavButton("🏠 Dashboard", null, "Dashboard", true);
         JButton myEventsBtn = sidebarPanel.addNavButton("📅 My Events", null, "My Events", false);
+        JButton calendarBtn = sidebarPanel.addNavButton("🗓 Calendar", null, "Calendar", false);
         JButton profileBtn = sidebarPanel.addNavButton("👤 Profile", null, "Profile", false);
         sidebarPanel.addLogoutButton(e -> handleLogout());
 
-        // Add content cards
+        // Add content cards; all but the dashboard are built the first time they are shown
         contentPanel.add(createDashboardContent(), "Dashboard");
-        contentPanel.add(createMyEventsContent(), "My Events");
-        contentPanel.add(new ProfilePanel(AuthController.getInstance().getCurrentUser(), true), "Profile");
+        contentLayout.register("My Events", this::createMyEventsContent, true);
+        contentLayout.register("Calendar", this::createCalendarContent, true);
+        contentLayout.register("Profile", () -> new ProfilePanel(AuthController.getInstance().getCurrentUser(), true));
 
         mainPanel.add(headerPanel, BorderLayout.NORTH);
         mainPanel.add(sidebarPanel, BorderLayout.WEST);
@@ -126,9 +143,11 @@ public class AttendeeDashboardNew extends JFrame {
         // Use showScreen for navigation
         dashboardBtn.addActionListener(e -> showScreen("Dashboard"));
         myEventsBtn.addActionListener(e -> showScreen("My Events"));
+        calendarBtn.addActionListener(e -> showScreen("Calendar"));
         profileBtn.addActionListener(e -> showScreen("Profile"));
 
         showScreen("Dashboard");
+        contentLayout.preload(contentPanel, "My Events");
     }
 
     private JPanel createSearchContent() {
@@ -206,11 +225,12 @@ public class AttendeeDashboardNew extends JFrame {
         return panel;
     }
 
-    private JPanel createCalendarContent() {
+    private JPanel createCalendarContent() throws SQLException {
         JPanel panel = UIUtils.createPanel(new BorderLayout(), true);
         panel.setBackground(Color.WHITE);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
+        // Title
         JLabel titleLabel = UIUtils.createLabel(
             "Event Calendar",
             UIConstants.TITLE_FONT,
@@ -218,54 +238,123 @@ public class AttendeeDashboardNew extends JFrame {
         );
         panel.add(titleLabel, BorderLayout.NORTH);
 
-        // Create calendar panel
+        // Events are loaded a month at a time as the user moves through the calendar
+        calendarProvider = CalendarEventProvider.getInstance();
+        loadRegisteredEventIds();
         calendarPanel = new CalendarPanel();
+        calendarPanel.setRangeListener(this::loadCalendarRange);
 
-        try {
-            User currentUser = AuthController.getInstance().getCurrentUser();
-            List<Event> allEvents = eventController.getAllEvents();
-            List<Registration> myRegistrations = registrationController.getUserRegistrations(currentUser.getId());
+        JScrollPane scrollPane = new JScrollPane(calendarPanel);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder()); // Remove default border
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
 
-            // Convert event data to calendar events
-            List<CalendarPanel.CalendarEvent> calendarEvents = new ArrayList<>();
-
-            for (Event event : allEvents) {
-                boolean isRegistered = myRegistrations.stream()
-                    .anyMatch(reg -> reg.getEvent().getId() == event.getId());
-
-                String eventDetails = event.getTitle() + "\n" + event.getVenueName();
-
-                Date eventDate = event.getEventDate() != null ?
-                    java.util.Date.from(event.getEventDate().atZone(java.time.ZoneId.systemDefault()).toInstant()) :
-                    null;
-
-                calendarEvents.add(new CalendarPanel.CalendarEvent(
-                    String.valueOf(event.getId()),
-                    event.getTitle(),
-                    eventDate,
-                    eventDate, // startTime
-                    eventDate != null ? new Date(eventDate.getTime() + 7200000) : null, // endTime (2 hours after start)
-                    event.getVenueName(),
-                    event.getCategory() != null ? event.getCategory() : "Other",
-                    event.getDescription() != null ? event.getDescription() : "",
-                    isRegistered
-                ));
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        if (domainEventSubscription == null) {
+            domainEventSubscription = EventBus.getInstance().subscribeOnEdt(batch -> refreshCalendar(),
+                EventCreated.class, EventUpdated.class, EventDeleted.class, EventStatusChanged.class,
+                RegistrationCreated.class, RegistrationStatusChanged.class);
+        }
+
+        return panel;
+    }
+
+    private void loadRegisteredEventIds() throws SQLException {
+        User currentUser = AuthController.getInstance().getCurrentUser();
+        registeredEventIds = registrationController.getUserRegistrations(currentUser.getId()).stream()
+            .map(reg -> reg.getEvent().getId())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Show the events of the days on the calendar, loading the months they
+     * fall in if they are not cached yet, and prefetch the months around them
+     */
+    private void loadCalendarRange(LocalDate firstDay, LocalDate lastDay) {
+        List<CompletableFuture<List<Event>>> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(firstDay); !month.isAfter(YearMonth.from(lastDay)); month = month.plusMonths(1)) {
+            months.add(calendarProvider.getMonthAsync(month));
+            calendarProvider.prefetchAround(month);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(months.toArray(new CompletableFuture<?>[0]));
+        if (all.isDone() && !all.isCompletedExceptionally()) {
+            // Cached months are shown in the same frame
+            showCalendarEvents(months);
+            return;
+        }
+        all.whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+            if (!firstDay.equals(calendarPanel.getShownFirstDay())) {
+                return; // The user has moved on
+            }
+            if (error != null) {
+                LOGGER.error("Error loading calendar events", error);
+                UIUtils.showError(this, "Error loading calendar events: " + error.getMessage());
+                return;
             }
+            showCalendarEvents(months);
+        }));
+    }
 
-            calendarPanel.setEvents(calendarEvents);
+    private void showCalendarEvents(List<CompletableFuture<List<Event>>> months) {
+        List<Event> events = new ArrayList<>();
+        for (CompletableFuture<List<Event>> month : months) {
+            events.addAll(month.join());
+        }
 
+        // Highlight events that clash with this user's registrations
+        Set<Integer> conflicting = Collections.emptySet();
+        try {
+            conflicting = registrationController.getConflictingEventIds(
+                AuthController.getInstance().getCurrentUser().getId(), events);
         } catch (SQLException e) {
-            UIUtils.showError(this, "Error loading calendar events: " + e.getMessage());
+            LOGGER.warn("Error checking calendar events for schedule conflicts", e);
         }
 
-        JScrollPane scrollPane = new JScrollPane(calendarPanel);
-        scrollPane.setBorder(BorderFactory.createEmptyBorder()); // Remove default border
-        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
-        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        java.time.ZoneId zone = java.time.ZoneId.systemDefault();
+        List<CalendarPanel.CalendarEvent> calendarEvents = new ArrayList<>();
+        for (Event event : events) {
+            Date eventDate = Date.from(event.getEventDate().atZone(zone).toInstant());
+            calendarEvents.add(new CalendarPanel.CalendarEvent(
+                String.valueOf(event.getId()),
+                event.getTitle(),
+                eventDate,
+                eventDate, // startTime
+                Date.from(event.getEndDate().atZone(zone).toInstant()),
+                event.getVenueName(),
+                event.getCategory() != null ? event.getCategory() : "Other",
+                event.getDescription() != null ? event.getDescription() : "",
+                registeredEventIds.contains(event.getId()),
+                conflicting.contains(event.getId())
+            ));
+        }
+        calendarPanel.setEvents(calendarEvents);
+    }
 
-        panel.add(scrollPane, BorderLayout.CENTER);
+    /**
+     * Reload the calendar after events or this user's registrations changed;
+     * the provider has already dropped the affected months
+     */
+    private void refreshCalendar() {
+        if (calendarPanel == null || !calendarPanel.isShowing()) {
+            return;
+        }
+        try {
+            loadRegisteredEventIds();
+        } catch (SQLException e) {
+            LOGGER.warn("Error reloading registrations for the calendar", e);
+        }
+        loadCalendarRange(calendarPanel.getShownFirstDay(), calendarPanel.getShownLastDay());
+    }
 
-        return panel;
+    @Override
+    public void dispose() {
+        if (domainEventSubscription != null) {
+            domainEventSubscription.unsubscribe();
+            domainEventSubscription = null;
+        }
+        super.dispose();
     }
 
     private JPanel createMyEventsContent() {
@@ -641,9 +730,7 @@ public class AttendeeDashboardNew extends JFrame {
                 registrationController.cancelRegistration(registrationId);
                 UIUtils.showSuccess(this, "Registration cancelled successfully.");
                 // Refresh My Events list
-                contentPanel.remove(findComponentByName(contentPanel, "My Events"));
-                contentPanel.add(createMyEventsContent(), "My Events");
-                contentLayout.show(contentPanel, "My Events");
+                contentLayout.reload(contentPanel, "My Events");
             } catch (SQLException e) {
                 UIUtils.showError(this, "Error cancelling registration: " + e.getMessage());
             }
@@ -678,7 +765,7 @@ public class AttendeeDashboardNew extends JFrame {
                         tableModel.addRow(rowData);
                     }
                 } catch (SQLException e) {
-                    System.err.println("Error loading event for registration: " + e.getMessage());
+                    LOGGER.warn("Error loading event for registration: {}", e.getMessage());
                 }
             }
         } catch (SQLException e) {
@@ -818,16 +905,6 @@ public class AttendeeDashboardNew extends JFrame {
         return card;
     }
 
-     // Helper method to find a component by its name (card identifier)
-    private Component findComponentByName(Container container, String name) {
-        for (Component comp : container.getComponents()) {
-            if (comp.getName() != null && comp.getName().equals(name)) {
-                return comp;
-            }
-        }
-        return null;
-    }
-
     private JScrollPane createDashboardContent() {
         JPanel panel = UIUtils.createPanel(new BorderLayout(0, 25), true);
         panel.setBackground(AppColors.BACKGROUND_LIGHT);
@@ -902,22 +979,22 @@ public class AttendeeDashboardNew extends JFrame {
             User currentUser = AuthController.getInstance().getCurrentUser();
             if (currentUser != null) userName = currentUser.getName();
         } catch (SQLException e) {
-            System.err.println("Error getting current user: " + e.getMessage());
+            LOGGER.warn("Error getting current user: {}", e.getMessage());
         }
 
         JLabel greetingLabel = new JLabel("Hello, " + userName + "!");
-        greetingLabel.setFont(new Font("Segoe UI", Font.BOLD, 28));
+        greetingLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 28));
         greetingLabel.setForeground(Color.WHITE);
         greetingLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         JLabel dateLabel = new JLabel(DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy").format(ZonedDateTime.now()));
-        dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+        dateLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 16));
         dateLabel.setForeground(new Color(255, 255, 255, 200));
         dateLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         dateLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 15, 0));
 
         JLabel motivationLabel = new JLabel("Ready to discover amazing events?");
-        motivationLabel.setFont(new Font("Segoe UI", Font.PLAIN, 18));
+        motivationLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 18));
         motivationLabel.setForeground(new Color(255, 255, 255, 230));
         motivationLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
@@ -930,7 +1007,7 @@ public class AttendeeDashboardNew extends JFrame {
         rightPanel.setOpaque(false);
 
         JButton exploreButton = new JButton(" Explore Events");
-        exploreButton.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        exploreButton.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         exploreButton.setForeground(new Color(74, 144, 226));
         exploreButton.setBackground(Color.WHITE);
         exploreButton.setBorder(BorderFactory.createEmptyBorder(12, 24, 12, 24));
@@ -961,7 +1038,7 @@ public class AttendeeDashboardNew extends JFrame {
         section.setOpaque(false);
 
         JLabel sectionTitle = new JLabel("Your Activity");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 15, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -1042,7 +1119,7 @@ public class AttendeeDashboardNew extends JFrame {
         section.setOpaque(false);
 
         JLabel sectionTitle = new JLabel("Quick Actions");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 15, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -1119,17 +1196,17 @@ public class AttendeeDashboardNew extends JFrame {
         content.setOpaque(false);
 
         JLabel iconLabel = new JLabel(icon);
-        iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 32));
+        iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 32));
         iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         iconLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
 
         JLabel titleLabel = new JLabel(title);
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         titleLabel.setForeground(color);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         JLabel descLabel = new JLabel("<html><center>" + description + "</center></html>");
-        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        descLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         descLabel.setForeground(new Color(100, 100, 100));
         descLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         descLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 0, 0));
@@ -1151,12 +1228,12 @@ public class AttendeeDashboardNew extends JFrame {
         headerPanel.setOpaque(false);
 
         JLabel sectionTitle = new JLabel("Upcoming Events");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         headerPanel.add(sectionTitle, BorderLayout.WEST);
 
         JButton viewAllButton = new JButton("View All →");
-        viewAllButton.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        viewAllButton.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         viewAllButton.setForeground(new Color(74, 144, 226));
         viewAllButton.setBackground(Color.WHITE);
         viewAllButton.setBorder(BorderFactory.createEmptyBorder(8, 16, 8, 16));
@@ -1187,7 +1264,7 @@ public class AttendeeDashboardNew extends JFrame {
                 JPanel emptyPanel = new JPanel(new BorderLayout());
                 emptyPanel.setOpaque(false);
                 JLabel emptyLabel = new JLabel("<html><center>🎉<br><br>No new events available<br>Check back later for updates!</center></html>");
-                emptyLabel.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+                emptyLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 16));
                 emptyLabel.setForeground(new Color(150, 150, 150));
                 emptyLabel.setHorizontalAlignment(SwingConstants.CENTER);
                 emptyPanel.add(emptyLabel, BorderLayout.CENTER);
@@ -1202,7 +1279,7 @@ public class AttendeeDashboardNew extends JFrame {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error loading upcoming events: " + e.getMessage());
+            LOGGER.warn("Error loading upcoming events: {}", e.getMessage());
         }
 
         section.add(eventsGrid, BorderLayout.SOUTH);
@@ -1235,7 +1312,7 @@ public class AttendeeDashboardNew extends JFrame {
 
         // Event title
         JLabel titleLabel = new JLabel(event.getTitle());
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
@@ -1243,13 +1320,13 @@ public class AttendeeDashboardNew extends JFrame {
         String dateStr = event.getEventDate() != null ?
             event.getEventDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")) : "TBD";
         JLabel dateLabel = new JLabel("📅 " + dateStr);
-        dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        dateLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         dateLabel.setForeground(new Color(100, 100, 100));
         dateLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         // Event venue
         JLabel venueLabel = new JLabel("📍 " + event.getVenueName());
-        venueLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        venueLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         venueLabel.setForeground(new Color(100, 100, 100));
         venueLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
@@ -1263,10 +1340,17 @@ public class AttendeeDashboardNew extends JFrame {
         registerBtn.addActionListener(e -> {
             try {
                 User user = AuthController.getInstance().getCurrentUser();
-                registrationController.registerForEvent(user, event.getId());
-                UIUtils.showSuccess(this, "Successfully registered for " + event.getTitle() + "!");
-                // Refresh dashboard
-                contentLayout.show(contentPanel, "Dashboard");
+                // Warn about registrations at the same time
+                List<ScheduleIndex.Booking> conflicts = registrationController.getScheduleConflicts(user.getId(), event.getId());
+                if (!conflicts.isEmpty() && !UIUtils.showConfirm(this,
+                        "This event overlaps your registration for \"" + conflicts.get(0).getTitle() + "\".\nRegister anyway?")) {
+                    return;
+                }
+                // Hold a seat while the attendee confirms in the registration dialog
+                SeatHoldDialog.open(this, user, event, true, registration -> {
+                    // Refresh dashboard
+                    contentLayout.show(contentPanel, "Dashboard");
+                });
             } catch (Exception ex) {
                 UIUtils.showError(this, "Registration failed: " + ex.getMessage());
             }
@@ -1306,7 +1390,7 @@ public class AttendeeDashboardNew extends JFrame {
         section.setOpaque(false);
 
         JLabel sectionTitle = new JLabel("Recent Activity");
-        sectionTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        sectionTitle.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         sectionTitle.setForeground(AppColors.TEXT_PRIMARY);
         sectionTitle.setBorder(BorderFactory.createEmptyBorder(0, 0, 15, 0));
         section.add(sectionTitle, BorderLayout.NORTH);
@@ -1340,7 +1424,7 @@ public class AttendeeDashboardNew extends JFrame {
 
             if (recentRegistrations.isEmpty()) {
                 JLabel emptyLabel = new JLabel("No recent activity");
-                emptyLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+                emptyLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
                 emptyLabel.setForeground(new Color(150, 150, 150));
                 emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
                 activityPanel.add(emptyLabel);
@@ -1353,14 +1437,14 @@ public class AttendeeDashboardNew extends JFrame {
                             activityPanel.add(Box.createVerticalStrut(10));
                         }
                     } catch (SQLException e) {
-                        System.err.println("Error loading event for registration: " + e.getMessage());
+                        LOGGER.warn("Error loading event for registration: {}", e.getMessage());
                     }
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error loading recent activity: " + e.getMessage());
+            LOGGER.warn("Error loading recent activity: {}", e.getMessage());
             JLabel errorLabel = new JLabel("Error loading activity data");
-            errorLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            errorLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
             errorLabel.setForeground(AppColors.ERROR);
             errorLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
             activityPanel.add(errorLabel);
@@ -1378,20 +1462,20 @@ public class AttendeeDashboardNew extends JFrame {
         // Status icon
         String statusIcon = getStatusIcon(registration.getStatus());
         JLabel iconLabel = new JLabel(statusIcon);
-        iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
+        iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 16));
         iconLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 10));
 
         // Activity text
         String activityText = String.format("Registered for %s", event.getTitle());
         JLabel textLabel = new JLabel(activityText);
-        textLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        textLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         textLabel.setForeground(AppColors.TEXT_PRIMARY);
 
         // Date
         String dateStr = registration.getRegistrationDate() != null ?
             registration.getRegistrationDate().format(DateTimeFormatter.ofPattern("MMM dd")) : "";
         JLabel dateLabel = new JLabel(dateStr);
-        dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        dateLabel.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
         dateLabel.setForeground(new Color(150, 150, 150));
 
         item.add(iconLabel, BorderLayout.WEST);
@@ -1432,7 +1516,7 @@ public class AttendeeDashboardNew extends JFrame {
             // Use the system look and feel
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
 
         // Create and show the login screen on the Event Dispatch Thread (EDT)
@@ -1456,12 +1540,11 @@ public class AttendeeDashboardNew extends JFrame {
                           if (result.isSuccess() && result.getUser().getRole() == User.UserRole.ATTENDEE) {
                               new AttendeeDashboardNew();
                          } else {
-                               System.out.println("Test admin login failed or is not an Attendee.");
+                               LOGGER.info("Test admin login failed or is not an Attendee");
                               new LoginScreen();
                          }
                      } catch (SQLException e) {
-                          System.err.println("Database error during test login: " + e.getMessage());
-                          e.printStackTrace();
+                          LOGGER.error("Database error during test login", e);
                           new LoginScreen();
                      }
 
@@ -1469,7 +1552,7 @@ public class AttendeeDashboardNew extends JFrame {
                 }
 
             } catch (SQLException e) {
-                e.printStackTrace();
+                LOGGER.error("Error initializing application", e);
                 JOptionPane.showMessageDialog(null,
                     "Error initializing application: " + e.getMessage(),
                     "Initialization Error",
@@ -1487,16 +1570,7 @@ public class AttendeeDashboardNew extends JFrame {
     }
 
     private void refreshDashboard() {
-        try {
-            // Refresh the My Events content
-            JPanel myEventsContent = createMyEventsContent();
-            contentPanel.removeAll();
-            contentPanel.add(createDashboardContent(), "Dashboard");
-            contentPanel.add(myEventsContent, "My Events");
-            contentPanel.add(new ProfilePanel(AuthController.getInstance().getCurrentUser(), true), "Profile");
-            contentLayout.show(contentPanel, "My Events");
-        } catch (SQLException e) {
-            UIUtils.showError(this, "Error refreshing dashboard: " + e.getMessage());
-        }
+        // Rebuild the My Events content with fresh registrations
+        contentLayout.reload(contentPanel, "My Events");
     }
 }
@@ -1,5 +1,7 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -7,6 +9,7 @@ import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.Image;
 import java.sql.SQLException;
+import java.util.List;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -23,13 +26,17 @@ import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 
+import components.SeatHoldDialog;
 import controllers.EventController;
 import controllers.FeedbackController;
 import controllers.RegistrationController;
+import controllers.ScheduleIndex;
 import models.Event;
 import models.Registration;
 import models.User;
 import utils.EmojiUtils;
+import utils.UIResources;
+import utils.UIUtils;
 
 /**
  * Event Details Screen
@@ -37,6 +44,8 @@ import utils.EmojiUtils;
  */
 @SuppressWarnings("unused")
 public class EventDetailsScreen extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(EventDetailsScreen.class);
+
     private Event event;
     private final User currentUser;
     private FeedbackController feedbackController;
@@ -92,7 +101,7 @@ public class EventDetailsScreen extends JFrame {
 
         // Title
         JLabel titleLabel = new JLabel("Event Details");
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 24));
         headerPanel.add(titleLabel, BorderLayout.CENTER);
 
         // Content panel
@@ -113,7 +122,7 @@ public class EventDetailsScreen extends JFrame {
             // Use emoji placeholder based on event category
             String categoryEmoji = EmojiUtils.getEventCategoryEmoji(event.getCategory());
             JLabel emojiLabel = new JLabel(categoryEmoji);
-            emojiLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 120));
+            emojiLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 120));
             emojiLabel.setHorizontalAlignment(SwingConstants.CENTER);
             emojiLabel.setVerticalAlignment(SwingConstants.CENTER);
             emojiLabel.setPreferredSize(new Dimension(400, 400));
@@ -130,7 +139,7 @@ public class EventDetailsScreen extends JFrame {
 
         // Event title
         JLabel eventTitleLabel = new JLabel(event.getTitle());
-        eventTitleLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        eventTitleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 20));
         detailsPanel.add(eventTitleLabel);
         detailsPanel.add(Box.createVerticalStrut(20));
 
@@ -152,7 +161,7 @@ public class EventDetailsScreen extends JFrame {
 
         // Description
         JLabel descriptionLabel = new JLabel("Description:");
-        descriptionLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        descriptionLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         detailsPanel.add(descriptionLabel);
         detailsPanel.add(Box.createVerticalStrut(10));
 
@@ -161,7 +170,7 @@ public class EventDetailsScreen extends JFrame {
         descriptionArea.setWrapStyleWord(true);
         descriptionArea.setEditable(false);
         descriptionArea.setBackground(Color.WHITE);
-        descriptionArea.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        descriptionArea.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         JScrollPane descriptionScrollPane = new JScrollPane(descriptionArea);
         descriptionScrollPane.setPreferredSize(new Dimension(400, 100));
         detailsPanel.add(descriptionScrollPane);
@@ -169,7 +178,7 @@ public class EventDetailsScreen extends JFrame {
 
         // Eligibility criteria
         JLabel eligibilityLabel = new JLabel("Eligibility Criteria:");
-        eligibilityLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        eligibilityLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         detailsPanel.add(eligibilityLabel);
         detailsPanel.add(Box.createVerticalStrut(10));
 
@@ -178,7 +187,7 @@ public class EventDetailsScreen extends JFrame {
         eligibilityArea.setWrapStyleWord(true);
         eligibilityArea.setEditable(false);
         eligibilityArea.setBackground(Color.WHITE);
-        eligibilityArea.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        eligibilityArea.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         JScrollPane eligibilityScrollPane = new JScrollPane(eligibilityArea);
         eligibilityScrollPane.setPreferredSize(new Dimension(400, 100));
         detailsPanel.add(eligibilityScrollPane);
@@ -207,11 +216,11 @@ public class EventDetailsScreen extends JFrame {
         panel.setBackground(Color.WHITE);
 
         JLabel labelComponent = new JLabel(label);
-        labelComponent.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        labelComponent.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 14));
         panel.add(labelComponent, BorderLayout.WEST);
 
         JLabel valueComponent = new JLabel(value);
-        valueComponent.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        valueComponent.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         panel.add(valueComponent, BorderLayout.CENTER);
 
         return panel;
@@ -259,21 +268,23 @@ public class EventDetailsScreen extends JFrame {
                 return;
             }
 
-            // Register the user
-            Registration registration = registrationController.registerForEvent(currentUser, event.getId());
-            isRegistered = true;
+            // Warn about registrations at the same time
+            List<ScheduleIndex.Booking> conflicts = registrationController.getScheduleConflicts(currentUser.getId(), event.getId());
+            if (!conflicts.isEmpty() && !UIUtils.showConfirm(this,
+                    "This event overlaps your registration for \"" + conflicts.get(0).getTitle() + "\".\nRegister anyway?")) {
+                return;
+            }
 
-            // Show success message
-            JOptionPane.showMessageDialog(this,
-                "Successfully registered for the event!",
-                "Registration Successful",
-                JOptionPane.INFORMATION_MESSAGE);
+            // Register the user, holding a seat while they confirm
+            SeatHoldDialog.open(this, currentUser, event, true, registration -> {
+                isRegistered = true;
 
-            // Return to dashboard with refresh
-            dispose();
-            AttendeeDashboardNew dashboard = new AttendeeDashboardNew();
-            dashboard.setVisible(true);
-            dashboard.showScreen("My Events"); // This will trigger the refresh
+                // Return to dashboard with refresh
+                dispose();
+                AttendeeDashboardNew dashboard = new AttendeeDashboardNew();
+                dashboard.setVisible(true);
+                dashboard.showScreen("My Events"); // This will trigger the refresh
+            });
 
         } catch (SQLException e) {
             JOptionPane.showMessageDialog(this,
@@ -295,20 +306,12 @@ public class EventDetailsScreen extends JFrame {
             // Set system look and feel
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
 
         // Create and show the login screen
         SwingUtilities.invokeLater(() -> {
-            try {
-                new LoginScreen().setVisible(true);
-            } catch (SQLException e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(null,
-                    "Error initializing login screen: " + e.getMessage(),
-                    "Initialization Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+            new LoginScreen().setVisible(true);
         });
     }
 }
@@ -1,5 +1,7 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -15,6 +17,8 @@ import java.sql.SQLException;
  * Screen for handling password reset functionality
  */
 public class ForgotPasswordScreen extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(ForgotPasswordScreen.class);
+
     private JTextField emailField;
     private JPasswordField newPasswordField;
     private JPasswordField confirmPasswordField;
@@ -157,14 +161,7 @@ public class ForgotPasswordScreen extends JFrame {
             @Override
             public void mouseClicked(MouseEvent e) {
                 dispose();
-                try {
-                    new LoginScreen().setVisible(true);
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(ForgotPasswordScreen.this,
-                        "Error opening login screen: " + ex.getMessage(),
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                }
+                new LoginScreen().setVisible(true);
             }
         });
         gbc.gridy++;
@@ -523,8 +520,6 @@ public class ForgotPasswordScreen extends JFrame {
             } else {
                 resetErrorLabel.setText(result.getMessage());
             }
-        } catch (SQLException e) {
-            resetErrorLabel.setText("Error resetting password: " + e.getMessage());
         } finally {
             // Re-enable reset button
             resetButton.setEnabled(true);
@@ -538,11 +533,11 @@ public class ForgotPasswordScreen extends JFrame {
                 try {
                     new ForgotPasswordScreen().setVisible(true);
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOGGER.error("Error opening forgot password screen", e);
                 }
             });
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
     }
 }
\ No newline at end of file
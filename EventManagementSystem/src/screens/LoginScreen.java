@@ -1,5 +1,7 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Cursor;
@@ -11,6 +13,8 @@ import java.awt.Insets;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
@@ -27,27 +31,27 @@ import components.RoundedPanel;
 import controllers.AuthController;
 import models.User;
 import utils.AppColors;
+import utils.CredentialService;
 import utils.EmojiUtils;
 import utils.UIConstants;
 import utils.UIUtils;
+import utils.UIResources;
 
 /**
  * Login screen for the Event Management System
  */
 public class LoginScreen extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(LoginScreen.class);
+
     private JTextField emailField;
     private JPasswordField passwordField;
     private JButton loginButton;
     private JLabel errorLabel;
-    private final AuthController authController;
 
     /**
-     * Creates a new login screen
-     *
-     * @throws SQLException if there is an error connecting to the database
+     * Creates a new login screen; the database is first needed when the user logs in
      */
-    public LoginScreen() throws SQLException {
-        authController = AuthController.getInstance();
+    public LoginScreen() {
         setTitle("Event Management System - Login");
         setExtendedState(JFrame.MAXIMIZED_BOTH);
         setMinimumSize(new Dimension(700, 700));
@@ -142,7 +146,7 @@ public class LoginScreen extends JFrame {
             UIUtils.ButtonType.PRIMARY,
             UIUtils.ButtonSize.LARGE_RECTANGULAR
         );
-        loginButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 16));
+        loginButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 16));
         loginButton.addActionListener(e -> handleLogin());
         gbc.gridy++;
         gbc.fill = GridBagConstraints.HORIZONTAL; // Center button
@@ -219,64 +223,67 @@ public class LoginScreen extends JFrame {
             return;
         }
 
-        try {
-            System.out.println("Attempting login for email: " + email);
-            AuthController.LoginResult result = authController.login(email, password);
-            System.out.println("Login result success: " + result.isSuccess());
-
-            if (result.isSuccess()) {
-                User user = result.getUser();
-                System.out.println("User role: " + (user != null ? user.getRole() : "null"));
-
-                if (user != null) {
-                    // Close login screen first
-                    dispose();
-
-                    // Create and show appropriate dashboard based on role
-                    SwingUtilities.invokeLater(() -> {
-                        try {
-                            switch (user.getRole()) {
-                                case ADMIN -> {
-                                    System.out.println("User is admin, showing admin dashboard");
-                                    new AdminDashboardNew().setVisible(true);
-                                }
-                                case EVENT_ORGANIZER -> {
-                                    System.out.println("User is organizer, showing organizer dashboard");
-                                    new OrganizerDashboard().setVisible(true);
-                                }
-                                case ATTENDEE -> {
-                                    System.out.println("User is attendee, showing attendee dashboard");
-                                    new AttendeeDashboardNew().setVisible(true);
-                                }
-                                default -> {
-                                    System.out.println("Unknown role, showing error");
-                                    UIUtils.showError(this, "Unknown user role: " + user.getRole());
-                                    new LoginScreen().setVisible(true);
-                                }
+        loginButton.setEnabled(false);
+        errorLabel.setText(" ");
+        // The controller is normally built during startup; if the database was slow, finish that off the EDT
+        CompletableFuture.supplyAsync(() -> {
+                try {
+                    return AuthController.getInstance();
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            })
+            .thenCompose(authController -> authController.loginAsync(email, password))
+            .whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                loginButton.setEnabled(true);
+                if (error != null) {
+                    Throwable cause = CredentialService.unwrap(error);
+                    LOGGER.error("Exception during login", cause);
+                    errorLabel.setText("Error: " + cause.getMessage());
+                } else {
+                    handleLoginResult(result);
+                }
+            }));
+    }
+
+    private void handleLoginResult(AuthController.LoginResult result) {
+        if (result.isSuccess()) {
+            User user = result.getUser();
+
+            if (user != null) {
+                // Close login screen first
+                dispose();
+
+                // Create and show appropriate dashboard based on role
+                SwingUtilities.invokeLater(() -> {
+                    try {
+                        switch (user.getRole()) {
+                            case ADMIN -> {
+                                new AdminDashboardNew().setVisible(true);
+                            }
+                            case EVENT_ORGANIZER -> {
+                                new OrganizerDashboard().setVisible(true);
                             }
-                        } catch (SQLException e) {
-                            System.err.println("Error creating dashboard: " + e.getMessage());
-                            UIUtils.showError(this, "Error opening dashboard: " + e.getMessage());
-                            // If dashboard fails to open, show login screen again
-                            try {
+                            case ATTENDEE -> {
+                                new AttendeeDashboardNew().setVisible(true);
+                            }
+                            default -> {
+                                UIUtils.showError(this, "Unknown user role: " + user.getRole());
                                 new LoginScreen().setVisible(true);
-                            } catch (SQLException ex) {
-                                UIUtils.showError(this, "Error reopening login screen: " + ex.getMessage());
                             }
                         }
-                    });
-                } else {
-                    System.out.println("User is null after successful login");
-                    errorLabel.setText("Error: User data not found");
-                }
+                    } catch (SQLException e) {
+                        LOGGER.error("Error creating dashboard", e);
+                        UIUtils.showError(this, "Error opening dashboard: " + e.getMessage());
+                        // If dashboard fails to open, show login screen again
+                        new LoginScreen().setVisible(true);
+                    }
+                });
             } else {
-                System.out.println("Login failed: " + result.getMessage());
-                errorLabel.setText(result.getMessage());
+                errorLabel.setText("Error: User data not found");
             }
-        } catch (SQLException e) {
-            System.err.println("SQL Exception during login: " + e.getMessage());
-            e.printStackTrace();
-            errorLabel.setText("Error: " + e.getMessage());
+        } else {
+            errorLabel.setText(result.getMessage());
         }
     }
 
@@ -287,15 +294,7 @@ public class LoginScreen extends JFrame {
         }
 
         SwingUtilities.invokeLater(() -> {
-            try {
-                new LoginScreen();
-            } catch (SQLException e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(null,
-                    "Error initializing login screen: " + e.getMessage(),
-                    "Initialization Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+            new LoginScreen();
         });
     }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.BorderLayout;
-import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Cursor;
@@ -17,12 +18,12 @@ import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.swing.BorderFactory;
-import javax.swing.Box;
-import javax.swing.BoxLayout;
 import javax.swing.DefaultCellEditor;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
@@ -52,6 +53,8 @@ import components.CreateEventForm;
 import components.EventDetailsPanel;
 import components.GradientButton;
 import components.HeaderPanel;
+import components.LazyCardLayout;
+import components.StampedList;
 import components.MediaUploadPanel;
 import components.ParticipantsPanel;
 import components.ProfilePanel;
@@ -61,6 +64,15 @@ import components.RecentEventItem;
 import controllers.AuthController;
 import controllers.EventController;
 import controllers.RegistrationController;
+import events.DomainEvent;
+import events.DomainEventBatch;
+import events.EventBus;
+import events.EventCreated;
+import events.EventDeleted;
+import events.EventStatusChanged;
+import events.EventUpdated;
+import events.RegistrationCreated;
+import events.RegistrationStatusChanged;
 import models.Event;
 import models.Event.EventStatus;
 import models.Registration;
@@ -75,9 +87,11 @@ import utils.UIUtils;
  */
 @SuppressWarnings("unused")
 public class OrganizerDashboard extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(OrganizerDashboard.class);
+
     // UI Components
     private JPanel contentPanel;
-    private CardLayout contentLayout;
+    private LazyCardLayout contentLayout;
     private JLabel eventCountLabel;
     private JLabel pendingCountLabel;
     private JLabel approvedCountLabel;
@@ -91,6 +105,8 @@ public class OrganizerDashboard extends JFrame {
     private final AuthController authController;
     private JPanel dashboardStatsPanel;
     private JPanel recentEventsPanel;
+    private StampedList<Event> recentEventsList;
+    private final Map<String, JLabel> statValueLabels = new HashMap<>();
 
     // Participants panel component
     private ParticipantsPanel participantsPanel;
@@ -100,6 +116,8 @@ public class OrganizerDashboard extends JFrame {
 
     private JTable table; // Add this field at the class level
 
+    private EventBus.Subscription domainEventSubscription;
+
     public OrganizerDashboard() throws SQLException {
         try {
             // Initialize controllers
@@ -111,17 +129,16 @@ public class OrganizerDashboard extends JFrame {
             if (!authController.isLoggedIn() || !authController.isOrganizer()) {
                 UIUtils.showError(this, "Access denied. Only organizers can access this dashboard.");
                 dispose();
-                try {
-                    new LoginScreen().setVisible(true);
-                } catch (SQLException ex) {
-                    UIUtils.showError(this, "Error opening login screen: " + ex.getMessage());
-                }
+                new LoginScreen().setVisible(true);
                 return;
             }
 
             initializeFrame();
             setupUI();
             loadDashboardData();
+            domainEventSubscription = EventBus.getInstance().subscribeOnEdt(this::applyDomainEvents,
+                EventCreated.class, EventUpdated.class, EventStatusChanged.class, EventDeleted.class,
+                RegistrationCreated.class, RegistrationStatusChanged.class);
             setVisible(true);
         } catch (SQLException e) {
             UIUtils.showError(this, "Error initializing dashboard: " + e.getMessage());
@@ -141,8 +158,8 @@ public class OrganizerDashboard extends JFrame {
         JPanel mainPanel = UIUtils.createPanel(new BorderLayout(), true);
         mainPanel.setBackground(AppColors.BACKGROUND_LIGHT);
 
-        contentPanel = UIUtils.createPanel(new CardLayout(), true);
-        contentLayout = (CardLayout) contentPanel.getLayout();
+        contentLayout = new LazyCardLayout();
+        contentPanel = UIUtils.createPanel(contentLayout, true);
 
         // Use the shared header and sidebar
         String username = authController.getCurrentUser().getName();
@@ -158,18 +175,17 @@ public class OrganizerDashboard extends JFrame {
         sidebarPanel.addNavButton("👤 Profile", null, "Profile", false);
         sidebarPanel.addLogoutButton(e -> handleLogout());
 
-        // Add content cards
+        // Add content cards; all but the dashboard are built the first time they are shown
         contentPanel.add(createDashboardPanel(), "Dashboard");
-        contentPanel.add(createMyEventsPanel(), "My Events");
-        contentPanel.add(new CreateEventForm("Organizer", success -> {
+        contentLayout.register("My Events", this::createMyEventsPanel, true);
+        contentLayout.register("Create Event", () -> new CreateEventForm("Organizer", success -> {
             if (success) {
-                loadDashboardData();
                 contentLayout.show(contentPanel, "Dashboard");
             }
-        }), "Create Event");
-        contentPanel.add(createParticipantsPanel(), "Participants");
-        contentPanel.add(createMediaUploadPanel(), "Media Upload");
-        contentPanel.add(new ProfilePanel(authController.getCurrentUser(), true), "Profile");
+        }));
+        contentLayout.register("Participants", this::createParticipantsPanel, true);
+        contentLayout.register("Media Upload", this::createMediaUploadPanel);
+        contentLayout.register("Profile", () -> new ProfilePanel(authController.getCurrentUser(), true));
 
         mainPanel.add(headerPanel, BorderLayout.NORTH);
         mainPanel.add(sidebarPanel, BorderLayout.WEST);
@@ -177,6 +193,7 @@ public class OrganizerDashboard extends JFrame {
         setContentPane(mainPanel);
 
         contentLayout.show(contentPanel, "Dashboard");
+        contentLayout.preload(contentPanel, "My Events");
     }
 
     private JPanel createDashboardPanel() {
@@ -215,6 +232,12 @@ public class OrganizerDashboard extends JFrame {
         // Stats row
         dashboardStatsPanel = UIUtils.createPanel(new GridLayout(1, 5, 20, 0), false);
         dashboardStatsPanel.setOpaque(false);
+        dashboardStatsPanel.add(createStatCard("Total Events", "", AppColors.PRIMARY));
+        dashboardStatsPanel.add(createStatCard("Pending", "", AppColors.ACCENT_YELLOW));
+        dashboardStatsPanel.add(createStatCard("Approved", "", AppColors.ACCENT_GREEN));
+        dashboardStatsPanel.add(createStatCard("Rejected", "", AppColors.ACCENT_RED));
+        dashboardStatsPanel.add(createStatCard("Cancelled", "", AppColors.TEXT_SECONDARY));
+        dashboardStatsPanel.add(createStatCard("Total Participants", "", AppColors.PRIMARY));
 
         // Recent Events Panel
         recentEventsPanel = UIUtils.createPanel(new BorderLayout(), false);
@@ -222,20 +245,54 @@ public class OrganizerDashboard extends JFrame {
         recentEventsPanel.setBorder(UIUtils.createRoundedBorder(AppColors.BORDER, UIConstants.CORNER_RADIUS_MEDIUM, 1));
         recentEventsPanel.setBackground(Color.WHITE);
 
-        JLabel recentEventsTitle = UIUtils.createLabel(
+        // Title and View All link
+        JPanel titlePanel = new JPanel(new BorderLayout());
+        titlePanel.setOpaque(false);
+
+        JLabel titleLabel = UIUtils.createLabel(
             "Recent Events",
             UIConstants.BODY_FONT_BOLD,
             AppColors.TEXT_PRIMARY
         );
-        recentEventsTitle.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
-        recentEventsPanel.add(recentEventsTitle, BorderLayout.NORTH);
+        titleLabel.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
+        titlePanel.add(titleLabel, BorderLayout.WEST);
 
-        // Create scrollable list panel for Recent Events
-        JPanel recentEventsListPanel = new JPanel();
-        recentEventsListPanel.setLayout(new BoxLayout(recentEventsListPanel, BoxLayout.Y_AXIS));
-        recentEventsListPanel.setOpaque(false);
+        JLabel viewAllLabel = UIUtils.createLabel(
+            "View All Events →",
+            UIConstants.SMALL_FONT,
+            AppColors.PRIMARY
+        );
+        viewAllLabel.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
+        viewAllLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        viewAllLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                contentLayout.show(contentPanel, "My Events");
+            }
+
+            @Override
+            public void mouseEntered(MouseEvent e) {
+                viewAllLabel.setText("<html><u>View All Events →</u></html>");
+            }
 
-        JScrollPane recentEventsScrollPane = new JScrollPane(recentEventsListPanel);
+            @Override
+            public void mouseExited(MouseEvent e) {
+                viewAllLabel.setText("View All Events →");
+            }
+        });
+        titlePanel.add(viewAllLabel, BorderLayout.EAST);
+        recentEventsPanel.add(titlePanel, BorderLayout.NORTH);
+
+        // Scrollable list painted by stamping a single RecentEventItem per row
+        recentEventsList = new StampedList<>(
+            Event::getId,
+            event -> new RecentEventItem(event, e -> showEventDetails(((RecentEventItem) e.getSource()).getEvent())),
+            RecentEventItem::updateEvent,
+            "No recent events to display."
+        );
+        recentEventsList.setRowAction(this::showEventDetails);
+
+        JScrollPane recentEventsScrollPane = new JScrollPane(recentEventsList);
         recentEventsScrollPane.setBorder(BorderFactory.createEmptyBorder());
         recentEventsScrollPane.setOpaque(false);
         recentEventsScrollPane.getViewport().setOpaque(false);
@@ -274,6 +331,7 @@ public class OrganizerDashboard extends JFrame {
         );
         valueLabel.setHorizontalAlignment(SwingConstants.CENTER);
         card.add(valueLabel, BorderLayout.CENTER);
+        statValueLabels.put(title, valueLabel);
 
         return card;
     }
@@ -520,7 +578,7 @@ public class OrganizerDashboard extends JFrame {
 
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading events: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error loading events", e);
         }
     }
 
@@ -805,13 +863,12 @@ public class OrganizerDashboard extends JFrame {
                 eligibilityField.setText("");
                 scheduleField.setText("");
 
-                // Refresh dashboard
-                loadDashboardData();
+                // The dashboard refreshes from the EventCreated domain event
                 contentLayout.show(contentPanel, "Dashboard");
 
             } catch (SQLException ex) {
                 UIUtils.showError(this, "Error creating event: " + ex.getMessage());
-            } catch (IllegalArgumentException ex) {
+            } catch (IllegalArgumentException | IllegalStateException ex) {
                 UIUtils.showError(this, ex.getMessage());
             }
         });
@@ -921,9 +978,6 @@ public class OrganizerDashboard extends JFrame {
 
         CreateEventForm form = new CreateEventForm("Organizer", success -> {
             if (success) {
-                // Refresh the dashboard and events table
-                loadDashboardData();
-
                 // Show confirmation message
                 JOptionPane.showMessageDialog(
                     this,
@@ -995,6 +1049,52 @@ public class OrganizerDashboard extends JFrame {
         }
     }
 
+    /**
+     * Reloads the stat cards and recent events once per batch of domain
+     * events that touch this organizer's events
+     *
+     * @param batch Events published since the previous frame
+     */
+    private void applyDomainEvents(DomainEventBatch batch) {
+        for (DomainEvent domainEvent : batch.getEvents()) {
+            if (concernsCurrentOrganizer(domainEvent)) {
+                loadStatCards();
+                loadRecentEvents();
+                return;
+            }
+        }
+    }
+
+    private boolean concernsCurrentOrganizer(DomainEvent domainEvent) {
+        Event event;
+        if (domainEvent instanceof EventCreated) {
+            event = ((EventCreated) domainEvent).getEvent();
+        } else if (domainEvent instanceof EventUpdated) {
+            event = ((EventUpdated) domainEvent).getEvent();
+        } else if (domainEvent instanceof EventStatusChanged) {
+            event = ((EventStatusChanged) domainEvent).getEvent();
+        } else if (domainEvent instanceof RegistrationCreated) {
+            event = ((RegistrationCreated) domainEvent).getRegistration().getEvent();
+        } else if (domainEvent instanceof RegistrationStatusChanged) {
+            event = ((RegistrationStatusChanged) domainEvent).getRegistration().getEvent();
+        } else {
+            // Deletions only carry the ID, so assume they may be ours
+            return true;
+        }
+        User currentUser = authController.getCurrentUser();
+        return event == null || event.getOrganizer() == null || currentUser == null
+            || event.getOrganizer().getId() == currentUser.getId();
+    }
+
+    @Override
+    public void dispose() {
+        if (domainEventSubscription != null) {
+            domainEventSubscription.unsubscribe();
+            domainEventSubscription = null;
+        }
+        super.dispose();
+    }
+
     private void loadStatCards() {
         try {
             User currentUser = authController.getCurrentUser();
@@ -1019,106 +1119,36 @@ public class OrganizerDashboard extends JFrame {
                 totalParticipants += registrationController.getEventRegistrations(event.getId()).size();
             }
 
-            dashboardStatsPanel.removeAll();
-
-            dashboardStatsPanel.add(createStatCard("Total Events", String.valueOf(totalEvents), AppColors.PRIMARY));
-            dashboardStatsPanel.add(createStatCard("Pending", String.valueOf(pendingEvents), AppColors.ACCENT_YELLOW));
-            dashboardStatsPanel.add(createStatCard("Approved", String.valueOf(approvedEvents), AppColors.ACCENT_GREEN));
-            dashboardStatsPanel.add(createStatCard("Rejected", String.valueOf(rejectedEvents), AppColors.ACCENT_RED));
-            dashboardStatsPanel.add(createStatCard("Cancelled", String.valueOf(cancelledEvents), AppColors.TEXT_SECONDARY));
-            dashboardStatsPanel.add(createStatCard("Total Participants", String.valueOf(totalParticipants), AppColors.PRIMARY));
-
-            dashboardStatsPanel.revalidate();
-            dashboardStatsPanel.repaint();
+            // The cards were built once; only their values change
+            setStatValue("Total Events", totalEvents);
+            setStatValue("Pending", pendingEvents);
+            setStatValue("Approved", approvedEvents);
+            setStatValue("Rejected", rejectedEvents);
+            setStatValue("Cancelled", cancelledEvents);
+            setStatValue("Total Participants", totalParticipants);
 
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading dashboard data: " + e.getMessage());
         }
     }
 
-    private void loadRecentEvents() {
-        recentEventsPanel.removeAll();
-        // Re-add the title and View All link
-        JPanel titlePanel = new JPanel(new BorderLayout());
-        titlePanel.setOpaque(false);
-
-        JLabel titleLabel = UIUtils.createLabel(
-            "Recent Events",
-            UIConstants.BODY_FONT_BOLD,
-            AppColors.TEXT_PRIMARY
-        );
-        titleLabel.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
-        titlePanel.add(titleLabel, BorderLayout.WEST);
-
-        JLabel viewAllLabel = UIUtils.createLabel(
-            "View All Events →",
-            UIConstants.SMALL_FONT,
-            AppColors.PRIMARY
-        );
-        viewAllLabel.setBorder(BorderFactory.createEmptyBorder(15, 15, 10, 15));
-        viewAllLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        viewAllLabel.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                contentLayout.show(contentPanel, "My Events");
-            }
-
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                viewAllLabel.setText("<html><u>View All Events →</u></html>");
-            }
-
-            @Override
-            public void mouseExited(MouseEvent e) {
-                viewAllLabel.setText("View All Events →");
-            }
-        });
-        titlePanel.add(viewAllLabel, BorderLayout.EAST);
-        recentEventsPanel.add(titlePanel, BorderLayout.NORTH);
-
-        // Create a new list panel to hold RecentEventItem components
-        JPanel recentEventsList = new JPanel();
-        recentEventsList.setLayout(new BoxLayout(recentEventsList, BoxLayout.Y_AXIS));
-        recentEventsList.setOpaque(false);
-
-        // Add scroll pane for the list
-        JScrollPane listScrollPane = new JScrollPane(recentEventsList);
-        listScrollPane.setBorder(BorderFactory.createEmptyBorder());
-        listScrollPane.setOpaque(false);
-        listScrollPane.getViewport().setOpaque(false);
+    private void setStatValue(String title, int value) {
+        JLabel label = statValueLabels.get(title);
+        if (label != null) {
+            label.setText(String.valueOf(value));
+        }
+    }
 
+    private void loadRecentEvents() {
         try {
             User currentUser = authController.getCurrentUser();
             if (currentUser != null) {
-                List<Event> recentEvents = eventController.getRecentEventsByOrganizer(currentUser.getId(), 5);
-
-                if (recentEvents.isEmpty()) {
-                    JLabel noEventsLabel = UIUtils.createLabel(
-                        "No recent events to display.",
-                        UIConstants.BODY_FONT,
-                        AppColors.TEXT_SECONDARY
-                    );
-                    noEventsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                    noEventsLabel.setBorder(BorderFactory.createEmptyBorder(30, 0, 0, 0));
-                    recentEventsList.add(noEventsLabel);
-                } else {
-                    for (Event event : recentEvents) {
-                        RecentEventItem item = new RecentEventItem(event, e -> showEventDetails(event));
-                        recentEventsList.add(item);
-                        recentEventsList.add(Box.createVerticalStrut(10));
-                    }
-                }
+                recentEventsList.setItems(eventController.getRecentEventsByOrganizer(currentUser.getId(), 5));
             }
         } catch (SQLException e) {
             UIUtils.showError(this, "Error loading recent events: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error loading recent events", e);
         }
-
-        // Add the scroll pane to the recentEventsPanel CENTER position
-        recentEventsPanel.add(listScrollPane, BorderLayout.CENTER);
-
-        recentEventsPanel.revalidate();
-        recentEventsPanel.repaint();
     }
 
     private Color getStatusColor(EventStatus status) {
@@ -1139,27 +1169,23 @@ public class OrganizerDashboard extends JFrame {
     }
 
     private void handleLogout() {
-        try {
-            authController.logout();
-            dispose();
-            new LoginScreen().setVisible(true);
-        } catch (SQLException e) {
-            UIUtils.showError(this, "Error during logout: " + e.getMessage());
-        }
+        authController.logout();
+        dispose();
+        new LoginScreen().setVisible(true);
     }
 
     public static void main(String[] args) {
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
 
         SwingUtilities.invokeLater(() -> {
             try {
                 new OrganizerDashboard().setVisible(true);
             } catch (SQLException e) {
-                e.printStackTrace();
+                LOGGER.error("Error initializing organizer dashboard", e);
                 JOptionPane.showMessageDialog(null,
                     "Error initializing organizer dashboard: " + e.getMessage(),
                     "Initialization Error",
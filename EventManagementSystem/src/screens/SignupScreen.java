@@ -1,5 +1,7 @@
 package screens;
 
+import logging.LogManager;
+import logging.Logger;
 import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -35,8 +37,11 @@ import utils.EmojiUtils;
 import utils.UIConstants;
 import utils.UIUtils;
 import utils.ValidationUtils;
+import utils.UIResources;
 
 public class SignupScreen extends JFrame {
+    private static final Logger LOGGER = LogManager.getLogger(SignupScreen.class);
+
     private JTextField nameField;
     private JTextField emailField;
     private JPasswordField passwordField;
@@ -184,7 +189,7 @@ public class SignupScreen extends JFrame {
             "Event Organizer",
             "Attendee"
         });
-        roleComboBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        roleComboBox.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         roleComboBox.setBackground(Color.WHITE);
         roleComboBox.setBorder(BorderFactory.createCompoundBorder(
             BorderFactory.createLineBorder(AppColors.BORDER),
@@ -206,7 +211,7 @@ public class SignupScreen extends JFrame {
             UIUtils.ButtonType.PRIMARY,
             UIUtils.ButtonSize.LARGE
         );
-        signupButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 16));
+        signupButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 16));
         signupButton.addActionListener(e -> handleSignup());
         gbc.gridy++;
         gbc.insets = new Insets(20, 10, 10, 10);
@@ -219,14 +224,7 @@ public class SignupScreen extends JFrame {
             @Override
             public void mouseClicked(MouseEvent e) {
                 dispose();
-                try {
-                    new LoginScreen().setVisible(true);
-                } catch (SQLException ex) {
-                    JOptionPane.showMessageDialog(SignupScreen.this,
-                        "Error opening login screen: " + ex.getMessage(),
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                }
+                new LoginScreen().setVisible(true);
             }
         });
         gbc.gridy++;
@@ -343,7 +341,7 @@ public class SignupScreen extends JFrame {
             UIUtils.ButtonType.PRIMARY,
             UIUtils.ButtonSize.LARGE
         );
-        submitButton.setFont(new Font("Segoe UI Emoji", Font.BOLD, 16));
+        submitButton.setFont(UIResources.getFont("Segoe UI Emoji", Font.BOLD, 16));
         submitButton.addActionListener(e -> handleSecurityQuestions());
         gbc.gridy++;
         gbc.insets = new Insets(20, 10, 10, 10);
@@ -386,11 +384,7 @@ public class SignupScreen extends JFrame {
         // Clear previous error
         errorLabel.setText(" ");
 
-        // Debug logging
-        System.out.println("Starting registration process...");
-        System.out.println("Name: " + name);
-        System.out.println("Email: " + email);
-        System.out.println("Role: " + role);
+        LOGGER.debug("Starting registration for {} as {}", email, role);
 
         // Validate input fields
         if (name.isEmpty() || email.isEmpty() || password.isEmpty()) {
@@ -422,8 +416,7 @@ public class SignupScreen extends JFrame {
             cardLayout.show(mainPanel, "SECURITY");
 
         } catch (SQLException e) {
-            System.out.println("SQL Exception during registration: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error checking email during registration", e);
             errorLabel.setText("Error: " + e.getMessage());
         }
     }
@@ -488,7 +481,7 @@ public class SignupScreen extends JFrame {
                     submitButton.setEnabled(true);
                 }
             }
-        } catch (SQLException e) {
+        } catch (RuntimeException e) {
             errorLabel.setText("Error: " + e.getMessage());
             if (submitButton != null) {
                 submitButton.setEnabled(true);
@@ -503,11 +496,11 @@ public class SignupScreen extends JFrame {
                 try {
                     new SignupScreen().setVisible(true);
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOGGER.error("Error opening signup screen", e);
                 }
             });
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error setting system look and feel", e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package tools;
+
+import api.ApiServer;
+import api.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load test for the HTTP API. Runs the same request mix with an
+ * increasing number of concurrent clients (1, 2, 4 ... 2 x cores) and prints
+ * throughput, latency and speedup over a single client for each level.
+ *
+ * The default mix cycles through the database-backed reads an attendee makes:
+ * upcoming events, their registrations and their notifications. Each client
+ * issues them in turn, so a level only scales if the server runs statements
+ * for different clients on different connections.
+ *
+ * Without a base URL an embedded {@link ApiServer} is started on a free port.
+ *
+ * Usage: java tools.ApiLoadTest &lt;email&gt; &lt;password&gt; [seconds-per-level] [paths] [base-url]
+ *   paths is a comma-separated list; use /api/health to measure the server without the database.
+ */
+public class ApiLoadTest {
+
+    private static final String DEFAULT_PATHS = "/api/events,/api/registrations,/api/notifications";
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\":\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: java tools.ApiLoadTest <email> <password> [seconds-per-level] [paths] [base-url]");
+            return;
+        }
+        String email = args[0];
+        String password = args[1];
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        String[] paths = (args.length > 3 ? args[3] : DEFAULT_PATHS).split(",");
+
+        ApiServer embedded = null;
+        String baseUrl;
+        if (args.length > 4) {
+            baseUrl = args[4];
+        } else {
+            embedded = new ApiServer(0);
+            embedded.start();
+            baseUrl = "http://localhost:" + embedded.getPort();
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        String token = login(client, baseUrl, email, password);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Target: " + baseUrl + " " + String.join(",", paths) + ", " + cores + " cores, " + seconds + " s per level");
+        System.out.println("clients   req/s      p50 ms   p99 ms   errors  speedup");
+
+        double baseline = 0;
+        for (int clients = 1; clients <= cores * 2; clients *= 2) {
+            Level level = runLevel(client, baseUrl, paths, token, clients, seconds);
+            if (baseline == 0) {
+                baseline = level.throughput;
+            }
+            System.out.printf("%7d %9.1f %9.2f %8.2f %8d %7.2fx%n",
+                clients, level.throughput, level.p50Ms, level.p99Ms, level.errors,
+                baseline > 0 ? level.throughput / baseline : 0);
+        }
+
+        if (embedded != null) {
+            embedded.stop(0);
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password) throws Exception {
+        String body = Json.write(Map.of("email", email, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: " + response.body());
+        }
+        Matcher matcher = TOKEN_PATTERN.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("No token in login response: " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static Level runLevel(HttpClient client, String baseUrl, String[] paths, String token, int clients,
+            int seconds) throws InterruptedException {
+        HttpRequest[] requests = new HttpRequest[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            requests[i] = HttpRequest.newBuilder(URI.create(baseUrl + paths[i].trim()))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        }
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicLong errors = new AtomicLong();
+        long[][] perClient = new long[clients][];
+        Thread[] workers = new Thread[clients];
+
+        for (int i = 0; i < clients; i++) {
+            int index = i;
+            workers[i] = new Thread(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long t0 = System.nanoTime();
+                    try {
+                        // Offset by client so concurrent clients hit different endpoints
+                        HttpRequest request = requests[(index + count) % requests.length];
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - t0;
+                }
+                perClient[index] = Arrays.copyOf(samples, count);
+            }, "load-client-" + i);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return Level.of(perClient, errors.get(), seconds);
+    }
+
+    private static final class Level {
+        double throughput;
+        double p50Ms;
+        double p99Ms;
+        long errors;
+
+        static Level of(long[][] perClient, long errors, int seconds) {
+            int total = 0;
+            for (long[] samples : perClient) {
+                total += samples == null ? 0 : samples.length;
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] samples : perClient) {
+                if (samples != null) {
+                    System.arraycopy(samples, 0, all, offset, samples.length);
+                    offset += samples.length;
+                }
+            }
+            Arrays.sort(all);
+            Level level = new Level();
+            level.throughput = total / (double) seconds;
+            level.p50Ms = all.length == 0 ? 0 : all[(int) (all.length * 0.50)] / 1e6;
+            level.p99Ms = all.length == 0 ? 0 : all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6;
+            level.errors = errors;
+            return level;
+        }
+    }
+}
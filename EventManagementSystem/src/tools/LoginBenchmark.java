@@ -0,0 +1,68 @@
+package tools;
+
+import controllers.AuthController;
+import dao.LastLoginWriteBehind;
+
+import java.util.Arrays;
+
+/**
+ * Measures AuthController.login latency against the configured database.
+ *
+ * Usage: java tools.LoginBenchmark &lt;email&gt; &lt;password&gt; [iterations] [warmup]
+ */
+public class LoginBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: java tools.LoginBenchmark <email> <password> [iterations] [warmup]");
+            return;
+        }
+        String email = args[0];
+        String password = args[1];
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        int warmup = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+
+        AuthController authController = AuthController.getInstance();
+        LastLoginWriteBehind lastLoginWriter = LastLoginWriteBehind.getInstance();
+
+        for (int i = 0; i < warmup; i++) {
+            login(authController, email, password);
+        }
+        lastLoginWriter.flush();
+        long writtenBefore = lastLoginWriter.getWrittenCount();
+        long batchesBefore = lastLoginWriter.getBatchCount();
+
+        long[] samples = new long[iterations];
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            login(authController, email, password);
+            samples[i] = System.nanoTime() - t0;
+        }
+        long elapsed = System.nanoTime() - start;
+        lastLoginWriter.flush();
+
+        Arrays.sort(samples);
+        System.out.println("Logins:          " + iterations);
+        System.out.printf("Throughput:      %.1f logins/s%n", iterations / (elapsed / 1e9));
+        System.out.printf("Latency p50:     %.3f ms%n", percentile(samples, 0.50) / 1e6);
+        System.out.printf("Latency p90:     %.3f ms%n", percentile(samples, 0.90) / 1e6);
+        System.out.printf("Latency p99:     %.3f ms%n", percentile(samples, 0.99) / 1e6);
+        System.out.printf("Latency max:     %.3f ms%n", samples[samples.length - 1] / 1e6);
+        System.out.println("last_login rows: " + (lastLoginWriter.getWrittenCount() - writtenBefore)
+            + " in " + (lastLoginWriter.getBatchCount() - batchesBefore) + " batch(es)");
+    }
+
+    private static void login(AuthController authController, String email, String password) throws Exception {
+        AuthController.LoginResult result = authController.login(email, password);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Login failed: " + result.getMessage());
+        }
+        authController.logout();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,415 @@
+package tools;
+
+import controllers.RegistrationController;
+import controllers.SeatHoldManager;
+import dao.EventDAO;
+import dao.InMemoryDatabase;
+import dao.InMemoryEventDAO;
+import dao.InMemoryRegistrationDAO;
+import dao.InMemorySeatHoldDAO;
+import dao.InMemoryUserDAO;
+import dao.RegistrationDAO;
+import dao.SQLEventDAO;
+import dao.SQLEventRegistrationDAO;
+import dao.SQLSeatHoldDAO;
+import dao.SQLUserDAO;
+import dao.SeatHoldDAO;
+import dao.UserDAO;
+import models.Event;
+import models.Registration;
+import models.Registration.Status;
+import models.SeatHold;
+import models.User;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reproduces a registration storm: many attendees hitting "Register" for the same
+ * event(s) within a short window, with some of them cancelling afterwards.
+ *
+ * Arrivals follow a Poisson process at the configured rate and are served by a
+ * fixed pool of worker threads calling RegistrationController.registerForEvent and
+ * cancelRegistration (which drives waitlist promotion). Latency is measured from
+ * each attendee's scheduled arrival, so queueing delay is included.
+ *
+ * At the end the resulting registrations are checked for oversold seats, drift
+ * between available_slots and actual registrations, and waitlist FIFO violations
+ * (a waitlisted attendee still waiting while someone who arrived later holds a seat).
+ * The run fails, exiting with status 1, if any check finds a problem, a request
+ * errored or deadlocked, or the workers did not finish, so it can gate a build.
+ * A quick check: rate=100000 waitlist=50
+ *
+ * Usage: java tools.RegistrationStormSimulator [key=value ...]
+ *   store=memory|mysql  in-memory stand-in or the configured MySQL database (memory)
+ *   attendees=5000      number of attendees arriving
+ *   events=1            number of events the storm is spread over
+ *   capacity=500        total slots per event
+ *   waitlist=0          attendees already waitlisted on each event before the storm
+ *   rate=5000           arrivals per minute
+ *   threads=64          concurrent request threads
+ *   cancel=0.1          fraction of successful registrations cancelled right after
+ *   hold=0              fraction of attendees who register through a seat hold, as the dialog does
+ *   abandon=0.3         fraction of seat holds never confirmed, left to expire
+ *   holdTtl=2           seconds a seat is held
+ *   latencyMicros=200   simulated database round trip (memory store only)
+ *   seed=42             random seed for arrivals and cancellations
+ */
+public class RegistrationStormSimulator implements AutoCloseable {
+
+    private final Map<String, String> options;
+    private final UserDAO userDAO;
+    private final EventDAO eventDAO;
+    private final RegistrationDAO registrationDAO;
+    private final RegistrationController registrationController;
+    private final SeatHoldManager seatHoldManager;
+
+    private final LatencyRecorder registerLatency = new LatencyRecorder();
+    private final LatencyRecorder cancelLatency = new LatencyRecorder();
+    private final AtomicLong registered = new AtomicLong();
+    private final AtomicLong waitlisted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong dbDeadlocks = new AtomicLong();
+    private final AtomicLong lockTimeouts = new AtomicLong();
+    private final Set<Long> deadlockedThreads = ConcurrentHashMap.newKeySet();
+
+    public RegistrationStormSimulator(Map<String, String> options) throws SQLException {
+        this.options = options;
+        SeatHoldDAO seatHoldDAO;
+        if (option("store", "memory").equals("mysql")) {
+            this.userDAO = new SQLUserDAO();
+            this.eventDAO = new SQLEventDAO();
+            this.registrationDAO = new SQLEventRegistrationDAO();
+            seatHoldDAO = new SQLSeatHoldDAO();
+        } else {
+            InMemoryDatabase db = new InMemoryDatabase();
+            db.setLatencyMicros(Long.parseLong(option("latencyMicros", "200")));
+            this.userDAO = new InMemoryUserDAO(db);
+            this.eventDAO = new InMemoryEventDAO(db);
+            this.registrationDAO = new InMemoryRegistrationDAO(db);
+            seatHoldDAO = new InMemorySeatHoldDAO(db);
+        }
+        this.registrationController = RegistrationController.withDAOs(registrationDAO, eventDAO, userDAO);
+        this.seatHoldManager = new SeatHoldManager(seatHoldDAO, eventDAO, registrationController, intOption("holdTtl", 2));
+        seatHoldManager.start();
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return Integer.parseInt(option(key, String.valueOf(defaultValue)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                System.out.println("Ignoring argument '" + arg + "', expected key=value");
+                continue;
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        boolean passed;
+        try (RegistrationStormSimulator simulator = new RegistrationStormSimulator(options)) {
+            passed = simulator.run();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Stop the standalone hold expirer and release the controller so its
+     * listeners leave the event bus
+     */
+    @Override
+    public void close() {
+        seatHoldManager.close();
+        registrationController.close();
+    }
+
+    /**
+     * Run the storm and check its outcome
+     *
+     * @return true if every check passed
+     * @throws Exception if seeding or reading back the results fails
+     */
+    public boolean run() throws Exception {
+        int attendeeCount = intOption("attendees", 5000);
+        int eventCount = intOption("events", 1);
+        int capacity = intOption("capacity", 500);
+        int waitlistPerEvent = intOption("waitlist", 0);
+        double ratePerMinute = Double.parseDouble(option("rate", "5000"));
+        int threads = intOption("threads", 64);
+        double cancelRatio = Double.parseDouble(option("cancel", "0.1"));
+        double holdRatio = Double.parseDouble(option("hold", "0"));
+        double abandonRatio = Double.parseDouble(option("abandon", "0.3"));
+        Random random = new Random(Long.parseLong(option("seed", "42")));
+
+        System.out.println("Seeding " + eventCount + " event(s) x " + capacity + " slots, "
+            + attendeeCount + " attendees (" + option("store", "memory") + " store)...");
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Event> events = seedEvents(runId, eventCount, capacity);
+        List<User> attendees = seedUsers(runId, "attendee", attendeeCount);
+        seedWaitlists(runId, events, waitlistPerEvent);
+
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        ScheduledExecutorService deadlockMonitor = Executors.newSingleThreadScheduledExecutor();
+        deadlockMonitor.scheduleAtFixedRate(() -> {
+            long[] ids = threadMXBean.findDeadlockedThreads();
+            if (ids != null) {
+                for (long id : ids) {
+                    deadlockedThreads.add(id);
+                }
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        System.out.printf("Storm: %.0f arrivals/min on %d threads, %.0f%% cancel%n", ratePerMinute, threads, cancelRatio * 100);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        double meanGapNanos = 60e9 / ratePerMinute;
+        long start = System.nanoTime();
+        long arrival = start;
+        for (User attendee : attendees) {
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Event event = events.get(random.nextInt(events.size()));
+            boolean cancelAfter = random.nextDouble() < cancelRatio;
+            boolean useHold = random.nextDouble() < holdRatio;
+            boolean abandon = useHold && random.nextDouble() < abandonRatio;
+            long scheduledAt = arrival;
+            workers.execute(() -> attend(attendee, event.getId(), scheduledAt, cancelAfter, useHold, abandon));
+        }
+        workers.shutdown();
+        boolean finished = workers.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        deadlockMonitor.shutdownNow();
+
+        if (holdRatio > 0) {
+            // Abandoned holds must have expired and given their seats back before the seats are counted
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seatHoldManager.getTtlSeconds()) + 500);
+            seatHoldManager.expireHolds();
+        }
+        return report(events, elapsed, finished);
+    }
+
+    private void attend(User attendee, int eventId, long scheduledAt, boolean cancelAfter,
+                        boolean useHold, boolean abandon) {
+        Registration registration;
+        try {
+            if (useHold) {
+                SeatHold hold = seatHoldManager.hold(attendee, eventDAO.findById(eventId));
+                if (hold == null || abandon) {
+                    registerLatency.record(System.nanoTime() - scheduledAt);
+                    (hold == null ? rejected : abandoned).incrementAndGet();
+                    return;
+                }
+                registration = seatHoldManager.confirm(attendee, hold, false);
+            } else {
+                registration = registrationController.registerForEvent(attendee, eventId);
+            }
+            registerLatency.record(System.nanoTime() - scheduledAt);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            registerLatency.record(System.nanoTime() - scheduledAt);
+            rejected.incrementAndGet();
+            return;
+        } catch (SQLException e) {
+            registerLatency.record(System.nanoTime() - scheduledAt);
+            countFailure(e);
+            return;
+        }
+
+        if (registration.getStatus() == Status.WAITLISTED) {
+            waitlisted.incrementAndGet();
+        } else {
+            registered.incrementAndGet();
+        }
+
+        if (!cancelAfter) {
+            return;
+        }
+        long cancelStart = System.nanoTime();
+        try {
+            registrationController.cancelRegistration(registration.getId());
+            cancelled.incrementAndGet();
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            rejected.incrementAndGet();
+        } catch (SQLException e) {
+            countFailure(e);
+        } finally {
+            cancelLatency.record(System.nanoTime() - cancelStart);
+        }
+    }
+
+    private void countFailure(SQLException e) {
+        // MySQL: 1213 = deadlock found, 1205 = lock wait timeout
+        if (e.getErrorCode() == 1213 || "40001".equals(e.getSQLState())) {
+            dbDeadlocks.incrementAndGet();
+        } else if (e.getErrorCode() == 1205) {
+            lockTimeouts.incrementAndGet();
+        } else {
+            errors.incrementAndGet();
+        }
+    }
+
+    private List<Event> seedEvents(String runId, int count, int capacity) throws SQLException {
+        User organizer = seedUsers(runId, "organizer", 1).get(0);
+        organizer.setRole(User.UserRole.ADMIN); // admin-created events start out approved
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Event event = new Event("Storm " + runId + " #" + (i + 1), "Registration storm simulation",
+                LocalDateTime.now().plusDays(30), LocalDateTime.now().plusDays(29),
+                "Main Hall", capacity, organizer, "Simulation");
+            events.add(eventDAO.save(event));
+        }
+        return events;
+    }
+
+    private List<User> seedUsers(String runId, String kind, int count) throws SQLException {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(userDAO.createUser("Storm " + kind + " " + i, "storm-" + runId + "-" + kind + i + "@example.com",
+                "not-a-login", User.UserRole.ATTENDEE, "q1", "a1", "q2", "a2"));
+        }
+        return users;
+    }
+
+    private void seedWaitlists(String runId, List<Event> events, int perEvent) throws SQLException {
+        if (perEvent <= 0) {
+            return;
+        }
+        LocalDateTime joinedAt = LocalDateTime.now().minusMinutes(10);
+        for (Event event : events) {
+            List<User> waiting = seedUsers(runId, "waitlisted-" + event.getId() + "-", perEvent);
+            for (User user : waiting) {
+                Registration registration = new Registration(user, event);
+                registration.setStatus(Status.WAITLISTED);
+                registration.setRegistrationDate(joinedAt);
+                joinedAt = joinedAt.plusSeconds(1);
+                registrationDAO.save(registration);
+            }
+        }
+    }
+
+    private boolean report(List<Event> events, long elapsedNanos, boolean finished) throws SQLException {
+        long operations = registerLatency.count() + cancelLatency.count();
+        System.out.println();
+        System.out.printf("Elapsed:              %.2f s%s%n", elapsedNanos / 1e9, finished ? "" : " (TIMED OUT - workers still running)");
+        System.out.printf("Throughput:           %.1f ops/s%n", operations / (elapsedNanos / 1e9));
+        System.out.println("register latency:     " + registerLatency.summary());
+        System.out.println("cancel latency:       " + cancelLatency.summary());
+        System.out.println("Outcomes:             registered=" + registered + " waitlisted=" + waitlisted
+            + " rejected=" + rejected + " cancelled=" + cancelled + " abandoned-holds=" + abandoned
+            + " errors=" + errors);
+        System.out.println("Deadlocks:            database=" + dbDeadlocks + " lock-timeouts=" + lockTimeouts
+            + " jvm-threads=" + deadlockedThreads.size());
+
+        long totalOversell = 0;
+        long totalViolations = 0;
+        long totalDrift = 0;
+        for (Event seeded : events) {
+            Event event = eventDAO.findById(seeded.getId());
+            List<Registration> registrations = registrationDAO.findByEvent(event.getId());
+            registrations.sort(Comparator.comparing(Registration::getRegistrationDate).thenComparing(Registration::getId));
+
+            int holdingSeat = 0;
+            int newestSeatIndex = -1;
+            for (int i = 0; i < registrations.size(); i++) {
+                Status status = registrations.get(i).getStatus();
+                if (status == Status.REGISTERED || status == Status.ATTENDED) {
+                    holdingSeat++;
+                    newestSeatIndex = i;
+                }
+            }
+            int violations = 0;
+            for (int i = 0; i < newestSeatIndex; i++) {
+                if (registrations.get(i).getStatus() == Status.WAITLISTED) {
+                    violations++;
+                }
+            }
+            int oversell = Math.max(0, holdingSeat - event.getTotalSlots());
+            int drift = (event.getTotalSlots() - holdingSeat) - event.getAvailableSlots();
+            totalOversell += oversell;
+            totalViolations += violations;
+            totalDrift += Math.abs(drift);
+            System.out.println(String.format("%-22s", "Event " + event.getId() + ":") + "seats=" + holdingSeat + "/" + event.getTotalSlots()
+                + " available_slots=" + event.getAvailableSlots() + " (drift " + drift + ")"
+                + " oversold=" + oversell + " waitlist-order-violations=" + violations);
+        }
+        System.out.println("Oversell total:       " + totalOversell);
+        System.out.println("Waitlist violations:  " + totalViolations);
+
+        List<String> failures = new ArrayList<>();
+        if (!finished) {
+            failures.add("workers did not finish");
+        }
+        if (totalOversell > 0) {
+            failures.add(totalOversell + " seats oversold");
+        }
+        if (totalViolations > 0) {
+            failures.add(totalViolations + " waitlist order violations");
+        }
+        if (totalDrift > 0) {
+            failures.add("available_slots off by " + totalDrift);
+        }
+        if (errors.get() + dbDeadlocks.get() + lockTimeouts.get() > 0 || !deadlockedThreads.isEmpty()) {
+            failures.add("requests failed or deadlocked");
+        }
+        System.out.println("Result:               " + (failures.isEmpty() ? "PASS" : "FAIL (" + String.join(", ", failures) + ")"));
+        return failures.isEmpty();
+    }
+
+    /**
+     * Thread-safe collector of latency samples in nanoseconds
+     */
+    private static final class LatencyRecorder {
+        private long[] samples = new long[4096];
+        private int count;
+
+        synchronized void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized String summary() {
+            if (count == 0) {
+                return "n=0";
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return String.format("n=%d p50=%.2f ms p99=%.2f ms max=%.2f ms", count,
+                sorted[(int) (count * 0.50)] / 1e6,
+                sorted[Math.min(count - 1, (int) (count * 0.99))] / 1e6,
+                sorted[count - 1] / 1e6);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package utils;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Hashes and verifies passwords with bcrypt.
+ *
+ * The bcrypt cost factor is calibrated once at startup so that a single hash
+ * takes roughly {@link #TARGET_HASH_MS} on this machine. Verification runs on a
+ * small bounded pool so that login work never runs on the Event Dispatch Thread
+ * and a burst of logins cannot starve the rest of the application.
+ */
+public class CredentialService {
+
+    /** Target time for a single hash; override with -Dems.bcrypt.targetMs */
+    public static final int TARGET_HASH_MS = Integer.getInteger("ems.bcrypt.targetMs", 250);
+    public static final int MIN_COST = 10;
+    public static final int MAX_COST = 14;
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private static CredentialService instance;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+
+    // Private constructor for singleton pattern
+    private CredentialService() {
+        this.cost = calibrateCost();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            r -> {
+                Thread thread = new Thread(r, "credential-worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Get the singleton instance of the CredentialService.
+     * The first call calibrates the bcrypt cost and should happen off the EDT.
+     *
+     * @return The CredentialService instance
+     */
+    public static synchronized CredentialService getInstance() {
+        if (instance == null) {
+            instance = new CredentialService();
+        }
+        return instance;
+    }
+
+    /**
+     * Pick the highest cost (within bounds) whose hash time stays under the target.
+     * Each cost step doubles the work, so one measurement is enough to extrapolate.
+     */
+    private static int calibrateCost() {
+        BCrypt.hashpw("calibration", BCrypt.gensalt(4)); // warm up the JIT
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration", BCrypt.gensalt(MIN_COST));
+        double elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000.0);
+
+        int extraSteps = (int) Math.floor(Math.log(TARGET_HASH_MS / elapsedMs) / Math.log(2));
+        return Math.max(MIN_COST, Math.min(MAX_COST, MIN_COST + extraSteps));
+    }
+
+    /**
+     * @return The calibrated bcrypt cost factor used for new hashes
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Hash a password with the calibrated cost
+     *
+     * @param password The plain text password
+     * @return The bcrypt hash
+     */
+    public String hash(String password) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(cost));
+    }
+
+    /**
+     * Hash many passwords in parallel across all cores, e.g. for bulk imports
+     *
+     * @param passwords The plain text passwords
+     * @return The hashes, in the same order as the input
+     */
+    public List<String> hashAll(List<String> passwords) {
+        return hashAll(passwords, cost);
+    }
+
+    /**
+     * Hash many passwords in parallel at a given cost. Bulk imports use
+     * {@link #MIN_COST}: {@link #verify} rehashes them at the calibrated cost
+     * on each user's first login.
+     *
+     * @param passwords The plain text passwords
+     * @param cost The bcrypt cost factor, between {@link #MIN_COST} and {@link #MAX_COST}
+     * @return The hashes, in the same order as the input
+     */
+    public List<String> hashAll(List<String> passwords, int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost must be between " + MIN_COST + " and " + MAX_COST);
+        }
+        return passwords.parallelStream()
+            .map(password -> BCrypt.hashpw(password, BCrypt.gensalt(cost)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Verify a password on the calling thread.
+     * Legacy plain text passwords and hashes below the calibrated cost verify
+     * successfully but come back with a new hash to be stored.
+     *
+     * @param password The password entered by the user
+     * @param storedPassword The stored hash or legacy plain text password
+     * @return The verification result
+     */
+    public SecurityUtils.VerificationResult verify(String password, String storedPassword) {
+        if (password == null || storedPassword == null) {
+            return new SecurityUtils.VerificationResult(false, null);
+        }
+
+        if (!isBcryptHash(storedPassword)) {
+            boolean matches = MessageDigest.isEqual(
+                password.getBytes(StandardCharsets.UTF_8),
+                storedPassword.getBytes(StandardCharsets.UTF_8));
+            return new SecurityUtils.VerificationResult(matches, matches ? hash(password) : null);
+        }
+
+        // jBCrypt only understands the $2a$ prefix; $2b$ and $2y$ hashes use the same algorithm
+        boolean foreignRevision = !storedPassword.startsWith("$2a$");
+        String checkable = foreignRevision ? "$2a$" + storedPassword.substring(4) : storedPassword;
+        if (!BCrypt.checkpw(password, checkable)) {
+            return new SecurityUtils.VerificationResult(false, null);
+        }
+
+        boolean needsRehash = foreignRevision || costOf(storedPassword) < cost;
+        return new SecurityUtils.VerificationResult(true, needsRehash ? hash(password) : null);
+    }
+
+    /**
+     * Verify a password on the credential pool
+     *
+     * @param password The password entered by the user
+     * @param storedPassword The stored hash or legacy plain text password
+     * @return A future completing with the verification result
+     */
+    public CompletableFuture<SecurityUtils.VerificationResult> verifyAsync(String password, String storedPassword) {
+        return submit(() -> verify(password, storedPassword));
+    }
+
+    /**
+     * Run credential work (lookup, verification, rehash) on the bounded credential pool.
+     * When the pool is saturated the returned future fails with a RejectedExecutionException.
+     *
+     * @param task The work to run
+     * @return A future completing with the task's result
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Exception e) {
+                    future.completeExceptionally(unwrap(e));
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get the failure behind an error reported by a credential future. Work chained
+     * onto {@link #submit(Callable)} with thenApply and the like reports its failure
+     * wrapped in a CompletionException.
+     *
+     * @param error The error passed to whenComplete or handle
+     * @return The wrapped cause, or {@code error} itself if it is not a CompletionException
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * @return The executor backing the credential pool
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    private static boolean isBcryptHash(String stored) {
+        return stored.length() == 60
+            && (stored.startsWith("$2a$") || stored.startsWith("$2b$") || stored.startsWith("$2y$"));
+    }
+
+    private static int costOf(String hash) {
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
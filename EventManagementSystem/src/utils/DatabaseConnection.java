@@ -1,24 +1,78 @@
 package utils;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import metrics.SqlInspector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.io.FileInputStream;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.util.Properties;
 
 /**
- * Utility class for managing database connections
+ * Utility class for managing database connections.
+ *
+ * Connections come from a HikariCP pool sized by the db.pool.* settings in
+ * database.properties. The shared connection is not bound to one physical
+ * connection: a statement prepared on it borrows a pooled connection for its
+ * thread and returns it when the statement is closed, so DAOs used from many
+ * threads at once (the HTTP API, background loaders) do not queue behind each
+ * other. Statements opened while another is still open on the same thread,
+ * as when a DAO loads the event and organizer of each row it reads, share
+ * that thread's connection, so one thread never holds more than one.
+ * Transactions, batches and long-running reads borrow one of their own and
+ * return it when closed.
  */
 public class DatabaseConnection {
     private static Connection connection = null;
+    private static HikariDataSource dataSource = null;
+    // The pooled connection the current thread's open statements on the shared connection run on
+    private static final ThreadLocal<Lease> LEASE = new ThreadLocal<>();
 
     /**
-     * Get a database connection
+     * Get the shared database connection. Every statement created on it runs on
+     * a pooled connection of its own, so it is always in auto-commit mode;
+     * use {@link #openDedicatedConnection()} for transactions.
      * @return a Connection object
      * @throws SQLException if there is an error connecting to the database
      */
-    public static Connection getConnection() throws SQLException {
+    public static synchronized Connection getConnection() throws SQLException {
         if (connection == null || connection.isClosed()) {
+            // Fail here rather than on the first statement if the database is unreachable
+            getDataSource().getConnection().close();
+            connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new StatementScopedConnection());
+        }
+        return connection;
+    }
+
+    /**
+     * Borrow a connection of its own from the pool for transactions, batches
+     * and long-running reads, such as streaming exports, that would otherwise
+     * hold up every other query on the shared one
+     * @return a pooled Connection; the caller must close it to return it to the pool
+     * @throws SQLException if there is an error connecting to the database or the pool is exhausted
+     */
+    public static Connection openDedicatedConnection() throws SQLException {
+        // Wrapped so N+1 and slow-query detection can be switched on at runtime
+        return SqlInspector.wrap(getDataSource().getConnection());
+    }
+
+    /**
+     * @return The most connections the pool will open
+     * @throws SQLException if there is an error connecting to the database
+     */
+    public static int getMaximumPoolSize() throws SQLException {
+        return getDataSource().getMaximumPoolSize();
+    }
+
+    private static synchronized HikariDataSource getDataSource() throws SQLException {
+        if (dataSource == null) {
             try {
                 // Load database properties
                 Properties props = new Properties();
@@ -30,28 +84,167 @@ public class DatabaseConnection {
                     props.load(inputStream);
                 }
 
-                // Get database connection properties
-                String url = props.getProperty("db.url");
-                String username = props.getProperty("db.username");
-                String password = props.getProperty("db.password");
-
-                // Create connection
-                connection = DriverManager.getConnection(url, username, password);
+                HikariConfig config = new HikariConfig();
+                config.setPoolName("ems-db");
+                config.setJdbcUrl(props.getProperty("db.url"));
+                config.setUsername(props.getProperty("db.username"));
+                config.setPassword(props.getProperty("db.password"));
+                config.setMaximumPoolSize((int) poolSetting(props, "db.pool.size", 10));
+                config.setConnectionTimeout(poolSetting(props, "db.pool.timeout", 30000));
+                config.setIdleTimeout(poolSetting(props, "db.pool.idle.timeout", 600000));
+                config.setMaxLifetime(poolSetting(props, "db.pool.max.lifetime", 1800000));
+                // Batches reach the server as multi-row statements instead of one round trip per row
+                config.addDataSourceProperty("rewriteBatchedStatements", "true");
+                config.addDataSourceProperty("cachePrepStmts", "true");
+                dataSource = new HikariDataSource(config);
+            } catch (SQLException e) {
+                throw e;
             } catch (Exception e) {
-                throw new SQLException("Error connecting to database: " + e.getMessage());
+                throw new SQLException("Error connecting to database: " + e.getMessage(), e);
             }
-
         }
-        return connection;
+        return dataSource;
+    }
+
+    private static long poolSetting(Properties props, String key, long defaultValue) {
+        String value = props.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
     }
 
     /**
-     * Close the database connection
+     * Close the database connection and the pool behind it
      * @throws SQLException if there is an error closing the connection
      */
-    public static void closeConnection() throws SQLException {
+    public static synchronized void closeConnection() throws SQLException {
         if (connection != null && !connection.isClosed()) {
             connection.close();
         }
+        connection = null;
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    /**
+     * A pooled connection lent to one thread, with the number of its statements still open
+     */
+    private static final class Lease {
+        private final Connection pooled;
+        private int open;
+
+        Lease(Connection pooled) {
+            this.pooled = pooled;
+        }
+
+        static Lease acquire() throws SQLException {
+            Lease lease = LEASE.get();
+            if (lease == null || lease.open == 0) {
+                lease = new Lease(openDedicatedConnection());
+                LEASE.set(lease);
+            }
+            lease.open++;
+            return lease;
+        }
+
+        void release() throws SQLException {
+            if (--open == 0) {
+                if (LEASE.get() == this) {
+                    LEASE.remove();
+                }
+                pooled.close();
+            }
+        }
+    }
+
+    /**
+     * The shared connection: runs each statement on its thread's leased
+     * pooled connection, which goes back to the pool when the thread's last
+     * open statement is closed
+     */
+    private static final class StatementScopedConnection implements InvocationHandler {
+        private volatile boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "getAutoCommit":
+                    return true;
+                case "setAutoCommit":
+                case "commit":
+                case "rollback":
+                case "setSavepoint":
+                case "releaseSavepoint":
+                    throw new SQLFeatureNotSupportedException(
+                        "Transactions need a connection of their own; use DatabaseConnection.openDedicatedConnection()");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "DatabaseConnection[shared]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+
+            Lease lease = Lease.acquire();
+            Object result;
+            try {
+                result = method.invoke(lease.pooled, args);
+            } catch (InvocationTargetException e) {
+                lease.release();
+                throw e.getCause();
+            }
+            if (result instanceof Statement) {
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class<?>[] { method.getReturnType() }, new PooledStatement((Statement) result, lease));
+            }
+            // Anything else (isValid, getMetaData, ...) is answered for the duration of the call
+            lease.release();
+            return result;
+        }
+    }
+
+    /**
+     * A statement that gives up its hold on the leased connection when closed
+     */
+    private static final class PooledStatement implements InvocationHandler {
+        private final Statement statement;
+        private final Lease lease;
+        private boolean closed;
+
+        PooledStatement(Statement statement, Lease lease) {
+            this.statement = statement;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                if (!closed) {
+                    closed = true;
+                    try {
+                        statement.close();
+                    } finally {
+                        lease.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
     }
-} 
+}
@@ -1,5 +1,9 @@
 package utils;
 
+import logging.LogManager;
+import logging.Logger;
+import metrics.SqlInspector;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -9,6 +13,8 @@ import java.io.IOException;
 import java.io.File;
 
 public class DatabaseUtil {
+    private static final Logger LOGGER = LogManager.getLogger(DatabaseUtil.class);
+
     private static final Properties props = new Properties();
     private static String url;
     private static String username;
@@ -35,36 +41,31 @@ public class DatabaseUtil {
                 throw new IOException("Missing required database properties. Please check database.properties file.");
             }
 
-            System.out.println("Loading database properties:");
-            System.out.println("URL: " + url);
-            System.out.println("Username: " + username);
-            System.out.println("Driver: " + driver);
+            // Deliberately not logging the URL or username
+            LOGGER.debug("Loaded database properties from {}", propFile);
 
             // Load the JDBC driver
             try {
                 Class.forName(driver);
-                System.out.println("JDBC driver loaded successfully");
+                LOGGER.debug("JDBC driver {} loaded", driver);
             } catch (ClassNotFoundException e) {
-                System.out.println("Failed to load JDBC driver. Make sure mysql-connector-java-8.0.xx.jar is in the lib directory");
+                LOGGER.error("Failed to load JDBC driver {}. Make sure mysql-connector-java-8.0.xx.jar is in the lib directory", driver);
                 throw e;
             }
         } catch (Exception e) {
-            System.out.println("Error initializing database connection:");
-            e.printStackTrace();
+            LOGGER.error("Error initializing database connection", e);
             throw new RuntimeException("Failed to initialize database connection", e);
         }
     }
 
     public static Connection getConnection() throws SQLException {
         try {
-            Connection conn = DriverManager.getConnection(url, username, password);
-            System.out.println("Database connection established successfully");
+            Connection conn = SqlInspector.wrap(DriverManager.getConnection(url, username, password));
+            LOGGER.debug("Database connection established");
             return conn;
         } catch (SQLException e) {
-            System.out.println("Failed to establish database connection:");
-            System.out.println("Error code: " + e.getErrorCode());
-            System.out.println("SQL State: " + e.getSQLState());
-            System.out.println("Error message: " + e.getMessage());
+            LOGGER.error("Failed to establish database connection (error code {}, SQL state {}): {}",
+                e.getErrorCode(), e.getSQLState(), e.getMessage());
             throw e;
         }
     }
@@ -73,30 +74,27 @@ public class DatabaseUtil {
         if (conn != null) {
             try {
                 conn.close();
-                System.out.println("Database connection closed successfully");
+                LOGGER.debug("Database connection closed");
             } catch (SQLException e) {
-                System.out.println("Error closing database connection:");
-                e.printStackTrace();
+                LOGGER.warn("Error closing database connection", e);
             }
         }
     }
 
     // Test database connection
     public static boolean testConnection() {
-        System.out.println("\nTesting database connection...");
+        LOGGER.info("Testing database connection");
         try (Connection conn = getConnection()) {
             boolean isConnected = conn != null && !conn.isClosed();
             if (isConnected) {
-                System.out.println("Database connection test successful");
+                LOGGER.info("Database connection test successful");
             } else {
-                System.out.println("Database connection test failed: Connection is null or closed");
+                LOGGER.warn("Database connection test failed: connection is null or closed");
             }
             return isConnected;
         } catch (SQLException e) {
-            System.out.println("Database connection test failed:");
-            System.out.println("Error code: " + e.getErrorCode());
-            System.out.println("SQL State: " + e.getSQLState());
-            System.out.println("Error message: " + e.getMessage());
+            LOGGER.warn("Database connection test failed (error code {}, SQL state {}): {}",
+                e.getErrorCode(), e.getSQLState(), e.getMessage());
             return false;
         }
     }
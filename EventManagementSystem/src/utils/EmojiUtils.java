@@ -27,10 +27,10 @@ public class EmojiUtils {
     private EmojiUtils() {}
 
     // Standard emoji font for consistent rendering
-    public static final Font EMOJI_FONT_SMALL = new Font("Segoe UI Emoji", Font.PLAIN, 12);
-    public static final Font EMOJI_FONT_NORMAL = new Font("Segoe UI Emoji", Font.PLAIN, 16);
-    public static final Font EMOJI_FONT_LARGE = new Font("Segoe UI Emoji", Font.PLAIN, 24);
-    public static final Font EMOJI_FONT_EXTRA_LARGE = new Font("Segoe UI Emoji", Font.PLAIN, 32);
+    public static final Font EMOJI_FONT_SMALL = UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 12);
+    public static final Font EMOJI_FONT_NORMAL = UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 16);
+    public static final Font EMOJI_FONT_LARGE = UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 24);
+    public static final Font EMOJI_FONT_EXTRA_LARGE = UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 32);
 
     /**
      * Creates a JLabel with emoji icon and text
@@ -42,7 +42,7 @@ public class EmojiUtils {
     public static JLabel createEmojiLabel(String emoji, String text, int fontSize) {
         String displayText = text != null ? emoji + " " + text : emoji;
         JLabel label = new JLabel(displayText);
-        label.setFont(new Font("Segoe UI Emoji", Font.PLAIN, fontSize));
+        label.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, fontSize));
         return label;
     }
 
@@ -56,7 +56,7 @@ public class EmojiUtils {
     public static JButton createEmojiButton(String emoji, String text, int fontSize) {
         String displayText = text != null ? emoji + " " + text : emoji;
         JButton button = new JButton(displayText);
-        button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, fontSize));
+        button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, fontSize));
         return button;
     }
 
@@ -68,7 +68,7 @@ public class EmojiUtils {
      */
     public static JLabel createEmojiIcon(String emoji, int fontSize) {
         JLabel label = new JLabel(emoji);
-        label.setFont(new Font("Segoe UI Emoji", Font.PLAIN, fontSize));
+        label.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, fontSize));
         label.setHorizontalAlignment(SwingConstants.CENTER);
         return label;
     }
@@ -79,7 +79,7 @@ public class EmojiUtils {
      * @param fontSize The font size
      */
     public static void setEmojiFont(JComponent component, int fontSize) {
-        component.setFont(new Font("Segoe UI Emoji", Font.PLAIN, fontSize));
+        component.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, fontSize));
     }
 
     /**
@@ -254,7 +254,7 @@ public class EmojiUtils {
 
         JLabel emojiLabel = createEmojiIcon(emoji, 20);
         JLabel titleLabel = new JLabel(" " + title);
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        titleLabel.setFont(UIResources.getFont("Segoe UI", Font.BOLD, 16));
         titleLabel.setForeground(AppColors.TEXT_PRIMARY);
 
         header.add(emojiLabel);
@@ -280,7 +280,7 @@ public class EmojiUtils {
 
         // Create emoji label with background
         JLabel emojiLabel = new JLabel(emoji);
-        emojiLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 18));
+        emojiLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 18));
         emojiLabel.setHorizontalAlignment(SwingConstants.CENTER);
         emojiLabel.setVerticalAlignment(SwingConstants.CENTER);
         emojiLabel.setPreferredSize(new Dimension(35, textField.getPreferredSize().height));
@@ -311,7 +311,7 @@ public class EmojiUtils {
 
         // Create emoji label with background
         JLabel emojiLabel = new JLabel(emoji);
-        emojiLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 18));
+        emojiLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 18));
         emojiLabel.setHorizontalAlignment(SwingConstants.CENTER);
         emojiLabel.setVerticalAlignment(SwingConstants.CENTER);
         emojiLabel.setPreferredSize(new Dimension(35, passwordField.getPreferredSize().height));
@@ -363,7 +363,7 @@ public class EmojiUtils {
 
         // Create emoji label with background
         JLabel emojiLabel = new JLabel(emoji);
-        emojiLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 18));
+        emojiLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 18));
         emojiLabel.setHorizontalAlignment(SwingConstants.CENTER);
         emojiLabel.setVerticalAlignment(SwingConstants.CENTER);
         emojiLabel.setPreferredSize(new Dimension(35, comboBox.getPreferredSize().height));
@@ -1,5 +1,7 @@
 package utils;
 
+import logging.LogManager;
+import logging.Logger;
 import java.io.File;
 
 /**
@@ -7,6 +9,7 @@ import java.io.File;
  * Actual implementation for saving files is needed.
  */
 public class FileUtils {
+    private static final Logger LOGGER = LogManager.getLogger(FileUtils.class);
 
     /**
      * Placeholder method to simulate saving a file.
@@ -18,7 +21,7 @@ public class FileUtils {
      * @return A dummy file path.
      */
     public static String saveEventFile(File file, String eventName, int userId) {
-        System.out.println("Placeholder: Simulating saving file: " + file.getAbsolutePath());
+        LOGGER.info("Placeholder: simulating saving file: {}", file);
         // TODO: Implement actual file saving logic to a designated directory
         return "/path/to/saved/files/" + file.getName();
     }
@@ -0,0 +1,206 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Set of half-open intervals [start, end) that finds every interval
+ * overlapping a query range in O(log n + k).
+ *
+ * Intervals are kept in a treap ordered by start, and each node records the
+ * largest end in its subtree, so a query skips any subtree that ends before
+ * the range and, past the range's end, everything to the right. The treap's
+ * random priorities keep it balanced without rebalancing rules.
+ *
+ * Not thread-safe.
+ *
+ * @param <T> Value stored with each interval
+ */
+public class IntervalTree<T> {
+    private final Random random = new Random();
+    private Node<T> root;
+    private int size;
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(long start, long end, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Add an interval
+     *
+     * @param start Start, inclusive
+     * @param end End, exclusive
+     * @param value Value returned by queries
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public void add(long start, long end, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+        root = insert(root, new Node<>(start, end, value, random.nextInt()));
+        size++;
+    }
+
+    /**
+     * Remove an interval
+     *
+     * @param start Start it was added with
+     * @param end End it was added with
+     * @param value Value it was added with, compared with equals
+     * @return true if it was found
+     */
+    public boolean remove(long start, long end, T value) {
+        int before = size;
+        root = delete(root, start, end, value);
+        return size < before;
+    }
+
+    /**
+     * Find the intervals overlapping a range
+     *
+     * @param start Range start, inclusive
+     * @param end Range end, exclusive
+     * @return Values of the overlapping intervals, in start order
+     */
+    public List<T> findOverlapping(long start, long end) {
+        List<T> found = new ArrayList<>();
+        collect(root, start, end, found);
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.end, node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(start, end, node);
+        if (order == 0 && Objects.equals(node.value, value)) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = delete(node.left, start, end, value);
+        } else if (order > 0) {
+            node.right = delete(node.right, start, end, value);
+        } else {
+            // Rotations can leave equal intervals on either side
+            int before = size;
+            node.left = delete(node.left, start, end, value);
+            if (size == before) {
+                node.right = delete(node.right, start, end, value);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Join two treaps where every start in the first is at most every start in the second
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void collect(Node<T> node, long start, long end, List<T> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, found);
+        if (node.start < end) {
+            if (node.end > start) {
+                found.add(node.value);
+            }
+            // Everything to the right starts at or after this node
+            collect(node.right, start, end, found);
+        }
+    }
+
+    private static int compare(long start, long end, Node<?> node) {
+        int order = Long.compare(start, node.start);
+        return order != 0 ? order : Long.compare(end, node.end);
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node<?> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,172 @@
+package utils;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered component backgrounds.
+ *
+ * Painters rasterize a background (shadow, gradient, rounded fill, border)
+ * into a translucent image once per distinct key, and later repaints just
+ * draw the image. Images are compatible with the screen, so Java2D keeps
+ * an accelerated copy and repeated draws are a blit. Least recently used
+ * images are evicted once their total size exceeds the budget.
+ */
+public class RenderCache {
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+    // Backgrounds bigger than this are cheaper to paint than to keep
+    private static final int MAX_ENTRY_PIXELS = 512 * 512;
+
+    private static RenderCache instance;
+
+    private final Map<List<Object>, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Draws a background in a width by height area
+     */
+    @FunctionalInterface
+    public interface Painter {
+        void paint(Graphics2D g2, int width, int height);
+    }
+
+    // Private constructor for singleton pattern
+    private RenderCache() {
+    }
+
+    public static synchronized RenderCache getInstance() {
+        if (instance == null) {
+            instance = new RenderCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Build a cache key from everything the painted result depends on
+     *
+     * @param parts Owner class, size, colors, radius and any other inputs
+     * @return The key
+     */
+    public static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Draw a cached background, rendering it first if it is not cached
+     *
+     * @param g Graphics to draw on
+     * @param width Area width
+     * @param height Area height
+     * @param key Key from {@link #key(Object...)}; must not include the size
+     * @param painter Renders the background at 0,0 with antialiasing on
+     */
+    public void draw(Graphics g, int width, int height, List<Object> key, Painter painter) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        AffineTransform transform = g2.getTransform();
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+        int pixelWidth = (int) Math.ceil(width * scaleX);
+        int pixelHeight = (int) Math.ceil(height * scaleY);
+        if ((long) pixelWidth * pixelHeight > MAX_ENTRY_PIXELS || pixelWidth <= 0 || pixelHeight <= 0) {
+            paintDirect(g2, width, height, painter);
+            return;
+        }
+
+        List<Object> sizedKey = key(key, pixelWidth, pixelHeight);
+        BufferedImage image = get(sizedKey);
+        if (image == null) {
+            image = render(g2, pixelWidth, pixelHeight, width, height, painter);
+            put(sizedKey, image);
+        }
+        g2.drawImage(image, 0, 0, width, height, null);
+    }
+
+    private static void paintDirect(Graphics2D g, int width, int height, Painter painter) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        painter.paint(g2, width, height);
+        g2.dispose();
+    }
+
+    private static BufferedImage render(Graphics2D target, int pixelWidth, int pixelHeight,
+                                        int width, int height, Painter painter) {
+        GraphicsConfiguration config = target.getDeviceConfiguration();
+        BufferedImage image = config != null
+            ? config.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT)
+            : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.scale(pixelWidth / (double) width, pixelHeight / (double) height);
+        painter.paint(g2, width, height);
+        g2.dispose();
+        return image;
+    }
+
+    private synchronized BufferedImage get(List<Object> key) {
+        BufferedImage image = images.get(key);
+        if (image != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return image;
+    }
+
+    private synchronized void put(List<Object> key, BufferedImage image) {
+        BufferedImage previous = images.put(key, image);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(image);
+        Iterator<BufferedImage> eldest = images.values().iterator();
+        while (bytes > MAX_BYTES && eldest.hasNext()) {
+            BufferedImage evicted = eldest.next();
+            eldest.remove();
+            bytes -= sizeOf(evicted);
+            evicted.flush();
+        }
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Drop all cached images, e.g. after a theme or screen change
+     */
+    public synchronized void clear() {
+        for (BufferedImage image : images.values()) {
+            image.flush();
+        }
+        images.clear();
+        bytes = 0;
+    }
+
+    public synchronized int getSize() {
+        return images.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
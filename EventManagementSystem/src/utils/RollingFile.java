@@ -0,0 +1,107 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Size-bounded text file that rolls over to {@code name.1 .. name.N}.
+ * Not thread-safe beyond its own synchronized methods; writers on several
+ * threads should serialize through one instance.
+ */
+public class RollingFile implements Closeable {
+    private final Path path;
+    private final long maxBytes;
+    private final int backups;
+    private Writer writer;
+    private long size;
+
+    /**
+     * @param path File to write
+     * @param maxBytes Size at which the file is rolled
+     * @param backups Number of rolled files to keep
+     */
+    public RollingFile(Path path, long maxBytes, int backups) {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.backups = backups;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Append text, rolling the file first if it would exceed the size limit
+     *
+     * @param text Text to append
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void append(CharSequence text) throws IOException {
+        if (writer == null) {
+            open();
+        }
+        // UTF-8 length approximated by char count; close enough for a roll limit
+        if (size > 0 && size + text.length() > maxBytes) {
+            roll();
+        }
+        writer.append(text);
+        size += text.length();
+    }
+
+    /**
+     * Flush buffered text to disk
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        size = Files.exists(path) ? Files.size(path) : 0;
+        writer = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(path.toFile(), true), StandardCharsets.UTF_8));
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        for (int i = backups - 1; i >= 1; i--) {
+            Path source = backup(i);
+            if (Files.exists(source)) {
+                Files.move(source, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (backups > 0) {
+            Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(path);
+        }
+        open();
+    }
+
+    private Path backup(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
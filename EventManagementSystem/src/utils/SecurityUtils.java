@@ -1,37 +1,41 @@
 package utils;
 
+import logging.LogManager;
+import logging.Logger;
 /**
  * Utility class for security-related operations
  */
 public class SecurityUtils {
-    
+    private static final Logger LOGGER = LogManager.getLogger(SecurityUtils.class);
+
     /**
-     * Verifies a password against a stored password using simple string comparison.
-     * This should only be used when passwords are stored in plain text (not recommended).
+     * Verifies a password against a stored bcrypt hash or legacy plain text password.
+     * When the stored value is plain text or hashed below the current bcrypt cost,
+     * a successful result carries a new hash (see {@link VerificationResult#needsMigration()}).
      *
      * @param password the password to verify
-     * @param storedPassword the stored plain text password
+     * @param storedPassword the stored hash or legacy plain text password
      * @return VerificationResult containing success status
      */
     public static VerificationResult verifyPassword(String password, String storedPassword) {
         try {
-            System.out.println("Verifying plain text password");
-            
-            // Simple string comparison for plain text passwords
-            if (password.equals(storedPassword)) {
-                System.out.println("Password verification successful");
-                return new VerificationResult(true, null);
-            }
-            
-            System.out.println("Password verification failed");
-            return new VerificationResult(false, null);
+            return CredentialService.getInstance().verify(password, storedPassword);
         } catch (Exception e) {
-            System.out.println("Error during password verification: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.error("Error during password verification", e);
             return new VerificationResult(false, null);
         }
     }
 
+    /**
+     * Hashes a password with bcrypt at the calibrated cost
+     *
+     * @param password the plain text password
+     * @return the bcrypt hash to store
+     */
+    public static String hashPassword(String password) {
+        return CredentialService.getInstance().hash(password);
+    }
+
     /**
      * Result class for password verification
      */
@@ -56,4 +60,4 @@ public class SecurityUtils {
             return newHash;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package utils;
+
+import logging.LogManager;
+import logging.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the client's startup work concurrently and reports how long each step took.
+ *
+ * Background steps run on a small daemon pool, optionally after other
+ * steps; steps that must run on a particular thread, such as building the
+ * login screen on the EDT, are timed with {@link #time}. Once every step
+ * has finished, a timing report relative to JVM start is logged.
+ */
+public class StartupPipeline {
+    private static final Logger LOGGER = LogManager.getLogger(StartupPipeline.class);
+
+    private final long startNanos = System.nanoTime();
+    // JVM start to the creation of this pipeline, i.e. class loading before main
+    private final long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    private final ExecutorService executor;
+    private final List<Step> steps = new ArrayList<>();
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+    /**
+     * Work done by a startup step
+     */
+    @FunctionalInterface
+    public interface StartupTask {
+        void run() throws Exception;
+    }
+
+    public StartupPipeline() {
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "startup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run a step in the background
+     *
+     * @param name Step name for the report
+     * @param task The work
+     * @param after Steps that must complete successfully first
+     * @return Completes when the step has run; fails if it or a prerequisite failed
+     */
+    public CompletableFuture<Void> run(String name, StartupTask task, CompletableFuture<?>... after) {
+        CompletableFuture<Void> future = CompletableFuture.allOf(after)
+            .thenRunAsync(() -> {
+                try {
+                    time(name, task);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        synchronized (this) {
+            pending.add(future);
+        }
+        return future;
+    }
+
+    /**
+     * Run a step on the calling thread and record its timing
+     *
+     * @param name Step name for the report
+     * @param task The work
+     * @throws Exception whatever the step throws, after recording it as failed
+     */
+    public void time(String name, StartupTask task) throws Exception {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            task.run();
+        } catch (Exception | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            record(new Step(name, start, System.nanoTime(), Thread.currentThread().getName(), failure));
+        }
+    }
+
+    /**
+     * Record a point in time, such as the login screen becoming visible
+     *
+     * @param name Milestone name for the report
+     */
+    public void mark(String name) {
+        long now = System.nanoTime();
+        record(new Step(name, now, now, Thread.currentThread().getName(), null));
+    }
+
+    private synchronized void record(Step step) {
+        steps.add(step);
+    }
+
+    /**
+     * Log the timing report once every step started so far has finished,
+     * then release the pool
+     */
+    public void reportWhenDone() {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            futures = pending.toArray(new CompletableFuture<?>[0]);
+        }
+        CompletableFuture.allOf(futures).whenComplete((ignored, error) -> {
+            LOGGER.info("Startup timing:\n{}", formatReport());
+            executor.shutdown();
+        });
+    }
+
+    /**
+     * Format the steps recorded so far, in start order
+     *
+     * @return One line per step with its start offset, duration and thread
+     */
+    public synchronized String formatReport() {
+        List<Step> sorted = new ArrayList<>(steps);
+        sorted.sort((a, b) -> Long.compare(a.startNanos, b.startNanos));
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("  %-28s %8s %8s  %s%n", "step", "at ms", "took ms", "thread"));
+        report.append(String.format("  %-28s %8d %8s  %s%n", "JVM start to main", 0, jvmUptimeMillis, "-"));
+        for (Step step : sorted) {
+            report.append(String.format("  %-28s %8d %8s  %s%s%n",
+                step.name,
+                jvmUptimeMillis + (step.startNanos - startNanos) / 1_000_000,
+                step.endNanos == step.startNanos ? "-" : String.valueOf((step.endNanos - step.startNanos) / 1_000_000),
+                step.thread,
+                step.failure != null ? "  FAILED: " + step.failure.getMessage() : ""));
+        }
+        return report.toString();
+    }
+
+    private static final class Step {
+        private final String name;
+        private final long startNanos;
+        private final long endNanos;
+        private final String thread;
+        private final Throwable failure;
+
+        Step(String name, long startNanos, long endNanos, String thread, Throwable failure) {
+            this.name = name;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.thread = thread;
+            this.failure = failure;
+        }
+    }
+}
@@ -6,14 +6,14 @@ import java.awt.Color;
 
 public class UIConstants {
     // Fonts
-    public static final Font HEADER_FONT = new Font("Segoe UI", Font.BOLD, 24);
-    public static final Font TITLE_FONT = new Font("Segoe UI", Font.BOLD, 18);
-    public static final Font SUBTITLE_FONT = new Font("Segoe UI", Font.PLAIN, 16);
-    public static final Font BODY_FONT = new Font("Segoe UI", Font.PLAIN, 14);
-    public static final Font BODY_FONT_BOLD = new Font("Segoe UI", Font.BOLD, 14);
-    public static final Font SMALL_FONT = new Font("Segoe UI", Font.PLAIN, 12);
-    public static final Font SMALL_FONT_BOLD = new Font("Segoe UI", Font.BOLD, 12);
-    public static final Font DASHBOARD_NUMBER_FONT = new Font("Segoe UI", Font.BOLD, 36);
+    public static final Font HEADER_FONT = UIResources.getFont("Segoe UI", Font.BOLD, 24);
+    public static final Font TITLE_FONT = UIResources.getFont("Segoe UI", Font.BOLD, 18);
+    public static final Font SUBTITLE_FONT = UIResources.getFont("Segoe UI", Font.PLAIN, 16);
+    public static final Font BODY_FONT = UIResources.getFont("Segoe UI", Font.PLAIN, 14);
+    public static final Font BODY_FONT_BOLD = UIResources.getFont("Segoe UI", Font.BOLD, 14);
+    public static final Font SMALL_FONT = UIResources.getFont("Segoe UI", Font.PLAIN, 12);
+    public static final Font SMALL_FONT_BOLD = UIResources.getFont("Segoe UI", Font.BOLD, 12);
+    public static final Font DASHBOARD_NUMBER_FONT = UIResources.getFont("Segoe UI", Font.BOLD, 36);
 
     // Dimensions
     public static final Dimension BUTTON_SIZE = new Dimension(120, 40);
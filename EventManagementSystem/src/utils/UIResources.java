@@ -0,0 +1,135 @@
+package utils;
+
+import logging.LogManager;
+import logging.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared registry of fonts and scaled icons.
+ *
+ * Fonts and icons are created once per distinct request and the same
+ * immutable instance is handed to every caller afterwards. Icons are
+ * scaled eagerly into an image rather than with getScaledInstance, so they
+ * are decoded and resampled once instead of on every paint. Lookups that
+ * find nothing are remembered too, so a missing icon is probed only once.
+ */
+public class UIResources {
+    private static final Logger LOGGER = LogManager.getLogger(UIResources.class);
+
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Map<String, ImageIcon> ICONS = new ConcurrentHashMap<>();
+    // Stands in for icons that could not be loaded
+    private static final ImageIcon MISSING = new ImageIcon();
+
+    /** Fonts the sidebar, header and dashboards use, warmed up by {@link #preload(String, int, String...)} */
+    private static final List<Font> COMMON_FONTS = Arrays.asList(
+        getFont("Segoe UI", Font.PLAIN, 12),
+        getFont("Segoe UI", Font.BOLD, 12),
+        getFont("Segoe UI", Font.PLAIN, 14),
+        getFont("Segoe UI", Font.BOLD, 14),
+        getFont("Segoe UI", Font.PLAIN, 16),
+        getFont("Segoe UI", Font.BOLD, 16),
+        getFont("Segoe UI", Font.BOLD, 18),
+        getFont("Segoe UI", Font.BOLD, 24),
+        getFont("Segoe UI", Font.BOLD, 36),
+        getFont("Segoe UI Emoji", Font.PLAIN, 14),
+        getFont("Segoe UI Emoji", Font.BOLD, 14),
+        getFont("Segoe UI Emoji", Font.PLAIN, 24),
+        getFont("Segoe UI Emoji", Font.PLAIN, 28)
+    );
+
+    // Prevent instantiation
+    private UIResources() {}
+
+    /**
+     * Get a shared font
+     *
+     * @param name Font family name
+     * @param style Font.PLAIN, Font.BOLD, Font.ITALIC or a combination
+     * @param size Point size
+     * @return The font, shared with every other caller asking for the same one
+     */
+    public static Font getFont(String name, int style, int size) {
+        return FONTS.computeIfAbsent(name + '|' + style + '|' + size, key -> new Font(name, style, size));
+    }
+
+    /**
+     * Get a shared icon scaled to a square size
+     *
+     * @param resourcePath Classpath resource, e.g. "icons/home.png"; also tried under "resources/" on disk
+     * @param size Width and height in pixels
+     * @return The icon, or null if it could not be loaded
+     */
+    public static ImageIcon getIcon(String resourcePath, int size) {
+        String path = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
+        ImageIcon icon = ICONS.computeIfAbsent(path + '|' + size, key -> loadIcon(path, size));
+        return icon == MISSING ? null : icon;
+    }
+
+    private static ImageIcon loadIcon(String path, int size) {
+        try {
+            URL resourceUrl = UIResources.class.getClassLoader().getResource(path);
+            ImageIcon original = null;
+            if (resourceUrl != null) {
+                original = new ImageIcon(resourceUrl);
+            } else {
+                File iconFile = new File("resources/" + path);
+                if (iconFile.exists()) {
+                    original = new ImageIcon(iconFile.getAbsolutePath());
+                }
+            }
+            if (original == null || original.getIconWidth() <= 0) {
+                LOGGER.warn("Icon not found: {}", path);
+                return MISSING;
+            }
+            return new ImageIcon(scale(original.getImage(), size));
+        } catch (Exception e) {
+            LOGGER.error("Error loading icon: {}", path, e);
+            return MISSING;
+        }
+    }
+
+    private static Image scale(Image source, int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = scaled.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.drawImage(source, 0, 0, size, size, null);
+        g2.dispose();
+        return scaled;
+    }
+
+    /**
+     * Load fonts, glyphs and icons so the first dashboard does not wait on
+     * the font loader and image decoder; meant for a background thread
+     *
+     * @param glyphs Text whose glyphs should be ready, e.g. the sidebar labels
+     * @param iconSize Icon size in pixels
+     * @param iconPaths Icons to load, see {@link #getIcon(String, int)}
+     */
+    public static void preload(String glyphs, int iconSize, String... iconPaths) {
+        long start = System.nanoTime();
+        FontRenderContext frc = new FontRenderContext(null, true, true);
+        for (Font font : COMMON_FONTS) {
+            // Laying out text forces the font file to load and the glyphs to be rasterized
+            font.getStringBounds(glyphs, frc);
+            font.createGlyphVector(frc, glyphs);
+        }
+        for (String path : iconPaths) {
+            getIcon(path, iconSize);
+        }
+        LOGGER.debug("Preloaded {} fonts and {} icons in {} ms", COMMON_FONTS.size(), iconPaths.length,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -133,7 +133,7 @@ public class UIUtils {
         }
 
         // Set button properties
-        button.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         button.setForeground(Color.WHITE);
         button.setBackground(isSelected ? new Color(70, 70, 70) : AppColors.BACKGROUND_DARK);
         button.setBorderPainted(false);
@@ -165,12 +165,12 @@ public class UIUtils {
             // If iconName is actually an emoji, use it directly
             String displayText = iconName + " " + text;
             button.setText(displayText);
-            button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 14));
+            button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 14));
             button.setHorizontalAlignment(SwingConstants.LEFT);
         }
 
         // Set button properties
-        button.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         button.setForeground(AppColors.TEXT_LIGHT);
         button.setBackground(AppColors.BACKGROUND_DARK);
         button.setBorderPainted(false);
@@ -228,7 +228,7 @@ public class UIUtils {
             }
         };
 
-        textField.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        textField.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         textField.setOpaque(false); // Make transparent to show our custom background
 
         // Create more rounded borders with larger radius
@@ -281,7 +281,7 @@ public class UIUtils {
             }
         };
 
-        passwordField.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        passwordField.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         passwordField.setOpaque(false); // Make transparent to show our custom background
 
         // Create more rounded borders with larger radius
@@ -334,7 +334,7 @@ public class UIUtils {
             }
         };
 
-        textArea.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        textArea.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         textArea.setLineWrap(true);
         textArea.setWrapStyleWord(true);
         textArea.setOpaque(false); // Make transparent to show our custom background
@@ -422,7 +422,7 @@ public class UIUtils {
             }
         };
 
-        comboBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        comboBox.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
         comboBox.setOpaque(false); // Make transparent to show our custom background
 
         // Create more rounded borders with larger radius
@@ -473,7 +473,7 @@ public class UIUtils {
             // If iconName is actually an emoji, use it directly
             String displayText = iconName + " " + text;
             button.setText(displayText);
-            button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 14));
+            button.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 14));
         }
 
         // Set button properties based on type
@@ -495,19 +495,19 @@ public class UIUtils {
         // Set button size
         switch (size) {
             case SMALL:
-                button.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+                button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 12));
                 button.setPreferredSize(new Dimension(100, 30));
                 break;
             case NORMAL:
-                button.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+                button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 14));
                 button.setPreferredSize(new Dimension(120, 35));
                 break;
             case LARGE:
-                button.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+                button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 16));
                 button.setPreferredSize(new Dimension(140, 40));
                 break;
             case LARGE_RECTANGULAR:
-                button.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+                button.setFont(UIResources.getFont("Segoe UI", Font.PLAIN, 16));
                 button.setPreferredSize(new Dimension(200, 45));
                 break;
         }
@@ -694,7 +694,7 @@ public class UIUtils {
          // Add emoji icon if provided
         if (iconName != null) {
             JLabel iconLabel = new JLabel(iconName);
-            iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 24));
+            iconLabel.setFont(UIResources.getFont("Segoe UI Emoji", Font.PLAIN, 24));
             iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
             // Add icon above the title or adjust layout as needed
             // For simplicity, adding it to the north of a wrapper panel